@@ -4,8 +4,12 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
-import java.util.SortedMap;
 import wniemiec.io.java.Consolex;
+import wniemiec.mobilex.ama.cache.CachedMobilangAst;
+import wniemiec.mobilex.ama.cache.CompilerVersion;
+import wniemiec.mobilex.ama.cache.MobilangAstCache;
+import wniemiec.mobilex.ama.cache.ScreenManifest;
+import wniemiec.mobilex.ama.cache.ScreenManifestStore;
 import wniemiec.mobilex.ama.coder.MobilangCoder;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
 import wniemiec.mobilex.ama.export.MobilangAppExport;
@@ -14,7 +18,9 @@ import wniemiec.mobilex.ama.export.exception.AppGenerationException;
 import wniemiec.mobilex.ama.export.exception.CodeExportException;
 import wniemiec.mobilex.ama.framework.Framework;
 import wniemiec.mobilex.ama.framework.FrameworkFactory;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
+import wniemiec.mobilex.ama.models.Properties;
+import wniemiec.mobilex.ama.models.Screen;
 import wniemiec.mobilex.ama.parser.MobilangAstParser;
 import wniemiec.mobilex.ama.parser.exception.FactoryException;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
@@ -30,13 +36,30 @@ public class Ama {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final String CACHE_DIRECTORY;
+    private static final long AST_CACHE_MAX_SIZE;
     private final Path mobilangAstFilePath;
     private final Path output;
     private final Framework framework;
-    private SortedMap<String, List<Node>> ast;
-    private MobilangAstParser astParser;
+    private final MobilangAstCache astCache;
+    private final ScreenManifestStore manifestStore;
+    private final boolean parallel;
+    private final boolean incremental;
+    private String astCacheKey;
+    private Ast ast;
+    private List<Screen> screens;
+    private Properties properties;
     private MobilangCoder coder;
     private Path srcCodeLocation;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        CACHE_DIRECTORY = ".ama-cache";
+        AST_CACHE_MAX_SIZE = 64L * 1024 * 1024;
+    }
     
 
     //-------------------------------------------------------------------------
@@ -52,20 +75,116 @@ public class Ama {
      */
     public Ama(Path mobilangAst, Path output, String framework) 
     throws FactoryException {
+        this(mobilangAst, output, framework, false);
+    }
+
+    /**
+     * Manager for ASC compiler pipeline.
+     * 
+     * @param       mobilangAst MobiLang AST dot file
+     * @param       output Path where compiler output will be put
+     * @param       framework Framework to be used
+     * @param       parallel True if screens should be parsed in parallel
+     * @throws FactoryException
+     */
+    public Ama(Path mobilangAst, Path output, String framework, boolean parallel) 
+    throws FactoryException {
+        this(mobilangAst, output, framework, parallel, false);
+    }
+
+    /**
+     * Manager for ASC compiler pipeline.
+     * 
+     * @param       mobilangAst MobiLang AST dot file
+     * @param       output Path where compiler output will be put
+     * @param       framework Framework to be used
+     * @param       parallel True if screens should be parsed in parallel
+     * @param       incremental True if the previously exported project 
+     * should be kept, writing only the files that changed
+     * @throws FactoryException
+     */
+    public Ama(
+        Path mobilangAst, 
+        Path output, 
+        String framework, 
+        boolean parallel, 
+        boolean incremental
+    ) throws FactoryException {
+        this(mobilangAst, output, framework, parallel, incremental, true);
+    }
+
+    /**
+     * Manager for ASC compiler pipeline.
+     * 
+     * @param       mobilangAst MobiLang AST dot file
+     * @param       output Path where compiler output will be put
+     * @param       framework Framework to be used
+     * @param       parallel True if screens should be parsed in parallel
+     * @param       incremental True if the previously exported project 
+     * should be kept, writing only the files that changed
+     * @param       cacheEnabled True if results of previous runs can be 
+     * reused. They are never reused when the compiler version is unknown
+     * @throws FactoryException
+     */
+    public Ama(
+        Path mobilangAst, 
+        Path output, 
+        String framework, 
+        boolean parallel, 
+        boolean incremental,
+        boolean cacheEnabled
+    ) throws FactoryException {
         this.mobilangAstFilePath = mobilangAst;
+        this.parallel = parallel;
+        this.incremental = incremental;
         this.output = output;
         this.framework = FrameworkFactory.getInstance(framework);
+
+        String compilerVersion = CompilerVersion.find();
+
+        astCache = buildAstCache(cacheEnabled, compilerVersion);
+        manifestStore = buildManifestStore(cacheEnabled, compilerVersion);
     }
 
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
+    private MobilangAstCache buildAstCache(boolean cacheEnabled, String compilerVersion) {
+        if (!cacheEnabled || (compilerVersion == null)) {
+            return null;
+        }
+
+        return new MobilangAstCache(
+            output.resolve(CACHE_DIRECTORY).resolve("ast"), 
+            AST_CACHE_MAX_SIZE,
+            compilerVersion
+        );
+    }
+
+    private ScreenManifestStore buildManifestStore(
+        boolean cacheEnabled, 
+        String compilerVersion
+    ) {
+        if (!cacheEnabled || (compilerVersion == null)) {
+            return null;
+        }
+
+        return new ScreenManifestStore(
+            output.resolve(CACHE_DIRECTORY).resolve("screens"),
+            compilerVersion
+        );
+    }
+
     public Path run() 
     throws ParseException, CodeExportException, AppGenerationException, 
     CoderException, IOException {
-        readMobilangDotFile();
-        parseMobilangAst();
+        if (!loadCachedMobilangAst()) {
+            readMobilangDotFile();
+            parseMobilangAst();
+            storeMobilangAst();
+        }
+
         generateMobilangCode();
         exportMobilangCode();
         generateMobileApplications();
@@ -73,6 +192,25 @@ public class Ama {
         return output;
     }
 
+    private boolean loadCachedMobilangAst() throws IOException {
+        if (astCache == null) {
+            return false;
+        }
+
+        astCacheKey = astCache.computeKey(mobilangAstFilePath);
+        
+        CachedMobilangAst cachedAst = astCache.load(astCacheKey);
+
+        if (cachedAst == null) {
+            return false;
+        }
+
+        screens = cachedAst.getScreens();
+        properties = cachedAst.getProperties();
+
+        return true;
+    }
+
     private void readMobilangDotFile() throws FileNotFoundException {
         MobilangDotReader dotReader = new MobilangDotReader();
         
@@ -83,31 +221,89 @@ public class Ama {
     }
 
     private void parseMobilangAst() throws ParseException, IOException {
-        astParser = new MobilangAstParser(ast);
+        MobilangAstParser astParser = new MobilangAstParser(ast, parallel);
 
         Consolex.writeInfo("Parsing MobiLang AST...");
         astParser.parse();
+
+        screens = astParser.getScreens();
+        properties = astParser.getProperties();
+    }
+
+    private void storeMobilangAst() {
+        if (astCache == null) {
+            return;
+        }
+
+        try {
+            astCache.store(astCacheKey, new CachedMobilangAst(screens, properties));
+        }
+        catch (IOException e) {
+            Consolex.writeWarning("Could not store AST cache entry: " + e.getMessage());
+        }
     }
 
     private void generateMobilangCode() throws CoderException {
         coder = new MobilangCoder(
-            astParser.getScreens(),
-            framework
+            screens,
+            framework,
+            loadScreenManifest()
         );
         
         Consolex.writeInfo("Generating code...");
         coder.generateCode();
+        logReusedScreens(coder.getManifest());
+        storeScreenManifest(coder.getManifest());
+    }
+
+    private ScreenManifest loadScreenManifest() {
+        if (manifestStore == null) {
+            return new ScreenManifest();
+        }
+
+        return manifestStore.load(getFrameworkName());
+    }
+
+    private String getFrameworkName() {
+        return framework.getClass().getSimpleName();
+    }
+
+    private void logReusedScreens(ScreenManifest manifest) {
+        int reusedScreens = manifest.getHits();
+        int totalScreens = manifest.getHits() + manifest.getMisses();
+
+        if (totalScreens == 0) {
+            return;
+        }
+
+        Consolex.writeInfo(
+            "Reused code of " + reusedScreens + "/" + totalScreens + " unchanged screens"
+        );
+    }
+
+    private void storeScreenManifest(ScreenManifest manifest) {
+        if (manifestStore == null) {
+            return;
+        }
+
+        try {
+            manifestStore.store(getFrameworkName(), manifest);
+        }
+        catch (IOException e) {
+            Consolex.writeWarning("Could not store screen manifest: " + e.getMessage());
+        }
     }
 
     private void exportMobilangCode() 
     throws CodeExportException {
         MobilangCodeExport mobilangCodeExport = new MobilangCodeExport
             .Builder()
-            .properties(astParser.getProperties())
+            .properties(properties)
             .codeFiles(coder.getCodeFiles())
             .dependencies(coder.getDependencies())
             .framework(framework)
             .output(output)
+            .incremental(incremental)
             .build();
         
         Consolex.writeInfo("Exporting code...");
@@ -122,7 +318,7 @@ public class Ama {
             .framework(framework)
             .sourceCode(srcCodeLocation)
             .output(outputLocation)
-            .platforms(astParser.getProperties().getTargetPlatforms())
+            .platforms(properties.getTargetPlatforms())
             .build();
         
         Consolex.writeInfo("Generating mobile applications...");
@@ -131,6 +327,6 @@ public class Ama {
     }
 
     private Path buildOutputApplicationPath() {
-        return output.resolve(astParser.getProperties().getApplicationName());
+        return output.resolve(properties.getApplicationName());
     }
 }
@@ -81,7 +81,10 @@ public class App {
         Ama ama = new Ama(
             CLI_PARSER.getMobilangAstFilePath(), 
             CLI_PARSER.getOutputLocationPath(),
-            CLI_PARSER.getFrameworkName()
+            CLI_PARSER.getFrameworkName(),
+            CLI_PARSER.isParallel(),
+            CLI_PARSER.isIncremental(),
+            CLI_PARSER.isCacheEnabled()
         );
 
         ama.run();
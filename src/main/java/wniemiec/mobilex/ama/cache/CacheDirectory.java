@@ -0,0 +1,181 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import wniemiec.io.java.Consolex;
+
+
+/**
+ * Responsible for managing the entries of a cache stored in a directory. Each
+ * entry is a file named after its key, whose last modified time tells when
+ * it was last used, so that the least recently used entries can be evicted
+ * when the cache exceeds its maximum size.
+ */
+class CacheDirectory {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String HASH_ALGORITHM;
+    private final Path location;
+    private final String entryExtension;
+    private final long maxSize;
+    private final String name;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        HASH_ALGORITHM = "SHA-256";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Cache directory.
+     *
+     * @param       location Directory where entries are stored
+     * @param       entryExtension Extension of entry files
+     * @param       maxSize Maximum size of all entries, in bytes
+     * @param       name Cache name, used in log messages
+     */
+    public CacheDirectory(Path location, String entryExtension, long maxSize, String name) {
+        this.location = location;
+        this.entryExtension = entryExtension;
+        this.maxSize = maxSize;
+        this.name = name;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    public static MessageDigest buildMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+
+        return hex.toString();
+    }
+
+    public Path getEntryPath(String key) {
+        return location.resolve(key + entryExtension);
+    }
+
+    public void markAsUsed(Path entry) throws IOException {
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    /**
+     * Creates an empty file where an entry can be written before it is
+     * committed, so that an entry being written is never read.
+     *
+     * @param       key Cache key
+     *
+     * @return      Temporary entry
+     *
+     * @throws      IOException If file cannot be created
+     */
+    public Path createTemporaryEntry(String key) throws IOException {
+        Files.createDirectories(location);
+
+        return Files.createTempFile(location, key, ".tmp");
+    }
+
+    /**
+     * Turns a temporary entry into the entry of a key. If the cache exceeds
+     * its maximum size after that, the least recently used entries are
+     * evicted.
+     *
+     * @param       temporaryEntry Temporary entry
+     * @param       key Cache key
+     *
+     * @throws      IOException If entry cannot be moved
+     */
+    public void commit(Path temporaryEntry, String key) throws IOException {
+        try {
+            Files.move(temporaryEntry, getEntryPath(key), StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally {
+            Files.deleteIfExists(temporaryEntry);
+        }
+
+        evictLeastRecentlyUsedEntries();
+    }
+
+    private void evictLeastRecentlyUsedEntries() throws IOException {
+        List<Path> entries = listEntriesByLastUse();
+        long totalSize = 0;
+
+        for (Path entry : entries) {
+            totalSize += Files.size(entry);
+        }
+
+        int index = 0;
+
+        while ((totalSize > maxSize) && (index < entries.size())) {
+            Path entry = entries.get(index);
+
+            totalSize -= Files.size(entry);
+            deleteEntry(entry);
+            Consolex.writeDebug("Evicted " + name + " cache entry: " + entry.getFileName());
+            index++;
+        }
+    }
+
+    private List<Path> listEntriesByLastUse() throws IOException {
+        List<Path> entries;
+
+        try (Stream<Path> files = Files.list(location)) {
+            entries = files
+                .filter(file -> file.toString().endsWith(entryExtension))
+                .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        entries.sort(Comparator.comparing(this::getLastModifiedTime));
+
+        return entries;
+    }
+
+    private FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        }
+        catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    public void deleteEntry(Path entry) {
+        try {
+            Files.deleteIfExists(entry);
+        }
+        catch (IOException e) {
+            Consolex.writeDebug("Could not delete " + name + " cache entry: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.Serializable;
+import java.util.List;
+import wniemiec.mobilex.ama.models.Properties;
+import wniemiec.mobilex.ama.models.Screen;
+
+
+/**
+ * Responsible for representing the parsed content of a MobiLang AST, as it
+ * is stored by {@link MobilangAstCache}.
+ */
+public class CachedMobilangAst implements Serializable {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+    private final List<Screen> screens;
+    private final Properties properties;
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    public CachedMobilangAst(List<Screen> screens, Properties properties) {
+        this.screens = screens;
+        this.properties = properties;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public List<Screen> getScreens() {
+        return screens;
+    }
+
+    public Properties getProperties() {
+        return properties;
+    }
+}
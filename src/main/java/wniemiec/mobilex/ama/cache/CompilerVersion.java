@@ -0,0 +1,76 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+
+/**
+ * Responsible for finding the version of the compiler build, which is 
+ * written in a resource by the build. Since it contains the build time, 
+ * every build has its own version, so that caches never reuse results 
+ * produced by another build of the compiler.
+ */
+public class CompilerVersion {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String BUILD_RESOURCE;
+    private static final String UNRESOLVED_PROPERTY;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        BUILD_RESOURCE = "/wniemiec/mobilex/ama/build.properties";
+        UNRESOLVED_PROPERTY = "${";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    private CompilerVersion() {
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Finds the version of the compiler build.
+     *
+     * @return      Version or null if it is unknown, such as when the 
+     * compiler was not built by Maven
+     */
+    public static String find() {
+        try (InputStream resource = CompilerVersion.class.getResourceAsStream(BUILD_RESOURCE)) {
+            if (resource == null) {
+                return null;
+            }
+
+            Properties build = new Properties();
+
+            build.load(resource);
+
+            return parseVersion(build);
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String parseVersion(Properties build) {
+        String version = build.getProperty("version", "");
+        String timestamp = build.getProperty("build", "");
+
+        if (version.isEmpty() || timestamp.isEmpty()
+            || version.contains(UNRESOLVED_PROPERTY) || timestamp.contains(UNRESOLVED_PROPERTY)) {
+            return null;
+        }
+
+        return version + "+" + timestamp;
+    }
+}
@@ -0,0 +1,208 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import wniemiec.io.java.Consolex;
+
+
+/**
+ * Responsible for storing parsed MobiLang ASTs on disk, so that a dot file
+ * that has not changed does not need to be read and parsed again. Entries
+ * are keyed by a hash of the dot file content and of the compiler version,
+ * so that a new build of the compiler never reuses ASTs parsed by another
+ * one. When the cache exceeds its maximum size, the least recently used 
+ * entries are evicted.
+ */
+public class MobilangAstCache {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String FORMAT_VERSION;
+    private static final String ENTRY_EXTENSION;
+    private static final int BUFFER_SIZE;
+    private static final ObjectInputFilter ENTRY_FILTER;
+    private final CacheDirectory directory;
+    private final String compilerVersion;
+    private int hits;
+    private int misses;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        FORMAT_VERSION = "4";
+        ENTRY_EXTENSION = ".ast";
+        BUFFER_SIZE = 1 << 16;
+        ENTRY_FILTER = ObjectInputFilter.Config.createFilter(
+            "wniemiec.mobilex.ama.**;java.lang.*;java.util.*;!*"
+        );
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Parsed MobiLang AST cache.
+     *
+     * @param       location Directory where entries will be stored
+     * @param       maxSize Maximum size of all entries, in bytes
+     * @param       compilerVersion Version of the compiler build
+     *
+     * @throws      IllegalArgumentException If compiler version is null
+     */
+    public MobilangAstCache(Path location, long maxSize, String compilerVersion) {
+        if (compilerVersion == null) {
+            throw new IllegalArgumentException("Compiler version cannot be null");
+        }
+
+        this.compilerVersion = compilerVersion;
+        directory = new CacheDirectory(location, ENTRY_EXTENSION, maxSize, "AST");
+        hits = 0;
+        misses = 0;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Computes the cache key of a MobiLang AST file, which is a hash of its
+     * content and of the compiler version.
+     *
+     * @param       mobilangAst MobiLang AST dot file
+     *
+     * @return      Cache key
+     *
+     * @throws      IOException If file cannot be read
+     */
+    public String computeKey(Path mobilangAst) throws IOException {
+        MessageDigest digest = CacheDirectory.buildMessageDigest();
+
+        digest.update(FORMAT_VERSION.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(compilerVersion.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+
+        try (InputStream in = new DigestInputStream(Files.newInputStream(mobilangAst), digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            while (in.read(buffer) != -1) {
+                // Content is consumed by the digest
+            }
+        }
+
+        return CacheDirectory.toHex(digest.digest());
+    }
+
+    /**
+     * Loads a parsed MobiLang AST.
+     *
+     * @param       key Cache key
+     *
+     * @return      Parsed AST or null if there is no valid entry with the
+     * provided key
+     */
+    public CachedMobilangAst load(String key) {
+        Path entry = directory.getEntryPath(key);
+
+        if (!Files.exists(entry)) {
+            return registerMiss(key);
+        }
+
+        try {
+            CachedMobilangAst ast = readEntry(entry);
+
+            directory.markAsUsed(entry);
+
+            return registerHit(key, ast);
+        }
+        catch (IOException | ClassNotFoundException | ClassCastException e) {
+            Consolex.writeWarning("Discarding invalid AST cache entry: " + e.getMessage());
+            directory.deleteEntry(entry);
+
+            return registerMiss(key);
+        }
+    }
+
+    private CachedMobilangAst readEntry(Path entry)
+    throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+            new BufferedInputStream(Files.newInputStream(entry), BUFFER_SIZE)
+        )) {
+            in.setObjectInputFilter(ENTRY_FILTER);
+
+            return (CachedMobilangAst) in.readObject();
+        }
+    }
+
+    private CachedMobilangAst registerHit(String key, CachedMobilangAst ast) {
+        hits++;
+        Consolex.writeInfo("AST cache hit (" + key + ")");
+
+        return ast;
+    }
+
+    private CachedMobilangAst registerMiss(String key) {
+        misses++;
+        Consolex.writeInfo("AST cache miss (" + key + ")");
+
+        return null;
+    }
+
+    /**
+     * Stores a parsed MobiLang AST. If the cache exceeds its maximum size
+     * after that, the least recently used entries are evicted.
+     *
+     * @param       key Cache key
+     * @param       ast Parsed AST
+     *
+     * @throws      IOException If entry cannot be written
+     */
+    public void store(String key, CachedMobilangAst ast) throws IOException {
+        Path temporaryEntry = directory.createTemporaryEntry(key);
+
+        try {
+            writeEntry(temporaryEntry, ast);
+        }
+        catch (IOException e) {
+            directory.deleteEntry(temporaryEntry);
+
+            throw e;
+        }
+
+        directory.commit(temporaryEntry, key);
+    }
+
+    private void writeEntry(Path entry, CachedMobilangAst ast) throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(entry), BUFFER_SIZE)
+        )) {
+            out.writeObject(ast);
+        }
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+}
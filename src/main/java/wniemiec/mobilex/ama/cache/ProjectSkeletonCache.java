@@ -0,0 +1,419 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.io.FileUtils;
+import wniemiec.io.java.Consolex;
+
+
+/**
+ * Responsible for storing the projects created by framework CLIs, so that a
+ * project does not need to be scaffolded again. Entries are keyed by a hash
+ * of whatever determines the scaffolded project, such as the framework, its
+ * template, its CLI version and the application name, and restored projects
+ * are identical to the stored ones. Projects are copied, using copy-on-write
+ * clones (reflinks) where the file system supports them. Optionally, files
+ * of installed packages (inside 'node_modules') are restored as hard links
+ * to the stored files instead. Since a tool that changes an installed 
+ * package in place (postinstall scripts, ngcc, patch-package) would then 
+ * change the stored file too, the size and last modified time of stored 
+ * package files are recorded, and an entry whose package files changed is 
+ * discarded instead of being restored. When the cache has more than its 
+ * maximum number of entries, the least recently used entries are evicted.
+ */
+public class ProjectSkeletonCache {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String FORMAT_VERSION;
+    private static final String PACKAGES_DIRECTORY;
+    private static final String TEMPORARY_SUFFIX;
+    private static final String INDEX_EXTENSION;
+    private static final String LINK_PACKAGES_PROPERTY;
+    private final Path location;
+    private final int maxEntries;
+    private final boolean linkPackages;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        FORMAT_VERSION = "2";
+        PACKAGES_DIRECTORY = "node_modules";
+        TEMPORARY_SUFFIX = ".tmp";
+        INDEX_EXTENSION = ".index";
+        LINK_PACKAGES_PROPERTY = "ama.skeleton.hardlinks";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructors
+    //-------------------------------------------------------------------------
+    /**
+     * Project skeleton cache that restores projects by copying them.
+     *
+     * @param       location Directory where entries will be stored
+     * @param       maxEntries Maximum number of entries
+     *
+     * @throws      IllegalArgumentException If location is null or if 
+     * maximum number of entries is not positive
+     */
+    public ProjectSkeletonCache(Path location, int maxEntries) {
+        this(location, maxEntries, false);
+    }
+
+    /**
+     * Project skeleton cache.
+     *
+     * @param       location Directory where entries will be stored
+     * @param       maxEntries Maximum number of entries
+     * @param       linkPackages True if files of installed packages should
+     * be restored as hard links to the stored files
+     *
+     * @throws      IllegalArgumentException If location is null or if 
+     * maximum number of entries is not positive
+     */
+    public ProjectSkeletonCache(Path location, int maxEntries, boolean linkPackages) {
+        if (location == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Maximum number of entries must be positive");
+        }
+
+        this.location = location;
+        this.maxEntries = maxEntries;
+        this.linkPackages = linkPackages;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Checks whether the user asked for files of installed packages to be
+     * restored as hard links, by setting the 'ama.skeleton.hardlinks' 
+     * system property to true.
+     *
+     * @return      True if package files should be linked
+     */
+    public static boolean isPackageLinkingRequested() {
+        return Boolean.getBoolean(LINK_PACKAGES_PROPERTY);
+    }
+
+    /**
+     * Computes the cache key of a project.
+     *
+     * @param       parts Everything that determines the scaffolded project
+     *
+     * @return      Cache key
+     */
+    public String computeKey(String... parts) {
+        MessageDigest digest = CacheDirectory.buildMessageDigest();
+
+        update(digest, FORMAT_VERSION);
+
+        for (String part : parts) {
+            update(digest, part);
+        }
+
+        return CacheDirectory.toHex(digest.digest());
+    }
+
+    private void update(MessageDigest digest, String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    /**
+     * Restores a project.
+     *
+     * @param       key Cache key
+     * @param       destination Directory where the project will be restored
+     *
+     * @return      True if the project was restored or false if there is no
+     * valid entry with the provided key
+     *
+     * @throws      IOException If project cannot be restored
+     */
+    public boolean restore(String key, Path destination) throws IOException {
+        Path entry = location.resolve(key);
+
+        if (!Files.isDirectory(entry)) {
+            Consolex.writeInfo("Project skeleton cache miss (" + key + ")");
+
+            return false;
+        }
+
+        List<String> index = readIndex(key);
+
+        if (linkPackages && (index != null) && !isIntact(entry, index)) {
+            Consolex.writeWarning("Discarding modified project skeleton cache entry (" + key + ")");
+            deleteEntry(key);
+
+            return false;
+        }
+
+        Consolex.writeInfo("Project skeleton cache hit (" + key + ")");
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+
+        if (linkPackages && (index != null)) {
+            copyTree(entry, destination, true);
+        }
+        else if (!cloneTree(entry, destination)) {
+            copyTree(entry, destination, false);
+        }
+
+        return true;
+    }
+
+    private List<String> readIndex(String key) throws IOException {
+        Path index = location.resolve(key + INDEX_EXTENSION);
+
+        if (!Files.exists(index)) {
+            return null;
+        }
+
+        return Files.readAllLines(index, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks whether the stored package files still have the size and the
+     * last modified time they had when the entry was stored.
+     */
+    private boolean isIntact(Path entry, List<String> index) {
+        for (String record : index) {
+            String[] fields = record.split("\t", 2);
+
+            if ((fields.length < 2) || !fields[0].equals(buildRecordAttributes(entry.resolve(fields[1])))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String buildRecordAttributes(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(
+                file, 
+                BasicFileAttributes.class, 
+                LinkOption.NOFOLLOW_LINKS
+            );
+
+            return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        }
+        catch (IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Copies a project with the 'cp' command, which clones files on file
+     * systems that support it.
+     *
+     * @return      True if project was copied or false if 'cp' is not
+     * available or does not support cloning
+     */
+    private boolean cloneTree(Path source, Path destination) throws IOException {
+        Files.createDirectories(destination);
+
+        try {
+            Process process = new ProcessBuilder(
+                "cp", 
+                "-R", 
+                "-P", 
+                "-p", 
+                "--reflink=auto", 
+                source.toString() + File.separator + ".", 
+                destination.toString()
+            )
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+            return process.waitFor() == 0;
+        }
+        catch (IOException e) {
+            return false;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    /**
+     * Stores a project. If the cache has more than its maximum number of
+     * entries after that, the least recently used entries are evicted.
+     *
+     * @param       key Cache key
+     * @param       project Project directory
+     *
+     * @throws      IOException If project cannot be stored
+     */
+    public void store(String key, Path project) throws IOException {
+        Path entry = location.resolve(key);
+        String temporarySuffix = TEMPORARY_SUFFIX + System.nanoTime();
+        Path temporaryEntry = location.resolve(key + temporarySuffix);
+        Path temporaryIndex = location.resolve(key + INDEX_EXTENSION + temporarySuffix);
+
+        try {
+            copyTree(project, temporaryEntry, false);
+            writeIndex(temporaryEntry, temporaryIndex);
+            Files.move(temporaryEntry, entry, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(
+                temporaryIndex, 
+                location.resolve(key + INDEX_EXTENSION), 
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING
+            );
+        }
+        catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            // Stored by another compilation in the meantime
+        }
+        finally {
+            FileUtils.deleteDirectory(temporaryEntry.toFile());
+            Files.deleteIfExists(temporaryIndex);
+        }
+
+        evictLeastRecentlyUsedEntries();
+    }
+
+    private void writeIndex(Path entry, Path index) throws IOException {
+        List<String> records = new ArrayList<>();
+        Path packages = entry.resolve(PACKAGES_DIRECTORY);
+
+        if (Files.isDirectory(packages)) {
+            try (Stream<Path> files = Files.walk(packages)) {
+                files
+                    .filter(file -> Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS))
+                    .map(entry::relativize)
+                    .filter(this::isPackageFile)
+                    .forEach(file -> records.add(
+                        buildRecordAttributes(entry.resolve(file)) + "\t" 
+                        + file.toString().replace(File.separatorChar, '/')
+                    ));
+            }
+        }
+
+        Files.write(index, records, StandardCharsets.UTF_8);
+    }
+
+    private void copyTree(Path source, Path destination, boolean restoringLinks) 
+    throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) 
+            throws IOException {
+                Files.createDirectories(destination.resolve(source.relativize(directory)));
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) 
+            throws IOException {
+                Path relativePath = source.relativize(file);
+                Path target = destination.resolve(relativePath);
+
+                if (restoringLinks && attributes.isRegularFile() && isPackageFile(relativePath)) {
+                    linkOrCopyFile(file, target);
+                }
+                else {
+                    copyFile(file, target);
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Checks whether a file belongs to an installed package. Files right
+     * inside the packages directory, such as its lock file, are not package
+     * files, since package managers may change them in place.
+     */
+    private boolean isPackageFile(Path relativePath) {
+        return (relativePath.getNameCount() > 2)
+            && relativePath.getName(0).toString().equals(PACKAGES_DIRECTORY);
+    }
+
+    private void linkOrCopyFile(Path file, Path target) throws IOException {
+        try {
+            Files.createLink(target, file);
+        }
+        catch (IOException | UnsupportedOperationException e) {
+            copyFile(file, target);
+        }
+    }
+
+    private void copyFile(Path file, Path target) throws IOException {
+        Files.copy(
+            file, 
+            target, 
+            StandardCopyOption.COPY_ATTRIBUTES,
+            StandardCopyOption.REPLACE_EXISTING,
+            LinkOption.NOFOLLOW_LINKS
+        );
+    }
+
+    private void evictLeastRecentlyUsedEntries() throws IOException {
+        List<Path> entries = listEntriesByLastUse();
+
+        for (int i = 0; i < entries.size() - maxEntries; i++) {
+            deleteEntry(entries.get(i).getFileName().toString());
+            Consolex.writeDebug("Evicted project skeleton cache entry: " + entries.get(i).getFileName());
+        }
+    }
+
+    private void deleteEntry(String key) throws IOException {
+        FileUtils.deleteDirectory(location.resolve(key).toFile());
+        Files.deleteIfExists(location.resolve(key + INDEX_EXTENSION));
+    }
+
+    private List<Path> listEntriesByLastUse() throws IOException {
+        List<Path> entries;
+
+        try (Stream<Path> files = Files.list(location)) {
+            entries = files
+                .filter(Files::isDirectory)
+                .filter(file -> !file.getFileName().toString().contains(TEMPORARY_SUFFIX))
+                .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        entries.sort(Comparator.comparing(this::getLastModifiedTime));
+
+        return entries;
+    }
+
+    private FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        }
+        catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
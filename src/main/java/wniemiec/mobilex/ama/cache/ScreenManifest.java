@@ -0,0 +1,169 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import wniemiec.mobilex.ama.models.CodeFile;
+import wniemiec.mobilex.ama.models.Screen;
+
+
+/**
+ * Responsible for keeping the code generated for each screen along with a
+ * fingerprint of the screen it was generated from, so that screens that did
+ * not change since the previous compilation do not need to be generated
+ * again. A fingerprint is a hash of the name, structure, style and behavior
+ * of a screen.
+ */
+public class ScreenManifest implements Serializable {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+    private static final String FORMAT_VERSION;
+    private final Map<String, String> fingerprints;
+    private final Map<String, List<CodeFile>> codeFiles;
+    private transient int hits;
+    private transient int misses;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        FORMAT_VERSION = "1";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    public ScreenManifest() {
+        fingerprints = new HashMap<>();
+        codeFiles = new HashMap<>();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Computes the fingerprint of a screen.
+     *
+     * @param       screen Screen
+     *
+     * @return      Fingerprint
+     */
+    public static String computeFingerprint(Screen screen) {
+        return computeFingerprint(screen, "");
+    }
+
+    /**
+     * Computes the fingerprint of a screen whose code is generated with the
+     * help of a tool, such as a transpiler, so that code generated by 
+     * another version of that tool is never reused.
+     *
+     * @param       screen Screen
+     * @param       toolVersion Version of the tool
+     *
+     * @return      Fingerprint
+     */
+    public static String computeFingerprint(Screen screen, String toolVersion) {
+        MessageDigest digest = CacheDirectory.buildMessageDigest();
+
+        update(digest, FORMAT_VERSION);
+        update(digest, toolVersion);
+        update(digest, screen.getName());
+        update(digest, screen.getRawName());
+        update(digest, screen.getStructure().toCode());
+        update(digest, screen.getStyle().toCode());
+        update(digest, screen.getBehavior().toCode());
+
+        return CacheDirectory.toHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, List<String> lines) {
+        update(digest, String.valueOf(lines.size()));
+
+        for (String line : lines) {
+            update(digest, line);
+        }
+    }
+
+    private static void update(MessageDigest digest, String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    /**
+     * Finds the code generated for a screen in a previous compilation.
+     *
+     * @param       screen Screen
+     * @param       fingerprint Current fingerprint of the screen
+     *
+     * @return      Code files or null if the screen has not been generated
+     * before or if it changed since then
+     */
+    public List<CodeFile> findCodeFiles(Screen screen, String fingerprint) {
+        String rawName = screen.getRawName();
+
+        if (!fingerprint.equals(fingerprints.get(rawName))) {
+            misses++;
+
+            return null;
+        }
+
+        hits++;
+
+        return codeFiles.get(rawName);
+    }
+
+    /**
+     * Stores the code generated for a screen.
+     *
+     * @param       screen Screen
+     * @param       fingerprint Fingerprint of the screen
+     * @param       screenCodeFiles Code generated for the screen
+     */
+    public void putCodeFiles(
+        Screen screen, 
+        String fingerprint, 
+        List<CodeFile> screenCodeFiles
+    ) {
+        fingerprints.put(screen.getRawName(), fingerprint);
+        codeFiles.put(screen.getRawName(), List.copyOf(screenCodeFiles));
+    }
+
+    /**
+     * Removes screens that are not part of the application anymore.
+     *
+     * @param       screens Current screens
+     */
+    public void retainScreens(List<Screen> screens) {
+        Set<String> rawNames = new HashSet<>();
+
+        for (Screen screen : screens) {
+            rawNames.add(screen.getRawName());
+        }
+
+        fingerprints.keySet().retainAll(rawNames);
+        codeFiles.keySet().retainAll(rawNames);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,151 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import wniemiec.io.java.Consolex;
+
+
+/**
+ * Responsible for keeping the screen manifest of the previous compilation of
+ * each framework on disk. Manifests are tagged with the compiler version, so 
+ * that code generated by another build of the compiler is never reused.
+ */
+public class ScreenManifestStore {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String ENTRY_EXTENSION;
+    private static final int BUFFER_SIZE;
+    private static final ObjectInputFilter ENTRY_FILTER;
+    private final CacheDirectory directory;
+    private final String compilerVersion;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        ENTRY_EXTENSION = ".manifest";
+        BUFFER_SIZE = 1 << 16;
+        ENTRY_FILTER = ObjectInputFilter.Config.createFilter(
+            "wniemiec.mobilex.ama.**;java.lang.*;java.util.*;!*"
+        );
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Screen manifest store.
+     *
+     * @param       location Directory where manifests will be stored
+     * @param       compilerVersion Version of the compiler build
+     *
+     * @throws      IllegalArgumentException If compiler version is null
+     */
+    public ScreenManifestStore(Path location, String compilerVersion) {
+        if (compilerVersion == null) {
+            throw new IllegalArgumentException("Compiler version cannot be null");
+        }
+
+        this.compilerVersion = compilerVersion;
+        directory = new CacheDirectory(location, ENTRY_EXTENSION, Long.MAX_VALUE, "screen manifest");
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Loads the screen manifest of the previous compilation.
+     *
+     * @param       frameworkName Framework the screens were generated for
+     *
+     * @return      Screen manifest, which is empty if there was no previous
+     * compilation, if it was done by another compiler version or if its 
+     * manifest is invalid
+     */
+    public ScreenManifest load(String frameworkName) {
+        Path entry = directory.getEntryPath(frameworkName);
+
+        if (!Files.exists(entry)) {
+            return new ScreenManifest();
+        }
+
+        try {
+            ScreenManifest manifest = readEntry(entry);
+
+            if (manifest == null) {
+                Consolex.writeInfo("Discarding screen manifest of another compiler version");
+                directory.deleteEntry(entry);
+
+                return new ScreenManifest();
+            }
+
+            return manifest;
+        }
+        catch (IOException | ClassNotFoundException | ClassCastException e) {
+            Consolex.writeWarning("Discarding invalid screen manifest: " + e.getMessage());
+            directory.deleteEntry(entry);
+
+            return new ScreenManifest();
+        }
+    }
+
+    private ScreenManifest readEntry(Path entry)
+    throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+            new BufferedInputStream(Files.newInputStream(entry), BUFFER_SIZE)
+        )) {
+            in.setObjectInputFilter(ENTRY_FILTER);
+
+            if (!compilerVersion.equals(in.readUTF())) {
+                return null;
+            }
+
+            return (ScreenManifest) in.readObject();
+        }
+    }
+
+    /**
+     * Stores the screen manifest of a compilation, replacing the previous
+     * one.
+     *
+     * @param       frameworkName Framework the screens were generated for
+     * @param       manifest Screen manifest
+     *
+     * @throws      IOException If manifest cannot be written
+     */
+    public void store(String frameworkName, ScreenManifest manifest) 
+    throws IOException {
+        Path temporaryEntry = directory.createTemporaryEntry(frameworkName);
+
+        try {
+            writeEntry(temporaryEntry, manifest);
+        }
+        catch (IOException e) {
+            directory.deleteEntry(temporaryEntry);
+
+            throw e;
+        }
+
+        directory.commit(temporaryEntry, frameworkName);
+    }
+
+    private void writeEntry(Path entry, ScreenManifest manifest) throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(entry), BUFFER_SIZE)
+        )) {
+            out.writeUTF(compilerVersion);
+            out.writeObject(manifest);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import wniemiec.io.java.Consolex;
+
+
+/**
+ * Responsible for storing transpiled screen behaviors on disk, so that a
+ * behavior that has already been transpiled does not need to be transpiled
+ * again. Entries are keyed by a hash of the behavior code and of the
+ * transpiler version and, when the cache exceeds its maximum size, the least
+ * recently used entries are evicted.
+ */
+public class TranspiledBehaviorCache {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String FORMAT_VERSION;
+    private static final String ENTRY_EXTENSION;
+    private final CacheDirectory directory;
+    private int hits;
+    private int misses;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        FORMAT_VERSION = "1";
+        ENTRY_EXTENSION = ".js";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Transpiled behavior cache.
+     *
+     * @param       location Directory where entries will be stored
+     * @param       maxSize Maximum size of all entries, in bytes
+     */
+    public TranspiledBehaviorCache(Path location, long maxSize) {
+        directory = new CacheDirectory(location, ENTRY_EXTENSION, maxSize, "Transpiled behavior");
+        hits = 0;
+        misses = 0;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Computes the cache key of a behavior, which is a hash of its code and
+     * of the version of the transpiler.
+     *
+     * @param       behavior Behavior code, before it is transpiled
+     * @param       transpilerVersion Transpiler version
+     *
+     * @return      Cache key
+     */
+    public String computeKey(List<String> behavior, String transpilerVersion) {
+        MessageDigest digest = CacheDirectory.buildMessageDigest();
+
+        update(digest, FORMAT_VERSION);
+        update(digest, transpilerVersion);
+
+        for (String line : behavior) {
+            update(digest, line);
+        }
+
+        return CacheDirectory.toHex(digest.digest());
+    }
+
+    private void update(MessageDigest digest, String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    /**
+     * Loads a transpiled behavior.
+     *
+     * @param       key Cache key
+     *
+     * @return      Transpiled behavior or null if there is no entry with the
+     * provided key
+     */
+    public List<String> load(String key) {
+        Path entry = directory.getEntryPath(key);
+
+        if (!Files.exists(entry)) {
+            misses++;
+
+            return null;
+        }
+
+        try {
+            List<String> behavior = Files.readAllLines(entry, StandardCharsets.UTF_8);
+
+            directory.markAsUsed(entry);
+            hits++;
+
+            return behavior;
+        }
+        catch (IOException e) {
+            Consolex.writeWarning("Discarding invalid transpiled behavior cache entry: " + e.getMessage());
+            directory.deleteEntry(entry);
+            misses++;
+
+            return null;
+        }
+    }
+
+    /**
+     * Stores a transpiled behavior. If the cache exceeds its maximum size
+     * after that, the least recently used entries are evicted.
+     *
+     * @param       key Cache key
+     * @param       behavior Transpiled behavior
+     *
+     * @throws      IOException If entry cannot be written
+     */
+    public void store(String key, List<String> behavior) throws IOException {
+        Path temporaryEntry = directory.createTemporaryEntry(key);
+
+        try {
+            Files.write(temporaryEntry, behavior, StandardCharsets.UTF_8);
+        }
+        catch (IOException e) {
+            directory.deleteEntry(temporaryEntry);
+
+            throw e;
+        }
+
+        directory.commit(temporaryEntry, key);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+}
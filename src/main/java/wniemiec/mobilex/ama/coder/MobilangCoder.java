@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import wniemiec.mobilex.ama.cache.ScreenManifest;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
 import wniemiec.mobilex.ama.framework.Framework;
 import wniemiec.mobilex.ama.models.CodeFile;
@@ -22,6 +23,7 @@ public class MobilangCoder {
     //-------------------------------------------------------------------------
     private final List<Screen> screens;
     private final Framework framework;
+    private final ScreenManifest manifest;
     private final List<CodeFile> codeFiles;
     private final Set<String> dependencies;
 
@@ -38,11 +40,36 @@ public class MobilangCoder {
      * @throws      IllegalArgumentException If screens or framework are null
      */
     public MobilangCoder(List<Screen> screens, Framework framework) {
+        this(screens, framework, new ScreenManifest());
+    }
+
+    /**
+     * Mobilang code generator that only generates the code of screens that 
+     * changed since the previous compilation.
+     * 
+     * @param       screens Screens data
+     * @param       framework Framework that will handle with code generation
+     * @param       manifest Code generated for each screen in the previous 
+     * compilation
+     * 
+     * @throws      IllegalArgumentException If screens, framework or 
+     * manifest are null
+     */
+    public MobilangCoder(
+        List<Screen> screens, 
+        Framework framework, 
+        ScreenManifest manifest
+    ) {
         Validator.validateScreens(screens);
         Validator.validateFramework(framework);
 
+        if (manifest == null) {
+            throw new IllegalArgumentException("Manifest cannot be null");
+        }
+
         this.screens = screens;
         this.framework = framework;
+        this.manifest = manifest;
         this.codeFiles = new ArrayList<>();
         dependencies = new HashSet<>();
     }
@@ -52,7 +79,9 @@ public class MobilangCoder {
     //		Methods
     //-------------------------------------------------------------------------    
     public void generateCode() throws CoderException {
-        Project codes = framework.generateCode(screens);
+        Project codes = framework.generateCode(screens, manifest);
+
+        manifest.retainScreens(screens);
 
         codeFiles.addAll(codes.getCodeFiles());
         dependencies.addAll(codes.getDependencies());
@@ -69,4 +98,8 @@ public class MobilangCoder {
     public Set<String> getDependencies() {
         return dependencies;
     }
+
+    public ScreenManifest getManifest() {
+        return manifest;
+    }
 }
@@ -0,0 +1,251 @@
+package wniemiec.mobilex.ama.export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import wniemiec.mobilex.ama.models.CodeFile;
+
+
+/**
+ * Responsible for writing code files on a bounded pool of threads. Parent
+ * directories are created before any file is written, so that writers do
+ * not compete for them, and the encoded code of each file is written with a
+ * single gather write. Optionally, each file is flushed to the storage 
+ * device before it is closed.
+ */
+class CodeFileWriter {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private final Path location;
+    private final int threads;
+    private final boolean syncFiles;
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Code file writer.
+     *
+     * @param       location Directory where code files will be written
+     * @param       threads Maximum number of files written at the same time
+     * @param       syncFiles True if each file should be flushed to the 
+     * storage device before it is closed
+     *
+     * @throws      IllegalArgumentException If location is null or if 
+     * number of threads is not positive
+     */
+    public CodeFileWriter(Path location, int threads, boolean syncFiles) {
+        if (location == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+
+        this.location = location;
+        this.threads = threads;
+        this.syncFiles = syncFiles;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Writes code files.
+     *
+     * @param       codeFiles Code files
+     * @param       skipUnchanged True if files whose current content is equal
+     * to their code should not be written, which keeps their modification
+     * time
+     *
+     * @return      Number of files that were written
+     *
+     * @throws      IOException If a file cannot be written
+     */
+    public int write(List<CodeFile> codeFiles, boolean skipUnchanged) 
+    throws IOException {
+        createParentDirectories(codeFiles);
+
+        AtomicInteger writtenFiles = new AtomicInteger();
+
+        if ((threads == 1) || (codeFiles.size() <= 1)) {
+            for (CodeFile codeFile : codeFiles) {
+                writeCodeFile(codeFile, skipUnchanged, writtenFiles);
+            }
+        }
+        else {
+            writeInParallel(codeFiles, skipUnchanged, writtenFiles);
+        }
+
+        return writtenFiles.get();
+    }
+
+    private void createParentDirectories(List<CodeFile> codeFiles) 
+    throws IOException {
+        Set<Path> directories = new TreeSet<>();
+
+        for (CodeFile codeFile : codeFiles) {
+            directories.add(resolve(codeFile).getParent());
+        }
+
+        for (Path directory : directories) {
+            Files.createDirectories(directory);
+        }
+    }
+
+    private Path resolve(CodeFile codeFile) {
+        return location.resolve(codeFile.getName());
+    }
+
+    private void writeInParallel(
+        List<CodeFile> codeFiles, 
+        boolean skipUnchanged, 
+        AtomicInteger writtenFiles
+    ) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(
+            Math.min(threads, codeFiles.size()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "code-file-writer");
+
+                thread.setDaemon(true);
+
+                return thread;
+            }
+        );
+
+        try {
+            List<Future<Void>> tasks = new ArrayList<>();
+
+            for (CodeFile codeFile : codeFiles) {
+                tasks.add(pool.submit(() -> {
+                    writeCodeFile(codeFile, skipUnchanged, writtenFiles);
+
+                    return null;
+                }));
+            }
+
+            for (Future<Void> task : tasks) {
+                waitFor(task);
+            }
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void waitFor(Future<Void> task) throws IOException {
+        try {
+            task.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IOException("Code export was interrupted");
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void writeCodeFile(
+        CodeFile codeFile, 
+        boolean skipUnchanged, 
+        AtomicInteger writtenFiles
+    ) throws IOException {
+        Path file = resolve(codeFile);
+        ByteBuffer[] content = codeFile.getEncodedCode();
+
+        if (skipUnchanged && hasContent(file, content)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            while (hasRemaining(content)) {
+                channel.write(content);
+            }
+
+            if (syncFiles) {
+                channel.force(true);
+            }
+        }
+
+        writtenFiles.incrementAndGet();
+    }
+
+    private boolean hasRemaining(ByteBuffer[] content) {
+        for (ByteBuffer buffer : content) {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean hasContent(Path file, ByteBuffer[] content) {
+        try {
+            if (!Files.isRegularFile(file) || (Files.size(file) != countBytes(content))) {
+                return false;
+            }
+
+            ByteBuffer fileContent = ByteBuffer.wrap(Files.readAllBytes(file));
+
+            for (ByteBuffer buffer : content) {
+                ByteBuffer fileSegment = fileContent.slice();
+
+                fileSegment.limit(buffer.remaining());
+
+                if (!fileSegment.equals(buffer)) {
+                    return false;
+                }
+
+                fileContent.position(fileContent.position() + buffer.remaining());
+            }
+
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    private long countBytes(ByteBuffer[] content) {
+        long bytes = 0;
+
+        for (ByteBuffer buffer : content) {
+            bytes += buffer.remaining();
+        }
+
+        return bytes;
+    }
+}
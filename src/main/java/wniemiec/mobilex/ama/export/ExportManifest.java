@@ -0,0 +1,165 @@
+package wniemiec.mobilex.ama.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+
+/**
+ * Responsible for recording what an exportation put in a project, so that
+ * the next exportation can reuse the project: the framework and platforms it
+ * was created for, its dependencies and the code files that were written.
+ */
+class ExportManifest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String FORMAT_VERSION;
+    private final String framework;
+    private final Set<String> platforms;
+    private final Set<String> dependencies;
+    private final Set<String> files;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        FORMAT_VERSION = "1";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Export manifest.
+     *
+     * @param       framework Name of the framework of the project
+     * @param       platforms Target platforms of the project
+     * @param       dependencies Project dependencies
+     * @param       files Names of the code files written in the project
+     */
+    public ExportManifest(
+        String framework, 
+        Collection<String> platforms, 
+        Collection<String> dependencies, 
+        Collection<String> files
+    ) {
+        this.framework = framework;
+        this.platforms = new TreeSet<>(platforms);
+        this.dependencies = new TreeSet<>(dependencies);
+        this.files = new TreeSet<>(files);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Reads an export manifest.
+     *
+     * @param       location Manifest file
+     *
+     * @return      Export manifest or null if there is no valid manifest in
+     * the provided location
+     */
+    public static ExportManifest read(Path location) {
+        if (!Files.exists(location)) {
+            return null;
+        }
+
+        try {
+            String content = new String(Files.readAllBytes(location), StandardCharsets.UTF_8);
+            JSONObject manifest = new JSONObject(content);
+
+            if (!FORMAT_VERSION.equals(manifest.optString("version"))) {
+                return null;
+            }
+
+            return new ExportManifest(
+                manifest.getString("framework"),
+                toSet(manifest.getJSONArray("platforms")),
+                toSet(manifest.getJSONArray("dependencies")),
+                toSet(manifest.getJSONArray("files"))
+            );
+        }
+        catch (IOException | JSONException e) {
+            return null;
+        }
+    }
+
+    private static Set<String> toSet(JSONArray array) {
+        Set<String> items = new TreeSet<>();
+
+        for (int i = 0; i < array.length(); i++) {
+            items.add(array.getString(i));
+        }
+
+        return items;
+    }
+
+    /**
+     * Writes the manifest, replacing the previous one only after it has been
+     * completely written.
+     *
+     * @param       location Manifest file
+     *
+     * @throws      IOException If manifest cannot be written
+     */
+    public void write(Path location) throws IOException {
+        JSONObject manifest = new JSONObject()
+            .put("version", FORMAT_VERSION)
+            .put("framework", framework)
+            .put("platforms", new JSONArray(platforms))
+            .put("dependencies", new JSONArray(dependencies))
+            .put("files", new JSONArray(files));
+        Path temporaryLocation = location.resolveSibling(location.getFileName() + ".tmp");
+
+        Files.createDirectories(location.getParent());
+        Files.write(temporaryLocation, manifest.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(temporaryLocation, location, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Checks whether a project created by the exportation of this manifest
+     * can be reused by another exportation.
+     *
+     * @param       otherFramework Framework of the other exportation
+     * @param       otherPlatforms Target platforms of the other exportation
+     * @param       otherDependencies Dependencies of the other exportation
+     *
+     * @return      True if the project was created for the same framework and
+     * platforms and if none of its dependencies were removed
+     */
+    public boolean isReusableFor(
+        String otherFramework, 
+        Collection<String> otherPlatforms, 
+        Collection<String> otherDependencies
+    ) {
+        return framework.equals(otherFramework)
+            && platforms.equals(new TreeSet<>(otherPlatforms))
+            && otherDependencies.containsAll(dependencies);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public Set<String> getDependencies() {
+        return dependencies;
+    }
+
+    public Set<String> getFiles() {
+        return files;
+    }
+}
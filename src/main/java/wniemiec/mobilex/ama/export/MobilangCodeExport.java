@@ -1,16 +1,14 @@
 package wniemiec.mobilex.ama.export;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.apache.commons.io.FileUtils;
 import wniemiec.io.java.Consolex;
-import wniemiec.io.java.TextFileManager;
 import wniemiec.mobilex.ama.export.exception.CodeExportException;
 import wniemiec.mobilex.ama.framework.Framework;
 import wniemiec.mobilex.ama.models.CodeFile;
@@ -18,19 +16,41 @@ import wniemiec.mobilex.ama.models.Properties;
 
 
 /**
- * Responsible for Mobilang code exportation.
+ * Responsible for Mobilang code exportation. In incremental mode, the project
+ * of the previous exportation is kept: only code files whose content changed
+ * are written, code files that are not generated anymore are deleted and only
+ * new dependencies are added. Unchanged files keep their modification time,
+ * so that incremental builds of the framework remain valid. Code files are
+ * written in parallel.
  */
 public class MobilangCodeExport {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final Path MANIFEST_DIRECTORY;
+    private static final String MANIFEST_EXTENSION;
+    private static final int DEFAULT_WRITER_THREADS;
     private final Properties properties;
     private final Set<String> dependencies;
     private final Path output;
     private final Path codeLocation;
     private final Framework framework;
     private final List<CodeFile> codeFiles;
+    private final boolean incremental;
+    private final Path manifestLocation;
+    private final CodeFileWriter codeFileWriter;
+    private ExportManifest previousManifest;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        MANIFEST_DIRECTORY = Path.of(".ama-cache", "export");
+        MANIFEST_EXTENSION = ".json";
+        DEFAULT_WRITER_THREADS = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+    }
 
 
     //-------------------------------------------------------------------------
@@ -44,6 +64,12 @@ public class MobilangCodeExport {
      * @param       dependencies Project dependencies
      * @param       framework Framework that will handle with project management
      * @param       output Location where the files will be exported
+     * @param       incremental True if the project of the previous 
+     * exportation should be reused
+     * @param       writerThreads Maximum number of code files written at the
+     * same time
+     * @param       syncFiles True if each code file should be flushed to the
+     * storage device before it is closed
      * 
      * @throws      CodeExportException If output location cannot be reached
      */
@@ -52,14 +78,20 @@ public class MobilangCodeExport {
         List<CodeFile> codeFiles,
         Set<String> dependencies,
         Framework framework, 
-        Path output
+        Path output,
+        boolean incremental,
+        int writerThreads,
+        boolean syncFiles
     ) throws CodeExportException {
         this.properties = properties;
         this.codeFiles = codeFiles;
         this.dependencies = (dependencies == null) ? new HashSet<>() : dependencies;
         this.framework = framework;
         this.output = output;
+        this.incremental = incremental;
         codeLocation = setUpAppLocation(properties, output);
+        manifestLocation = setUpManifestLocation(properties, output);
+        codeFileWriter = new CodeFileWriter(codeLocation, writerThreads, syncFiles);
         setUpOutputLocation();
     }
 
@@ -83,6 +115,9 @@ public class MobilangCodeExport {
         private Path output;
         private Framework framework;
         private List<CodeFile> codeFiles;
+        private boolean incremental;
+        private int writerThreads = DEFAULT_WRITER_THREADS;
+        private boolean syncFiles;
 
         public Builder properties(Properties properties) {
             this.properties = properties;
@@ -114,6 +149,51 @@ public class MobilangCodeExport {
             return this;
         }
 
+        /**
+         * Defines whether the project of the previous exportation should be 
+         * reused. Default is false.
+         * 
+         * @param       incremental True if only changed files should be 
+         * written
+         * 
+         * @return      Itself to allow chained calls
+         */
+        public Builder incremental(boolean incremental) {
+            this.incremental = incremental;
+            
+            return this;
+        }
+
+        /**
+         * Defines the maximum number of code files written at the same time.
+         * Default is the number of available processors, up to 8.
+         * 
+         * @param       writerThreads Number of threads
+         * 
+         * @return      Itself to allow chained calls
+         */
+        public Builder writerThreads(int writerThreads) {
+            this.writerThreads = writerThreads;
+            
+            return this;
+        }
+
+        /**
+         * Defines whether each code file should be flushed to the storage 
+         * device before it is closed, so that exported code survives a 
+         * system crash. Default is false, which leaves it to the operating 
+         * system.
+         * 
+         * @param       syncFiles True if code files should be flushed
+         * 
+         * @return      Itself to allow chained calls
+         */
+        public Builder syncFiles(boolean syncFiles) {
+            this.syncFiles = syncFiles;
+            
+            return this;
+        }
+
         public MobilangCodeExport build() throws CodeExportException {
             validateFields();
 
@@ -122,7 +202,10 @@ public class MobilangCodeExport {
                 codeFiles, 
                 dependencies, 
                 framework, 
-                output
+                output,
+                incremental,
+                writerThreads,
+                syncFiles
             );
         }
 
@@ -131,6 +214,7 @@ public class MobilangCodeExport {
             validateCodeFiles();
             validateFramework();
             validateOutput();
+            validateWriterThreads();
         }
 
         private void validateProperties() {
@@ -156,6 +240,12 @@ public class MobilangCodeExport {
                 throw new IllegalStateException("Output cannot be null");
             }
         }
+
+        private void validateWriterThreads() {
+            if (writerThreads <= 0) {
+                throw new IllegalStateException("Writer threads must be positive");
+            }
+        }
     }
 
 
@@ -170,15 +260,48 @@ public class MobilangCodeExport {
         return output.resolve(properties.getApplicationName()).resolve("code");
     }
 
+    private Path setUpManifestLocation(Properties properties, Path output) {
+        Path manifestDirectory = (output == null) 
+            ? MANIFEST_DIRECTORY 
+            : output.resolve(MANIFEST_DIRECTORY);
+
+        return manifestDirectory.resolve(properties.getApplicationName() + MANIFEST_EXTENSION);
+    }
+
     private void setUpOutputLocation() throws CodeExportException {
         try {
-            cleanOutputLocation(output);
+            previousManifest = incremental ? findReusableManifest() : null;
+            Files.deleteIfExists(manifestLocation);
+
+            if (previousManifest == null) {
+                cleanOutputLocation(output);
+            }
         } 
         catch (IOException e) {
             throw new CodeExportException(e.getMessage());
         }
     }
 
+    private ExportManifest findReusableManifest() {
+        ExportManifest manifest = ExportManifest.read(manifestLocation);
+
+        if ((manifest == null) || !Files.isDirectory(codeLocation)) {
+            return null;
+        }
+
+        if (!manifest.isReusableFor(getFrameworkName(), properties.getTargetPlatforms(), dependencies)) {
+            Consolex.writeInfo("Project settings changed; exporting the whole project again");
+
+            return null;
+        }
+
+        return manifest;
+    }
+
+    private String getFrameworkName() {
+        return framework.getClass().getName();
+    }
+
     private void cleanOutputLocation(Path outputLocation) throws IOException {
         if (!Files.exists(outputLocation)) {
             Files.createDirectories(outputLocation);
@@ -189,8 +312,16 @@ public class MobilangCodeExport {
     }
 
     public Path export() throws CodeExportException {
-        createProject();
+        if (previousManifest == null) {
+            createProject();
+        }
+        else {
+            addNewDependencies();
+        }
+
         exportCode();
+        deleteOrphanedCodeFiles();
+        writeManifest();
 
         return codeLocation;
     }
@@ -198,10 +329,24 @@ public class MobilangCodeExport {
     private void createProject() throws CodeExportException {
         try {
             framework.createProject(properties, codeLocation);
+            framework.addProjectDependencies(dependencies, codeLocation);
+        } 
+        catch (IOException e) {
+            throw new CodeExportException(e.getMessage());
+        }
+    }
 
-            for (String dependency : dependencies) {
-                framework.addProjectDependency(dependency, codeLocation);
-            }
+    private void addNewDependencies() throws CodeExportException {
+        Set<String> newDependencies = new HashSet<>(dependencies);
+
+        newDependencies.removeAll(previousManifest.getDependencies());
+
+        if (newDependencies.isEmpty()) {
+            return;
+        }
+
+        try {
+            framework.addProjectDependencies(newDependencies, codeLocation);
         } 
         catch (IOException e) {
             throw new CodeExportException(e.getMessage());
@@ -209,40 +354,99 @@ public class MobilangCodeExport {
     }
 
     private void exportCode() throws CodeExportException {
-        for (CodeFile file : codeFiles) {
-            exportCodeFile(file.getName(), file.getCode());
+        long start = System.currentTimeMillis();
+        int writtenFiles = writeCodeFiles();
+
+        Consolex.writeDebug(
+            "Wrote " + writtenFiles + " code files in " 
+            + (System.currentTimeMillis() - start) + " ms"
+        );
+
+        if (previousManifest != null) {
+            Consolex.writeInfo(
+                "Exported " + writtenFiles + " changed files (" 
+                + (codeFiles.size() - writtenFiles) + " unchanged)"
+            );
         }
     }
 
-    private void exportCodeFile(String filename, List<String> code) 
-    throws CodeExportException {
-        Path filepath = buildFilepath(filename);
-        
-        Consolex.writeDebug("Exporting " + filepath);
-        
-        writeCodeLines(code, filepath);
+    private int writeCodeFiles() throws CodeExportException {
+        try {
+            return codeFileWriter.write(codeFiles, previousManifest != null);
+        } 
+        catch (IOException e) {
+            throw new CodeExportException(e.getMessage());
+        }
     }
 
     private Path buildFilepath(String filename) {
         return codeLocation.resolve(filename);
     }
 
-    private void writeCodeLines(List<String> code, Path filepath) 
-    throws CodeExportException {
+    private void deleteOrphanedCodeFiles() throws CodeExportException {
+        if (previousManifest == null) {
+            return;
+        }
+
+        Set<String> currentFiles = getCodeFileNames();
+
         try {
-            writeLines(code, filepath);
-        } 
+            for (String filename : previousManifest.getFiles()) {
+                if (!currentFiles.contains(filename)) {
+                    deleteCodeFile(buildFilepath(filename));
+                }
+            }
+        }
         catch (IOException e) {
             throw new CodeExportException(e.getMessage());
         }
     }
 
-    private void writeLines(List<String> lines, Path filepath) throws IOException {
-        TextFileManager txtFileManager = new TextFileManager(
-            filepath, 
-            StandardCharsets.UTF_8
+    private Set<String> getCodeFileNames() {
+        Set<String> filenames = new HashSet<>();
+
+        for (CodeFile file : codeFiles) {
+            filenames.add(file.getName());
+        }
+
+        return filenames;
+    }
+
+    private void deleteCodeFile(Path filepath) throws IOException {
+        Consolex.writeDebug("Deleting " + filepath);
+        Files.deleteIfExists(filepath);
+
+        Path directory = filepath.getParent();
+
+        while (!directory.equals(codeLocation) && isEmptyDirectory(directory)) {
+            Files.delete(directory);
+            directory = directory.getParent();
+        }
+    }
+
+    private boolean isEmptyDirectory(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findAny().isEmpty();
+        }
+    }
+
+    private void writeManifest() {
+        ExportManifest manifest = new ExportManifest(
+            getFrameworkName(),
+            properties.getTargetPlatforms(),
+            dependencies,
+            getCodeFileNames()
         );
 
-        txtFileManager.writeLines(lines);
+        try {
+            manifest.write(manifestLocation);
+        }
+        catch (IOException e) {
+            Consolex.writeWarning("Could not store export manifest: " + e.getMessage());
+        }
     }
 }
@@ -2,7 +2,9 @@ package wniemiec.mobilex.ama.framework;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import wniemiec.mobilex.ama.cache.ScreenManifest;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
 import wniemiec.mobilex.ama.export.exception.AppGenerationException;
 import wniemiec.mobilex.ama.models.Project;
@@ -37,6 +39,22 @@ public interface Framework {
      */
     void addProjectDependency(String dependency, Path location) throws IOException;
 
+    /**
+     * Adds several dependencies on the project. By default, dependencies are
+     * added one at a time.
+     * 
+     * @param       dependencies Dependency names
+     * @param       location Path where the project is
+     * 
+     * @throws      IOException If dependencies cannot be added
+     */
+    default void addProjectDependencies(Collection<String> dependencies, Path location) 
+    throws IOException {
+        for (String dependency : dependencies) {
+            addProjectDependency(dependency, location);
+        }
+    }
+
     /**
      * Generates application code.
      * 
@@ -48,6 +66,24 @@ public interface Framework {
      */
     Project generateCode(List<Screen> screens) throws CoderException;
 
+    /**
+     * Generates application code, reusing the code of screens that did not
+     * change since the previous compilation. By default, the code of all
+     * screens is generated again.
+     * 
+     * @param       screens Information about application screens 
+     * @param       manifest Code generated for each screen in the previous 
+     * compilation, which will be updated with the code of changed screens
+     * 
+     * @return      Code files along with the necessary dependencies
+     * 
+     * @throws      CoderException If code cannot be generated
+     */
+    default Project generateCode(List<Screen> screens, ScreenManifest manifest) 
+    throws CoderException {
+        return generateCode(screens);
+    }
+
     /**
      * Generates mobile application for a platform.
      * 
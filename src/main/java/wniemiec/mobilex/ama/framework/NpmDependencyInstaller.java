@@ -0,0 +1,229 @@
+package wniemiec.mobilex.ama.framework;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.json.JSONException;
+import org.json.JSONObject;
+import wniemiec.io.java.Consolex;
+import wniemiec.io.java.Terminal;
+import wniemiec.mobilex.ama.util.data.Validator;
+
+
+/**
+ * Responsible for installing npm dependencies of a project with a single
+ * npm invocation, so that npm resolves the dependency tree only once.
+ * Dependencies that are already declared in 'package.json' and installed at
+ * the requested version are skipped.
+ */
+public class NpmDependencyInstaller {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String MODULES_DIRECTORY;
+    private static final String[] DECLARATION_FIELDS;
+    private final Terminal terminal;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        MODULES_DIRECTORY = "node_modules";
+        DECLARATION_FIELDS = new String[] {"dependencies", "devDependencies"};
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Npm dependency installer.
+     *
+     * @param       terminal Terminal where npm will be run
+     *
+     * @throws      IllegalArgumentException If terminal is null
+     */
+    public NpmDependencyInstaller(Terminal terminal) {
+        Validator.validateTerminal(terminal);
+
+        this.terminal = terminal;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Installs dependencies on a project. Each dependency may contain several
+     * package specifiers separated by spaces, such as 'react-native-webview@11.17.2
+     * react-native-render-html'.
+     *
+     * @param       dependencies Dependencies
+     * @param       projectLocation Path where the project is
+     *
+     * @throws      IOException If dependencies cannot be installed
+     * @throws      IllegalArgumentException If dependencies or project
+     * location is null
+     */
+    public void install(Collection<String> dependencies, Path projectLocation)
+    throws IOException {
+        Validator.validateDependencies(dependencies);
+        Validator.validateLocation(projectLocation);
+
+        Set<String> specifiers = splitSpecifiers(dependencies);
+        List<String> missingSpecifiers = findMissingSpecifiers(specifiers, projectLocation);
+
+        if (missingSpecifiers.size() < specifiers.size()) {
+            Consolex.writeInfo(
+                "Skipping " + (specifiers.size() - missingSpecifiers.size()) 
+                + " dependencies that are already installed"
+            );
+        }
+
+        if (missingSpecifiers.isEmpty()) {
+            return;
+        }
+
+        List<String> command = new ArrayList<>();
+
+        command.add("npm");
+        command.add("install");
+        command.add("--prefix");
+        command.add(projectLocation.toString());
+        command.add("--save");
+        command.addAll(missingSpecifiers);
+
+        terminal.exec(command.toArray(new String[0]));
+    }
+
+    private Set<String> splitSpecifiers(Collection<String> dependencies) {
+        Set<String> specifiers = new LinkedHashSet<>();
+
+        for (String dependency : dependencies) {
+            Validator.validateDependency(dependency);
+
+            for (String specifier : dependency.trim().split("\\s+")) {
+                if (!specifier.isEmpty()) {
+                    specifiers.add(specifier);
+                }
+            }
+        }
+
+        return specifiers;
+    }
+
+    private List<String> findMissingSpecifiers(Set<String> specifiers, Path projectLocation) {
+        JSONObject packageJson = readJson(projectLocation.resolve("package.json"));
+        JSONObject packageLock = readJson(projectLocation.resolve("package-lock.json"));
+        List<String> missingSpecifiers = new ArrayList<>();
+
+        for (String specifier : specifiers) {
+            if (!isInstalled(specifier, packageJson, packageLock, projectLocation)) {
+                missingSpecifiers.add(specifier);
+            }
+        }
+
+        return missingSpecifiers;
+    }
+
+    /**
+     * Checks whether a package is declared in 'package.json' and installed
+     * at the requested version. Specifiers that are not registry packages,
+     * such as paths and URLs, are never considered installed.
+     */
+    private boolean isInstalled(
+        String specifier, 
+        JSONObject packageJson, 
+        JSONObject packageLock, 
+        Path projectLocation
+    ) {
+        if (specifier.contains(":") || specifier.startsWith(".") || specifier.startsWith("/")) {
+            return false;
+        }
+
+        int versionSeparator = specifier.indexOf('@', 1);
+        String name = (versionSeparator < 0) ? specifier : specifier.substring(0, versionSeparator);
+        String requestedVersion = (versionSeparator < 0) ? null : specifier.substring(versionSeparator + 1);
+        String declaredVersion = readDeclaredVersion(packageJson, name);
+
+        if (declaredVersion.isEmpty()) {
+            return false;
+        }
+
+        String installedVersion = readInstalledVersion(packageLock, projectLocation, name);
+
+        if (installedVersion.isEmpty()) {
+            return false;
+        }
+
+        return (requestedVersion == null)
+            || requestedVersion.equals(installedVersion)
+            || requestedVersion.equals(declaredVersion);
+    }
+
+    private String readDeclaredVersion(JSONObject packageJson, String name) {
+        for (String field : DECLARATION_FIELDS) {
+            JSONObject declarations = packageJson.optJSONObject(field);
+
+            if ((declarations != null) && declarations.has(name)) {
+                return declarations.optString(name, "");
+            }
+        }
+
+        return "";
+    }
+
+    /**
+     * Reads the installed version of a package from the lock file (both the
+     * 'packages' field of lock file versions 2 and 3 and the 'dependencies'
+     * field of version 1) or, when there is no lock file, from the package
+     * itself.
+     */
+    private String readInstalledVersion(JSONObject packageLock, Path projectLocation, String name) {
+        JSONObject lockedPackages = packageLock.optJSONObject("packages");
+
+        if (lockedPackages != null) {
+            JSONObject lockedPackage = lockedPackages.optJSONObject(MODULES_DIRECTORY + "/" + name);
+
+            return (lockedPackage == null) ? "" : lockedPackage.optString("version", "");
+        }
+
+        JSONObject lockedDependencies = packageLock.optJSONObject("dependencies");
+
+        if (lockedDependencies != null) {
+            JSONObject lockedDependency = lockedDependencies.optJSONObject(name);
+
+            return (lockedDependency == null) ? "" : lockedDependency.optString("version", "");
+        }
+
+        Path packageManifest = projectLocation
+            .resolve(MODULES_DIRECTORY)
+            .resolve(name)
+            .resolve("package.json");
+
+        return readJson(packageManifest).optString("version", "");
+    }
+
+    private JSONObject readJson(Path file) {
+        if (!Files.exists(file)) {
+            return new JSONObject();
+        }
+
+        try {
+            String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+            return new JSONObject(content);
+        }
+        catch (IOException | JSONException e) {
+            return new JSONObject();
+        }
+    }
+}
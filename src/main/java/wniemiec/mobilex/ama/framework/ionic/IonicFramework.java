@@ -3,12 +3,15 @@ package wniemiec.mobilex.ama.framework.ionic;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import wniemiec.io.java.Consolex;
 import wniemiec.io.java.StandardTerminalBuilder;
 import wniemiec.io.java.Terminal;
+import wniemiec.mobilex.ama.cache.ProjectSkeletonCache;
+import wniemiec.mobilex.ama.cache.ScreenManifest;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
 import wniemiec.mobilex.ama.export.exception.AppGenerationException;
 import wniemiec.mobilex.ama.framework.Framework;
@@ -24,7 +27,9 @@ import wniemiec.mobilex.ama.util.io.StandardFileManager;
 
 
 /**
- * Responsible for managing React Native framework.
+ * Responsible for managing Ionic framework. Projects scaffolded by Ionic CLI
+ * are cached in the user home directory, so that they are not scaffolded 
+ * again by later compilations.
  * 
  * See: https://ionicframework.com
  */
@@ -33,18 +38,41 @@ public class IonicFramework implements Framework {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final Path SKELETON_CACHE_DIRECTORY;
+    private static final int SKELETON_CACHE_MAX_ENTRIES;
     private final IonicProjectManager projectManager;
     private final Terminal terminal;
     private final FileManager fileManager;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        SKELETON_CACHE_DIRECTORY = Path.of(
+            System.getProperty("user.home"), 
+            ".ama-cache", 
+            "skeletons"
+        );
+        SKELETON_CACHE_MAX_ENTRIES = 4;
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
     public IonicFramework() {
         terminal = buildStandardTerminal();
         fileManager = new StandardFileManager();
-        projectManager = new IonicProjectManager(terminal, fileManager);
+        projectManager = new IonicProjectManager(
+            terminal, 
+            fileManager, 
+            new ProjectSkeletonCache(
+                SKELETON_CACHE_DIRECTORY, 
+                SKELETON_CACHE_MAX_ENTRIES,
+                ProjectSkeletonCache.isPackageLinkingRequested()
+            )
+        );
     }
 
     public IonicFramework(Terminal terminal, FileManager fileManager) {
@@ -77,21 +105,36 @@ public class IonicFramework implements Framework {
         projectManager.addProjectDependency(dependency, location);
     }
 
+    @Override
+    public void addProjectDependencies(Collection<String> dependencies, Path location) 
+    throws IOException {
+        projectManager.addProjectDependencies(dependencies, location);
+    }
+
     @Override
     public Project generateCode(List<Screen> screens) 
+    throws CoderException {
+        return generateCode(screens, new ScreenManifest());
+    }
+
+    @Override
+    public Project generateCode(List<Screen> screens, ScreenManifest manifest) 
     throws CoderException {
         List<CodeFile> code = new ArrayList<>();
         Set<String> dependencies = new HashSet<>();
         
-        generateScreensCode(code, screens);
+        generateScreensCode(code, screens, manifest);
         generateScreensRouting(code, screens);
 
         return new Project(code, dependencies);
     }
 
-    private void generateScreensCode(List<CodeFile> code, List<Screen> screens) 
-    throws CoderException {
-        IonicScreensCoder screensCoder = new IonicScreensCoder(screens);
+    private void generateScreensCode(
+        List<CodeFile> code, 
+        List<Screen> screens, 
+        ScreenManifest manifest
+    ) throws CoderException {
+        IonicScreensCoder screensCoder = new IonicScreensCoder(screens, manifest);
 
         code.addAll(screensCoder.generateCode());
     }
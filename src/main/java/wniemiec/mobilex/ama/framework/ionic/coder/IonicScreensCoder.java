@@ -2,7 +2,7 @@ package wniemiec.mobilex.ama.framework.ionic.coder;
 
 import java.util.ArrayList;
 import java.util.List;
-
+import wniemiec.mobilex.ama.cache.ScreenManifest;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
 import wniemiec.mobilex.ama.framework.ionic.parser.IonicBehaviorParser;
 import wniemiec.mobilex.ama.framework.ionic.parser.IonicStructureParser;
@@ -12,7 +12,9 @@ import wniemiec.mobilex.ama.models.Screen;
 
 
 /**
- * Responsible for generating Ionic framework code for screens.
+ * Responsible for generating Ionic framework code for screens. Screens that
+ * did not change since the previous compilation are not generated again;
+ * their previous code is reused instead.
  */
 public class IonicScreensCoder {
 
@@ -21,6 +23,7 @@ public class IonicScreensCoder {
     //-------------------------------------------------------------------------
     private static final String APP_PAGES_PATH;
     private final List<Screen> screens;
+    private final ScreenManifest manifest;
     private IonicStructureParser structureParser;
 
 
@@ -36,7 +39,19 @@ public class IonicScreensCoder {
     //		Constructor
     //-------------------------------------------------------------------------
     public IonicScreensCoder(List<Screen> screens) {
+        this(screens, new ScreenManifest());
+    }
+
+    /**
+     * Ionic code generator for screens.
+     *
+     * @param       screens Screens
+     * @param       manifest Code generated for each screen in the previous
+     * compilation, which will be updated with the code of changed screens
+     */
+    public IonicScreensCoder(List<Screen> screens, ScreenManifest manifest) {
         this.screens = screens;
+        this.manifest = manifest;
     }
 
 
@@ -47,11 +62,27 @@ public class IonicScreensCoder {
         List<CodeFile> screensCode = new ArrayList<>();
 
         for (Screen screenData : screens) {
-            screensCode.addAll(generateCodeForScreen(screenData));
+            screensCode.addAll(findOrGenerateCodeForScreen(screenData));
         }
 
         return screensCode;
     }
+
+    private List<CodeFile> findOrGenerateCodeForScreen(Screen screenData) 
+    throws CoderException {
+        String fingerprint = ScreenManifest.computeFingerprint(screenData);
+        List<CodeFile> previousCode = manifest.findCodeFiles(screenData, fingerprint);
+
+        if (previousCode != null) {
+            return previousCode;
+        }
+
+        List<CodeFile> screenCode = generateCodeForScreen(screenData);
+
+        manifest.putCodeFiles(screenData, fingerprint, screenCode);
+
+        return screenCode;
+    }
     
     private List<CodeFile> generateCodeForScreen(Screen screenData) 
     throws CoderException {
@@ -95,7 +126,7 @@ public class IonicScreensCoder {
     }
 
     private CodeFile buildHtmlFileCode(Screen screen) {
-        structureParser = new IonicStructureParser();
+        structureParser = new IonicStructureParser(screen.getRawName());
         structureParser.parse(screen.getStructure());
         
         List<String> structureCode = structureParser.getParsedCode();
@@ -115,7 +146,7 @@ public class IonicScreensCoder {
     }
 
     private CodeFile buildPageFileCode(Screen screen) throws CoderException {
-        IonicBehaviorParser behaviorProcessor = new IonicBehaviorParser();
+        IonicBehaviorParser behaviorProcessor = new IonicBehaviorParser(screen.getRawName());
         behaviorProcessor.parse(screen.getBehavior());
         List<String> behaviorCode = behaviorProcessor.getParsedCode();
 
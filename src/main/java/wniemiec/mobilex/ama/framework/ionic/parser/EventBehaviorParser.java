@@ -1,278 +1,491 @@
 package wniemiec.mobilex.ama.framework.ionic.parser;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.LinkedList;
+import java.util.Deque;
 import java.util.List;
-import java.util.Queue;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import wniemiec.data.java.Encryptor;
-import wniemiec.data.java.Encryptors;
-import wniemiec.mobilex.ama.models.InlineEventTag;
-import wniemiec.mobilex.ama.models.Range;
+import wniemiec.mobilex.ama.models.behavior.BehaviorTransformer;
+import wniemiec.mobilex.ama.models.behavior.Expression;
+import wniemiec.mobilex.ama.models.behavior.Instruction;
+import wniemiec.mobilex.ama.models.behavior.Literal;
+import wniemiec.mobilex.ama.models.behavior.TemplateElement;
+import wniemiec.mobilex.ama.models.behavior.TemplateLiteral;
+
+
+/**
+ * Responsible for parsing events of tags written in behavior, such as
+ * '`<button onclick="open(this)">`'. Event attributes are removed from the
+ * tags, tags without id get one and the code that sets up the events is
+ * placed right after the innermost instruction that contains the tags. Each
+ * string and template literal is scanned once, from left to right.
+ */
+class EventBehaviorParser implements BehaviorTransformer {
 
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String ATTRIBUTE_ONCLICK;
+    private static final String ATTRIBUTE_ID;
+    private static final String THIS_KEYWORD;
+    private static final char EXPRESSION_MARKER;
+    private final EventIdGenerator idGenerator;
+    private final Deque<List<String>> eventsCode;
+    private final List<String> generatedIds;
+    private List<Expression> expressions;
+    private List<Expression> remainingExpressions;
+    private int markersRead;
+    private int parsedTags;
 
-class EventBehaviorParser {
 
     //-------------------------------------------------------------------------
-    //		Attributes
+    //		Initialization block
     //-------------------------------------------------------------------------
-    private final Encryptor encryptor;
-    private List<String> parsedCode;
-    private List<String> generatedIds;
+    static {
+        ATTRIBUTE_ONCLICK = "onclick";
+        ATTRIBUTE_ID = "id";
+        THIS_KEYWORD = "this";
+        EXPRESSION_MARKER = '\uFFFF';
+    }
 
 
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
     public EventBehaviorParser() {
-        parsedCode = new ArrayList<>();
+        this(new EventIdGenerator(""));
+    }
+
+    /**
+     * Parses events of tags written in screen behavior.
+     *
+     * @param       idGenerator Generator of ids for tags with events that have
+     * no id
+     */
+    public EventBehaviorParser(EventIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        eventsCode = new ArrayDeque<>();
         generatedIds = new ArrayList<>();
-        encryptor = Encryptors.md5();
+        expressions = List.of();
+        remainingExpressions = new ArrayList<>();
+        markersRead = 0;
+        parsedTags = 0;
     }
-    
+
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    public void parse(List<String> code) {
-        if (isEmpty(code)) {
-            return;
-        }
+    @Override
+    public void enterInstruction(Instruction instruction) {
+        eventsCode.push(new ArrayList<>());
+    }
 
-        parsedCode = new ArrayList<>();
+    @Override
+    public Instruction transformInstruction(Instruction instruction) {
+        List<String> instructionEventsCode = eventsCode.pop();
 
-        for (String line : code) {
-            parsedCode.add(parseLine(line));
+        if (instructionEventsCode.isEmpty()) {
+            return instruction;
         }
+
+        return new InstructionWithEvents(instruction, instructionEventsCode);
     }
 
-    private boolean isEmpty(List<String> code) {
-        return  (code == null) 
-                || code.isEmpty();
+    @Override
+    public Expression transformExpression(Expression expression) {
+        if (eventsCode.isEmpty()) {
+            return expression;
+        }
+
+        if (expression instanceof TemplateLiteral) {
+            return parseTemplateLiteral((TemplateLiteral) expression);
+        }
+
+        if (expression instanceof Literal) {
+            return parseLiteral((Literal) expression);
+        }
+
+        return expression;
     }
 
-    private String parseLine(String line) {
-        String parsedLine = line;
-        Pattern pattern = Pattern.compile("<[^<>]+>");
-        Matcher matcher = pattern.matcher(line);
-        Queue<Range<Integer>> tagsToParse = new LinkedList<>();
-        StringBuilder codesToAdd = new StringBuilder();
-
-        while (matcher.find()) {
-            int indexOfTagBegins = matcher.start();
-            int indexOfTagEnds = matcher.end() - 1;
-            tagsToParse.add(new Range<>(indexOfTagBegins, indexOfTagEnds));
+    /**
+     * Parses tags of a template literal. Its expressions are replaced by
+     * EXPRESSION_MARKER while tags are scanned, so that expressions inside an
+     * event (for instance, 'onclick="open(${id})"') can be moved into the
+     * code of that event.
+     */
+    private Expression parseTemplateLiteral(TemplateLiteral literal) {
+        String text = buildTextWithMarkers(literal);
+
+        if (!hasTag(text) || (countMarkers(text, 0, text.length()) != literal.getExpressions().size())) {
+            return literal;
+        }
+
+        String parsedText = parseTags(text, literal.getExpressions());
+
+        if (parsedText == null) {
+            return literal;
         }
-        
-        int offset = 0;
-        while (!tagsToParse.isEmpty()) {
-            Range<Integer> currentTag = tagsToParse.poll();
-            InlineEventTag parsedTag = parseTag(line.substring(currentTag.getBegin(), currentTag.getEnd() + 1));
-
-            if (parsedTag.hasEvent()) {
-                int oldLength = currentTag.getEnd() - currentTag.getBegin() + 1;
-                int newLength = parsedTag.getCode().length();
-
-                parsedLine = parsedLine.substring(0, currentTag.getBegin() + offset) 
-                    + parsedTag.getCode() 
-                    + parsedLine.substring(offset + currentTag.getEnd()+1);
-                offset += newLength - oldLength;
-                
-                String attributeAssignmentCode = ";document.getElementById(\"" + parsedTag.getId() + "\")." + parsedTag.getEventName() + " = () => " + parsedTag.getEventValue();
-                
-                attributeAssignmentCode = attributeAssignmentCode.replace("this", "document.getElementById(\"" + parsedTag.getId() + "\")");
-                codesToAdd.append(attributeAssignmentCode);
+
+        return new TemplateLiteral(remainingExpressions, splitQuasis(parsedText));
+    }
+
+    /**
+     * Builds the content of a template literal the same way as its code is
+     * generated, with EXPRESSION_MARKER in place of each expression.
+     */
+    private String buildTextWithMarkers(TemplateLiteral literal) {
+        List<Expression> literalExpressions = literal.getExpressions();
+        List<Expression> quasis = literal.getQuasis();
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < literalExpressions.size(); i++) {
+            if (!quasis.isEmpty()) {
+                quasis.get(i).appendCode(text);
             }
-            //codesToAdd.append(";document.getElementById(\"" + buttonId + "\").onclick = () => " + buttonOnClickValue);    
+
+            text.append(EXPRESSION_MARKER);
         }
 
-        parsedLine += codesToAdd.toString();
-        parsedLine = parsedLine.replace(";;", ";");
+        if (literalExpressions.isEmpty() && !quasis.isEmpty()) {
+            quasis.get(quasis.size()-1).appendCode(text);
+        }
 
-        /*if (hasOnClick(line)) {
-            parsedLine = parseOnClick(line);
-        }*/
+        return text.toString();
+    }
 
-        return parsedLine;
+    private boolean hasTag(String text) {
+        return text.indexOf('<') >= 0;
     }
 
-    private InlineEventTag parseTag(String tag) {
-        InlineEventTag parsedTag = new InlineEventTag(tag);
+    private int countMarkers(String text, int start, int end) {
+        int markers = 0;
 
-        if (hasOnClick(tag)) {
-            parseOnClick(parsedTag);
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == EXPRESSION_MARKER) {
+                markers++;
+            }
         }
 
-        return parsedTag;
+        return markers;
     }
 
-    private boolean hasOnClick(String line) {
-        return line.toLowerCase().matches(".*([^A-z]+|)onclick=.*");
-    }
+    private List<Expression> splitQuasis(String text) {
+        List<Expression> quasis = new ArrayList<>();
+        int start = 0;
+        int marker = text.indexOf(EXPRESSION_MARKER);
 
-    /*
-        EX: glossaryContent.innerHTML+=`<button class="item" onclick="openDescription(this);">`
-        
-        ao achar onclick no behavior
-            se possui id
-                button_id = id
-            senao
-                button_id = gera_id_randomico
-                button.id = button_id
-            button_onclick = button.onclick
-            se button_onclick possui 'this'
-                substituir 'this' por document.getElementById(button_id)
-            addLinha("document.getElementById(button_id).onclick = () => button_onclick")
-    */
-    private void parseOnClick(InlineEventTag tag) {
-        tag.setEventName("onclick");
-        tag.setEventValue(extractOnClickValueFrom(tag));
-        removeOnClickFrom(tag);
+        while (marker >= 0) {
+            quasis.add(new TemplateElement(text.substring(start, marker), false));
+            start = marker + 1;
+            marker = text.indexOf(EXPRESSION_MARKER, start);
+        }
 
-        String id;
+        quasis.add(new TemplateElement(text.substring(start), true));
 
-        if (hasId(tag)) {
-            id = extractIdFrom(tag);
+        return quasis;
+    }
+
+    private Expression parseLiteral(Literal literal) {
+        String value = literal.getValue();
+
+        if (literal.isNumber() || !hasTag(value) || (value.indexOf(EXPRESSION_MARKER) >= 0)) {
+            return literal;
         }
-        else {
-            id = generateUniqueIdentifier();
-            putId(id, tag);
-            generatedIds.add(id);
+
+        String parsedValue = parseTags(value, List.of());
+
+        if (parsedValue == null) {
+            return literal;
         }
 
-        if (hasThis(tag)) {
-            tag.setCode(tag.getCode().replace("this", "document.getElementById(\"" + id + "\")"));
+        return Literal.ofString(parsedValue);
+    }
+
+    /**
+     * Parses all tags of a text, that is, every '<' followed by at least one
+     * character and by '>' without another '<' in between. Expressions that
+     * are not moved into events are stored in remainingExpressions.
+     *
+     * @param       text Text with EXPRESSION_MARKER in place of expressions
+     * @param       textExpressions Expressions of the text
+     *
+     * @return      Parsed text or null if the text has no events
+     */
+    private String parseTags(String text, List<Expression> textExpressions) {
+        StringBuilder parsedText = new StringBuilder(text.length());
+        int events = eventsCode.peek().size();
+        int start = 0;
+        int tagStart = text.indexOf('<');
+
+        expressions = textExpressions;
+        remainingExpressions = new ArrayList<>();
+        markersRead = 0;
+
+        while (tagStart >= 0) {
+            int tagEnd = findTagEnd(text, tagStart);
+
+            if (tagEnd < 0) {
+                break;
+            }
+
+            if (text.charAt(tagEnd) == '<') {
+                tagStart = tagEnd;
+                continue;
+            }
+
+            copyText(text, start, tagStart, parsedText);
+            parseTag(text, tagStart, tagEnd, parsedText);
+            start = tagEnd + 1;
+            tagStart = text.indexOf('<', start);
         }
 
-        tag.setId(id);
+        copyText(text, start, text.length(), parsedText);
 
-        /*
-        if (!isOnClickInsideATag(line)) {
-            return line;
+        return (eventsCode.peek().size() == events) ? null : parsedText.toString();
+    }
+
+    /**
+     * Finds where a tag ends.
+     *
+     * @return      Position of '>', position of '<' if another tag begins
+     * before the tag ends or -1 if the tag does not end
+     */
+    private int findTagEnd(String text, int tagStart) {
+        for (int i = tagStart + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c == '<') {
+                return i;
+            }
+
+            if (c == '>') {
+                return (i == tagStart + 1) ? -1 : i;
+            }
         }
 
-        String parsedLine = line;
-        String buttonId;
+        return -1;
+    }
+
+    private void copyText(String text, int start, int end, StringBuilder parsedText) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (c == EXPRESSION_MARKER) {
+                remainingExpressions.add(expressions.get(markersRead));
+                markersRead++;
+            }
 
-        if (hasId(line)) {
-            buttonId = extractIdFrom(line);
+            parsedText.append(c);
         }
-        else {
-            buttonId = generateUniqueIdentifier();
-            parsedLine = putId(buttonId, line);
-            generatedIds.add(buttonId);
+    }
+
+    private void parseTag(String text, int tagStart, int tagEnd, StringBuilder parsedText) {
+        int position = parsedTags;
+        int onClickStart = findAttribute(text, tagStart, tagEnd, ATTRIBUTE_ONCLICK);
+
+        parsedTags++;
+
+        if (onClickStart < 0) {
+            copyText(text, tagStart, tagEnd + 1, parsedText);
+
+            return;
         }
 
-        String buttonOnClickValue = extractOnClickValueFrom(line);
-        parsedLine = removeOnClickFrom(parsedLine);
+        int valueStart = onClickStart + ATTRIBUTE_ONCLICK.length() + 2;
+        int valueEnd = text.indexOf(text.charAt(valueStart - 1), valueStart);
+        int idStart = findAttribute(text, tagStart, onClickStart, ATTRIBUTE_ID);
 
-        parsedLine += ";document.getElementById(\"" + buttonId + "\").onclick = () => " + buttonOnClickValue; // TODO: apos final das tags - n pd ser no meio da string
+        if (idStart < 0) {
+            idStart = findAttribute(text, valueEnd, tagEnd, ATTRIBUTE_ID);
+        }
+
+        int idEnd = tagEnd;
 
-        if (hasThis(line)) {
-            parsedLine = parsedLine.replace("this", "document.getElementById(\"" + buttonId + "\")");
+        if (text.charAt(tagEnd - 1) == '/') {
+            idEnd--;
         }
 
-        return parsedLine;
-        */
-    }
+        copyText(text, tagStart, onClickStart, parsedText);
 
-    private boolean isOnClickInsideATag(String line) {
-        Pattern pattern = Pattern.compile("([^=]+|)<[^=]+.+onclick=.+[^=]+>([^=]+|)", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(line);
+        String onClickValue = readText(text, valueStart, valueEnd, markersRead);
 
-        return matcher.find();
+        markersRead += countMarkers(text, valueStart, valueEnd);
+        copyText(text, valueEnd + 1, idEnd, parsedText);
+
+        String id;
+
+        if (idStart < 0) {
+            id = idGenerator.generateBehaviorId(position);
+            generatedIds.add(id);
+            putId(id, parsedText);
+        }
+        else {
+            id = readAttributeValue(text, idStart, ATTRIBUTE_ID);
+        }
+
+        copyText(text, idEnd, tagEnd + 1, parsedText);
+        eventsCode.peek().add(buildEventCode(id, ATTRIBUTE_ONCLICK, onClickValue));
     }
 
-    private boolean hasId(InlineEventTag tag) {
-        return tag.getCode().matches(".*([^A-z]+|)id=.*");
+    /**
+     * Finds an attribute with a non-empty quoted value in part of a tag.
+     * Attribute names are case insensitive.
+     *
+     * @param       start Position from which the attribute is searched
+     * @param       end Position at which the attribute must have ended
+     *
+     * @return      Position where the attribute begins or -1 if there is no
+     * such attribute
+     */
+    private int findAttribute(String text, int start, int end, String name) {
+        int valueStart = name.length() + 2;
+
+        for (int i = start + 1; i + valueStart < end; i++) {
+            if (isAttribute(text, i, name) && hasValue(text, i + valueStart, end)) {
+                return i;
+            }
+        }
+
+        return -1;
     }
 
-    private String extractIdFrom(InlineEventTag tag) {
-        return extractValueFromAttribute("id", tag.getCode());
+    private boolean isAttribute(String text, int start, String name) {
+        return  Character.isWhitespace(text.charAt(start - 1))
+                && text.regionMatches(true, start, name, 0, name.length())
+                && (text.charAt(start + name.length()) == '=');
     }
 
-    private String extractValueFromAttribute(String attribute, String line) {
-        Pattern pattern = Pattern.compile(attribute + "=\"[^\"]+\"", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(line);
+    private boolean hasValue(String text, int valueStart, int end) {
+        char quote = text.charAt(valueStart - 1);
 
-        if (!matcher.find()) {
-            return line;
+        if ((quote != '"') && (quote != '\'')) {
+            return false;
         }
 
-        String rawId = matcher.group();
+        int valueEnd = text.indexOf(quote, valueStart);
+
+        return (valueEnd > valueStart) && (valueEnd < end);
+    }
+
+    private String readAttributeValue(String text, int attributeStart, String name) {
+        int valueStart = attributeStart + name.length() + 2;
+        int valueEnd = text.indexOf(text.charAt(valueStart - 1), valueStart);
 
-        return removeDoubleQuotes(rawId.split("=")[1]);
+        return readText(text, valueStart, valueEnd, countMarkers(text, 0, valueStart));
     }
 
-    private String removeDoubleQuotes(String text) {
-        return text.replace("\"", "");
+    /**
+     * Reads part of a text, writing expressions in place of their markers.
+     *
+     * @param       firstExpression Index of the expression of the first marker
+     */
+    private String readText(String text, int start, int end, int firstExpression) {
+        StringBuilder readText = new StringBuilder(end - start);
+        int expression = firstExpression;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (c == EXPRESSION_MARKER) {
+                readText.append("${");
+                expressions.get(expression).appendCode(readText);
+                readText.append('}');
+                expression++;
+            }
+            else {
+                readText.append(c);
+            }
+        }
+
+        return readText.toString();
     }
 
-    private String generateUniqueIdentifier() {
-        return ("_" + encryptor.encrypt(String.valueOf(generateRandomNumber())));
+    private void putId(String id, StringBuilder parsedTag) {
+        parsedTag.append(' ');
+        parsedTag.append(ATTRIBUTE_ID);
+        parsedTag.append("=\"");
+        parsedTag.append(id);
+        parsedTag.append('"');
     }
-	
-	private double generateRandomNumber() {
-		return (new Date().getTime() + (Math.random() * 9999 + 1));
-	}
-
-    private void putId(String id, InlineEventTag tag) {
-        StringBuilder parsedLine = new StringBuilder();
-        int indexOfTagEnd = tag.getCode().indexOf(">");
-
-        parsedLine.append(tag.getCode().substring(0, indexOfTagEnd));
-        parsedLine.append(' ');
-        parsedLine.append("id=\"");
-        parsedLine.append(id);
-        parsedLine.append('\"');
-        parsedLine.append(tag.getCode().substring(indexOfTagEnd));
-
-        tag.setCode(parsedLine.toString());
+
+    private String buildEventCode(String id, String eventName, String eventValue) {
+        StringBuilder code = new StringBuilder();
+        String element = "document.getElementById(\"" + id + "\")";
+
+        code.append(element);
+        code.append('.');
+        code.append(eventName);
+        code.append(" = () => ");
+        code.append(replaceThisWith(element, parseTemplateStringTokens(eventValue)));
+
+        return code.toString();
     }
 
-    private String extractOnClickValueFrom(InlineEventTag tag) {
-        String value = extractValueFromAttribute("onclick", tag.getCode());
-
-        if (hasTemplateStringTokens(value)) {
-            int indexOfParametersBegins = value.indexOf("(");
-            int indexOfParametersEnds = value.lastIndexOf(")");
-            
-            value = value.substring(0, indexOfParametersBegins+1) 
-                + "`" + value.substring(indexOfParametersBegins+1, indexOfParametersEnds) + "`" 
-                + value.substring(indexOfParametersEnds);
-            //value = "`" + value + "`";
+    /**
+     * Writes the arguments of an event as a template string if they have
+     * template string tokens, since the event runs after the template literal
+     * is evaluated (for instance, 'open(${id})' becomes 'open(`${id}`)').
+     */
+    private String parseTemplateStringTokens(String eventValue) {
+        int tokenStart = eventValue.indexOf("${");
+
+        if ((tokenStart < 0) || (eventValue.indexOf('}', tokenStart + 3) < 0)) {
+            return eventValue;
         }
 
-        return value;
-    }
+        int parametersStart = eventValue.indexOf('(');
+        int parametersEnd = eventValue.lastIndexOf(')');
+
+        if ((parametersStart < 0) || (parametersEnd < parametersStart)) {
+            return eventValue;
+        }
 
-    private boolean hasTemplateStringTokens(String line) {
-        return line.matches(".*\\$\\{.+\\}.*");
+        return  eventValue.substring(0, parametersStart + 1)
+                + "`" + eventValue.substring(parametersStart + 1, parametersEnd) + "`"
+                + eventValue.substring(parametersEnd);
     }
 
-    private void removeOnClickFrom(InlineEventTag tag) {
-        Pattern pattern = Pattern.compile("onclick=\"[^\"]+\"", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pattern.matcher(tag.getCode());
+    private String replaceThisWith(String element, String eventValue) {
+        StringBuilder parsedValue = new StringBuilder(eventValue.length());
+        int start = 0;
+        int keyword = eventValue.indexOf(THIS_KEYWORD);
 
-        if (matcher.find()) {
-            tag.setCode(matcher.replaceFirst(""));
+        while (keyword >= 0) {
+            int keywordEnd = keyword + THIS_KEYWORD.length();
+
+            parsedValue.append(eventValue, start, keyword);
+
+            if (isIdentifierBoundary(eventValue, keyword - 1) && isIdentifierBoundary(eventValue, keywordEnd)) {
+                parsedValue.append(element);
+            }
+            else {
+                parsedValue.append(THIS_KEYWORD);
+            }
+
+            start = keywordEnd;
+            keyword = eventValue.indexOf(THIS_KEYWORD, start);
         }
+
+        parsedValue.append(eventValue, start, eventValue.length());
+
+        return parsedValue.toString();
     }
 
-    private boolean hasThis(InlineEventTag tag) {
-        return tag.getCode().matches(".*([^A-z]+|)this([^A-z]+|).*");
+    private boolean isIdentifierBoundary(String text, int index) {
+        if ((index < 0) || (index >= text.length())) {
+            return true;
+        }
+
+        char c = text.charAt(index);
+
+        return !Character.isLetterOrDigit(c) && (c != '_') && (c != '$');
     }
 
 
     //-------------------------------------------------------------------------
     //		Getters
     //-------------------------------------------------------------------------
-    public List<String> getParsedCode() {
-        return parsedCode;
-    }
-
     List<String> getGeneratedIds() {
         return generatedIds;
     }
@@ -0,0 +1,86 @@
+package wniemiec.mobilex.ama.framework.ionic.parser;
+
+
+/**
+ * Responsible for generating ids for tags with events that have no id. An id
+ * is derived from the screen name and from the position of the tag, so that
+ * the same screen always gets the same ids. The screen name is reduced to a
+ * FNV-1a hash, whereas the position is kept as it is, which ensures that
+ * different positions of a screen never get the same id.
+ */
+class EventIdGenerator {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final int FNV_OFFSET_BASIS;
+    private static final int FNV_PRIME;
+    private final String prefix;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        FNV_OFFSET_BASIS = 0x811c9dc5;
+        FNV_PRIME = 0x01000193;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Generates ids for tags with events of a screen.
+     *
+     * @param       screenName Screen name
+     *
+     * @throws      IllegalArgumentException If screen name is null
+     */
+    public EventIdGenerator(String screenName) {
+        if (screenName == null) {
+            throw new IllegalArgumentException("Screen name cannot be null");
+        }
+
+        prefix = "_" + Integer.toHexString(hash(screenName)) + "_";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private static int hash(String text) {
+        int hash = FNV_OFFSET_BASIS;
+
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        return hash;
+    }
+
+    /**
+     * Generates the id of a structure tag.
+     *
+     * @param       position Position of the tag in a pre-order traversal of
+     * the screen structure
+     *
+     * @return      Id
+     */
+    public String generateStructureId(int position) {
+        return prefix + position;
+    }
+
+    /**
+     * Generates the id of a tag written in screen behavior.
+     *
+     * @param       position Position of the tag among all tags found in
+     * string and template literals of the screen behavior
+     *
+     * @return      Id
+     */
+    public String generateBehaviorId(int position) {
+        return prefix + "b" + position;
+    }
+}
@@ -1,12 +1,7 @@
 package wniemiec.mobilex.ama.framework.ionic.parser;
 
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import wniemiec.data.java.Encryptor;
-import wniemiec.data.java.Encryptors;
 import wniemiec.mobilex.ama.models.EventTag;
 import wniemiec.mobilex.ama.models.tag.Tag;
 
@@ -19,8 +14,9 @@ class EventTagParser {
     private static final String ATTRIBUTE_ONCLICK;
     private final List<EventTag> events;
     private final IonicMobilangDirectiveParser directiveParser;
+    private final EventIdGenerator idGenerator;
     private Tag parsedTag;
-    private Encryptor encryptor;
+    private int parsedTags;
 
 
     //-------------------------------------------------------------------------
@@ -35,37 +31,58 @@ class EventTagParser {
     //		Constructor
     //-------------------------------------------------------------------------
     public EventTagParser() {
+        this(new EventIdGenerator(""));
+    }
+
+    /**
+     * Parses events of structure tags.
+     *
+     * @param       idGenerator Generator of ids for tags with events that have
+     * no id
+     */
+    public EventTagParser(EventIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
         directiveParser = new IonicMobilangDirectiveParser();
         events = new ArrayList<>();
         parsedTag = Tag.getEmptyInstance();
-        encryptor = Encryptors.md5();
-
+        parsedTags = 0;
     }
     
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
+    /**
+     * Parses a tag in place, that is, the tag itself is modified. Its
+     * children are not parsed. Tags are expected to be provided in pre-order,
+     * since that order is the position used to generate ids.
+     *
+     * @param       tag Tag to be parsed
+     *
+     * @throws      IllegalArgumentException If tag is null
+     */
     public void parse(Tag tag) {
         if (tag == null) {
             throw new IllegalArgumentException("Tag cannot be null");
         }
 
-        parsedTag = tag.clone();
+        parsedTag = tag;
         
         if (tag.hasAttribute(ATTRIBUTE_ONCLICK)) {
-            parseTagWithOnClick(parsedTag);
+            parseTagWithOnClick(tag, parsedTags);
         }
+
+        parsedTags++;
     }
 
-    private void parseTagWithOnClick(Tag tag) {
+    private void parseTagWithOnClick(Tag tag, int position) {
         String id;
         
         if (tag.hasAttribute("id")) {
             id = tag.getAttribute("id");
         }
         else {
-            id = generateUniqueIdentifier();
+            id = idGenerator.generateStructureId(position);
             tag.addAttribute("id", id);
         }
         
@@ -77,14 +94,6 @@ class EventTagParser {
         tag.removeAttribute(ATTRIBUTE_ONCLICK);
     }
 
-    private String generateUniqueIdentifier() {
-        return ("_" + encryptor.encrypt(String.valueOf(generateRandomNumber())));
-    }
-	
-	private double generateRandomNumber() {
-		return (new Date().getTime() + (Math.random() * 9999 + 1));
-	}
-
 
     //-------------------------------------------------------------------------
     //		Getters
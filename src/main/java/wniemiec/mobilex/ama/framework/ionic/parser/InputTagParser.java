@@ -27,11 +27,19 @@ class InputTagParser {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
+    /**
+     * Parses a tag in place, that is, the tag itself is modified. Its
+     * children are not parsed.
+     *
+     * @param       tag Tag to be parsed
+     *
+     * @throws      IllegalStateException If tag is an input without id
+     */
     public void parse(Tag tag) {
-        parsedTag = tag.clone();
+        parsedTag = tag;
         
         if (tag.getName().equals("input")) {
-            parseInputTag(parsedTag);
+            parseInputTag(tag);
         }
     }
 
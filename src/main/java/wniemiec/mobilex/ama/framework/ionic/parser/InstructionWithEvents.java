@@ -0,0 +1,58 @@
+package wniemiec.mobilex.ama.framework.ionic.parser;
+
+import java.util.List;
+import wniemiec.mobilex.ama.models.behavior.BehaviorTransformer;
+import wniemiec.mobilex.ama.models.behavior.Instruction;
+
+
+/**
+ * Responsible for representing an instruction followed by the code that sets
+ * up events of tags written by it. That code is placed on the same line as the
+ * instruction.
+ */
+class InstructionWithEvents implements Instruction {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+    private final Instruction instruction;
+    private final List<String> eventsCode;
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    public InstructionWithEvents(Instruction instruction, List<String> eventsCode) {
+        this.instruction = instruction;
+        this.eventsCode = eventsCode;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    @Override
+    public void appendCode(StringBuilder code) {
+        instruction.appendCode(code);
+
+        for (String eventCode : eventsCode) {
+            if ((code.length() > 0) && (code.charAt(code.length()-1) != ';')) {
+                code.append(';');
+            }
+
+            code.append(eventCode);
+        }
+    }
+
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new InstructionWithEvents(instruction.transform(transformer), eventsCode);
+    }
+
+    @Override
+    public String toString() {
+        return  "InstructionWithEvents [instruction=" + instruction 
+                + ", eventsCode=" + eventsCode + "]";
+    }
+}
@@ -3,9 +3,16 @@ package wniemiec.mobilex.ama.framework.ionic.parser;
 import java.util.ArrayList;
 import java.util.List;
 import wniemiec.mobilex.ama.models.behavior.Behavior;
+import wniemiec.mobilex.ama.models.behavior.BehaviorTransformer;
 import wniemiec.mobilex.ama.util.data.Validator;
 
 
+/**
+ * Responsible for parsing the behavior of a screen into Ionic code. Style,
+ * semicolon and event parsers transform the behavior in a single traversal,
+ * before its code is generated, and then MobiLang directives of that code are
+ * resolved.
+ */
 public class IonicBehaviorParser {
 
     //-------------------------------------------------------------------------
@@ -13,7 +20,9 @@ public class IonicBehaviorParser {
     //-------------------------------------------------------------------------
     private final IonicMobilangDirectiveParser directiveParser;
     private final StyleParser styleParser;
+    private final SemicolonParser semicolonParser;
     private final EventBehaviorParser eventParser;
+    private final BehaviorTransformer transformer;
     private List<String> parsedCode;
 
 
@@ -21,10 +30,22 @@ public class IonicBehaviorParser {
     //		Constructor
     //-------------------------------------------------------------------------
     public IonicBehaviorParser() {
+        this("");
+    }
+
+    /**
+     * Parser for the behavior of a screen.
+     *
+     * @param       screenName Name of the screen from which ids of inline
+     * tags with events are derived
+     */
+    public IonicBehaviorParser(String screenName) {
         parsedCode = new ArrayList<>();
         directiveParser = new IonicMobilangDirectiveParser();
         styleParser = new StyleParser();
-        eventParser = new EventBehaviorParser();
+        semicolonParser = new SemicolonParser();
+        eventParser = new EventBehaviorParser(new EventIdGenerator(screenName));
+        transformer = styleParser.andThen(semicolonParser).andThen(eventParser);
     }
 
 
@@ -34,22 +55,10 @@ public class IonicBehaviorParser {
     public void parse(Behavior behavior) {
         Validator.validateBehavior(behavior);
 
-        parsedCode = behavior.toCode();
-        runStyleParser();
-        runEventParser();
+        parsedCode = behavior.transform(transformer).toCode();
         runDirectiveParser();
     }
 
-    private void runStyleParser() {  
-        styleParser.parse(parsedCode);
-        parsedCode = styleParser.getParsedCode();
-    }
-
-    private void runEventParser() {  
-        eventParser.parse(parsedCode);
-        parsedCode = eventParser.getParsedCode();
-    }
-
     private void runDirectiveParser() {
         directiveParser.parse(parsedCode);
         parsedCode = directiveParser.getParsedCode();
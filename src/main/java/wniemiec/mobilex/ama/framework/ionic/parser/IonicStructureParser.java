@@ -2,13 +2,18 @@ package wniemiec.mobilex.ama.framework.ionic.parser;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
-import java.util.function.UnaryOperator;
 
 import wniemiec.mobilex.ama.models.EventTag;
 import wniemiec.mobilex.ama.models.tag.Tag;
+import wniemiec.mobilex.ama.models.tag.TagPipeline;
 
 
+/**
+ * Responsible for parsing the structure of a screen into Ionic code. The
+ * structure is copied once and then, in a single traversal, input and event
+ * parsers transform each tag of that copy in place and the code of the tag
+ * is generated with its directives resolved.
+ */
 public class IonicStructureParser {
 
     //-------------------------------------------------------------------------
@@ -17,6 +22,7 @@ public class IonicStructureParser {
     private final IonicMobilangDirectiveParser directiveParser;
     private final InputTagParser inputParser;
     private final EventTagParser eventParser;
+    private final TagPipeline pipeline;
     private Tag parsedStructure;
     private List<String> parsedCode;
 
@@ -25,9 +31,23 @@ public class IonicStructureParser {
     //		Constructor
     //-------------------------------------------------------------------------
     public IonicStructureParser() {
+        this("");
+    }
+
+    /**
+     * Parser for the structure of a screen.
+     *
+     * @param       screenName Name of the screen from which ids of tags with
+     * events are derived
+     */
+    public IonicStructureParser(String screenName) {
         directiveParser = new IonicMobilangDirectiveParser();
         inputParser = new InputTagParser();
-        eventParser = new EventTagParser();
+        eventParser = new EventTagParser(new EventIdGenerator(screenName));
+        pipeline = new TagPipeline(
+            List.of(inputParser::parse, eventParser::parse), 
+            directiveParser::parse
+        );
         parsedCode = new ArrayList<>();
         parsedStructure = Tag.getEmptyInstance();
     }
@@ -39,9 +59,7 @@ public class IonicStructureParser {
     public void parse(Tag structure) {
         validateArgument(structure);
         setUpParser(structure);
-        runInputParser();
-        runEventParser();
-        runDirectiveParser();
+        runPipeline();
     }
 
     private void validateArgument(Tag structure) {
@@ -54,53 +72,8 @@ public class IonicStructureParser {
         parsedStructure = structure.clone();
     }
 
-    private void runInputParser() {
-        runStructureParser(currentTag -> {
-            inputParser.parse(currentTag);
-            
-            return inputParser.getParsedTag();
-        });
-    }
-
-    private void runStructureParser(UnaryOperator<Tag> parser) {
-        Stack<Tag> toParse = new Stack<>();
-        
-        toParse.add(parsedStructure);
-
-        while (!toParse.isEmpty()) {
-            Tag currentTag = toParse.pop();
-            
-            parseTag(parser, currentTag);
-
-            currentTag.getChildren().forEach(toParse::push);
-        }
-    }
-
-    private void parseTag(UnaryOperator<Tag> parser, Tag currentTag) {
-        Tag parsedTag = parser.apply(currentTag);
-
-        replaceTagWith(currentTag, parsedTag);
-    }
-
-    private void replaceTagWith(Tag base, Tag target) {
-        base.setAttributes(target.getAttributes());
-        base.setName(target.getName());
-        base.setStyle(target.getStyle());
-        base.setValue(target.getValue());
-        base.setVoidTag(target.isVoidTag());
-    }
-
-    private void runEventParser() {
-        runStructureParser(currentTag -> {
-            eventParser.parse(currentTag);
-            
-            return eventParser.getParsedTag();
-        });
-    }
-
-    private void runDirectiveParser() {
-        directiveParser.parse(parsedStructure.toCode());
-        parsedCode = directiveParser.getParsedCode();
+    private void runPipeline() {
+        parsedCode = pipeline.run(parsedStructure);
     }
 
 
@@ -0,0 +1,30 @@
+package wniemiec.mobilex.ama.framework.ionic.parser;
+
+import wniemiec.mobilex.ama.models.behavior.BehaviorTransformer;
+import wniemiec.mobilex.ama.models.behavior.ExpressionStatement;
+import wniemiec.mobilex.ama.models.behavior.Instruction;
+
+
+/**
+ * Responsible for removing repeated semicolons at the end of expression
+ * statements. Expression bodies of arrow functions end with a semicolon, so
+ * a statement that ends with one of them (for instance,
+ * 'btn.onclick=() => window.location.reload()') would end with two.
+ */
+class SemicolonParser implements BehaviorTransformer {
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    @Override
+    public Instruction transformInstruction(Instruction instruction) {
+        if (!(instruction instanceof ExpressionStatement)
+            || (instruction instanceof SemicolonTrimmedStatement)) {
+            return instruction;
+        }
+
+        ExpressionStatement statement = (ExpressionStatement) instruction;
+
+        return new SemicolonTrimmedStatement(statement.getExpression());
+    }
+}
@@ -0,0 +1,58 @@
+package wniemiec.mobilex.ama.framework.ionic.parser;
+
+import wniemiec.mobilex.ama.models.behavior.BehaviorTransformer;
+import wniemiec.mobilex.ama.models.behavior.Expression;
+import wniemiec.mobilex.ama.models.behavior.ExpressionStatement;
+import wniemiec.mobilex.ama.models.behavior.Instruction;
+
+
+/**
+ * Responsible for representing an expression statement whose code does not
+ * end with repeated semicolons.
+ */
+class SemicolonTrimmedStatement extends ExpressionStatement {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    public SemicolonTrimmedStatement(Expression expression) {
+        super(expression);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    @Override
+    public void appendCode(StringBuilder code) {
+        super.appendCode(code);
+
+        if (endsWithRepeatedSemicolon(code)) {
+            code.setLength(code.length() - 1);
+        }
+    }
+
+    private boolean endsWithRepeatedSemicolon(StringBuilder code) {
+        int length = code.length();
+
+        return  (length > 1)
+                && (code.charAt(length-1) == ';')
+                && (code.charAt(length-2) == ';');
+    }
+
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new SemicolonTrimmedStatement(getExpression().transform(transformer));
+    }
+
+    @Override
+    public String toString() {
+        return "SemicolonTrimmedStatement [expression=" + getExpression() + "]";
+    }
+}
@@ -1,99 +1,84 @@
 package wniemiec.mobilex.ama.framework.ionic.parser;
 
-import java.util.ArrayList;
-import java.util.List;
+import wniemiec.mobilex.ama.models.behavior.AssignmentExpression;
+import wniemiec.mobilex.ama.models.behavior.BehaviorTransformer;
+import wniemiec.mobilex.ama.models.behavior.Expression;
+import wniemiec.mobilex.ama.models.behavior.Literal;
+import wniemiec.mobilex.ama.models.behavior.MemberExpression;
 
 
-class StyleParser {
+/**
+ * Responsible for converting numbers assigned to style properties into
+ * strings (for instance, 'title.style.opacity=1' becomes
+ * 'title.style.opacity="1"'), since style properties are strings in Ionic.
+ */
+class StyleParser implements BehaviorTransformer {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private List<String> parsedCode;
+    private static final String STYLE_PROPERTY;
+    private static final String ASSIGNMENT_OPERATOR;
 
 
-     //-------------------------------------------------------------------------
-    //		Constructor
     //-------------------------------------------------------------------------
-    public StyleParser() {
-        parsedCode = new ArrayList<>();
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        STYLE_PROPERTY = "style";
+        ASSIGNMENT_OPERATOR = "=";
     }
-    
+
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    public void parse(List<String> code) {
-        if (isEmpty(code)) {
-            return;
+    @Override
+    public Expression transformExpression(Expression expression) {
+        if (!isNumericalStyleAssignment(expression)) {
+            return expression;
         }
 
-        parsedCode = new ArrayList<>();
+        AssignmentExpression assignment = (AssignmentExpression) expression;
+        Literal value = (Literal) assignment.getRight();
 
-        for (String line : code) {
-            parsedCode.add(parseLine(line));
-        }
+        return new AssignmentExpression(
+            assignment.getOperator(),
+            assignment.getLeft(),
+            Literal.ofString(value.getValue())
+        );
     }
 
-    private boolean isEmpty(List<String> code) {
-        return  (code == null) 
-                || code.isEmpty();
-    }
-
-    private String parseLine(String line) {
-        if (!hasStyleAssignment(line)) {
-            return line;
-        }
-
-        String parsedLine = line;
-
-        if (hasNumericalAssignment(line)) {
-            parsedLine = convertNumericalAssignmentToString(line);
+    private boolean isNumericalStyleAssignment(Expression expression) {
+        if (!(expression instanceof AssignmentExpression)) {
+            return false;
         }
 
-        return parsedLine;
-    }
-
-    private boolean hasStyleAssignment(String line) {
-        return line.matches(".+\\.style\\..+");
-    }
+        AssignmentExpression assignment = (AssignmentExpression) expression;
 
-    private boolean hasNumericalAssignment(String line) {
-        return line.matches(".+=([^=]+|)[0-9.]+.*");
+        return  ASSIGNMENT_OPERATOR.equals(assignment.getOperator())
+                && isStyleProperty(assignment.getLeft())
+                && isNumber(assignment.getRight());
     }
 
-    private String convertNumericalAssignmentToString(String line) {
-        StringBuilder parsedLine = new StringBuilder();
-        int indexOfAssignment = line.lastIndexOf("=");
-        
-        parsedLine.append(line.substring(0, indexOfAssignment+1));
-
-        String value = line.substring(indexOfAssignment+1);
-
-        if (isNumeric(value)) {
-            value = value.replaceAll("[\"';]", "");
-            if (value.contains("`")) {
-                value = "\"" + value.replace("`", "") + "\"`;";
-            }
-            else {
-                value = "\"" + value + "\";";
-            }
+    private boolean isStyleProperty(Expression expression) {
+        if (!isPropertyAccess(expression)) {
+            return false;
         }
 
-        parsedLine.append(value);
+        Expression object = ((MemberExpression) expression).getObject();
 
-        return parsedLine.toString();
+        return  isPropertyAccess(object)
+                && STYLE_PROPERTY.equals(((MemberExpression) object).getPropertyName());
     }
 
-    private boolean isNumeric(String line) {
-        return line.matches("([ \t]+|)['`\"]*[0-9.]+['`\"]*([^A-z]+|)");
+    private boolean isPropertyAccess(Expression expression) {
+        return  (expression instanceof MemberExpression)
+                && !((MemberExpression) expression).isComputed();
     }
 
-
-    //-------------------------------------------------------------------------
-    //		Getters
-    //-------------------------------------------------------------------------
-    public List<String> getParsedCode() {
-        return parsedCode;
+    private boolean isNumber(Expression expression) {
+        return  (expression instanceof Literal)
+                && ((Literal) expression).isNumber();
     }
 }
@@ -3,16 +3,24 @@ package wniemiec.mobilex.ama.framework.reactnative;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import wniemiec.io.java.Consolex;
 import wniemiec.io.java.StandardTerminalBuilder;
 import wniemiec.io.java.Terminal;
+import wniemiec.mobilex.ama.cache.ProjectSkeletonCache;
+import wniemiec.mobilex.ama.cache.ScreenManifest;
+import wniemiec.mobilex.ama.cache.TranspiledBehaviorCache;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
 import wniemiec.mobilex.ama.export.exception.AppGenerationException;
 import wniemiec.mobilex.ama.framework.Framework;
 import wniemiec.mobilex.ama.framework.reactnative.app.ReactNativeAppGenerator;
+import wniemiec.mobilex.ama.framework.reactnative.babel.BabelWorkerTranspiler;
+import wniemiec.mobilex.ama.framework.reactnative.babel.BatchBabelTranspiler;
+import wniemiec.mobilex.ama.framework.reactnative.babel.BehaviorTranspiler;
+import wniemiec.mobilex.ama.framework.reactnative.babel.CachedBehaviorTranspiler;
 import wniemiec.mobilex.ama.framework.reactnative.coder.ReactNativeCoreCoder;
 import wniemiec.mobilex.ama.framework.reactnative.coder.ReactNativeScreensCoder;
 import wniemiec.mobilex.ama.models.CodeFile;
@@ -25,7 +33,14 @@ import wniemiec.mobilex.ama.util.io.StandardFileManager;
 
 
 /**
- * Responsible for managing React Native framework.
+ * Responsible for managing React Native framework. By default, screen 
+ * behaviors are transpiled by a Babel worker that is kept running for as 
+ * long as the framework is used, so that code generations do not start 
+ * Babel again, and transpiled behaviors are cached in the user home 
+ * directory, so that behaviors that did not change are not transpiled 
+ * again. Projects scaffolded by React Native CLI are cached there as well.
+ * A framework built with an injected terminal and file manager does not use
+ * these caches.
  * 
  * See: https://reactnative.dev
  */
@@ -34,9 +49,33 @@ public class ReactNativeFramework implements Framework {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final Path BEHAVIOR_CACHE_DIRECTORY;
+    private static final long BEHAVIOR_CACHE_MAX_SIZE;
+    private static final Path SKELETON_CACHE_DIRECTORY;
+    private static final int SKELETON_CACHE_MAX_ENTRIES;
     private final ReactNativeProjectManager projectManager;
     private final Terminal terminal;
     private final FileManager fileManager;
+    private final BehaviorTranspiler behaviorTranspiler;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        BEHAVIOR_CACHE_DIRECTORY = Path.of(
+            System.getProperty("user.home"), 
+            ".ama-cache", 
+            "babel"
+        );
+        BEHAVIOR_CACHE_MAX_SIZE = 64L * 1024 * 1024;
+        SKELETON_CACHE_DIRECTORY = Path.of(
+            System.getProperty("user.home"), 
+            ".ama-cache", 
+            "skeletons"
+        );
+        SKELETON_CACHE_MAX_ENTRIES = 4;
+    }
 
 
     //-------------------------------------------------------------------------
@@ -45,22 +84,48 @@ public class ReactNativeFramework implements Framework {
     public ReactNativeFramework() {
         terminal = buildStandardTerminal();
         fileManager = new StandardFileManager();
-        projectManager = new ReactNativeProjectManager(terminal, fileManager);
+        projectManager = new ReactNativeProjectManager(
+            terminal, 
+            fileManager, 
+            new ProjectSkeletonCache(
+                SKELETON_CACHE_DIRECTORY, 
+                SKELETON_CACHE_MAX_ENTRIES,
+                ProjectSkeletonCache.isPackageLinkingRequested()
+            )
+        );
+        behaviorTranspiler = buildCachedBabelTranspiler();
     }
 
     public ReactNativeFramework(Terminal terminal, FileManager fileManager) {
+        this(terminal, fileManager, new BatchBabelTranspiler(terminal, fileManager));
+    }
+
+    public ReactNativeFramework(
+        Terminal terminal, 
+        FileManager fileManager, 
+        BehaviorTranspiler behaviorTranspiler
+    ) {
         Validator.validateTerminal(terminal);
         Validator.validateFileManager(fileManager);
+        Validator.validateBehaviorTranspiler(behaviorTranspiler);
 
         projectManager = new ReactNativeProjectManager(terminal, fileManager);
         this.terminal = terminal;
         this.fileManager = fileManager;
+        this.behaviorTranspiler = behaviorTranspiler;
     }
 
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
+    private static BehaviorTranspiler buildCachedBabelTranspiler() {
+        return new CachedBehaviorTranspiler(
+            new BabelWorkerTranspiler(),
+            new TranspiledBehaviorCache(BEHAVIOR_CACHE_DIRECTORY, BEHAVIOR_CACHE_MAX_SIZE)
+        );
+    }
+
     private Terminal buildStandardTerminal() {
         return StandardTerminalBuilder
             .getInstance()
@@ -87,22 +152,44 @@ public class ReactNativeFramework implements Framework {
         projectManager.addProjectDependency(dependency, location);
     }
 
+    @Override
+    public void addProjectDependencies(Collection<String> dependencies, Path location) 
+    throws IOException {
+        Validator.validateDependencies(dependencies);
+        Validator.validateLocation(location);
+
+        projectManager.addProjectDependencies(dependencies, location);
+    }
+
     @Override
     public Project generateCode(List<Screen> screens) throws CoderException {
+        return generateCode(screens, new ScreenManifest());
+    }
+
+    @Override
+    public Project generateCode(List<Screen> screens, ScreenManifest manifest) 
+    throws CoderException {
         Validator.validateScreens(screens);
 
         List<CodeFile> code = new ArrayList<>();
         Set<String> dependencies = new HashSet<>();
         
-        generateScreensCode(code, screens);
+        generateScreensCode(code, screens, manifest);
         generateCoreCode(code, dependencies);
 
         return new Project(code, dependencies);
     }
     
-    private void generateScreensCode(List<CodeFile> code, List<Screen> screens) 
-    throws CoderException {
-        ReactNativeScreensCoder screensCoder = new ReactNativeScreensCoder(screens);
+    private void generateScreensCode(
+        List<CodeFile> code, 
+        List<Screen> screens, 
+        ScreenManifest manifest
+    ) throws CoderException {
+        ReactNativeScreensCoder screensCoder = new ReactNativeScreensCoder(
+            screens, 
+            behaviorTranspiler,
+            manifest
+        );
 
         code.addAll(screensCoder.generateCode());
     }
@@ -2,33 +2,73 @@ package wniemiec.mobilex.ama.framework.reactnative;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import wniemiec.io.java.Consolex;
 import wniemiec.io.java.Terminal;
+import wniemiec.mobilex.ama.cache.ProjectSkeletonCache;
+import wniemiec.mobilex.ama.framework.NpmDependencyInstaller;
 import wniemiec.mobilex.ama.models.Properties;
 import wniemiec.mobilex.ama.util.data.Validator;
 import wniemiec.mobilex.ama.util.io.FileManager;
 
 
 /**
- * Responsible for project management of React Native framework.
+ * Responsible for project management of React Native framework. When a 
+ * skeleton cache is provided, projects are scaffolded only once for each 
+ * React Native CLI version and application name; later projects are restored
+ * from the cache.
  */
 class ReactNativeProjectManager {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final String SKELETON_VERSION;
     private Terminal terminal;
     private FileManager fileManager;
+    private ProjectSkeletonCache skeletonCache;
+    private NpmDependencyInstaller dependencyInstaller;
     
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        SKELETON_VERSION = "1";
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
     public ReactNativeProjectManager(Terminal terminal, FileManager fileManager) {
+        this(terminal, fileManager, null);
+    }
+
+    /**
+     * Project manager of React Native framework.
+     * 
+     * @param       terminal Terminal where framework commands will be run
+     * @param       fileManager File manager
+     * @param       skeletonCache Cache of scaffolded projects or null if 
+     * projects should always be scaffolded
+     * 
+     * @throws      IllegalArgumentException If terminal or file manager is
+     * null
+     */
+    public ReactNativeProjectManager(
+        Terminal terminal, 
+        FileManager fileManager, 
+        ProjectSkeletonCache skeletonCache
+    ) {
         Validator.validateTerminal(terminal);
         Validator.validateFileManager(fileManager);
         
         this.terminal = terminal;
         this.fileManager = fileManager;
+        this.skeletonCache = skeletonCache;
+        dependencyInstaller = new NpmDependencyInstaller(terminal);
     }
 
 
@@ -40,6 +80,68 @@ class ReactNativeProjectManager {
         Validator.validateProperties(properties);
         Validator.validateLocation(location);
 
+        if (skeletonCache == null) {
+            scaffoldProject(properties, location);
+
+            return;
+        }
+
+        String key = buildSkeletonKey(properties);
+
+        if ((key != null) && skeletonCache.restore(key, location)) {
+            return;
+        }
+
+        scaffoldProject(properties, location);
+
+        if (key != null) {
+            storeSkeleton(key, location);
+        }
+    }
+
+    private String buildSkeletonKey(Properties properties) {
+        String cliVersion = getReactNativeCliVersion();
+
+        if (cliVersion.isEmpty()) {
+            return null;
+        }
+
+        return skeletonCache.computeKey(
+            "react-native",
+            SKELETON_VERSION,
+            cliVersion,
+            "init",
+            properties.getApplicationName()
+        );
+    }
+
+    private String getReactNativeCliVersion() {
+        int historySize = terminal.getHistory().size();
+
+        try {
+            terminal.exec("react-native", "--version");
+        }
+        catch (IOException e) {
+            return "";
+        }
+
+        List<String> history = terminal.getHistory();
+        int start = (history.size() < historySize) ? 0 : historySize;
+
+        return String.join("\n", history.subList(start, history.size())).trim();
+    }
+
+    private void storeSkeleton(String key, Path location) {
+        try {
+            skeletonCache.store(key, location);
+        }
+        catch (IOException e) {
+            Consolex.writeWarning("Could not store project skeleton: " + e.getMessage());
+        }
+    }
+
+    private void scaffoldProject(Properties properties, Path location) 
+    throws IOException {
         runReactNativeInit(properties, location);
         removeOldAppFile(location);
     }
@@ -91,15 +193,23 @@ class ReactNativeProjectManager {
         Validator.validateDependency(dependency);
         Validator.validateLocation(projectLocation);
 
-        for (String dependencyName : dependency.split(" ")) {
-            terminal.exec(
-                "npm", 
-                "install", 
-                "--prefix",
-                projectLocation.toString(),
-                "--save", 
-                dependencyName
-            );
-        }
+        dependencyInstaller.install(List.of(dependency), projectLocation);
+    }
+
+    /**
+     * Adds several dependencies on a project with a single npm invocation.
+     * Dependencies that are already installed are skipped.
+     * 
+     * @param       dependencies Dependencies
+     * @param       projectLocation Path where the project is
+     * 
+     * @throws      IOException If dependencies cannot be added
+     */
+    public void addProjectDependencies(Collection<String> dependencies, Path projectLocation)
+    throws IOException {
+        Validator.validateDependencies(dependencies);
+        Validator.validateLocation(projectLocation);
+
+        dependencyInstaller.install(dependencies, projectLocation);
     }
 }
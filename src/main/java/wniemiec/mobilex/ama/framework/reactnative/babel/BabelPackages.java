@@ -0,0 +1,149 @@
+package wniemiec.mobilex.ama.framework.reactnative.babel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+
+/**
+ * Responsible for finding the Babel packages used by Babel transpilers. They
+ * are looked up like Node does for a script run in the working directory: in
+ * the node_modules directory of the working directory and of its parents,
+ * then in the directories of NODE_PATH and in the user's global folders.
+ */
+class BabelPackages {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String[] PACKAGES;
+    private static final String MODULES_DIRECTORY;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        PACKAGES = new String[] {"@babel/core", "@babel/preset-env"};
+        MODULES_DIRECTORY = "node_modules";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    private BabelPackages() {
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Gets the versions of the installed Babel packages, in the same format
+     * as the Babel worker reports them (for instance, '@babel/core@7.18.0
+     * @babel/preset-env@7.18.0').
+     *
+     * @return      Versions or an empty string if a package is not installed
+     */
+    public static String readInstalledVersion() {
+        StringBuilder version = new StringBuilder();
+
+        for (String name : PACKAGES) {
+            String packageVersion = readPackageVersion(name);
+
+            if (packageVersion.isEmpty()) {
+                return "";
+            }
+
+            if (version.length() > 0) {
+                version.append(' ');
+            }
+
+            version.append(name);
+            version.append('@');
+            version.append(packageVersion);
+        }
+
+        return version.toString();
+    }
+
+    /**
+     * Finds the Babel packages that are not installed.
+     *
+     * @return      Names of missing packages
+     */
+    public static List<String> findMissingPackages() {
+        List<String> missingPackages = new ArrayList<>();
+
+        for (String name : PACKAGES) {
+            if (findPackageManifest(name) == null) {
+                missingPackages.add(name);
+            }
+        }
+
+        return missingPackages;
+    }
+
+    private static Path findPackageManifest(String name) {
+        for (Path modulesDirectory : findModulesDirectories()) {
+            Path manifest = modulesDirectory.resolve(name).resolve("package.json");
+
+            if (Files.exists(manifest)) {
+                return manifest;
+            }
+        }
+
+        return null;
+    }
+
+    private static List<Path> findModulesDirectories() {
+        List<Path> modulesDirectories = new ArrayList<>();
+        Path directory = Path.of("").toAbsolutePath();
+
+        while (directory != null) {
+            modulesDirectories.add(directory.resolve(MODULES_DIRECTORY));
+            directory = directory.getParent();
+        }
+
+        String nodePath = System.getenv("NODE_PATH");
+
+        if (nodePath != null) {
+            for (String entry : nodePath.split(File.pathSeparator)) {
+                if (!entry.isBlank()) {
+                    modulesDirectories.add(Path.of(entry));
+                }
+            }
+        }
+
+        Path home = Path.of(System.getProperty("user.home"));
+
+        modulesDirectories.add(home.resolve(".node_modules"));
+        modulesDirectories.add(home.resolve(".node_libraries"));
+
+        return modulesDirectories;
+    }
+
+    private static String readPackageVersion(String name) {
+        Path manifest = findPackageManifest(name);
+
+        if (manifest == null) {
+            return "";
+        }
+
+        try {
+            String content = new String(Files.readAllBytes(manifest), StandardCharsets.UTF_8);
+
+            return new JSONObject(content).optString("version", "");
+        }
+        catch (IOException | JSONException e) {
+            return "";
+        }
+    }
+}
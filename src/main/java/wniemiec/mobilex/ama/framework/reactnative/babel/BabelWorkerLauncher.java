@@ -0,0 +1,20 @@
+package wniemiec.mobilex.ama.framework.reactnative.babel;
+
+import java.io.IOException;
+
+
+/**
+ * Responsible for starting Babel worker processes.
+ */
+public interface BabelWorkerLauncher {
+
+    /**
+     * Starts a Babel worker, which reads requests from its standard input and
+     * writes responses to its standard output, one JSON object per line.
+     *
+     * @return      Worker process
+     *
+     * @throws      IOException If worker could not be started
+     */
+    Process launch() throws IOException;
+}
@@ -0,0 +1,406 @@
+package wniemiec.mobilex.ama.framework.reactnative.babel;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import org.json.JSONException;
+import org.json.JSONObject;
+import wniemiec.io.java.Consolex;
+
+
+/**
+ * Responsible for transpiling the behavior of screens with a Babel worker
+ * that is kept running between transpilations, so that Node and Babel are
+ * started only once. Requests and responses are JSON objects written on a
+ * single line of the standard input and output of the worker. The worker is
+ * checked before each transpilation and it is restarted if it stopped or
+ * if it does not respond in time. What the worker writes on its standard 
+ * error is displayed as debug messages, and its last lines are reported 
+ * when the worker stops.
+ */
+public class BabelWorkerTranspiler implements BehaviorTranspiler, Closeable {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String WORKER_SCRIPT;
+    private static final long DEFAULT_TIMEOUT;
+    private static final int MAX_RESTARTS;
+    private static final int MAX_ERROR_LINES;
+    private static final long ERROR_READER_TIMEOUT;
+    private final BabelWorkerLauncher launcher;
+    private final long timeout;
+    private Process worker;
+    private BufferedWriter requests;
+    private BufferedReader responses;
+    private ExecutorService responseReader;
+    private Thread errorReader;
+    private Deque<String> errorLines;
+    private int lastRequestId;
+    private String version;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        WORKER_SCRIPT = "babel-worker.js";
+        DEFAULT_TIMEOUT = 60000;
+        MAX_RESTARTS = 1;
+        MAX_ERROR_LINES = 20;
+        ERROR_READER_TIMEOUT = 1000;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructors
+    //-------------------------------------------------------------------------
+    public BabelWorkerTranspiler() {
+        this(BabelWorkerTranspiler::launchNodeWorker, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Babel transpiler that keeps a worker running between transpilations.
+     *
+     * @param       launcher Starts worker processes
+     * @param       timeout Maximum time to wait for a response of the
+     * worker, in milliseconds
+     *
+     * @throws      IllegalArgumentException If launcher is null or if timeout
+     * is not positive
+     */
+    public BabelWorkerTranspiler(BabelWorkerLauncher launcher, long timeout) {
+        if (launcher == null) {
+            throw new IllegalArgumentException("Launcher cannot be null");
+        }
+
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+
+        this.launcher = launcher;
+        this.timeout = timeout;
+        lastRequestId = 0;
+        version = "";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private static Process launchNodeWorker() throws IOException {
+        checkBabelPackages();
+
+        return new ProcessBuilder("node", "-e", readWorkerScript()).start();
+    }
+
+    private static void checkBabelPackages() throws IOException {
+        List<String> missingPackages = BabelPackages.findMissingPackages();
+
+        if (missingPackages.isEmpty()) {
+            return;
+        }
+
+        throw new IOException(
+            "Babel packages not found: " + String.join(", ", missingPackages)
+            + ". Install them with 'npm install --save-dev " 
+            + String.join(" ", missingPackages) + "'"
+        );
+    }
+
+    private static String readWorkerScript() throws IOException {
+        try (InputStream script = BabelWorkerTranspiler.class.getResourceAsStream(WORKER_SCRIPT)) {
+            if (script == null) {
+                throw new IOException("Babel worker script not found: " + WORKER_SCRIPT);
+            }
+
+            return new String(script.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, List<String>> transpile(
+        Map<String, List<String>> behaviors,
+        BiConsumer<String, String> errorHandler
+    ) throws IOException {
+        IOException failure = null;
+
+        for (int attempt = 0; attempt <= MAX_RESTARTS; attempt++) {
+            try {
+                ensureWorkerIsHealthy();
+
+                JSONObject response = send(buildTranspileRequest(behaviors));
+
+                return parseTranspileResponse(response, behaviors, errorHandler);
+            }
+            catch (IOException e) {
+                Consolex.writeDebug("Babel worker failed: " + e.getMessage());
+                failure = e;
+                stopWorker();
+            }
+        }
+
+        throw failure;
+    }
+
+    private void ensureWorkerIsHealthy() throws IOException {
+        if (isWorkerRunning() && isWorkerResponding()) {
+            return;
+        }
+
+        stopWorker();
+        startWorker();
+        ping();
+    }
+
+    private boolean isWorkerRunning() {
+        return (worker != null) && worker.isAlive();
+    }
+
+    private boolean isWorkerResponding() {
+        try {
+            ping();
+
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void ping() throws IOException {
+        JSONObject response = send(new JSONObject().put("type", "ping"));
+
+        version = response.optString("version", version);
+    }
+
+    private void startWorker() throws IOException {
+        worker = launcher.launch();
+        requests = new BufferedWriter(new OutputStreamWriter(
+            worker.getOutputStream(),
+            StandardCharsets.UTF_8
+        ));
+        responses = new BufferedReader(new InputStreamReader(
+            worker.getInputStream(),
+            StandardCharsets.UTF_8
+        ));
+        responseReader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "babel-worker-reader");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        startErrorReader();
+    }
+
+    private void startErrorReader() {
+        BufferedReader errors = new BufferedReader(new InputStreamReader(
+            worker.getErrorStream(),
+            StandardCharsets.UTF_8
+        ));
+        Deque<String> lines = new ArrayDeque<>();
+
+        errorLines = lines;
+        errorReader = new Thread(() -> readErrors(errors, lines), "babel-worker-errors");
+        errorReader.setDaemon(true);
+        errorReader.start();
+    }
+
+    private static void readErrors(BufferedReader errors, Deque<String> lines) {
+        try {
+            String line;
+
+            while ((line = errors.readLine()) != null) {
+                Consolex.writeDebug("Babel worker: " + line);
+                storeErrorLine(lines, line);
+            }
+        }
+        catch (IOException e) {
+            // Worker was stopped
+        }
+    }
+
+    private static void storeErrorLine(Deque<String> lines, String line) {
+        synchronized (lines) {
+            if (lines.size() == MAX_ERROR_LINES) {
+                lines.removeFirst();
+            }
+
+            lines.addLast(line);
+        }
+    }
+
+    private void stopWorker() {
+        if (worker == null) {
+            return;
+        }
+
+        worker.destroyForcibly();
+        responseReader.shutdownNow();
+
+        worker = null;
+        requests = null;
+        responses = null;
+        responseReader = null;
+        errorReader = null;
+        errorLines = null;
+    }
+
+    private JSONObject buildTranspileRequest(Map<String, List<String>> behaviors) {
+        JSONObject screens = new JSONObject();
+
+        for (Map.Entry<String, List<String>> behavior : behaviors.entrySet()) {
+            screens.put(behavior.getKey(), String.join("\n", behavior.getValue()));
+        }
+
+        return new JSONObject()
+            .put("type", "transpile")
+            .put("behaviors", screens);
+    }
+
+    /**
+     * Sends a request to the worker and waits for its response.
+     *
+     * @throws      IOException If worker stopped, if it did not respond in
+     * time or if its response is not a response to the request
+     */
+    private JSONObject send(JSONObject request) throws IOException {
+        int requestId = ++lastRequestId;
+
+        request.put("id", requestId);
+        requests.write(request.toString());
+        requests.newLine();
+        requests.flush();
+
+        JSONObject response = parseResponse(readResponse());
+
+        if (response.optInt("id", -1) != requestId) {
+            throw new IOException("Babel worker sent an unexpected response: " + response);
+        }
+
+        if ("error".equals(response.optString("type"))) {
+            throw new IOException("Babel worker failed: " + response.optString("message"));
+        }
+
+        return response;
+    }
+
+    private String readResponse() throws IOException {
+        try {
+            String response = responseReader
+                .submit(responses::readLine)
+                .get(timeout, TimeUnit.MILLISECONDS);
+
+            if (response == null) {
+                throw new IOException("Babel worker stopped" + readErrorOutput());
+            }
+
+            return response;
+        }
+        catch (TimeoutException e) {
+            throw new IOException("Babel worker did not respond in " + timeout + " ms");
+        }
+        catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IOException("Interrupted while waiting for Babel worker");
+        }
+    }
+
+    private String readErrorOutput() throws InterruptedException {
+        errorReader.join(ERROR_READER_TIMEOUT);
+
+        synchronized (errorLines) {
+            if (errorLines.isEmpty()) {
+                return "";
+            }
+
+            return ":\n" + String.join("\n", errorLines);
+        }
+    }
+
+    private JSONObject parseResponse(String response) throws IOException {
+        try {
+            return new JSONObject(response);
+        }
+        catch (JSONException e) {
+            throw new IOException("Babel worker sent an invalid response: " + response);
+        }
+    }
+
+    private Map<String, List<String>> parseTranspileResponse(
+        JSONObject response,
+        Map<String, List<String>> behaviors,
+        BiConsumer<String, String> errorHandler
+    ) {
+        Map<String, List<String>> transpiledBehaviors = new LinkedHashMap<>();
+        JSONObject results = response.optJSONObject("results");
+        JSONObject errors = response.optJSONObject("errors");
+
+        for (String screenName : behaviors.keySet()) {
+            if ((results != null) && results.has(screenName)) {
+                transpiledBehaviors.put(screenName, splitLines(results.getString(screenName)));
+            }
+            else if ((errors != null) && errors.has(screenName)) {
+                for (String message : splitLines(errors.getString(screenName))) {
+                    errorHandler.accept(screenName, message);
+                }
+            }
+            else {
+                errorHandler.accept(screenName, "Babel did not generate code for this screen");
+            }
+        }
+
+        return transpiledBehaviors;
+    }
+
+    private List<String> splitLines(String text) {
+        return Arrays.asList(text.split("\n", -1));
+    }
+
+    /**
+     * Gets the versions of the Babel packages used by the worker. They are
+     * reported by the worker once it is running, or otherwise read from the
+     * installed packages, which are the ones the worker would load. The
+     * worker is never started just to get its version.
+     *
+     * @return      Babel version or an empty string if Babel is not installed
+     */
+    @Override
+    public synchronized String getVersion() {
+        if (version.isEmpty()) {
+            version = BabelPackages.readInstalledVersion();
+        }
+
+        return version;
+    }
+
+    /**
+     * Stops the worker. It is started again by the next transpilation.
+     */
+    @Override
+    public synchronized void close() {
+        stopWorker();
+    }
+}
@@ -0,0 +1,227 @@
+package wniemiec.mobilex.ama.framework.reactnative.babel;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import wniemiec.io.java.Consolex;
+import wniemiec.io.java.StandardTerminalBuilder;
+import wniemiec.io.java.Terminal;
+import wniemiec.mobilex.ama.util.data.Validator;
+import wniemiec.mobilex.ama.util.io.FileManager;
+import wniemiec.mobilex.ama.util.io.StandardFileManager;
+
+
+/**
+ * Responsible for transpiling the behavior of all screens with a single
+ * Babel run. The behavior of each screen is written to its own source file,
+ * so that screens keep their own top-level scope, and all source files are
+ * transpiled at once into an output directory. Errors reported by Babel
+ * mention the source file that failed, which identifies its screen.
+ */
+public class BatchBabelTranspiler implements BehaviorTranspiler {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String SOURCE_DIRECTORY;
+    private static final String OUTPUT_DIRECTORY;
+    private static final String SOURCE_PREFIX;
+    private static final String SOURCE_EXTENSION;
+    private static final String PRESETS;
+    private final Terminal terminal;
+    private final FileManager fileManager;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        SOURCE_DIRECTORY = "src";
+        OUTPUT_DIRECTORY = "out";
+        SOURCE_PREFIX = "screen";
+        SOURCE_EXTENSION = ".js";
+        PRESETS = "--presets=@babel/preset-env";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructors
+    //-------------------------------------------------------------------------
+    public BatchBabelTranspiler() {
+        this(buildStandardTerminal(), new StandardFileManager());
+    }
+
+    public BatchBabelTranspiler(Terminal terminal, FileManager fileManager) {
+        Validator.validateTerminal(terminal);
+        Validator.validateFileManager(fileManager);
+
+        this.terminal = terminal;
+        this.fileManager = fileManager;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private static Terminal buildStandardTerminal() {
+        return StandardTerminalBuilder
+            .getInstance()
+            .outputHandler(Consolex::writeDebug)
+            .outputErrorHandler(Consolex::writeDebug)
+            .build();
+    }
+
+    @Override
+    public Map<String, List<String>> transpile(
+        Map<String, List<String>> behaviors,
+        BiConsumer<String, String> errorHandler
+    ) throws IOException {
+        Map<String, List<String>> transpiledBehaviors = new LinkedHashMap<>();
+
+        if (behaviors.isEmpty()) {
+            return transpiledBehaviors;
+        }
+
+        Path workingDirectory = Files.createTempDirectory("babel");
+
+        try {
+            List<String> screenNames = new ArrayList<>(behaviors.keySet());
+            Path sourceDirectory = workingDirectory.resolve(SOURCE_DIRECTORY);
+            Path outputDirectory = workingDirectory.resolve(OUTPUT_DIRECTORY);
+
+            writeSources(behaviors, screenNames, sourceDirectory);
+            runBabel(sourceDirectory, outputDirectory);
+
+            Set<String> failedScreens = attributeErrors(screenNames, sourceDirectory, errorHandler);
+
+            readOutputs(screenNames, outputDirectory, failedScreens, transpiledBehaviors, errorHandler);
+        }
+        finally {
+            fileManager.removeDirectory(workingDirectory);
+        }
+
+        return transpiledBehaviors;
+    }
+
+    /**
+     * Gets the versions of the installed Babel packages.
+     *
+     * @return      Babel version or an empty string if Babel is not installed
+     */
+    @Override
+    public String getVersion() {
+        return BabelPackages.readInstalledVersion();
+    }
+
+    private void writeSources(
+        Map<String, List<String>> behaviors,
+        List<String> screenNames,
+        Path sourceDirectory
+    ) throws IOException {
+        fileManager.createDirectories(sourceDirectory);
+
+        for (int i = 0; i < screenNames.size(); i++) {
+            Path source = sourceDirectory.resolve(generateSourceFilename(i));
+
+            fileManager.createFile(source);
+            fileManager.write(source, behaviors.get(screenNames.get(i)));
+        }
+    }
+
+    private String generateSourceFilename(int index) {
+        return SOURCE_PREFIX + index + SOURCE_EXTENSION;
+    }
+
+    private void runBabel(Path sourceDirectory, Path outputDirectory) 
+    throws IOException {
+        terminal.exec(
+            "npx",
+            "babel",
+            sourceDirectory.toString(),
+            "--out-dir",
+            outputDirectory.toString(),
+            PRESETS
+        );
+    }
+
+    /**
+     * Sends each error message to the screen whose source file it mentions.
+     * Messages that do not mention a source file (for instance, code frames)
+     * belong to the last screen mentioned, and messages that come before any
+     * screen is mentioned belong to no screen.
+     *
+     * @return      Names of screens that had errors
+     */
+    private Set<String> attributeErrors(
+        List<String> screenNames,
+        Path sourceDirectory,
+        BiConsumer<String, String> errorHandler
+    ) {
+        Set<String> failedScreens = new HashSet<>();
+        String currentScreen = "";
+
+        for (String message : terminal.getErrorHistory()) {
+            int screenIndex = findMentionedScreen(message, screenNames.size(), sourceDirectory);
+
+            if (screenIndex >= 0) {
+                currentScreen = screenNames.get(screenIndex);
+                failedScreens.add(currentScreen);
+            }
+
+            errorHandler.accept(currentScreen, message);
+        }
+
+        return failedScreens;
+    }
+
+    private int findMentionedScreen(String message, int totalScreens, Path sourceDirectory) {
+        int sourceStart = message.indexOf(sourceDirectory.toString());
+
+        if (sourceStart < 0) {
+            return -1;
+        }
+
+        int indexStart = message.indexOf(SOURCE_PREFIX, sourceStart + sourceDirectory.toString().length());
+        int indexEnd = message.indexOf(SOURCE_EXTENSION, indexStart + 1);
+
+        if ((indexStart < 0) || (indexEnd < 0)) {
+            return -1;
+        }
+
+        try {
+            int index = Integer.parseInt(message.substring(indexStart + SOURCE_PREFIX.length(), indexEnd));
+
+            return (index < totalScreens) ? index : -1;
+        }
+        catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void readOutputs(
+        List<String> screenNames,
+        Path outputDirectory,
+        Set<String> failedScreens,
+        Map<String, List<String>> transpiledBehaviors,
+        BiConsumer<String, String> errorHandler
+    ) throws IOException {
+        for (int i = 0; i < screenNames.size(); i++) {
+            String screenName = screenNames.get(i);
+            Path output = outputDirectory.resolve(generateSourceFilename(i));
+
+            if (fileManager.exists(output)) {
+                transpiledBehaviors.put(screenName, fileManager.readLines(output));
+            }
+            else if (!failedScreens.contains(screenName)) {
+                errorHandler.accept(screenName, "Babel did not generate code for this screen");
+            }
+        }
+    }
+}
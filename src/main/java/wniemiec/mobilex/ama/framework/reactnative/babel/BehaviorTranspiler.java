@@ -0,0 +1,43 @@
+package wniemiec.mobilex.ama.framework.reactnative.babel;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+
+/**
+ * Responsible for transpiling the behavior of screens into code that runs in
+ * React Native web views.
+ */
+public interface BehaviorTranspiler {
+
+    /**
+     * Transpiles the behavior of several screens at once.
+     *
+     * @param       behaviors Behavior code of each screen, by screen name
+     * @param       errorHandler Receives the name of a screen that could not
+     * be transpiled along with an error message
+     *
+     * @return      Transpiled code of each screen that could be transpiled,
+     * by screen name
+     *
+     * @throws      IOException If transpiler could not be run
+     */
+    Map<String, List<String>> transpile(
+        Map<String, List<String>> behaviors,
+        BiConsumer<String, String> errorHandler
+    ) throws IOException;
+
+    /**
+     * Gets the version of the transpiler. Code transpiled by transpilers with
+     * different versions may differ.
+     *
+     * @return      Transpiler version
+     *
+     * @throws      IOException If version could not be obtained
+     */
+    default String getVersion() throws IOException {
+        return "";
+    }
+}
@@ -0,0 +1,133 @@
+package wniemiec.mobilex.ama.framework.reactnative.babel;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import wniemiec.io.java.Consolex;
+import wniemiec.mobilex.ama.cache.TranspiledBehaviorCache;
+
+
+/**
+ * Responsible for transpiling only the behaviors that have not been
+ * transpiled before. Behaviors found in the cache are not sent to the
+ * transpiler, and behaviors transpiled without errors are stored in it.
+ */
+public class CachedBehaviorTranspiler implements BehaviorTranspiler {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private final BehaviorTranspiler transpiler;
+    private final TranspiledBehaviorCache cache;
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Transpiler backed by a cache of transpiled behaviors.
+     *
+     * @param       transpiler Transpiler of behaviors that are not cached
+     * @param       cache Transpiled behavior cache
+     *
+     * @throws      IllegalArgumentException If transpiler or cache is null
+     */
+    public CachedBehaviorTranspiler(
+        BehaviorTranspiler transpiler, 
+        TranspiledBehaviorCache cache
+    ) {
+        if (transpiler == null) {
+            throw new IllegalArgumentException("Transpiler cannot be null");
+        }
+
+        if (cache == null) {
+            throw new IllegalArgumentException("Cache cannot be null");
+        }
+
+        this.transpiler = transpiler;
+        this.cache = cache;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    @Override
+    public Map<String, List<String>> transpile(
+        Map<String, List<String>> behaviors,
+        BiConsumer<String, String> errorHandler
+    ) throws IOException {
+        Map<String, List<String>> transpiledBehaviors = new LinkedHashMap<>();
+
+        if (behaviors.isEmpty()) {
+            return transpiledBehaviors;
+        }
+
+        Map<String, List<String>> missingBehaviors = new LinkedHashMap<>();
+        Map<String, String> keys = new LinkedHashMap<>();
+        String version = transpiler.getVersion();
+
+        for (Map.Entry<String, List<String>> behavior : behaviors.entrySet()) {
+            String key = cache.computeKey(behavior.getValue(), version);
+            List<String> cachedBehavior = cache.load(key);
+
+            if (cachedBehavior == null) {
+                missingBehaviors.put(behavior.getKey(), behavior.getValue());
+                keys.put(behavior.getKey(), key);
+            }
+
+            transpiledBehaviors.put(behavior.getKey(), cachedBehavior);
+        }
+
+        logHitRate(behaviors.size() - missingBehaviors.size(), behaviors.size());
+
+        if (!missingBehaviors.isEmpty()) {
+            transpileMissingBehaviors(missingBehaviors, keys, transpiledBehaviors, errorHandler);
+        }
+
+        transpiledBehaviors.values().removeIf(behavior -> behavior == null);
+
+        return transpiledBehaviors;
+    }
+
+    private void logHitRate(int hits, int total) {
+        if (total == 0) {
+            return;
+        }
+
+        Consolex.writeInfo(
+            "Transpiled behavior cache: " + hits + "/" + total + " hits (" 
+            + (hits * 100 / total) + "%)"
+        );
+    }
+
+    private void transpileMissingBehaviors(
+        Map<String, List<String>> missingBehaviors,
+        Map<String, String> keys,
+        Map<String, List<String>> transpiledBehaviors,
+        BiConsumer<String, String> errorHandler
+    ) throws IOException {
+        Map<String, List<String>> newBehaviors = transpiler.transpile(missingBehaviors, errorHandler);
+
+        for (Map.Entry<String, List<String>> behavior : newBehaviors.entrySet()) {
+            transpiledBehaviors.put(behavior.getKey(), behavior.getValue());
+            storeBehavior(keys.get(behavior.getKey()), behavior.getValue());
+        }
+    }
+
+    private void storeBehavior(String key, List<String> behavior) {
+        try {
+            cache.store(key, behavior);
+        }
+        catch (IOException e) {
+            Consolex.writeWarning("Could not store transpiled behavior cache entry: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getVersion() throws IOException {
+        return transpiler.getVersion();
+    }
+}
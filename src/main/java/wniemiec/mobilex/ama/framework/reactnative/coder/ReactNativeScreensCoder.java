@@ -2,19 +2,27 @@ package wniemiec.mobilex.ama.framework.reactnative.coder;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import wniemiec.io.java.BabelTranspiler;
+import java.util.Map;
+import wniemiec.mobilex.ama.cache.ScreenManifest;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
+import wniemiec.mobilex.ama.framework.reactnative.babel.BatchBabelTranspiler;
+import wniemiec.mobilex.ama.framework.reactnative.babel.BehaviorTranspiler;
 import wniemiec.mobilex.ama.framework.reactnative.parser.ReactNativeMobilangDirectiveParser;
+import wniemiec.mobilex.ama.models.CodeBuffer;
 import wniemiec.mobilex.ama.models.CodeFile;
 import wniemiec.mobilex.ama.models.Screen;
-import wniemiec.mobilex.ama.models.behavior.Behavior;
+import wniemiec.mobilex.ama.models.tag.TagPipeline;
 import wniemiec.mobilex.ama.util.data.Validator;
 
 
 /**
- * Responsible for generating React Native framework code for screens.
+ * Responsible for generating React Native framework code for screens. The
+ * behavior of all screens is transpiled at once, before the code of each
+ * screen is generated. Screens that did not change since the previous
+ * compilation are neither transpiled nor generated again; their previous
+ * code is reused instead.
  */
 public class ReactNativeScreensCoder {
 
@@ -25,9 +33,11 @@ public class ReactNativeScreensCoder {
     private static final String IOS_SCREEN_NAME_PREFIX;
     private static final String SCREEN_NAME_SUFFIX;
     private final List<Screen> screens;
+    private final ScreenManifest manifest;
     private final ReactNativeMobilangDirectiveParser directiveParser;
-    private final BabelTranspiler babelTranspiler;
-    private List<String> babelErrorLog;
+    private final TagPipeline structurePipeline;
+    private final BehaviorTranspiler behaviorTranspiler;
+    private final List<String> babelErrorLog;
 
 
     //-------------------------------------------------------------------------
@@ -44,12 +54,43 @@ public class ReactNativeScreensCoder {
     //		Constructor
     //-------------------------------------------------------------------------
     public ReactNativeScreensCoder(List<Screen> screens) {
+        this(screens, new BatchBabelTranspiler());
+    }
+
+    /**
+     * React Native code generator for screens.
+     *
+     * @param       screens Screens
+     * @param       behaviorTranspiler Transpiler of screen behaviors
+     */
+    public ReactNativeScreensCoder(
+        List<Screen> screens, 
+        BehaviorTranspiler behaviorTranspiler
+    ) {
+        this(screens, behaviorTranspiler, new ScreenManifest());
+    }
+
+    /**
+     * React Native code generator for screens.
+     *
+     * @param       screens Screens
+     * @param       behaviorTranspiler Transpiler of screen behaviors
+     * @param       manifest Code generated for each screen in the previous
+     * compilation, which will be updated with the code of changed screens
+     */
+    public ReactNativeScreensCoder(
+        List<Screen> screens, 
+        BehaviorTranspiler behaviorTranspiler,
+        ScreenManifest manifest
+    ) {
         Validator.validateScreens(screens);
 
         this.screens = screens;
+        this.behaviorTranspiler = behaviorTranspiler;
+        this.manifest = manifest;
         babelErrorLog = new ArrayList<>();
         directiveParser = new ReactNativeMobilangDirectiveParser();
-        babelTranspiler = new BabelTranspiler(babelErrorLog::add);
+        structurePipeline = new TagPipeline(directiveParser::parse);
     }
 
 
@@ -58,101 +99,156 @@ public class ReactNativeScreensCoder {
     //-------------------------------------------------------------------------
     public List<CodeFile> generateCode() throws CoderException {
         List<CodeFile> screensCode = new ArrayList<>();
+        Map<Screen, String> fingerprints = new LinkedHashMap<>();
+        Map<Screen, List<CodeFile>> previousCode = new LinkedHashMap<>();
+
+        findPreviousCode(fingerprints, previousCode);
+
+        Map<String, List<String>> behaviors = transpileBehaviorsOf(previousCode);
 
         for (Screen screen : screens) {
-            screensCode.addAll(generateCodeForScreen(screen));
+            if (previousCode.containsKey(screen)) {
+                screensCode.addAll(previousCode.get(screen));
+                continue;
+            }
+
+            List<CodeFile> screenCode = generateCodeForScreen(
+                screen, 
+                behaviors.get(screen.getRawName())
+            );
+
+            manifest.putCodeFiles(screen, fingerprints.get(screen), screenCode);
+            screensCode.addAll(screenCode);
         }
 
         return screensCode;
     }
-    
-    private List<CodeFile> generateCodeForScreen(Screen screen) throws CoderException {
-        List<String> code = new ArrayList<>();
 
-        putDoctype(code);
-        putHtmlOpenTag(code);
-        putHead(code, screen);
-        putBody(code, screen);
-        putScript(code, screen);
-        putHtmlCloseTag(code);
-        
-        return buildFileCode(code, screen);
-    }
+    private void findPreviousCode(
+        Map<Screen, String> fingerprints,
+        Map<Screen, List<CodeFile>> previousCode
+    ) throws CoderException {
+        String transpilerVersion = getTranspilerVersion();
 
-    private void putDoctype(List<String> code) {
-        code.add("<!DOCTYPE html>");
-    }
+        for (Screen screen : screens) {
+            String fingerprint = ScreenManifest.computeFingerprint(screen, transpilerVersion);
+            List<CodeFile> screenCode = manifest.findCodeFiles(screen, fingerprint);
 
-    private void putHtmlOpenTag(List<String> code) {
-        code.add("<html>");
-    }
+            fingerprints.put(screen, fingerprint);
 
-    private void putHead(List<String> code, Screen screen) {
-        code.add("    <head>");
-        code.add("    <title>" + screen.getRawName() + "</title>");
-        putStyle(code, screen);
-        code.add("    </head>");
+            if (screenCode != null) {
+                previousCode.put(screen, screenCode);
+            }
+        }
     }
 
-    private void putStyle(List<String> code, Screen screenData) {
-        code.add("        <style>");
-        code.add("button { padding: 0; }");
-        code.addAll(screenData.getStyle().toCode());
-        code.add("        </style>");
+    private String getTranspilerVersion() throws CoderException {
+        try {
+            return behaviorTranspiler.getVersion();
+        }
+        catch (IOException e) {
+            throw new CoderException(e.getMessage());
+        }
     }
 
-    private void putBody(List<String> code, Screen screenData) {
-        code.add("    <body>");
-        code.addAll(parseStructure(screenData));
-        code.add("    </body>");
-    }
+    private Map<String, List<String>> transpileBehaviorsOf(
+        Map<Screen, List<CodeFile>> previousCode
+    ) throws CoderException {
+        Map<String, List<String>> behaviors = new LinkedHashMap<>();
 
+        for (Screen screen : screens) {
+            if (!previousCode.containsKey(screen)) {
+                behaviors.put(screen.getRawName(), screen.getBehavior().toCode());
+            }
+        }
 
-    private List<String> parseStructure(Screen screenData) {
-        List<String> structureCode = screenData.getStructure().toCode();
-        
-        return parseDirectives(structureCode);
-    }
+        if (behaviors.isEmpty()) {
+            return behaviors;
+        }
 
-    private void putScript(List<String> code, Screen screenData) throws CoderException {
-        code.add("    <script>");
+        Map<String, List<String>> transpiledBehaviors = runBehaviorTranspiler(behaviors);
 
-        for (String line : parseBehavior(screenData.getBehavior())) {
-            code.add(line);
+        if (!babelErrorLog.isEmpty()) {
+            throw new CoderException(babelErrorLog);
         }
 
-        code.add("    </script>");
+        return transpiledBehaviors;
+    }
+
+    private Map<String, List<String>> runBehaviorTranspiler(
+        Map<String, List<String>> behaviors
+    ) throws CoderException {
+        try {
+            return behaviorTranspiler.transpile(behaviors, this::logBabelError);
+        } 
+        catch (IOException e) {
+            throw new CoderException(e.getMessage());
+        }
     }
 
-    private List<String> parseBehavior(Behavior behavior) throws CoderException  {
-        List<String> lines = behavior.toCode();
+    private void logBabelError(String screenName, String message) {
+        if (message.contains("npm notice")) {
+            return;
+        }
 
-        lines = parseBabel(lines);
-        lines = parseDirectives(lines);
+        if (screenName.isEmpty()) {
+            babelErrorLog.add(message);
+        }
+        else {
+            babelErrorLog.add("[" + screenName + "] " + message);
+        }
+    }
+    
+    private List<CodeFile> generateCodeForScreen(Screen screen, List<String> behavior) {
+        CodeBuffer code = new CodeBuffer();
 
-        return lines;
+        putDoctype(code);
+        putHtmlOpenTag(code);
+        putHead(code, screen);
+        putBody(code, screen);
+        putScript(code, behavior);
+        putHtmlCloseTag(code);
+        
+        return buildFileCode(code, screen);
     }
 
-    private List<String> parseBabel(List<String> code) throws CoderException {
-        List<String> parsedCode = runBabelTranspiler(code);
+    private void putDoctype(CodeBuffer code) {
+        code.appendLine("<!DOCTYPE html>");
+    }
 
-        babelErrorLog = babelErrorLog.stream().filter(message -> !message.contains("npm notice")).collect(Collectors.toList());
+    private void putHtmlOpenTag(CodeBuffer code) {
+        code.appendLine("<html>");
+    }
 
-        if (!babelErrorLog.isEmpty()) {
-            throw new CoderException(babelErrorLog);
-        }
+    private void putHead(CodeBuffer code, Screen screen) {
+        code.appendLine("    <head>");
+        code.appendLine("    <title>" + screen.getRawName() + "</title>");
+        putStyle(code, screen);
+        code.appendLine("    </head>");
+    }
 
-        return parsedCode;
+    private void putStyle(CodeBuffer code, Screen screenData) {
+        code.appendLine("        <style>");
+        code.appendLine("button { padding: 0; }");
+        code.appendLines(screenData.getStyle().toCode());
+        code.appendLine("        </style>");
     }
 
+    private void putBody(CodeBuffer code, Screen screenData) {
+        code.appendLine("    <body>");
+        code.appendLines(parseStructure(screenData));
+        code.appendLine("    </body>");
+    }
 
-    private List<String> runBabelTranspiler(List<String> code) throws CoderException {
-        try {
-            return babelTranspiler.fromCode(code);
-        } 
-        catch (IOException e) {
-            throw new CoderException(e.getMessage());
-        }
+
+    private List<String> parseStructure(Screen screenData) {
+        return structurePipeline.run(screenData.getStructure());
+    }
+
+    private void putScript(CodeBuffer code, List<String> behavior) {
+        code.appendLine("    <script>");
+        code.appendLines(parseDirectives(behavior));
+        code.appendLine("    </script>");
     }
 
     private List<String> parseDirectives(List<String> code) {
@@ -160,24 +256,28 @@ public class ReactNativeScreensCoder {
         return directiveParser.getParsedCode();
     }
 
-    private void putHtmlCloseTag(List<String> code) {
-        code.add("</html>");
+    private void putHtmlCloseTag(CodeBuffer code) {
+        code.appendLine("</html>");
     }
 
-    private List<CodeFile> buildFileCode(List<String> code, Screen screenData) {
+    /**
+     * Builds the Android and iOS files of a screen, which share the same
+     * code buffer, so that the code is encoded only once.
+     */
+    private List<CodeFile> buildFileCode(CodeBuffer code, Screen screenData) {
         CodeFile androidFileCode = generateAndroidScreenFileCode(code, screenData);
         CodeFile iosFileCode = generateIosScreenFileCode(code, screenData);
         
         return List.of(androidFileCode, iosFileCode);
     }
 
-    private CodeFile generateAndroidScreenFileCode(List<String> code, Screen screenData) {
+    private CodeFile generateAndroidScreenFileCode(CodeBuffer code, Screen screenData) {
         String filename = generateScreenFilename(screenData, ANDROID_SCREEN_NAME_PREFIX);
 
         return new CodeFile(filename, code);
     }
 
-    private CodeFile generateIosScreenFileCode(List<String> code, Screen screenData) {
+    private CodeFile generateIosScreenFileCode(CodeBuffer code, Screen screenData) {
         String filename = generateScreenFilename(screenData, IOS_SCREEN_NAME_PREFIX);
 
         return new CodeFile(filename, code);
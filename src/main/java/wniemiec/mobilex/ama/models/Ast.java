@@ -0,0 +1,293 @@
+package wniemiec.mobilex.ama.models;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+
+/**
+ * Responsible for representing MobiLang AST. Nodes are identified by an
+ * integer index and children are stored in compressed sparse row form, that
+ * is, children of node i are stored in children[offsets[i]..offsets[i+1]).
+ * Node kinds are classified once, when the AST is built. Labels are obtained
+ * on demand, so that large payloads are only decoded when a parser asks for
+ * them and are not retained afterwards.
+ */
+public class Ast {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    public static final int NOT_FOUND;
+    public static final int CONTENT;
+    public static final int MOBILANG;
+    public static final int SCREENS;
+    public static final int SCREEN;
+    public static final int STRUCTURE;
+    public static final int STYLE;
+    public static final int BEHAVIOR;
+    public static final int PROPERTIES;
+    private static final Map<String, Integer> KINDS;
+    private final String[] ids;
+    private final IntFunction<String> labels;
+    private final int[] kinds;
+    private final int[] offsets;
+    private final int[] children;
+    private final int root;
+    private Map<String, Integer> indexes;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        NOT_FOUND = -1;
+        CONTENT = 0;
+        MOBILANG = 1;
+        SCREENS = 2;
+        SCREEN = 3;
+        STRUCTURE = 4;
+        STYLE = 5;
+        BEHAVIOR = 6;
+        PROPERTIES = 7;
+        KINDS = Map.of(
+            "mobilang", MOBILANG,
+            "screens", SCREENS,
+            "screen", SCREEN,
+            "structure", STRUCTURE,
+            "style", STYLE,
+            "behavior", BEHAVIOR,
+            "properties", PROPERTIES
+        );
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * MobiLang AST.
+     *
+     * @param       ids Node ids, indexed by node
+     * @param       labels Node labels, indexed by node
+     * @param       sources Parent node of each edge, in file order
+     * @param       targets Child node of each edge, in file order
+     * @param       totalEdges Number of edges stored in sources and targets
+     */
+    public Ast(
+        String[] ids,
+        String[] labels,
+        int[] sources,
+        int[] targets,
+        int totalEdges
+    ) {
+        this(
+            ids, 
+            node -> labels[node], 
+            classifyNodes(labels), 
+            sources, 
+            targets, 
+            totalEdges
+        );
+    }
+
+    /**
+     * MobiLang AST with lazily decoded labels.
+     *
+     * @param       ids Node ids, indexed by node
+     * @param       labels Function that decodes the label of a node, 
+     * returning null if the node has no label
+     * @param       kinds Node kinds, indexed by node
+     * @param       sources Parent node of each edge, in file order
+     * @param       targets Child node of each edge, in file order
+     * @param       totalEdges Number of edges stored in sources and targets
+     */
+    public Ast(
+        String[] ids,
+        IntFunction<String> labels,
+        int[] kinds,
+        int[] sources,
+        int[] targets,
+        int totalEdges
+    ) {
+        this.ids = ids;
+        this.labels = labels;
+        this.kinds = kinds;
+        offsets = new int[ids.length + 1];
+        children = new int[totalEdges];
+
+        buildChildren(sources, targets, totalEdges);
+
+        root = findRoot(targets, totalEdges);
+        indexes = null;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private static int[] classifyNodes(String[] labels) {
+        int[] nodeKinds = new int[labels.length];
+
+        for (int i = 0; i < labels.length; i++) {
+            nodeKinds[i] = classify(labels[i]);
+        }
+
+        return nodeKinds;
+    }
+
+    private static int classify(String label) {
+        if ((label == null) || !label.startsWith("<")) {
+            return CONTENT;
+        }
+
+        int end = 1;
+
+        while ((end < label.length())
+                && (label.charAt(end) != ' ')
+                && (label.charAt(end) != '>')) {
+            end++;
+        }
+
+        return kindOf(label.substring(1, end));
+    }
+
+    /**
+     * Gets the kind of a node from the tag name of its label. For instance,
+     * the tag name of '<screen id="home">' is 'screen'.
+     *
+     * @param       tagName Tag name
+     *
+     * @return      Node kind or CONTENT if tag name is not a MobiLang tag
+     */
+    public static int kindOf(String tagName) {
+        return KINDS.getOrDefault(tagName, CONTENT);
+    }
+
+    private void buildChildren(int[] sources, int[] targets, int totalEdges) {
+        for (int i = 0; i < totalEdges; i++) {
+            offsets[sources[i] + 1]++;
+        }
+
+        for (int i = 0; i < ids.length; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] next = Arrays.copyOf(offsets, ids.length);
+
+        for (int i = 0; i < totalEdges; i++) {
+            children[next[sources[i]]++] = targets[i];
+        }
+    }
+
+    private int findRoot(int[] targets, int totalEdges) {
+        boolean[] hasParent = new boolean[ids.length];
+
+        for (int i = 0; i < totalEdges; i++) {
+            hasParent[targets[i]] = true;
+        }
+
+        for (int i = 0; i < ids.length; i++) {
+            if (!hasParent[i] && hasChildren(i)) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean hasChildren(int node) {
+        return countChildren(node) > 0;
+    }
+
+    public int countChildren(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    public int getChild(int node, int index) {
+        if ((index < 0) || (index >= countChildren(node))) {
+            throw new IndexOutOfBoundsException(
+                "Node " + ids[node] + " has no child at index " + index
+            );
+        }
+
+        return children[offsets[node] + index];
+    }
+
+    /**
+     * Finds the first child of a node with a given kind.
+     *
+     * @param       node Parent node
+     * @param       kind Node kind
+     *
+     * @return      Child node or NOT_FOUND if there is no such child
+     */
+    public int findChild(int node, int kind) {
+        for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+            if (kinds[children[i]] == kind) {
+                return children[i];
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    /**
+     * Finds a node by its dot id. It is intended for external callers, since
+     * parsers should navigate through node indexes.
+     *
+     * @param       id Node id
+     *
+     * @return      Node index or NOT_FOUND if there is no such node
+     */
+    public int indexOf(String id) {
+        if (indexes == null) {
+            initializeIndexes();
+        }
+
+        return indexes.getOrDefault(id, NOT_FOUND);
+    }
+
+    private void initializeIndexes() {
+        indexes = new HashMap<>();
+
+        for (int i = 0; i < ids.length; i++) {
+            indexes.put(ids[i], i);
+        }
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public int getRoot() {
+        return root;
+    }
+
+    public String getId(int node) {
+        return ids[node];
+    }
+
+    public String getLabel(int node) {
+        String label = labels.apply(node);
+
+        if (label == null) {
+            throw new IllegalStateException("Each node must have a label attribute");
+        }
+
+        return label;
+    }
+
+    public int getKind(int node) {
+        return kinds[node];
+    }
+
+    public Node getNode(int node) {
+        return new Node(ids[node], labels.apply(node));
+    }
+}
@@ -0,0 +1,208 @@
+package wniemiec.mobilex.ama.models;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+
+/**
+ * Responsible for holding code lines already encoded in UTF-8. Lines are
+ * encoded as they are appended, directly into fixed-size segments, so that
+ * code can be written to a file without being encoded again, with one
+ * gather write of all segments. Each line is followed by the line separator
+ * of the system. A code buffer is not thread-safe.
+ */
+public class CodeBuffer implements Serializable {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+    private static final int SEGMENT_SIZE;
+    private static final String LINE_SEPARATOR;
+    private final List<byte[]> segments;
+    private int lastSegmentLength;
+    private long size;
+    private transient CharsetEncoder encoder;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        SEGMENT_SIZE = 8192;
+        LINE_SEPARATOR = System.lineSeparator();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    public CodeBuffer() {
+        segments = new ArrayList<>();
+        lastSegmentLength = 0;
+        size = 0;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    public void appendLine(String line) {
+        encode(CharBuffer.wrap(line));
+        encode(CharBuffer.wrap(LINE_SEPARATOR));
+    }
+
+    public void appendLines(List<String> lines) {
+        for (String line : lines) {
+            appendLine(line);
+        }
+    }
+
+    private void encode(CharBuffer text) {
+        CharsetEncoder textEncoder = getEncoder();
+        ByteBuffer segment = getWritableSegment();
+
+        textEncoder.reset();
+
+        while (textEncoder.encode(text, segment, true).isOverflow()) {
+            segment = startSegment(segment);
+        }
+
+        while (textEncoder.flush(segment).isOverflow()) {
+            segment = startSegment(segment);
+        }
+
+        updateLastSegmentLength(segment);
+    }
+
+    private CharsetEncoder getEncoder() {
+        if (encoder == null) {
+            encoder = StandardCharsets.UTF_8
+                .newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        return encoder;
+    }
+
+    private ByteBuffer getWritableSegment() {
+        if (segments.isEmpty()) {
+            segments.add(new byte[SEGMENT_SIZE]);
+            lastSegmentLength = 0;
+        }
+
+        byte[] lastSegment = segments.get(segments.size() - 1);
+        ByteBuffer segment = ByteBuffer.wrap(lastSegment);
+
+        segment.position(lastSegmentLength);
+
+        return segment;
+    }
+
+    /**
+     * Ends the current segment and starts a new one. A segment that was not
+     * filled, because the next character did not fit in it, is trimmed, so
+     * that all segments but the last one hold only code.
+     */
+    private ByteBuffer startSegment(ByteBuffer currentSegment) {
+        updateLastSegmentLength(currentSegment);
+        trimLastSegment();
+
+        byte[] segment = new byte[SEGMENT_SIZE];
+
+        segments.add(segment);
+        lastSegmentLength = 0;
+
+        return ByteBuffer.wrap(segment);
+    }
+
+    private void trimLastSegment() {
+        if (segments.isEmpty()) {
+            return;
+        }
+
+        int lastIndex = segments.size() - 1;
+
+        if (lastSegmentLength < segments.get(lastIndex).length) {
+            segments.set(lastIndex, Arrays.copyOf(segments.get(lastIndex), lastSegmentLength));
+        }
+    }
+
+    /**
+     * Trims the last segment before the buffer is serialized, so that its 
+     * unused space is not stored.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        trimLastSegment();
+        out.defaultWriteObject();
+    }
+
+    private void updateLastSegmentLength(ByteBuffer segment) {
+        size += segment.position() - lastSegmentLength;
+        lastSegmentLength = segment.position();
+    }
+
+    /**
+     * Gets read-only views of the encoded code, which can be written with a
+     * single gather write.
+     *
+     * @return      Encoded code
+     */
+    public ByteBuffer[] toByteBuffers() {
+        ByteBuffer[] buffers = new ByteBuffer[segments.size()];
+
+        for (int i = 0; i < segments.size(); i++) {
+            byte[] segment = segments.get(i);
+            int length = (i == segments.size() - 1) ? lastSegmentLength : segment.length;
+
+            buffers[i] = ByteBuffer.wrap(segment, 0, length).asReadOnlyBuffer();
+        }
+
+        return buffers;
+    }
+
+    /**
+     * Decodes the code lines.
+     *
+     * @return      Code lines
+     */
+    public List<String> toLines() {
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+
+        byte[] content = new byte[Math.toIntExact(size)];
+        int position = 0;
+
+        for (ByteBuffer buffer : toByteBuffers()) {
+            int length = buffer.remaining();
+
+            buffer.get(content, position, length);
+            position += length;
+        }
+
+        String code = new String(content, StandardCharsets.UTF_8);
+        String[] lines = code.split(Pattern.quote(LINE_SEPARATOR), -1);
+
+        return new ArrayList<>(Arrays.asList(lines).subList(0, lines.length - 1));
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public long getSize() {
+        return size;
+    }
+}
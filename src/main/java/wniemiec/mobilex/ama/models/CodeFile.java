@@ -1,19 +1,25 @@
 package wniemiec.mobilex.ama.models;
 
+import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
 
 /**
- * Responsible for representing a file code.
+ * Responsible for representing a file code. Code is held either as a list of
+ * lines or, for code that coders append to as it is generated, as a code 
+ * buffer, which is already encoded.
  */
-public class CodeFile {
+public class CodeFile implements Serializable {
     
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String name;
     private final List<String> code;
+    private final CodeBuffer encodedCode;
     
 
     //-------------------------------------------------------------------------
@@ -22,6 +28,13 @@ public class CodeFile {
     public CodeFile(String name, List<String> code) {
         this.name = name;
         this.code = code;
+        encodedCode = null;
+    }
+
+    public CodeFile(String name, CodeBuffer code) {
+        this.name = name;
+        this.code = null;
+        encodedCode = code;
     }
 
     public CodeFile() {
@@ -32,12 +45,34 @@ public class CodeFile {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
+    /**
+     * Gets the code encoded in UTF-8, with each line followed by the line 
+     * separator of the system.
+     * 
+     * @return      Encoded code, which can be written with a single gather
+     * write
+     */
+    public ByteBuffer[] getEncodedCode() {
+        if (encodedCode != null) {
+            return encodedCode.toByteBuffers();
+        }
+
+        CodeBuffer buffer = new CodeBuffer();
+
+        if (code != null) {
+            buffer.appendLines(code);
+        }
+
+        return buffer.toByteBuffers();
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
         int result = 1;
+        List<String> lines = getCode();
         
-        result = prime * result + ((code == null) ? 0 : code.hashCode());
+        result = prime * result + ((lines == null) ? 0 : lines.hashCode());
         result = prime * result + ((name == null) ? 0 : name.hashCode());
         
         return result;
@@ -58,13 +93,14 @@ public class CodeFile {
         }
 
         CodeFile other = (CodeFile) obj;
+        List<String> lines = getCode();
         
-        if (code == null) {
-            if (other.code != null) {
+        if (lines == null) {
+            if (other.getCode() != null) {
                 return false;
             }
         } 
-        else if (!code.equals(other.code)) {
+        else if (!lines.equals(other.getCode())) {
             return false;
         }
 
@@ -89,6 +125,10 @@ public class CodeFile {
     }
 
     public List<String> getCode() {
+        if (encodedCode != null) {
+            return encodedCode.toLines();
+        }
+
         return code;
     }
 }
@@ -13,35 +13,74 @@ public class Node {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private final GraphNode graphNode;
+    private final String id;
+    private final String label;
     private Map<String, String> attributes;
     
 
     //-------------------------------------------------------------------------
-    //		Constructor
+    //		Constructors
     //-------------------------------------------------------------------------
-    public Node(GraphNode node) {
-        this.graphNode = node;
+    public Node(String id, String label) {
+        this.id = id;
+        this.label = label;
         this.attributes = null;
     }
 
+    public Node(GraphNode node) {
+        this(node.getId(), (String) node.getAttribute("label"));
+    }
+
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
     @Override
     public String toString() {
-        return graphNode.toString();
+        return "Node [id=" + id + ", label=" + label + "]";
     }
 
     @Override
     public int hashCode() {
-        return graphNode.hashCode();
+        final int prime = 31;
+        int result = 1;
+        
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        result = prime * result + ((label == null) ? 0 : label.hashCode());
+        
+        return result;
     }
 
     @Override
     public boolean equals(Object obj) {
-        return graphNode.equals(obj);
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        Node other = (Node) obj;
+
+        return  hasSameId(other)
+                && hasSameLabel(other);
+    }
+
+    private boolean hasSameId(Node other) {
+        if ((id == null) && (other.id == null)) {
+            return true;
+        }
+
+        return (id != null) && id.equals(other.id);
+    }
+
+    private boolean hasSameLabel(Node other) {
+        if ((label == null) && (other.label == null)) {
+            return true;
+        }
+
+        return (label != null) && label.equals(other.label);
     }
 
     private void initializeAttributes() {
@@ -81,8 +120,6 @@ public class Node {
     //		Getters
     //-------------------------------------------------------------------------
     public String getLabel() {
-        String label = ((String) graphNode.getAttribute("label"));
-
         if (label == null) {
             throw new IllegalStateException("Each node must have a label attribute");
         }
@@ -91,7 +128,7 @@ public class Node {
     }
 
     public String getId() {
-        return graphNode.getId();
+        return id;
     }
 
     public String getAttribute(String attribute) {
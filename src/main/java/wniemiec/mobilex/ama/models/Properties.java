@@ -1,5 +1,6 @@
 package wniemiec.mobilex.ama.models;
 
+import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
 import wniemiec.util.java.StringUtils;
@@ -8,11 +9,12 @@ import wniemiec.util.java.StringUtils;
 /**
  * Responsible for representing data from properties tag.
  */
-public class Properties {
+public class Properties implements Serializable {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private String name;
     private Set<String> platforms;
 
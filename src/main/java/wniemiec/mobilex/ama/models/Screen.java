@@ -1,5 +1,6 @@
 package wniemiec.mobilex.ama.models;
 
+import java.io.Serializable;
 import wniemiec.mobilex.ama.models.behavior.Behavior;
 import wniemiec.mobilex.ama.models.tag.Tag;
 import wniemiec.util.java.StringUtils;
@@ -8,11 +9,12 @@ import wniemiec.util.java.StringUtils;
 /**
  * Responsible for representing data from screen tag.
  */
-public class Screen {
+public class Screen implements Serializable {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String rawName;
     private final String name;
     private final Tag structure;
@@ -1,20 +1,43 @@
 package wniemiec.mobilex.ama.models;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import wniemiec.mobilex.ama.models.tag.Tag;
 
 
 /**
- * Responsible for representing data from style tag.
+ * Responsible for representing data from style tag. Rules are indexed by
+ * their selectors when they are added, so that finding the rules of a
+ * selector does not require visiting every rule. Selectors are bucketed by
+ * id ('#foo'), class ('.foo'), element ('div') and any other selector (for
+ * instance, 'div > p'), so that tags only look up the buckets they can
+ * match.
  */
-public class Style {
+public class Style implements Serializable {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+    private static final List<Integer> NO_RULES;
     private final List<StyleSheetRule> rules;
+    private final Map<String, List<Integer>> idSelectors;
+    private final Map<String, List<Integer>> classSelectors;
+    private final Map<String, List<Integer>> elementSelectors;
+    private final Map<String, List<Integer>> otherSelectors;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        NO_RULES = Collections.emptyList();
+    }
 
 
     //-------------------------------------------------------------------------
@@ -22,40 +45,213 @@ public class Style {
     //-------------------------------------------------------------------------
     public Style() {
         rules = new ArrayList<>();
+        idSelectors = new HashMap<>();
+        classSelectors = new HashMap<>();
+        elementSelectors = new HashMap<>();
+        otherSelectors = new HashMap<>();
     }
 
-    
+
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
+    /**
+     * Adds a rule. Its selectors are indexed at this moment, so selectors
+     * added to the rule afterwards are not considered by lookups.
+     *
+     * @param       rule Style sheet rule
+     */
     public void addRule(StyleSheetRule rule) {
+        int ruleIndex = rules.size();
+
         rules.add(rule);
+
+        for (String selector : rule.getSelectors()) {
+            indexSelector(selector.trim(), ruleIndex);
+        }
     }
 
+    private void indexSelector(String selector, int ruleIndex) {
+        getBucketOf(selector)
+            .computeIfAbsent(selector, key -> new ArrayList<>())
+            .add(ruleIndex);
+    }
+
+    private Map<String, List<Integer>> getBucketOf(String selector) {
+        if (selector.isEmpty()) {
+            return otherSelectors;
+        }
+
+        char prefix = selector.charAt(0);
+
+        if ((prefix == '#') && isIdentifier(selector, 1)) {
+            return idSelectors;
+        }
+
+        if ((prefix == '.') && isIdentifier(selector, 1)) {
+            return classSelectors;
+        }
+
+        if (isIdentifier(selector, 0)) {
+            return elementSelectors;
+        }
+
+        return otherSelectors;
+    }
+
+    private boolean isIdentifier(String text, int start) {
+        if (start >= text.length()) {
+            return false;
+        }
+
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (!Character.isLetterOrDigit(c) && (c != '-') && (c != '_')) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets declarations of all rules that have at least one of the provided
+     * selectors. If a property is declared by more than one rule, the
+     * declaration of the last rule is kept.
+     *
+     * @param       selectors Selectors, as they are written in the style
+     * sheet (for instance, '#title', '.error' or 'div')
+     *
+     * @return      Declarations of matching rules (empty and immutable if
+     * there is no such rule)
+     */
     public Map<String, String> getRulesForSelector(List<String> selectors) {
-        Map<String, String> selectorRules = new HashMap<>();
+        BitSet matchedRules = null;
 
-        for (StyleSheetRule rule : rules) {
-            for (String selector : selectors) {
-                if (rule.hasSelector(selector)) {
-                    selectorRules.putAll(rule.getDeclarations());
-                }
+        for (int i = 0; i < selectors.size(); i++) {
+            matchedRules = match(findRules(selectors.get(i).trim()), matchedRules);
+        }
+
+        return mergeDeclarations(matchedRules);
+    }
+
+    private List<Integer> findRules(String selector) {
+        return getBucketOf(selector).getOrDefault(selector, NO_RULES);
+    }
+
+    private BitSet match(List<Integer> selectorRules, BitSet matchedRules) {
+        if (selectorRules.isEmpty()) {
+            return matchedRules;
+        }
+
+        BitSet rulesFound = (matchedRules == null)
+            ? new BitSet(rules.size())
+            : matchedRules;
+
+        for (int ruleIndex : selectorRules) {
+            rulesFound.set(ruleIndex);
+        }
+
+        return rulesFound;
+    }
+
+    private Map<String, String> mergeDeclarations(BitSet matchedRules) {
+        if (matchedRules == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> declarations = new HashMap<>();
+        int ruleIndex = matchedRules.nextSetBit(0);
+
+        while (ruleIndex >= 0) {
+            declarations.putAll(rules.get(ruleIndex).getDeclarations());
+            ruleIndex = matchedRules.nextSetBit(ruleIndex + 1);
+        }
+
+        return declarations;
+    }
+
+    /**
+     * Gets declarations of all rules whose simple selectors match a tag,
+     * that is, its element name, its id or one of its classes. If a property
+     * is declared by more than one rule, the declaration of the last rule is
+     * kept.
+     *
+     * @param       tag Tag
+     *
+     * @return      Declarations of matching rules (empty and immutable if
+     * there is no such rule)
+     */
+    public Map<String, String> getRulesForTag(Tag tag) {
+        BitSet matchedRules = null;
+
+        matchedRules = match(findRules(elementSelectors, "", tag.getName()), matchedRules);
+        matchedRules = match(findRules(idSelectors, "#", tag.getAttribute("id")), matchedRules);
+
+        String classes = tag.getAttribute("class");
+
+        if (classes != null) {
+            matchedRules = matchClasses(classes, matchedRules);
+        }
+
+        return mergeDeclarations(matchedRules);
+    }
+
+    private List<Integer> findRules(
+        Map<String, List<Integer>> bucket, 
+        String prefix, 
+        String name
+    ) {
+        if ((name == null) || bucket.isEmpty()) {
+            return NO_RULES;
+        }
+
+        return bucket.getOrDefault(prefix.concat(name), NO_RULES);
+    }
+
+    private BitSet matchClasses(String classes, BitSet matchedRules) {
+        BitSet rulesFound = matchedRules;
+        int start = 0;
+
+        while ((start < classes.length()) && !classSelectors.isEmpty()) {
+            int end = start;
+
+            while ((end < classes.length()) && !Character.isWhitespace(classes.charAt(end))) {
+                end++;
+            }
+
+            if (end > start) {
+                String className = classes.substring(start, end);
+
+                rulesFound = match(findRules(classSelectors, ".", className), rulesFound);
             }
+
+            start = end + 1;
         }
 
-        return selectorRules;
+        return rulesFound;
     }
 
     public List<String> toCode() {
         List<String> code = new ArrayList<>();
 
-        for (StyleSheetRule rule : rules) {
-            code.addAll(rule.toCode());
-        }
+        appendCode(code);
 
         return code;
     }
 
+    /**
+     * Appends code lines of all rules to a list.
+     * 
+     * @param       code List to which code lines will be appended
+     */
+    public void appendCode(List<String> code) {
+        for (StyleSheetRule rule : rules) {
+            rule.appendCode(code);
+        }
+    }
+
     @Override
     public String toString() {
         return "StyleSheet [rules=" + rules + "]";
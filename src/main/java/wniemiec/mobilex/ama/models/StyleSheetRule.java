@@ -1,5 +1,6 @@
 package wniemiec.mobilex.ama.models;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -11,11 +12,12 @@ import wniemiec.util.java.StringUtils;
 /**
  * Responsible for representing style rule.
  */
-public class StyleSheetRule {
+public class StyleSheetRule implements Serializable {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final List<String> selectors;
     private final Map<String, String> declarations;
 
@@ -47,12 +49,21 @@ public class StyleSheetRule {
     public List<String> toCode() {
         List<String> codeLines = new ArrayList<>();
 
-        buildHeader(codeLines);
-        buildBody(codeLines);
+        appendCode(codeLines);
 
         return codeLines;
     }
 
+    /**
+     * Appends code lines of this rule to a list.
+     * 
+     * @param       codeLines List to which code lines will be appended
+     */
+    public void appendCode(List<String> codeLines) {
+        buildHeader(codeLines);
+        buildBody(codeLines);
+    }
+
     private void buildHeader(List<String> codeLines) {
         StringBuilder code = new StringBuilder();
         
@@ -64,10 +75,10 @@ public class StyleSheetRule {
     }
 
     private void buildBody(List<String> codeLines) {
-        StringBuilder code;
+        StringBuilder code = new StringBuilder();
         
         for (Map.Entry<String, String> entry : declarations.entrySet()) {
-            code = new StringBuilder();
+            code.setLength(0);
             code.append(entry.getKey());
             code.append(':');
             code.append(' ');
@@ -91,6 +102,10 @@ public class StyleSheetRule {
     //-------------------------------------------------------------------------
     //		Getters
     //-------------------------------------------------------------------------
+    public List<String> getSelectors() {
+        return selectors;
+    }
+
     public Map<String, String> getDeclarations() {
         return declarations;
     }
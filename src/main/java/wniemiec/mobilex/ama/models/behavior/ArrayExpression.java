@@ -1,7 +1,6 @@
 package wniemiec.mobilex.ama.models.behavior;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -12,6 +11,7 @@ public class ArrayExpression implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final List<Expression> elements;
 
 
@@ -27,31 +27,25 @@ public class ArrayExpression implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return "[" + elementsToCode() + "]";
+    public void appendCode(StringBuilder code) {
+        code.append('[');
+        appendElements(code);
+        code.append(']');
     }
 
-    private String elementsToCode() {
-        StringBuilder code = new StringBuilder();
-        List<String> elementsAsCode = getElementsAsCode();
+    private void appendElements(StringBuilder code) {
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                code.append(',');
+            }
 
-        for (int i = 0; i < elementsAsCode.size(); i++) {
-            code.append(elementsAsCode.get(i));
-            code.append(',');
+            elements.get(i).appendCode(code);
         }
-
-        if (code.length() > 0) {
-            code.deleteCharAt(code.length()-1);
-        }
-
-        return code.toString();
     }
 
-    private List<String> getElementsAsCode() {
-        return elements
-            .stream()
-            .map(Expression::toCode)
-            .collect(Collectors.toList());
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new ArrayExpression(Transformations.transformExpressions(elements, transformer));
     }
 
     @Override
@@ -10,6 +10,12 @@ import java.util.List;
  */
 public class ArrayPattern extends Pattern {
     
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -22,8 +28,15 @@ public class ArrayPattern extends Pattern {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return "[" + elementsToCode() + "]";
+    public void appendCode(StringBuilder code) {
+        code.append('[');
+        appendElements(code);
+        code.append(']');
+    }
+
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new ArrayPattern(Transformations.transformExpressions(getElements(), transformer));
     }
 
     @Override
@@ -2,7 +2,6 @@ package wniemiec.mobilex.ama.models.behavior;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -14,30 +13,23 @@ public class ArrowFunctionExpression implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final boolean async;
     private final List<Expression> params;
-    private final String bodyCode;
+    private final Instruction body;
 
 
     //-------------------------------------------------------------------------
-    //		Constructors
+    //		Constructor
     //-------------------------------------------------------------------------
     public ArrowFunctionExpression(
         boolean async, 
         List<Expression> params, 
         Instruction body
-    ) {
-        this(async, params, body.toCode());
-    }
-
-    private ArrowFunctionExpression(
-        boolean async, 
-        List<Expression> params, 
-        String bodyCode
     ) {
         this.async = async;
         this.params = (params == null) ? new ArrayList<>() : params;
-        this.bodyCode = bodyCode;
+        this.body = body;
     }
 
 
@@ -45,44 +37,37 @@ public class ArrowFunctionExpression implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append(async ? "async " : "");
         code.append('(');
-        code.append(paramsToCode());
+        appendParams(code);
         code.append(") => ");
-        code.append(bodyCode);
-
-        return code.toString();
-    }        
-
-    private String paramsToCode() {
-        StringBuilder code = new StringBuilder();
-        List<String> paramsAsCode = getParamsAsCode();
+        body.appendCode(code);
+    }
 
-        for (int i = 0; i < paramsAsCode.size(); i++) {
-            code.append(paramsAsCode.get(i));
-            code.append(',');
-        }
+    private void appendParams(StringBuilder code) {
+        for (int i = 0; i < params.size(); i++) {
+            if (i > 0) {
+                code.append(',');
+            }
 
-        if (code.length() > 0) {
-            code.deleteCharAt(code.length()-1);
+            params.get(i).appendCode(code);
         }
-
-        return code.toString();
     }
 
-    private List<String> getParamsAsCode() {
-        return params
-            .stream().map(Expression::toCode)
-            .collect(Collectors.toList());
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new ArrowFunctionExpression(
+            async, 
+            Transformations.transformExpressions(params, transformer), 
+            Transformations.transformInstruction(body, transformer)
+        );
     }
 
     @Override
     public String toString() {
         return  "[ArrowFunctionExpression] {" 
-            + bodyCode 
+            + body.toCode() 
             + "(" + params + ")" 
             + "{async: " + async 
         + "} }";
@@ -9,6 +9,7 @@ public class AssignmentExpression implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String operator;
     private final Expression left;
     private final Expression right;
@@ -28,16 +29,30 @@ public class AssignmentExpression implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
-        code.append(left == null ? "null" : left.toCode());
+    public void appendCode(StringBuilder code) {
+        appendOperand(code, left);
         code.append(operator);
-        code.append(right == null ? "null" : right.toCode());
+        appendOperand(code, right);
+    }
+
+    private void appendOperand(StringBuilder code, Expression operand) {
+        if (operand == null) {
+            code.append("null");
+        }
+        else {
+            operand.appendCode(code);
+        }
+    }
 
-        return code.toString();
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new AssignmentExpression(
+            operator, 
+            Transformations.transformExpression(left, transformer), 
+            Transformations.transformExpression(right, transformer)
+        );
     }
-    
+
     @Override
     public String toString() {
         return  "[AssignmentExpression] {" 
@@ -48,4 +63,20 @@ public class AssignmentExpression implements Expression {
                 + right 
             + "] }";
     }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public String getOperator() {
+        return operator;
+    }
+
+    public Expression getLeft() {
+        return left;
+    }
+
+    public Expression getRight() {
+        return right;
+    }
 }
@@ -10,6 +10,7 @@ public class AssignmentProperty implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Identifier key;
     private final Expression value;
     private final boolean shorthand;
@@ -29,16 +30,17 @@ public class AssignmentProperty implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
-        code.append(key.toCode());
+    public void appendCode(StringBuilder code) {
+        key.appendCode(code);
 
         if (!shorthand) {
             code.append(": ");
-            code.append(value.toCode());
+            value.appendCode(code);
         }
+    }
 
-        return code.toString();
+    @Override
+    public AssignmentProperty transformChildren(BehaviorTransformer transformer) {
+        return new AssignmentProperty(key, Transformations.transformExpression(value, transformer), shorthand);
     }
 }
@@ -1,5 +1,6 @@
 package wniemiec.mobilex.ama.models.behavior;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import wniemiec.io.java.Consolex;
@@ -8,11 +9,12 @@ import wniemiec.io.java.Consolex;
 /**
  * Responsible for representing behavior code.
  */
-public class Behavior {
+public class Behavior implements Serializable {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final List<Instruction> instructions;
 
 
@@ -40,21 +42,64 @@ public class Behavior {
     public List<String> toCode() {
         List<String> code = new ArrayList<>();
 
+        appendCode(code);
+
+        return code;
+    }
+
+    /**
+     * Appends code lines of all instructions to a list. Each instruction 
+     * writes its code into the same buffer, which is then split into lines.
+     * 
+     * @param       codeLines List to which code lines will be appended
+     */
+    public void appendCode(List<String> codeLines) {
+        StringBuilder code = new StringBuilder();
+
         for (Instruction instruction : instructions) {
-            code.addAll(extractCodeFromInstruction(instruction));
+            code.setLength(0);
+            instruction.appendCode(code);
+            splitLines(code, codeLines);
         }
+    }
 
-        return code;
+    /**
+     * Transforms all instructions in a single traversal. This behavior is not
+     * modified.
+     * 
+     * @param       transformer Behavior transformer
+     * 
+     * @return      Behavior with transformed instructions
+     */
+    public Behavior transform(BehaviorTransformer transformer) {
+        return new Behavior(Transformations.transformInstructions(instructions, transformer));
     }
 
-    private List<String> extractCodeFromInstruction(Instruction instruction) {
-        List<String> code = new ArrayList<>();
+    /**
+     * Splits code into lines like String.split("\n") does, that is, 
+     * trailing empty lines are discarded.
+     */
+    private void splitLines(StringBuilder code, List<String> codeLines) {
+        int end = code.length();
 
-        for (String rawCode : instruction.toCode().split("\n")) {
-            code.add(rawCode);
+        while ((end > 0) && (code.charAt(end-1) == '\n')) {
+            end--;
         }
 
-        return code;
+        if ((end == 0) && (code.length() > 0)) {
+            return;
+        }
+
+        int lineStart = 0;
+
+        for (int i = 0; i < end; i++) {
+            if (code.charAt(i) == '\n') {
+                codeLines.add(code.substring(lineStart, i));
+                lineStart = i + 1;
+            }
+        }
+
+        codeLines.add(code.substring(lineStart, end));
     }
 
 
@@ -0,0 +1,74 @@
+package wniemiec.mobilex.ama.models.behavior;
+
+
+/**
+ * Responsible for rewriting behavior code before code is generated for it.
+ * Behavior is transformed bottom-up in a single traversal: the children of an
+ * instruction or expression are transformed before it is provided to the
+ * transformer. Models are never modified, that is, an instruction or
+ * expression with transformed children is a new one.
+ */
+public interface BehaviorTransformer {
+
+    /**
+     * Notifies that the children of an instruction are about to be
+     * transformed.
+     *
+     * @param       instruction Instruction, as it is before being transformed
+     */
+    default void enterInstruction(Instruction instruction) {
+    }
+
+    /**
+     * Transforms an instruction whose children were already transformed.
+     *
+     * @param       instruction Instruction
+     *
+     * @return      Transformed instruction or the instruction itself
+     */
+    default Instruction transformInstruction(Instruction instruction) {
+        return instruction;
+    }
+
+    /**
+     * Transforms an expression whose children were already transformed.
+     *
+     * @param       expression Expression
+     *
+     * @return      Transformed expression or the expression itself
+     */
+    default Expression transformExpression(Expression expression) {
+        return expression;
+    }
+
+    /**
+     * Combines this transformer with another one, so that both are applied
+     * in the same traversal. Each instruction and expression is provided to
+     * this transformer and then, to the other one.
+     *
+     * @param       next Transformer to be applied after this one
+     *
+     * @return      Combined transformer
+     */
+    default BehaviorTransformer andThen(BehaviorTransformer next) {
+        BehaviorTransformer first = this;
+
+        return new BehaviorTransformer() {
+            @Override
+            public void enterInstruction(Instruction instruction) {
+                first.enterInstruction(instruction);
+                next.enterInstruction(instruction);
+            }
+
+            @Override
+            public Instruction transformInstruction(Instruction instruction) {
+                return next.transformInstruction(first.transformInstruction(instruction));
+            }
+
+            @Override
+            public Expression transformExpression(Expression expression) {
+                return next.transformExpression(first.transformExpression(expression));
+            }
+        };
+    }
+}
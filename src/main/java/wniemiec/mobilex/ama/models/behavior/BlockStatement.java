@@ -12,6 +12,7 @@ public class BlockStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final List<Instruction> body;
 
 
@@ -31,20 +32,20 @@ public class BlockStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return "{" + bodyToCode() + "}";
-    }
-
-    private String bodyToCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
+        code.append('{');
         code.append('\n');
 
         for (Instruction line : body) {
-            code.append(line.toCode());
+            line.appendCode(code);
             code.append('\n');
         }
 
-        return code.toString();
+        code.append('}');
+    }
+
+    @Override
+    public BlockStatement transformChildren(BehaviorTransformer transformer) {
+        return new BlockStatement(Transformations.transformInstructions(body, transformer));
     }
 }
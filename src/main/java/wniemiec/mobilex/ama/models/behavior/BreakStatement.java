@@ -9,6 +9,7 @@ public class BreakStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression label;
 
 
@@ -24,15 +25,17 @@ public class BreakStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("break");
 
         if (label != null) {
-            code.append(" " + label.toCode());
+            code.append(' ');
+            label.appendCode(code);
         }
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new BreakStatement(Transformations.transformExpression(label, transformer));
     }
 }
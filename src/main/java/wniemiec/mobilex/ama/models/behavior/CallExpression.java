@@ -2,7 +2,6 @@ package wniemiec.mobilex.ama.models.behavior;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -13,6 +12,7 @@ public class CallExpression implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression callee;
     private final List<Expression> arguments;
 
@@ -34,31 +34,26 @@ public class CallExpression implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return callee.toCode() + "(" + argumentsToCode() + ")";
+    public void appendCode(StringBuilder code) {
+        callee.appendCode(code);
+        code.append('(');
+        appendArguments(code);
+        code.append(')');
     }
 
-    private String argumentsToCode() {
-        StringBuilder code = new StringBuilder();
-        List<String> argumentsAsCode = getArgumentsAsCode();
+    private void appendArguments(StringBuilder code) {
+        for (int i = 0; i < arguments.size(); i++) {
+            if (i > 0) {
+                code.append(',');
+            }
 
-        for (int i = 0; i < argumentsAsCode.size(); i++) {
-            code.append(argumentsAsCode.get(i));
-            code.append(',');
+            arguments.get(i).appendCode(code);
         }
-
-        if (code.length() > 0) {
-            code.deleteCharAt(code.length()-1);
-        }
-
-        return code.toString();
     }
 
-    private List<String> getArgumentsAsCode() {
-        return arguments
-            .stream()
-            .map(Expression::toCode)
-            .collect(Collectors.toList());
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new CallExpression(Transformations.transformExpression(callee, transformer), Transformations.transformExpressions(arguments, transformer));
     }
 
     @Override
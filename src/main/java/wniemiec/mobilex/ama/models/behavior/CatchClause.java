@@ -12,6 +12,7 @@ public class CatchClause implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression param;
     private final BlockStatement body;
 
@@ -29,14 +30,19 @@ public class CatchClause implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("catch (");
-        code.append(param.toCode());
+        param.appendCode(code);
         code.append(") ");
-        code.append(body.toCode());
+        body.appendCode(code);
+    }
+
+    @Override
+    public CatchClause transformChildren(BehaviorTransformer transformer) {
+        BlockStatement transformedBody = (body == null) 
+            ? null 
+            : body.transformChildren(transformer);
 
-        return code.toString();
+        return new CatchClause(Transformations.transformExpression(param, transformer), transformedBody);
     }
 }
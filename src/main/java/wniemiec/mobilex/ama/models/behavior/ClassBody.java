@@ -12,6 +12,7 @@ public class ClassBody implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final List<Instruction> declarations;
 
 
@@ -27,21 +28,21 @@ public class ClassBody implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return "{" + declarationsToCode() + "}";
-    }
-
-    private String declarationsToCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
+        code.append('{');
         code.append('\n');
 
         for (Instruction declaration : declarations) {
-            code.append(declaration.toCode());
+            declaration.appendCode(code);
             code.append('\n');
         }
 
-        return code.toString();
+        code.append('}');
+    }
+
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new ClassBody(Transformations.transformInstructions(declarations, transformer));
     }
 
     @Override
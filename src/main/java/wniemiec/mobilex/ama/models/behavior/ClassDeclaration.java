@@ -9,6 +9,7 @@ public class ClassDeclaration implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression id;
     private final Expression superClass;
     private final Instruction body;
@@ -28,22 +29,27 @@ public class ClassDeclaration implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("class ");
-        code.append(id.toCode());
+        id.appendCode(code);
         code.append(" ");
         
         if (superClass != null) {
             code.append("extends ");
-            code.append(superClass.toCode());
+            superClass.appendCode(code);
             code.append(" ");
         }
 
-        code.append(body.toCode());
+        body.appendCode(code);
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new ClassDeclaration(
+            Transformations.transformExpression(id, transformer), 
+            Transformations.transformExpression(superClass, transformer), 
+            Transformations.transformInstruction(body, transformer)
+        );
     }
 
     @Override
@@ -8,6 +8,7 @@ public class ConditionalExpression implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression test;
     private final Expression consequent;
     private final Expression alternate;
@@ -31,15 +32,20 @@ public class ConditionalExpression implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
-        code.append(test.toCode());
+    public void appendCode(StringBuilder code) {
+        test.appendCode(code);
         code.append(" ? ");
-        code.append(consequent.toCode());
+        consequent.appendCode(code);
         code.append(" : ");
-        code.append(alternate.toCode());
+        alternate.appendCode(code);
+    }
 
-        return code.toString();
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new ConditionalExpression(
+            Transformations.transformExpression(test, transformer), 
+            Transformations.transformExpression(consequent, transformer), 
+            Transformations.transformExpression(alternate, transformer)
+        );
     }
 }
\ No newline at end of file
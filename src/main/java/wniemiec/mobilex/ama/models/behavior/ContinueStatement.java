@@ -9,6 +9,7 @@ public class ContinueStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression label;
 
 
@@ -24,15 +25,17 @@ public class ContinueStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("continue");
 
         if (label != null) {
-            code.append(" " + label.toCode());
+            code.append(' ');
+            label.appendCode(code);
         }
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new ContinueStatement(Transformations.transformExpression(label, transformer));
     }
 }
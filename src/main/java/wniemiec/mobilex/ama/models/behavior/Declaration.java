@@ -2,7 +2,6 @@ package wniemiec.mobilex.ama.models.behavior;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -13,6 +12,7 @@ public class Declaration implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String kind;
     private final List<Declarator> declarations;
 
@@ -34,31 +34,31 @@ public class Declaration implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------    
     @Override
-    public String toCode() {
-        return kind + " " + declarationsToCode();
+    public void appendCode(StringBuilder code) {
+        code.append(kind);
+        code.append(' ');
+        appendDeclarations(code);
     }
     
-    private String declarationsToCode() {
-        StringBuilder code = new StringBuilder();
-        List<String> declarationsAsCode = getDeclarationsAsCode();
+    private void appendDeclarations(StringBuilder code) {
+        for (int i = 0; i < declarations.size(); i++) {
+            if (i > 0) {
+                code.append(',');
+            }
 
-        for (int i = 0; i < declarationsAsCode.size(); i++) {
-            code.append(declarationsAsCode.get(i));
-            code.append(',');
+            declarations.get(i).appendCode(code);
         }
+    }
 
-        if (code.length() > 0) {
-            code.deleteCharAt(code.length()-1);
-        }
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        List<Declarator> transformedDeclarations = new ArrayList<>(declarations.size());
 
-        return code.toString();
-    }
+        for (Declarator declarator : declarations) {
+            transformedDeclarations.add(declarator.transformChildren(transformer));
+        }
 
-    private List<String> getDeclarationsAsCode() {
-        return declarations
-            .stream()
-            .map(Declarator::toCode)
-            .collect(Collectors.toList());
+        return new Declaration(kind, transformedDeclarations);
     }
 
     @Override
@@ -9,6 +9,7 @@ public class Declarator implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String type;
     private final String idKind;
     private final String idName;
@@ -29,12 +30,18 @@ public class Declarator implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        if (init == null) {
-            return idName;
+    public void appendCode(StringBuilder code) {
+        code.append(idName);
+
+        if (init != null) {
+            code.append('=');
+            init.appendCode(code);
         }
+    }
 
-        return idName + "=" + init.toCode();
+    @Override
+    public Declarator transformChildren(BehaviorTransformer transformer) {
+        return new Declarator(type, idKind, idName, Transformations.transformExpression(init, transformer));
     }
 
     @Override
@@ -11,6 +11,7 @@ public class DoWhileStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression test;
     private final Instruction body;
 
@@ -28,15 +29,16 @@ public class DoWhileStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("do ");
-        code.append(body.toCode());
+        body.appendCode(code);
         code.append("while (");
-        code.append(test.toCode());
+        test.appendCode(code);
         code.append(")");
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new DoWhileStatement(Transformations.transformExpression(test, transformer), Transformations.transformInstruction(body, transformer));
     }
 }
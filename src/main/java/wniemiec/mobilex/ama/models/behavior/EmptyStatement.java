@@ -7,11 +7,17 @@ package wniemiec.mobilex.ama.models.behavior;
  */
 public class EmptyStatement implements Instruction {
 
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+
+
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return ";";
+    public void appendCode(StringBuilder code) {
+        code.append(';');
     }
 }
@@ -1,15 +1,57 @@
 package wniemiec.mobilex.ama.models.behavior;
 
+import java.io.Serializable;
+
 
 /**
  * Responsible for representing an expression from behavior code.
  */
-public interface Expression {
+public interface Expression extends Serializable {
 
     /**
      * Generates code for expression.
      * 
      * @return      Code
      */
-    String toCode();
+    default String toCode() {
+        StringBuilder code = new StringBuilder();
+
+        appendCode(code);
+
+        return code.toString();
+    }
+
+    /**
+     * Appends code for expression to a buffer. Nested instructions and 
+     * expressions append their code to the same buffer, so that code is not
+     * copied once per nesting level.
+     * 
+     * @param       code Buffer
+     */
+    void appendCode(StringBuilder code);
+
+    /**
+     * Transforms expression and its children. Children are transformed first
+     * and then, expression with transformed children is provided to the
+     * transformer.
+     * 
+     * @param       transformer Behavior transformer
+     * 
+     * @return      Transformed expression
+     */
+    default Expression transform(BehaviorTransformer transformer) {
+        return transformer.transformExpression(transformChildren(transformer));
+    }
+
+    /**
+     * Rebuilds expression with transformed children. Expressions without
+     * children return themselves.
+     * 
+     * @param       transformer Behavior transformer
+     * 
+     * @return      Expression with transformed children
+     */
+    default Expression transformChildren(BehaviorTransformer transformer) {
+        return this;
+    }
 }
\ No newline at end of file
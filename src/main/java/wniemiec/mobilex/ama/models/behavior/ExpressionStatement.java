@@ -9,6 +9,7 @@ public class ExpressionStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression expression;
     
 
@@ -25,12 +26,26 @@ public class ExpressionStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return expression.toCode() + ";";
+    public void appendCode(StringBuilder code) {
+        expression.appendCode(code);
+        code.append(';');
+    }
+
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new ExpressionStatement(Transformations.transformExpression(expression, transformer));
     }
 
     @Override
     public String toString() {
         return "ExpressionStatement [expression=" + expression + "]";
     }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public Expression getExpression() {
+        return expression;
+    }
 }
\ No newline at end of file
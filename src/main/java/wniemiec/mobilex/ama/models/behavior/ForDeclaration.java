@@ -9,6 +9,7 @@ public class ForDeclaration implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Instruction init; 
     private final Expression test;
     private final Expression update;
@@ -35,18 +36,24 @@ public class ForDeclaration implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("for (");
-        code.append(init.toCode());
+        init.appendCode(code);
         code.append(';');
-        code.append(test.toCode());
+        test.appendCode(code);
         code.append(';');
-        code.append(update.toCode());
+        update.appendCode(code);
         code.append(") ");
-        code.append(body.toCode());
+        body.appendCode(code);
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new ForDeclaration(
+            Transformations.transformInstruction(init, transformer), 
+            Transformations.transformExpression(test, transformer), 
+            Transformations.transformExpression(update, transformer), 
+            Transformations.transformInstruction(body, transformer)
+        );
     }
 }
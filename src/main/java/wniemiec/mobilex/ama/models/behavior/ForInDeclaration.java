@@ -9,6 +9,7 @@ public class ForInDeclaration implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Instruction left;
     private final Expression right; 
     private final Instruction body;
@@ -32,17 +33,21 @@ public class ForInDeclaration implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("for (");
-        code.append(left.toCode());
+        left.appendCode(code);
         code.append(" in ");
-        code.append(right.toCode());
+        right.appendCode(code);
         code.append(") ");
-        code.append(body.toCode());
-
-        return code.toString();
+        body.appendCode(code);
     }
 
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new ForInDeclaration(
+            Transformations.transformInstruction(left, transformer), 
+            Transformations.transformExpression(right, transformer), 
+            Transformations.transformInstruction(body, transformer)
+        );
+    }
 }
@@ -9,6 +9,7 @@ public class ForOfDeclaration implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Instruction left;
     private final Instruction body;
     private final Expression right; 
@@ -32,17 +33,21 @@ public class ForOfDeclaration implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("for (");
-        code.append(left.toCode());
+        left.appendCode(code);
         code.append(" of ");
-        code.append(right.toCode());
+        right.appendCode(code);
         code.append(") ");
-        code.append(body.toCode());
-
-        return code.toString();
+        body.appendCode(code);
     }
 
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new ForOfDeclaration(
+            Transformations.transformInstruction(left, transformer), 
+            Transformations.transformExpression(right, transformer), 
+            Transformations.transformInstruction(body, transformer)
+        );
+    }
 }
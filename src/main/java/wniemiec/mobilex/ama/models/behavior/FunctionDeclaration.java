@@ -1,7 +1,6 @@
 package wniemiec.mobilex.ama.models.behavior;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -12,6 +11,7 @@ public class FunctionDeclaration implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String name;
     private final boolean async; 
     private final List<Expression> params;
@@ -38,40 +38,33 @@ public class FunctionDeclaration implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append(async ? "async " : "");
         code.append("function ");
         code.append(name);
         code.append('(');
-        code.append(paramsToCode());
+        appendParams(code);
         code.append(") " );
-        code.append(body.toCode());
-
-        return code.toString();
+        body.appendCode(code);
     }
 
-    private String paramsToCode() {
-        StringBuilder code = new StringBuilder();
-        List<String> paramsAsCode = getParamsAsCode();
-
-        for (int i = 0; i < paramsAsCode.size(); i++) {
-            code.append(paramsAsCode.get(i));
-            code.append(',');
-        }
+    private void appendParams(StringBuilder code) {
+        for (int i = 0; i < params.size(); i++) {
+            if (i > 0) {
+                code.append(',');
+            }
 
-        if (code.length() > 0) {
-            code.deleteCharAt(code.length()-1);
+            params.get(i).appendCode(code);
         }
-
-        return code.toString();
     }
 
-    private List<String> getParamsAsCode() {
-        return params
-            .stream()
-            .map(Expression::toCode)
-            .collect(Collectors.toList());
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new FunctionDeclaration(
+            name, 
+            async, 
+            Transformations.transformExpressions(params, transformer), 
+            Transformations.transformInstruction(body, transformer)
+        );
     }
 }
@@ -9,6 +9,7 @@ public class Identifier implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String name;
 
 
@@ -24,10 +25,10 @@ public class Identifier implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return name;
-    }    
-    
+    public void appendCode(StringBuilder code) {
+        code.append(name);
+    }
+
     @Override
     public String toString() { 
         return  "[IdentifierExpression] {" + "[Identifier: " + name + "] }";
@@ -9,6 +9,7 @@ public class IfStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression test;
     private final Instruction body;
 
@@ -26,20 +27,21 @@ public class IfStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("if (");
-        code.append(test.toCode());
+        test.appendCode(code);
         code.append(") ");
 
         if (body == null) {
             code.append("{ }");
         }
         else {
-            code.append(body.toCode());
+            body.appendCode(code);
         }
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new IfStatement(Transformations.transformExpression(test, transformer), Transformations.transformInstruction(body, transformer));
     }
 }
@@ -1,15 +1,59 @@
 package wniemiec.mobilex.ama.models.behavior;
 
+import java.io.Serializable;
+
 
 /**
  * Responsible for representing an instruction from behavior code.
  */
-public interface Instruction {
+public interface Instruction extends Serializable {
 
     /**
      * Generates code for instruction.
      * 
      * @return      Code
      */
-    String toCode();
+    default String toCode() {
+        StringBuilder code = new StringBuilder();
+
+        appendCode(code);
+
+        return code.toString();
+    }
+
+    /**
+     * Appends code for instruction to a buffer. Nested instructions and 
+     * expressions append their code to the same buffer, so that code is not
+     * copied once per nesting level.
+     * 
+     * @param       code Buffer
+     */
+    void appendCode(StringBuilder code);
+
+    /**
+     * Transforms instruction and its children. Children are transformed first
+     * and then, instruction with transformed children is provided to the
+     * transformer.
+     * 
+     * @param       transformer Behavior transformer
+     * 
+     * @return      Transformed instruction
+     */
+    default Instruction transform(BehaviorTransformer transformer) {
+        transformer.enterInstruction(this);
+
+        return transformer.transformInstruction(transformChildren(transformer));
+    }
+
+    /**
+     * Rebuilds instruction with transformed children. Instructions without
+     * children return themselves.
+     * 
+     * @param       transformer Behavior transformer
+     * 
+     * @return      Instruction with transformed children
+     */
+    default Instruction transformChildren(BehaviorTransformer transformer) {
+        return this;
+    }
 }
\ No newline at end of file
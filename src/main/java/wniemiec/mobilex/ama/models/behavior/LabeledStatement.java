@@ -12,6 +12,7 @@ public class LabeledStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Identifier label;
     private final Instruction body;
 
@@ -29,13 +30,14 @@ public class LabeledStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
-        code.append(label.toCode());
+    public void appendCode(StringBuilder code) {
+        label.appendCode(code);
         code.append(": ");
-        code.append(body.toCode());
+        body.appendCode(code);
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new LabeledStatement(label, Transformations.transformInstruction(body, transformer));
     }
 }
@@ -9,6 +9,7 @@ public class Literal implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String value;
     private final boolean number;
 
@@ -38,16 +39,31 @@ public class Literal implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
+    public void appendCode(StringBuilder code) {
         if (number) {
-            return value;
+            code.append(value);
+        }
+        else {
+            code.append('"');
+            code.append(value);
+            code.append('"');
         }
-        
-        return "\"" + value + "\"";
     }
-    
+
     @Override
     public String toString() {
         return  "[LiteralExpression] {" +  "[Literal: " + value + "] }";
     }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isNumber() {
+        return number;
+    }
 }
\ No newline at end of file
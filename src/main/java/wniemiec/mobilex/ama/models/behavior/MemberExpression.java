@@ -9,6 +9,7 @@ public class MemberExpression implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression object;
     private final String propertyType;
     private final String propertyName;
@@ -41,17 +42,13 @@ public class MemberExpression implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         putObjectIdentifier(code);
         putIndex(code);
-        
-        return code.toString();
     }
 
     private void putObjectIdentifier(StringBuilder code) {
-        code.append(object.toCode());
+        object.appendCode(code);
     }
 
     private void putIndex(StringBuilder code) {
@@ -84,6 +81,18 @@ public class MemberExpression implements Expression {
     private boolean hasPropertyName() {
         return !propertyName.equals("");
     }
+
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new MemberExpression(
+            Transformations.transformExpression(object, transformer), 
+            propertyType, 
+            propertyName, 
+            value, 
+            computed, 
+            optional
+        );
+    }
     
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -114,4 +123,16 @@ public class MemberExpression implements Expression {
     public boolean isOptional() {
         return optional;
     }
+
+    public Expression getObject() {
+        return object;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    public boolean isComputed() {
+        return computed;
+    }
 }
@@ -10,6 +10,7 @@ public class MethodDefinition implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final boolean computed;
     private final boolean isStatic;
     private final String kind;
@@ -39,17 +40,24 @@ public class MethodDefinition implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         if (isStatic) {
             code.append("static ");
         }
 
-        code.append(key.toCode());
-        code.append(value.toCode());
+        key.appendCode(code);
+        value.appendCode(code);
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new MethodDefinition(
+            computed, 
+            isStatic, 
+            kind, 
+            Transformations.transformExpression(key, transformer), 
+            Transformations.transformExpression(value, transformer)
+        );
     }
 
     @Override
@@ -1,7 +1,6 @@
 package wniemiec.mobilex.ama.models.behavior;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -13,6 +12,7 @@ public class NewExpression implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression callee;
     private final List<Expression> arguments;
 
@@ -30,42 +30,31 @@ public class NewExpression implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("new ");
-        code.append(callee.toCode());
+        callee.appendCode(code);
         code.append('(');
 
         if (arguments != null && !arguments.isEmpty()) {
-            code.append(argumentsToCode());
+            appendArguments(code);
         }
         
         code.append(") " );
+    }
 
-        return code.toString();
-    }        
-
-    private String argumentsToCode() {
-        StringBuilder code = new StringBuilder();
-        List<String> paramsAsCode = getArgumentsAsCode();
+    private void appendArguments(StringBuilder code) {
+        for (int i = 0; i < arguments.size(); i++) {
+            if (i > 0) {
+                code.append(',');
+            }
 
-        for (int i = 0; i < paramsAsCode.size(); i++) {
-            code.append(paramsAsCode.get(i));
-            code.append(',');
+            arguments.get(i).appendCode(code);
         }
-
-        if (code.length() > 0) {
-            code.deleteCharAt(code.length()-1);
-        }
-
-        return code.toString();
     }
 
-    private List<String> getArgumentsAsCode() {
-        return arguments
-            .stream().map(Expression::toCode)
-            .collect(Collectors.toList());
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new NewExpression(Transformations.transformExpression(callee, transformer), Transformations.transformExpressions(arguments, transformer));
     }
 
     @Override
@@ -1,5 +1,6 @@
 package wniemiec.mobilex.ama.models.behavior;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 
@@ -11,6 +12,7 @@ public class ObjectExpression implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Map<String, Expression> properties;
 
 
@@ -26,25 +28,37 @@ public class ObjectExpression implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
+    public void appendCode(StringBuilder code) {
+        boolean first = true;
 
         code.append("{");
         
         for (Map.Entry<String, Expression> prop : properties.entrySet()) {
+            if (!first) {
+                code.append(',');
+            }
+
             code.append(prop.getKey());
             code.append(": ");
-            code.append(prop.getValue().toCode());
-            code.append(',');
-        }
-
-        if (code.length() > 1) {
-            code.deleteCharAt(code.length()-1);
+            prop.getValue().appendCode(code);
+            first = false;
         }
 
         code.append("}");
+    }
+
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        Map<String, Expression> transformedProperties = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Expression> prop : properties.entrySet()) {
+            transformedProperties.put(
+                prop.getKey(), 
+                Transformations.transformExpression(prop.getValue(), transformer)
+            );
+        }
 
-        return code.toString();
+        return new ObjectExpression(transformedProperties);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package wniemiec.mobilex.ama.models.behavior;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -9,6 +10,12 @@ import java.util.List;
  */
 public class ObjectPattern extends Pattern {
     
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -21,8 +28,23 @@ public class ObjectPattern extends Pattern {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return "{" + elementsToCode() + "}";
+    public void appendCode(StringBuilder code) {
+        code.append('{');
+        appendElements(code);
+        code.append('}');
+    }
+
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        List<AssignmentProperty> transformedProperties = new ArrayList<>();
+
+        for (Expression property : getElements()) {
+            AssignmentProperty assignmentProperty = (AssignmentProperty) property;
+
+            transformedProperties.add(assignmentProperty.transformChildren(transformer));
+        }
+
+        return new ObjectPattern(transformedProperties);
     }
 
     @Override
@@ -1,7 +1,6 @@
 package wniemiec.mobilex.ama.models.behavior;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -12,6 +11,7 @@ public abstract class Pattern implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final List<? extends Expression> elements;
 
 
@@ -26,27 +26,18 @@ public abstract class Pattern implements Expression {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    protected String elementsToCode() {
-        StringBuilder code = new StringBuilder();
-        List<String> elementsAsCode = getElementsAsCode();
+    protected void appendElements(StringBuilder code) {
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                code.append(',');
+            }
 
-        for (int i = 0; i < elementsAsCode.size(); i++) {
-            code.append(elementsAsCode.get(i));
-            code.append(',');
+            elements.get(i).appendCode(code);
         }
-
-        if (code.length() > 0) {
-            code.deleteCharAt(code.length()-1);
-        }
-
-        return code.toString();
     }
 
-    protected List<String> getElementsAsCode() {
-        return elements
-            .stream()
-            .map(Expression::toCode)
-            .collect(Collectors.toList());
+    protected List<? extends Expression> getElements() {
+        return elements;
     }
 
     protected String elementsToString() {
@@ -9,6 +9,7 @@ public class ReturnStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression argument;
     
 
@@ -24,12 +25,18 @@ public class ReturnStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        if (argument == null) {
-            return "return";
+    public void appendCode(StringBuilder code) {
+        code.append("return");
+
+        if (argument != null) {
+            code.append(' ');
+            argument.appendCode(code);
         }
+    }
 
-        return "return "  + argument.toCode();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new ReturnStatement(Transformations.transformExpression(argument, transformer));
     }
 
     @Override
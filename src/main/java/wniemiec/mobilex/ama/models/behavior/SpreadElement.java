@@ -12,6 +12,7 @@ public class SpreadElement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression argument;
 
 
@@ -27,12 +28,13 @@ public class SpreadElement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("...");
-        code.append(argument.toCode());
+        argument.appendCode(code);
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new SpreadElement(Transformations.transformExpression(argument, transformer));
     }
 }
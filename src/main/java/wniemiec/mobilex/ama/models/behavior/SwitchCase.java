@@ -15,6 +15,7 @@ public class SwitchCase implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression test;
     private final List<Instruction> consequent;
 
@@ -32,21 +33,26 @@ public class SwitchCase implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         if (test == null) {
             code.append("default: ");
         }
         else {
             code.append("case ");
-            code.append(test.toCode());
+            test.appendCode(code);
             code.append(": ");
         }
         
         code.append("\n");
-        consequent.forEach(statement -> code.append(statement.toCode() + "\n"));
 
-        return code.toString();
+        for (Instruction statement : consequent) {
+            statement.appendCode(code);
+            code.append("\n");
+        }
+    }
+
+    @Override
+    public SwitchCase transformChildren(BehaviorTransformer transformer) {
+        return new SwitchCase(Transformations.transformExpression(test, transformer), Transformations.transformInstructions(consequent, transformer));
     }
 }
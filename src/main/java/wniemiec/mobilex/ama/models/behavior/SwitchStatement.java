@@ -1,5 +1,6 @@
 package wniemiec.mobilex.ama.models.behavior;
 
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -14,6 +15,7 @@ public class SwitchStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression discriminant;
     private final List<SwitchCase> cases;
 
@@ -31,15 +33,26 @@ public class SwitchStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("switch (");
-        code.append(discriminant.toCode());
+        discriminant.appendCode(code);
         code.append(") {");
-        cases.forEach(switchCase -> code.append(switchCase.toCode()));
+
+        for (SwitchCase switchCase : cases) {
+            switchCase.appendCode(code);
+        }
+
         code.append("}");
+    }
+
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        List<SwitchCase> transformedCases = new ArrayList<>(cases.size());
+
+        for (SwitchCase switchCase : cases) {
+            transformedCases.add(switchCase.transformChildren(transformer));
+        }
 
-        return code.toString();
+        return new SwitchStatement(Transformations.transformExpression(discriminant, transformer), transformedCases);
     }
 }
@@ -9,6 +9,7 @@ public class TemplateElement implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String value;
     private final boolean tail;
 
@@ -37,12 +38,20 @@ public class TemplateElement implements Expression {
     }
 
     @Override
-    public String toCode() {
-        return value;
+    public void appendCode(StringBuilder code) {
+        code.append(value);
     }
 
     @Override
     public String toString() {
         return "[TemplateElement] {" + "{value: " + value + "; tail: " + tail + "} }";
     }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public String getValue() {
+        return value;
+    }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package wniemiec.mobilex.ama.models.behavior;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -13,6 +12,7 @@ public class TemplateLiteral implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final List<Expression> expressions;
     private final List<Expression> quasis;
 
@@ -30,44 +30,31 @@ public class TemplateLiteral implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        return "`" + expressionsToCode() + "`";
+    public void appendCode(StringBuilder code) {
+        code.append('`');
+        appendExpressions(code);
+        code.append('`');
     }
 
-    private String expressionsToCode() {
-        StringBuilder code = new StringBuilder();
-        List<String> expressionsAsCode = getExpressionCode();
-        List<String> quasisAsCode = getQuasisCode();
-
-        for (int i = 0; i < expressionsAsCode.size(); i++) {
-            if (!quasisAsCode.isEmpty()) {
-                code.append(quasisAsCode.get(i));
+    private void appendExpressions(StringBuilder code) {
+        for (int i = 0; i < expressions.size(); i++) {
+            if (!quasis.isEmpty()) {
+                quasis.get(i).appendCode(code);
             }
 
             code.append("${");
-            code.append(expressionsAsCode.get(i));
+            expressions.get(i).appendCode(code);
             code.append('}');
         }
 
-        if (expressionsAsCode.isEmpty() && !quasisAsCode.isEmpty()) {
-            code.append(quasisAsCode.get(quasisAsCode.size()-1));
+        if (expressions.isEmpty() && !quasis.isEmpty()) {
+            quasis.get(quasis.size()-1).appendCode(code);
         }
-
-        return code.toString();
-    }
-
-    private List<String> getExpressionCode() {
-        return expressions
-            .stream()
-            .map(Expression::toCode)
-            .collect(Collectors.toList());
     }
 
-    private List<String> getQuasisCode() {
-        return quasis
-            .stream()
-            .map(Expression::toCode)
-            .collect(Collectors.toList());
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new TemplateLiteral(Transformations.transformExpressions(expressions, transformer), Transformations.transformExpressions(quasis, transformer));
     }
 
     @Override
@@ -76,4 +63,16 @@ public class TemplateLiteral implements Expression {
             + "[TemplateLiteral:" + expressions + " | " + quasis + "] " 
         + "}";
     }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public List<Expression> getExpressions() {
+        return expressions;
+    }
+
+    public List<Expression> getQuasis() {
+        return quasis;
+    }
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ public class ThrowStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression argument;
 
 
@@ -26,12 +27,13 @@ public class ThrowStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("throw ");
-        code.append(argument.toCode());
+        argument.appendCode(code);
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new ThrowStatement(Transformations.transformExpression(argument, transformer));
     }
 }
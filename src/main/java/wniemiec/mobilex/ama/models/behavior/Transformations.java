@@ -0,0 +1,70 @@
+package wniemiec.mobilex.ama.models.behavior;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Responsible for transforming children of instructions and expressions,
+ * which may be null.
+ */
+class Transformations {
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    private Transformations() {
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    public static Instruction transformInstruction(
+        Instruction instruction, 
+        BehaviorTransformer transformer
+    ) {
+        return (instruction == null) ? null : instruction.transform(transformer);
+    }
+
+    public static Expression transformExpression(
+        Expression expression, 
+        BehaviorTransformer transformer
+    ) {
+        return (expression == null) ? null : expression.transform(transformer);
+    }
+
+    public static List<Instruction> transformInstructions(
+        List<? extends Instruction> instructions, 
+        BehaviorTransformer transformer
+    ) {
+        if (instructions == null) {
+            return null;
+        }
+
+        List<Instruction> transformedInstructions = new ArrayList<>(instructions.size());
+
+        for (Instruction instruction : instructions) {
+            transformedInstructions.add(transformInstruction(instruction, transformer));
+        }
+
+        return transformedInstructions;
+    }
+
+    public static List<Expression> transformExpressions(
+        List<? extends Expression> expressions, 
+        BehaviorTransformer transformer
+    ) {
+        if (expressions == null) {
+            return null;
+        }
+
+        List<Expression> transformedExpressions = new ArrayList<>(expressions.size());
+
+        for (Expression expression : expressions) {
+            transformedExpressions.add(transformExpression(expression, transformer));
+        }
+
+        return transformedExpressions;
+    }
+}
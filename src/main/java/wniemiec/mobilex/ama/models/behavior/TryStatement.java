@@ -12,6 +12,7 @@ public class TryStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final BlockStatement block;
     private final CatchClause handler;
     private final BlockStatement finalizer;
@@ -35,22 +36,27 @@ public class TryStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("try ");
-        code.append(block.toCode());
+        block.appendCode(code);
 
         if (handler != null) {
             code.append(' ');
-            code.append(handler.toCode());
+            handler.appendCode(code);
         }
         
         if (finalizer != null) {
             code.append(" finally ");
-            code.append(finalizer.toCode());
+            finalizer.appendCode(code);
         }
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new TryStatement(
+            (block == null) ? null : block.transformChildren(transformer), 
+            (handler == null) ? null : handler.transformChildren(transformer), 
+            (finalizer == null) ? null : finalizer.transformChildren(transformer)
+        );
     }
 }
@@ -9,6 +9,7 @@ public class UpdateExpression implements Expression {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final String operator;
     private final boolean prefix; 
     private final Expression argument;
@@ -28,11 +29,19 @@ public class UpdateExpression implements Expression {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
+    public void appendCode(StringBuilder code) {
         if (prefix) {
-            return operator + argument.toCode();    
+            code.append(operator);
+            argument.appendCode(code);
         }
+        else {
+            argument.appendCode(code);
+            code.append(operator);
+        }
+    }
 
-        return argument.toCode() + operator;
+    @Override
+    public Expression transformChildren(BehaviorTransformer transformer) {
+        return new UpdateExpression(operator, prefix, Transformations.transformExpression(argument, transformer));
     }
 }
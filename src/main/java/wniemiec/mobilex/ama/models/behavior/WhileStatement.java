@@ -11,6 +11,7 @@ public class WhileStatement implements Instruction {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
     private final Expression test;
     private final Instruction body;
 
@@ -28,14 +29,15 @@ public class WhileStatement implements Instruction {
     //		Methods
     //-------------------------------------------------------------------------
     @Override
-    public String toCode() {
-        StringBuilder code = new StringBuilder();
-
+    public void appendCode(StringBuilder code) {
         code.append("while (");
-        code.append(test.toCode());
+        test.appendCode(code);
         code.append(") ");
-        code.append(body.toCode());
+        body.appendCode(code);
+    }
 
-        return code.toString();
+    @Override
+    public Instruction transformChildren(BehaviorTransformer transformer) {
+        return new WhileStatement(Transformations.transformExpression(test, transformer), Transformations.transformInstruction(body, transformer));
     }
 }
@@ -0,0 +1,281 @@
+package wniemiec.mobilex.ama.models.tag;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+
+/**
+ * Responsible for storing the attributes of a tag. Most tags have one or two
+ * attributes, so they are kept in small inline arrays and only moved into a
+ * HashMap when there are more than MAX_INLINE_ATTRIBUTES of them. Entries
+ * are iterated in the same order as a HashMap with the same content, since
+ * generated code depends on that order.
+ */
+class InlineAttributes extends AbstractMap<String, String> implements Serializable {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY;
+    private static final int MAX_INLINE_ATTRIBUTES;
+    private static final int HASH_MAP_BUCKETS;
+    private String[] keys;
+    private String[] values;
+    private int size;
+    private Map<String, String> map;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INITIAL_CAPACITY = 2;
+        MAX_INLINE_ATTRIBUTES = 8;
+        HASH_MAP_BUCKETS = 16;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    public InlineAttributes() {
+        keys = new String[INITIAL_CAPACITY];
+        values = new String[INITIAL_CAPACITY];
+        size = 0;
+        map = null;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    @Override
+    public int size() {
+        return (map == null) ? size : map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (map != null) {
+            return map.containsKey(key);
+        }
+
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (map != null) {
+            return map.get(key);
+        }
+
+        int index = indexOf(key);
+
+        return (index >= 0) ? values[index] : null;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        if (map != null) {
+            return map.put(key, value);
+        }
+
+        int index = indexOf(key);
+
+        if (index >= 0) {
+            String oldValue = values[index];
+
+            values[index] = value;
+
+            return oldValue;
+        }
+
+        if (size == MAX_INLINE_ATTRIBUTES) {
+            moveToMap();
+
+            return map.put(key, value);
+        }
+
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        values[size] = value;
+        size++;
+
+        return null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= keys.length) {
+            return;
+        }
+
+        int newCapacity = Math.min(keys.length * 2, MAX_INLINE_ATTRIBUTES);
+        String[] newKeys = new String[newCapacity];
+        String[] newValues = new String[newCapacity];
+
+        System.arraycopy(keys, 0, newKeys, 0, size);
+        System.arraycopy(values, 0, newValues, 0, size);
+
+        keys = newKeys;
+        values = newValues;
+    }
+
+    private void moveToMap() {
+        map = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], values[i]);
+        }
+
+        keys = null;
+        values = null;
+        size = 0;
+    }
+
+    @Override
+    public String remove(Object key) {
+        if (map != null) {
+            return map.remove(key);
+        }
+
+        int index = indexOf(key);
+
+        if (index < 0) {
+            return null;
+        }
+
+        String oldValue = values[index];
+
+        removeAt(index);
+
+        return oldValue;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+
+        System.arraycopy(keys, index + 1, keys, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    @Override
+    public void clear() {
+        if (map != null) {
+            map.clear();
+
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+
+        size = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (map != null) {
+            return map.entrySet();
+        }
+
+        return new AbstractSet<Map.Entry<String, String>>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return buildIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private Iterator<Map.Entry<String, String>> buildIterator() {
+        String[] orderedKeys = sortKeysByBucket();
+
+        return new Iterator<Map.Entry<String, String>>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < orderedKeys.length;
+            }
+
+            @Override
+            public Map.Entry<String, String> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                String key = orderedKeys[next++];
+
+                return new AbstractMap.SimpleImmutableEntry<>(key, get(key));
+            }
+
+            @Override
+            public void remove() {
+                if (next == 0) {
+                    throw new IllegalStateException();
+                }
+
+                InlineAttributes.this.remove(orderedKeys[next - 1]);
+            }
+        };
+    }
+
+    /**
+     * Sorts keys by their bucket in a HashMap with default capacity, keeping
+     * insertion order within a bucket. That is the iteration order of a
+     * HashMap with up to MAX_INLINE_ATTRIBUTES entries.
+     */
+    private String[] sortKeysByBucket() {
+        String[] orderedKeys = new String[size];
+        int[] buckets = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            int bucket = getBucketOf(keys[i]);
+            int j = i;
+
+            while ((j > 0) && (buckets[j - 1] > bucket)) {
+                orderedKeys[j] = orderedKeys[j - 1];
+                buckets[j] = buckets[j - 1];
+                j--;
+            }
+
+            orderedKeys[j] = keys[i];
+            buckets[j] = bucket;
+        }
+
+        return orderedKeys;
+    }
+
+    private static int getBucketOf(String key) {
+        int hash = key.hashCode();
+
+        return (hash ^ (hash >>> 16)) & (HASH_MAP_BUCKETS - 1);
+    }
+}
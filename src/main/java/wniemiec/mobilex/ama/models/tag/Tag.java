@@ -1,6 +1,8 @@
 package wniemiec.mobilex.ama.models.tag;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,13 +10,21 @@ import java.util.Stack;
 
 
 /**
- * Responsible for representing a tag.
+ * Responsible for representing a tag. Attributes, children and style are
+ * only allocated when the first entry is added, so that leaf tags (which are
+ * most of a screen) share immutable empty collections, and attributes are
+ * stored inline while they are few. Therefore, entries must be added through
+ * tag methods rather than through the collections returned by its getters.
  */
-public class Tag implements Cloneable {
+public class Tag implements Cloneable, Serializable {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
+    private static final long serialVersionUID = 1L;
+    private static final Map<String, String> NO_ATTRIBUTES;
+    private static final Map<String, String> NO_STYLE;
+    private static final List<Tag> NO_CHILDREN;
     private Map<String, String> attributes;
     private List<Tag> children;
     private String name;
@@ -22,23 +32,31 @@ public class Tag implements Cloneable {
     private Tag parent;
     private Map<String, String> style;
     private boolean voidTag;
-    private TagCoder tagCoder;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        NO_ATTRIBUTES = Collections.emptyMap();
+        NO_STYLE = Collections.emptyMap();
+        NO_CHILDREN = Collections.emptyList();
+    }
 
 
     //-------------------------------------------------------------------------
     //		Constructors
     //-------------------------------------------------------------------------
     public Tag(String name, boolean voidTag) {
-        this(name, new HashMap<>(), voidTag);
+        this(name, NO_ATTRIBUTES, voidTag);
     }
 
     private Tag(String name, Map<String, String> tagAttributes, boolean voidTag) {
         this.name = name;
         this.attributes = tagAttributes;
-        children = new ArrayList<>();
-        style = new HashMap<>();
+        children = NO_CHILDREN;
+        style = NO_STYLE;
         this.voidTag = voidTag;
-        tagCoder = new TagCoder();
     }
     
 
@@ -64,7 +82,7 @@ public class Tag implements Cloneable {
     public Tag clone() {
         Tag clonedTag = new Tag(name, attributes, voidTag);
 
-        clonedTag.setStyle(new HashMap<>(style));
+        clonedTag.setStyle(style.isEmpty() ? NO_STYLE : new HashMap<>(style));
         clonedTag.setParent(parent);
         clonedTag.setValue(value);
 
@@ -80,6 +98,10 @@ public class Tag implements Cloneable {
             return;
         }
         
+        if (children == NO_CHILDREN) {
+            children = new ArrayList<>();
+        }
+
         children.add(child);
         child.setParent(this);
     }
@@ -91,6 +113,10 @@ public class Tag implements Cloneable {
     }
 
     public void addAttribute(String name, String value) {
+        if (attributes == NO_ATTRIBUTES) {
+            attributes = new InlineAttributes();
+        }
+
         if (isDirective(name)) {
             attributes.put(name, value);
         }
@@ -167,7 +193,16 @@ public class Tag implements Cloneable {
     }
 
     public List<String> toCode() {
-        return tagCoder.toCode(this);
+        return TagCoder.getInstance().toCode(this);
+    }
+
+    /**
+     * Appends code lines of this tag and its children to a list.
+     * 
+     * @param       code List to which code lines will be appended
+     */
+    public void appendCode(List<String> code) {
+        TagCoder.getInstance().appendCode(this, code);
     }
 
     public boolean isVoidTag() {
@@ -175,10 +210,22 @@ public class Tag implements Cloneable {
     }
 
     public void addChildren(List<Tag> newChildren) {
+        if (newChildren.isEmpty()) {
+            return;
+        }
+
+        if (children == NO_CHILDREN) {
+            children = new ArrayList<>();
+        }
+
         children.addAll(newChildren);
     }
 
     public void addStyle(String key, String value) {
+        if (style == NO_STYLE) {
+            style = new HashMap<>();
+        }
+
         style.put(key, value);
     }
 
@@ -187,14 +234,30 @@ public class Tag implements Cloneable {
     }
 
     public void removeStyle(String attribute) {
+        if (style == NO_STYLE) {
+            return;
+        }
+
         style.remove(attribute);
     }
 
     public void addStyles(Map<String, String> styles) {
+        if (styles.isEmpty()) {
+            return;
+        }
+
+        if (style == NO_STYLE) {
+            style = new HashMap<>();
+        }
+
         style.putAll(styles);
     }
 
     public void removeAttribute(String attribute) {
+        if (attributes == NO_ATTRIBUTES) {
+            return;
+        }
+
         attributes.remove(attribute);
     }
 
@@ -10,12 +10,47 @@ import java.util.Map;
  */
 class TagCoder {
     
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final TagCoder INSTANCE;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new TagCoder();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Factory
+    //-------------------------------------------------------------------------
+    public static TagCoder getInstance() {
+        return INSTANCE;
+    }
+
+
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
     public List<String> toCode(Tag tag) {
         List<String> code = new ArrayList<>();
 
+        appendCode(tag, code);
+
+        return code;
+    }
+
+    /**
+     * Appends code lines of a tag and its children to a list. Children 
+     * append their lines to the same list instead of returning their own.
+     * 
+     * @param       tag Tag
+     * @param       code List to which code lines will be appended
+     */
+    public void appendCode(Tag tag, List<String> code) {
         if (tag.isVoidTag()) {
             code.add(buildVoidTag(tag));
         }
@@ -27,29 +62,27 @@ class TagCoder {
             }
             else {
                 for (Tag child : tag.getChildren()) {
-                    code.addAll(toCode(child));
+                    appendCode(child, code);
                 }
             }
 
             code.add(buildTagClose(tag));
         }
-
-        return code;
     }
 
-    private String buildVoidTag(Tag tag) {
+    String buildVoidTag(Tag tag) {
         return buildTagOpen(tag).replace(">", "/>");
     }
 
-    private String buildTagOpen(Tag tag) {
+    String buildTagOpen(Tag tag) {
         StringBuilder code = new StringBuilder();
 
         code.append('<');
         code.append(tag.getName());
 
-        if (!tag.getAttributes().isEmpty()) {
+        for (Map.Entry<String, String> attribute : tag.getAttributes().entrySet()) {
             code.append(' ');
-            code.append(stringifyAttributes(tag));
+            appendAttribute(attribute, code);
         }
 
         code.append('>');
@@ -57,33 +90,21 @@ class TagCoder {
         return code.toString();
     }
 
-    private String stringifyAttributes(Tag tag) {
-        StringBuilder code = new StringBuilder();
-
-        for (Map.Entry<String, String> attribute : tag.getAttributes().entrySet()) {
-            code.append(attribute.getKey());
-            code.append('=');
-
-            if (attribute.getValue().startsWith("{")) {
-                code.append(attribute.getValue());
-            }
-            else {
-                code.append('\"');
-                code.append(attribute.getValue());
-                code.append('\"');
-            }
+    private void appendAttribute(Map.Entry<String, String> attribute, StringBuilder code) {
+        code.append(attribute.getKey());
+        code.append('=');
 
-            code.append(' ');
+        if (attribute.getValue().startsWith("{")) {
+            code.append(attribute.getValue());
         }
-
-        if (code.length() > 0) {
-            code.deleteCharAt(code.length()-1);
+        else {
+            code.append('\"');
+            code.append(attribute.getValue());
+            code.append('\"');
         }
-
-        return code.toString();
     }
 
-    private String buildTagClose(Tag tag) {
+    String buildTagClose(Tag tag) {
         StringBuilder code = new StringBuilder();
 
         code.append("</");
@@ -0,0 +1,100 @@
+package wniemiec.mobilex.ama.models.tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * Responsible for processing a structure in a single depth-first traversal.
+ * Each tag is handed to every visitor, in order, and then its code is 
+ * generated and handed to a code parser (for instance, a directive parser),
+ * so that frameworks do not need a traversal per transformation plus another
+ * one to generate code.
+ */
+public class TagPipeline {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private final List<TagVisitor> visitors;
+    private final UnaryOperator<String> codeParser;
+    private final TagCoder tagCoder;
+    private List<String> parsedCode;
+
+
+    //-------------------------------------------------------------------------
+    //		Constructors
+    //-------------------------------------------------------------------------
+    /**
+     * Processes a structure in a single depth-first traversal.
+     * 
+     * @param       visitors Visitors applied to each tag, in order
+     * @param       codeParser Parser applied to each line of generated code
+     */
+    public TagPipeline(List<TagVisitor> visitors, UnaryOperator<String> codeParser) {
+        this.visitors = visitors;
+        this.codeParser = codeParser;
+        tagCoder = TagCoder.getInstance();
+        parsedCode = new ArrayList<>();
+    }
+
+    public TagPipeline(UnaryOperator<String> codeParser) {
+        this(List.of(), codeParser);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Visits all tags of a structure, in document order, and generates its
+     * code. Children of a tag with value are visited, although their code is
+     * not generated, as it happens with {@link Tag#toCode()}.
+     * 
+     * @param       structure Root tag
+     * 
+     * @return      Parsed code
+     */
+    public List<String> run(Tag structure) {
+        parsedCode = new ArrayList<>();
+
+        visit(structure, true);
+
+        return parsedCode;
+    }
+
+    private void visit(Tag tag, boolean generateCode) {
+        for (TagVisitor visitor : visitors) {
+            visitor.visit(tag);
+        }
+
+        if (!generateCode) {
+            visitChildren(tag, false);
+        }
+        else if (tag.isVoidTag()) {
+            putCode(tagCoder.buildVoidTag(tag));
+            visitChildren(tag, false);
+        }
+        else {
+            putCode(tagCoder.buildTagOpen(tag));
+
+            if (tag.getValue() != null) {
+                putCode(tag.getValue());
+            }
+
+            visitChildren(tag, tag.getValue() == null);
+            putCode(tagCoder.buildTagClose(tag));
+        }
+    }
+
+    private void visitChildren(Tag tag, boolean generateCode) {
+        for (Tag child : tag.getChildren()) {
+            visit(child, generateCode);
+        }
+    }
+
+    private void putCode(String line) {
+        parsedCode.add(codeParser.apply(line));
+    }
+}
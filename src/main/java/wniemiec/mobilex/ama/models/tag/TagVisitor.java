@@ -0,0 +1,17 @@
+package wniemiec.mobilex.ama.models.tag;
+
+
+/**
+ * Responsible for processing a tag of a structure visited by a tag pipeline.
+ */
+public interface TagVisitor {
+
+    /**
+     * Processes a tag. The tag can be modified in place, but its parent and
+     * siblings must not be, since their code may have already been 
+     * generated.
+     * 
+     * @param       tag Visited tag
+     */
+    void visit(Tag tag);
+}
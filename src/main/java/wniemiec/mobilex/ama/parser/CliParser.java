@@ -22,9 +22,15 @@ public class CliParser {
     private static final String LBL_OUTPUT;
     private static final String LBL_FRAMEWORK_NAME;
     private static final String LBL_VERBOSE;
+    private static final String LBL_PARALLEL;
+    private static final String LBL_INCREMENTAL;
+    private static final String LBL_NO_CACHE;
     private Path mobilangAstFilePath;
     private Path outputLocationPath;
     private String frameworkName;
+    private boolean parallel;
+    private boolean incremental;
+    private boolean cacheEnabled;
     
 
     //-------------------------------------------------------------------------
@@ -35,6 +41,9 @@ public class CliParser {
         LBL_OUTPUT = "output";
         LBL_FRAMEWORK_NAME = "framework";
         LBL_VERBOSE = "verbose";
+        LBL_PARALLEL = "parallel";
+        LBL_INCREMENTAL = "incremental";
+        LBL_NO_CACHE = "nocache";
     }
 
 
@@ -50,6 +59,9 @@ public class CliParser {
         mobilangAstFilePath = getMobilangAstCliArg(cmd);
         outputLocationPath = getOutputCliArg(cmd);
         frameworkName = getFrameworkName(cmd);
+        parallel = cmd.hasOption(LBL_PARALLEL);
+        incremental = cmd.hasOption(LBL_INCREMENTAL);
+        cacheEnabled = !cmd.hasOption(LBL_NO_CACHE);
     }
 
     private CommandLine buildCmd(String[] args) throws ParseException {
@@ -76,6 +88,9 @@ public class CliParser {
         options.addOption(LBL_OUTPUT, true, "Output location");
         options.addOption(LBL_FRAMEWORK_NAME, true, "Framework name (ex: react-native)");
         options.addOption(LBL_VERBOSE, false, "Display debug messages");
+        options.addOption(LBL_PARALLEL, false, "Parse screens in parallel");
+        options.addOption(LBL_INCREMENTAL, false, "Keep the previously exported project and write only changed files");
+        options.addOption(LBL_NO_CACHE, false, "Do not reuse parsed ASTs and generated screens of previous runs");
         
         return options;
     }
@@ -133,4 +148,16 @@ public class CliParser {
     public String getFrameworkName() {
         return frameworkName;
     }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
 }
@@ -2,8 +2,7 @@ package wniemiec.mobilex.ama.parser;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.SortedMap;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Properties;
 import wniemiec.mobilex.ama.models.Screen;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
@@ -19,7 +18,8 @@ public class MobilangAstParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private final SortedMap<String, List<Node>> ast;
+    private final Ast ast;
+    private final boolean parallel;
     private ScreensParser screensParser;
     private PropertiesParser propertiesParser;
     
@@ -32,8 +32,19 @@ public class MobilangAstParser {
      * 
      * @param       ast MobiLang AST
      */
-    public MobilangAstParser(SortedMap<String, List<Node>> ast) {
+    public MobilangAstParser(Ast ast) {
+        this(ast, false);
+    }
+
+    /**
+     * MobiLang AST parser.
+     * 
+     * @param       ast MobiLang AST
+     * @param       parallel True if screens should be parsed in parallel
+     */
+    public MobilangAstParser(Ast ast, boolean parallel) {
         this.ast = ast;
+        this.parallel = parallel;
     }
 
 
@@ -41,56 +52,34 @@ public class MobilangAstParser {
     //		Methods
     //-------------------------------------------------------------------------
     public void parse() throws ParseException, IOException {
-        List<Node> root = getAstNode();
+        int root = ast.getRoot();
         
         parseScreensNode(root);
         parsePropertiesNode(root);
     }
 
-    private List<Node> getAstNode() {
-        return ast.get("n0");
-    }
-
-    private void parseScreensNode(List<Node> root) throws ParseException, IOException {
+    private void parseScreensNode(int root) throws ParseException, IOException {
         screensParser = buildScreensParser(root);
         screensParser.parse();
     }
 
-    private ScreensParser buildScreensParser(List<Node> root) {
-        Node screensNode = findNodeWithName(root, "screens");
+    private ScreensParser buildScreensParser(int root) {
+        int screensNode = ast.findChild(root, Ast.SCREENS);
         
-        return new ScreensParser(ast, screensNode);
+        return new ScreensParser(ast, screensNode, parallel);
     }
 
-    private void parsePropertiesNode(List<Node> root) throws ParseException {
+    private void parsePropertiesNode(int root) throws ParseException {
         propertiesParser = buildPropertiesParser(root);
         propertiesParser.parse();
     }
 
-    private PropertiesParser buildPropertiesParser(List<Node> root) {
-        Node propertiesNode = findNodeWithName(root, "properties");
+    private PropertiesParser buildPropertiesParser(int root) {
+        int propertiesNode = ast.findChild(root, Ast.PROPERTIES);
         
         return new PropertiesParser(ast, propertiesNode);
     }
 
-    private Node findNodeWithName(List<Node> root, String name) {
-        Node searchedNode = null;
-        int index = 0;
-        int totalElements = root.size();
-        
-        while ((searchedNode == null) && (index < totalElements)) {
-            Node currentNode = root.get(index);
-            
-            if (currentNode.getLabel().contains(name)) {
-                searchedNode = currentNode;
-            }
-            
-            index++;
-        }
-        
-        return searchedNode;
-    }
-
 
     //-------------------------------------------------------------------------
     //		Getters
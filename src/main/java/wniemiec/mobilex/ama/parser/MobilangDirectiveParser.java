@@ -1,27 +1,45 @@
 package wniemiec.mobilex.ama.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import wniemiec.mobilex.ama.util.data.Validator;
 
 
 /**
- * Responsible for parsing MobiLang directives in screen behavior.
+ * Responsible for parsing MobiLang directives in screen behavior. Each line is
+ * scanned once from left to right and every directive found (for instance,
+ * 'mobilang::screen::home' or 'mobilang::param::id') is replaced as soon as
+ * it is read, so that lines without directives are returned as they are.
  */
 public abstract class MobilangDirectiveParser {
 
     //-------------------------------------------------------------------------
     //      Attributes
     //-------------------------------------------------------------------------
+    private static final String DIRECTIVE_PREFIX;
+    private static final String SCREEN_DIRECTIVE;
+    private static final String PARAM_DIRECTIVE;
+    private static final String INPUT_DIRECTIVE;
+    private static final String PARAMETERS_DELIMITERS;
     private List<String> parsedLines;
     private List<String> screenParameters;
 
 
+    //-------------------------------------------------------------------------
+    //      Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        DIRECTIVE_PREFIX = "mobilang::";
+        SCREEN_DIRECTIVE = "screen::";
+        PARAM_DIRECTIVE = "param::";
+        INPUT_DIRECTIVE = "input::";
+        PARAMETERS_DELIMITERS = "\"'`?/\\";
+    }
+
+
     //-------------------------------------------------------------------------
     //      Constructor
     //-------------------------------------------------------------------------
@@ -30,7 +48,7 @@ public abstract class MobilangDirectiveParser {
         screenParameters = new ArrayList<>();
     }
 
-    
+
     //-------------------------------------------------------------------------
     //      Methods
     //-------------------------------------------------------------------------
@@ -57,156 +75,214 @@ public abstract class MobilangDirectiveParser {
         String parsedLine = line;
 
         if (isMobiLangDirective(line)) {
-            parsedLine = parseMobiLangDirective(line);
+            parsedLine = parseMobiLangDirectives(line);
         }
 
         parsedLines.add(parsedLine);
     }
 
     private boolean isMobiLangDirective(String line) {
-        return line.contains("mobilang::");
+        return line.contains(DIRECTIVE_PREFIX);
     }
 
-    private String parseMobiLangDirective(String line) {
-        String parsedLine = line;
+    private String parseMobiLangDirectives(String line) {
+        StringBuilder parsedLine = new StringBuilder(line.length());
+        int start = 0;
+        int directiveStart = line.indexOf(DIRECTIVE_PREFIX);
 
-        if (isScreenDirective(line)) {
-            parsedLine = parseScreenDirective(line);
-        }
-        else if (isParamDirective(line)) {
-            parsedLine = parseParamDirective(line);
-        }
-        else if (isInputDirective(line)) {
-            parsedLine = parseInputDirective(line);
+        while (directiveStart >= 0) {
+            parsedLine.append(line, start, directiveStart);
+            start = parseMobiLangDirective(line, directiveStart, parsedLine);
+            directiveStart = line.indexOf(DIRECTIVE_PREFIX, start);
         }
 
-        return parsedLine;
-    }
+        parsedLine.append(line, start, line.length());
 
-    private boolean isScreenDirective(String line) {
-        return line.contains("mobilang::screen::");
+        return parsedLine.toString();
     }
 
-    private String parseScreenDirective(String line) {
-        if (line.matches(".*mobilang::screen::([A-z0-9-_]+\\?).*")) {
-            return parseScreenDirectiveWithParameters(line);
+    /**
+     * Parses the directive that starts at a position of a line, appending its
+     * replacement to the parsed line.
+     *
+     * @return      Position of the line right after the directive
+     */
+    private int parseMobiLangDirective(
+        String line,
+        int directiveStart,
+        StringBuilder parsedLine
+    ) {
+        int typeStart = directiveStart + DIRECTIVE_PREFIX.length();
+
+        if (line.startsWith(SCREEN_DIRECTIVE, typeStart)) {
+            return parseScreenDirective(line, directiveStart, typeStart + SCREEN_DIRECTIVE.length(), parsedLine);
         }
 
-        return parseScreenDirectiveWithoutParameters(line);
+        if (line.startsWith(PARAM_DIRECTIVE, typeStart)) {
+            return parseParamDirective(line, directiveStart, typeStart + PARAM_DIRECTIVE.length(), parsedLine);
+        }
+
+        if (line.startsWith(INPUT_DIRECTIVE, typeStart)) {
+            return parseInputDirective(line, directiveStart, typeStart + INPUT_DIRECTIVE.length(), parsedLine);
+        }
+
+        parsedLine.append(DIRECTIVE_PREFIX);
+
+        return typeStart;
     }
 
-    private String parseScreenDirectiveWithParameters(String line) {
-        String normalizedLine = line.replaceAll("[ +\"\']+", "");
-        Pattern pattern = Pattern.compile(".*mobilang::screen::([A-z0-9\\-_]+)\\?([^?\"'\\/\\\\]+)([\"']+|$).*");
-        Matcher matcher = pattern.matcher(normalizedLine);
+    private int parseScreenDirective(
+        String line,
+        int directiveStart,
+        int nameStart,
+        StringBuilder parsedLine
+    ) {
+        int nameEnd = findNameEnd(line, nameStart);
 
-        if (!matcher.matches()) {
-            return normalizedLine;
+        if (nameEnd == nameStart) {
+            parsedLine.append(line, directiveStart, nameStart);
+
+            return nameStart;
         }
 
-        String screenName = matcher.group(1);
-        Map<String, String> parameters = new HashMap<>();        
-        String rawParameters = matcher.group(2); // ex: id=" + data[item].id + "&q=123&f=" + data[item].f + "
+        String screenName = line.substring(nameStart, nameEnd);
 
-        for (String rawParameter : rawParameters.split("&")) {
-            String[] terms = rawParameter.split("=");
-            
-            parameters.put(terms[0], terms[1]);
-            screenParameters.add(terms[0]);
+        if ((nameEnd < line.length()) && (line.charAt(nameEnd) == '?')) {
+            int parametersEnd = findParametersEnd(line, nameEnd + 1);
+            Map<String, String> parameters = parseParameters(line.substring(nameEnd + 1, parametersEnd));
+
+            parsedLine.append(swapScreenDirectiveWithParametersFor(screenName, parameters));
+
+            return parametersEnd;
         }
 
-        String quote = extractDirectiveQuoteFrom(normalizedLine);
-        String directive = quote + "mobilang::screen::([A-z0-9\\-_]+\\?)[^\\\\]+" + quote;
-        String replacement = quote + swapScreenDirectiveWithParametersFor(screenName, parameters) + quote;
+        parsedLine.append(swapScreenDirectiveFor(screenName));
 
-        return normalizedLine.replaceAll(directive, replacement.replace("$", "\\$"));
+        return nameEnd;
     }
 
-    private String extractDirectiveQuoteFrom(String directive) {
-        String quote = "";
-        int indexOfMobilang = directive.indexOf("mobilang");
+    private int findNameEnd(String line, int nameStart) {
+        int nameEnd = nameStart;
 
-        if (indexOfMobilang > 0) {
-            String directiveBegin = directive.substring(indexOfMobilang-1, indexOfMobilang);
-            quote = directiveBegin.equals("\"") ? "\"" : "'";
+        while ((nameEnd < line.length()) && isNameCharacter(line.charAt(nameEnd))) {
+            nameEnd++;
         }
 
-        return quote;
+        return nameEnd;
     }
 
-    private String cleanRawParameters(String rawParameters) {
-        // in:  id=" + data[item].id + "&q=123&f=" + data[item].f + "
-        // out: id=data[item].id&q=123&f=data[item].f
-        String cleanedParameters = rawParameters;
+    private boolean isNameCharacter(char c) {
+        return ((c >= 'A') && (c <= 'Z'))
+            || ((c >= 'a') && (c <= 'z'))
+            || ((c >= '0') && (c <= '9'))
+            || (c == '-')
+            || (c == '_');
+    }
+
+    /**
+     * Finds where screen parameters end, that is, at a quote, a slash, a
+     * question mark, a whitespace or at the end of the line. For instance,
+     * parameters of '"mobilang::screen::chat?id=" + id' are 'id='.
+     */
+    private int findParametersEnd(String line, int parametersStart) {
+        int parametersEnd = parametersStart;
 
-        cleanedParameters = removeWhiteSpaces(cleanedParameters);
-        cleanedParameters = removeStringConcatenationTokens(cleanedParameters);
+        while ((parametersEnd < line.length()) && !isParametersDelimiter(line.charAt(parametersEnd))) {
+            parametersEnd++;
+        }
 
-        return cleanedParameters;
+        return parametersEnd;
     }
 
-    private String removeWhiteSpaces(String text) {
-        return text.replace(" ", "");
+    private boolean isParametersDelimiter(char c) {
+        return (PARAMETERS_DELIMITERS.indexOf(c) >= 0) || Character.isWhitespace(c);
     }
 
-    private String removeStringConcatenationTokens(String text) {
-        return text.replaceAll("((\"\\+)|(\\+\"))", "");
+    private Map<String, String> parseParameters(String rawParameters) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+
+        for (String rawParameter : rawParameters.split("&")) {
+            if (rawParameter.isEmpty()) {
+                continue;
+            }
+
+            int separator = rawParameter.indexOf('=');
+            String key = (separator < 0) ? rawParameter : rawParameter.substring(0, separator);
+            String value = (separator < 0) ? "" : rawParameter.substring(separator + 1);
+
+            parameters.put(key, value);
+            screenParameters.add(key);
+        }
+
+        return parameters;
     }
 
     protected abstract String swapScreenDirectiveWithParametersFor(String screenName, Map<String, String> parameters);
 
-    private String parseScreenDirectiveWithoutParameters(String line) {
-        Pattern pattern = Pattern.compile(".*mobilang::screen::([A-z0-9-_]+).*");
-        Matcher matcher = pattern.matcher(line);
+    protected abstract String swapScreenDirectiveFor(String screenName);
+
+    private int parseParamDirective(
+        String line,
+        int directiveStart,
+        int nameStart,
+        StringBuilder parsedLine
+    ) {
+        int nameEnd = findNameEnd(line, nameStart);
+
+        if (nameEnd == nameStart) {
+            parsedLine.append(line, directiveStart, nameStart);
 
-        if (!matcher.matches()) {
-            return line;
+            return nameStart;
         }
 
-        String screenName = matcher.group(1);
-        String directive = "mobilang::screen::" + screenName;
+        removeOpeningQuote(line, directiveStart, parsedLine);
+        parsedLine.append(replaceParamDirectiveWith(line.substring(nameStart, nameEnd)));
 
-        return line.replace(directive, swapScreenDirectiveFor(screenName));
+        return skipClosingQuote(line, nameEnd);
     }
 
-    protected abstract String swapScreenDirectiveFor(String screenName);
-
-    private boolean isParamDirective(String line) {
-        return line.contains("mobilang::param::");
+    /**
+     * Removes the quote right before a directive, since param and input
+     * directives are replaced by code instead of by a string.
+     */
+    private void removeOpeningQuote(String line, int directiveStart, StringBuilder parsedLine) {
+        if ((directiveStart > 0) && isQuote(line.charAt(directiveStart - 1)) && (parsedLine.length() > 0)) {
+            parsedLine.deleteCharAt(parsedLine.length() - 1);
+        }
     }
 
-    private String parseParamDirective(String line) {
-        Pattern pattern = Pattern.compile(".*mobilang::param::([A-z0-9-_]+).*");
-        Matcher matcher = pattern.matcher(line);
+    private boolean isQuote(char c) {
+        return (c == '"') || (c == '\'');
+    }
 
-        if (!matcher.matches()) {
-            return line;
+    private int skipClosingQuote(String line, int directiveEnd) {
+        if ((directiveEnd < line.length()) && isQuote(line.charAt(directiveEnd))) {
+            return directiveEnd + 1;
         }
 
-        String paramName = matcher.group(1);
-        String directive = "[\"']?mobilang::param::" + paramName + "[\"']?";
-
-        return line.replaceAll(directive, replaceParamDirectiveWith(paramName));
+        return directiveEnd;
     }
 
     protected abstract String replaceParamDirectiveWith(String paramName);
 
-    private boolean isInputDirective(String line) {
-        return line.contains("mobilang::input::");
-    }
+    private int parseInputDirective(
+        String line,
+        int directiveStart,
+        int nameStart,
+        StringBuilder parsedLine
+    ) {
+        int nameEnd = findNameEnd(line, nameStart);
 
-    private String parseInputDirective(String line) {
-        Pattern pattern = Pattern.compile(".*mobilang::input::([A-z0-9-_]+).*");
-        Matcher matcher = pattern.matcher(line);
+        if (nameEnd == nameStart) {
+            parsedLine.append(line, directiveStart, nameStart);
 
-        if (!matcher.matches()) {
-            return line;
+            return nameStart;
         }
 
-        String inputId = matcher.group(1);
-        String directive = "[\"']?mobilang::input::" + inputId + "[\"']?";
+        removeOpeningQuote(line, directiveStart, parsedLine);
+        parsedLine.append(swapInputDirectiveFor(line.substring(nameStart, nameEnd)));
 
-        return line.replaceAll(directive, swapInputDirectiveFor(inputId));
+        return skipClosingQuote(line, nameEnd);
     }
 
     protected abstract String swapInputDirectiveFor(String inputId);
@@ -1,10 +1,8 @@
 package wniemiec.mobilex.ama.parser.properties;
 
-import java.util.List;
-import java.util.SortedMap;
 import org.json.JSONArray;
 import org.json.JSONObject;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Properties;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 
@@ -30,8 +28,8 @@ public class PropertiesParser {
      * @param       ast MobiLang AST
      * @param       propertiesNode Properties node
      */
-    public PropertiesParser(SortedMap<String, List<Node>> ast, Node propertiesNode) {
-        propertiesContent = ast.get(propertiesNode.getId()).get(0).getLabel();
+    public PropertiesParser(Ast ast, int propertiesNode) {
+        propertiesContent = ast.getLabel(ast.getChild(propertiesNode, 0));
         propertiesData = new Properties();
     }
     
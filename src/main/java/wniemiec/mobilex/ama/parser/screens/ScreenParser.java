@@ -1,8 +1,6 @@
 package wniemiec.mobilex.ama.parser.screens;
 
-import java.util.List;
-import java.util.SortedMap;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Screen;
 import wniemiec.mobilex.ama.models.Style;
 import wniemiec.mobilex.ama.models.behavior.Behavior;
@@ -21,11 +19,11 @@ public class ScreenParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private final SortedMap<String, List<Node>> ast;
+    private final Ast ast;
     private final String id;
-    private Node structureNode;
-    private Node styleNode;
-    private Node behaviorNode;
+    private final int structureNode;
+    private final int styleNode;
+    private final int behaviorNode;
     private Screen screen;
 
 
@@ -38,31 +36,18 @@ public class ScreenParser {
      * @param       ast MobiLang AST
      * @param       screenNode Screen node
      */
-    public ScreenParser(SortedMap<String, List<Node>> ast, Node screenNode) {
+    public ScreenParser(Ast ast, int screenNode) {
         this.ast = ast;
-        id = screenNode.getAttribute("id");
-
-        initializeStructureStyleAndBehaviorNodes(screenNode);
+        id = ast.getNode(screenNode).getAttribute("id");
+        structureNode = ast.findChild(screenNode, Ast.STRUCTURE);
+        styleNode = ast.findChild(screenNode, Ast.STYLE);
+        behaviorNode = ast.findChild(screenNode, Ast.BEHAVIOR);
     }
 
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private void initializeStructureStyleAndBehaviorNodes(Node screenNode) {
-        for (Node node : ast.get(screenNode.getId())) {
-            if (node.getLabel().contains("structure")) {
-                structureNode = node;
-            }
-            else if (node.getLabel().contains("style")) {
-                styleNode = node;
-            }
-            else if (node.getLabel().contains("behavior")) {
-                behaviorNode = node;
-            }
-        }
-    }
-    
     public void parse() throws ParseException {
         Tag structure = parseStructureNode();
         Style style = parseStyleNode();
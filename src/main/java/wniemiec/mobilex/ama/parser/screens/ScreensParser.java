@@ -3,22 +3,27 @@ package wniemiec.mobilex.ama.parser.screens;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.SortedMap;
-import wniemiec.mobilex.ama.models.Node;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Screen;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 
 
 /**
- * Responsible for parsing screens node from MobiLang AST.
+ * Responsible for parsing screens node from MobiLang AST. Screens can be 
+ * parsed in parallel, since each screen parser only reads its own subtree;
+ * in any case, screens are kept in document order.
  */
 public class ScreensParser {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private final SortedMap<String, List<Node>> ast;
-    private final List<Node> screenNodes;
+    private final Ast ast;
+    private final int screensNode;
+    private final boolean parallel;
     private final List<Screen> screens;
 
 
@@ -31,12 +36,22 @@ public class ScreensParser {
      * @param       ast MobiLang AST
      * @param       screensNode Screens node
      */
-    public ScreensParser(
-        SortedMap<String, List<Node>> ast, 
-        Node screensNode
-    ) {
+    public ScreensParser(Ast ast, int screensNode) {
+        this(ast, screensNode, false);
+    }
+
+    /**
+     * Screens parser for MobiLang AST.
+     * 
+     * @param       ast MobiLang AST
+     * @param       screensNode Screens node
+     * @param       parallel True if screens should be parsed in parallel, 
+     * using the common fork-join pool
+     */
+    public ScreensParser(Ast ast, int screensNode, boolean parallel) {
         this.ast = ast;
-        screenNodes = ast.get(screensNode.getId());
+        this.screensNode = screensNode;
+        this.parallel = parallel;
         screens = new ArrayList<>();
     }
 
@@ -45,15 +60,74 @@ public class ScreensParser {
     //		Methods
     //-------------------------------------------------------------------------
     public void parse() throws ParseException, IOException {
-        for (Node screen : screenNodes) {   
-            ScreenParser screenParser = new ScreenParser(
-                ast, 
-                screen
-            );
+        if (parallel) {
+            parseInParallel();
+        }
+        else {
+            parseSequentially();
+        }
+    }
+
+    private void parseSequentially() throws ParseException {
+        for (int i = 0; i < ast.countChildren(screensNode); i++) {   
+            screens.add(parseScreen(ast.getChild(screensNode, i)));
+        }
+    }
+
+    private void parseInParallel() throws ParseException {
+        List<ForkJoinTask<Screen>> tasks = submitScreenParsers();
+
+        for (ForkJoinTask<Screen> task : tasks) {
+            screens.add(joinScreenParser(task));
+        }
+    }
+
+    private List<ForkJoinTask<Screen>> submitScreenParsers() {
+        List<ForkJoinTask<Screen>> tasks = new ArrayList<>();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        for (int i = 0; i < ast.countChildren(screensNode); i++) {
+            int screenNode = ast.getChild(screensNode, i);
+
+            tasks.add(pool.submit(() -> parseScreen(screenNode)));
+        }
+
+        return tasks;
+    }
+
+    private Screen joinScreenParser(ForkJoinTask<Screen> task) 
+    throws ParseException {
+        try {
+            return task.get();
+        } 
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             
-            screenParser.parse();
-            screens.add(screenParser.getScreen());
+            throw new ParseException("Screen parsing was interrupted");
         }
+        catch (ExecutionException e) {
+            throw unwrapScreenParserException(e.getCause());
+        }
+    }
+
+    private ParseException unwrapScreenParserException(Throwable cause) {
+        if (cause instanceof ParseException) {
+            return (ParseException) cause;
+        }
+
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+
+        return new ParseException(cause.getMessage());
+    }
+
+    private Screen parseScreen(int screenNode) throws ParseException {
+        ScreenParser screenParser = new ScreenParser(ast, screenNode);
+        
+        screenParser.parse();
+
+        return screenParser.getScreen();
     }
 
 
@@ -1,11 +1,10 @@
 package wniemiec.mobilex.ama.parser.screens.behavior;
 
 import java.util.List;
-import java.util.SortedMap;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.behavior.Behavior;
 import wniemiec.mobilex.ama.models.behavior.Instruction;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
@@ -21,6 +20,7 @@ public class BehaviorParser  {
     //-------------------------------------------------------------------------
     private final String contentNode;
     private final BlockCodeParser blockCodeParser;
+    private final EstreeJsonDecoder estreeDecoder;
 
 
     //-------------------------------------------------------------------------
@@ -32,11 +32,12 @@ public class BehaviorParser  {
      * @param       ast MobiLang AST
      * @param       behaviorNode Behavior node
      */
-    public BehaviorParser(SortedMap<String, List<Node>> ast, Node behaviorNode) {
-        contentNode = ast.containsKey(behaviorNode.getId()) 
-            ? ast.get(behaviorNode.getId()).get(0).getLabel() 
+    public BehaviorParser(Ast ast, int behaviorNode) {
+        contentNode = ast.hasChildren(behaviorNode) 
+            ? ast.getLabel(ast.getChild(behaviorNode, 0)) 
             : "";
         blockCodeParser = BlockCodeParser.getInstance();
+        estreeDecoder = new EstreeJsonDecoder();
     }
 
 
@@ -48,11 +49,20 @@ public class BehaviorParser  {
             return new Behavior();
         }
 
-        List<Instruction> code = parseJson(new JSONObject(contentNode));
+        List<Instruction> code = parseJson(decodeProgram());
 
         return new Behavior(code);
     }
 
+    private JSONObject decodeProgram() throws ParseException {
+        try {
+            return estreeDecoder.decode(contentNode);
+        }
+        catch (IllegalStateException e) {
+            throw new ParseException("JSON parsing - " + e.getMessage());
+        }
+    }
+
     private List<Instruction> parseJson(JSONObject json) throws ParseException {
         JSONArray body = json.getJSONArray("body");
 
@@ -17,10 +17,18 @@ public class BlockCodeParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static BlockCodeParser instance;
+    private static final BlockCodeParser INSTANCE;
     private final InstructionParser instructionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new BlockCodeParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -33,11 +41,7 @@ public class BlockCodeParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static BlockCodeParser getInstance() {
-        if (instance == null) {
-            instance = new BlockCodeParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
 
 
@@ -0,0 +1,117 @@
+package wniemiec.mobilex.ama.parser.screens.behavior;
+
+import java.util.Set;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import wniemiec.mobilex.ama.util.data.JsonPullReader;
+
+
+/**
+ * Responsible for decoding ESTree programs from behavior node from MobiLang
+ * AST. The program is read in a single pass and positional fields (such as
+ * 'start' and 'end'), which are never used by behavior parsers, are skipped
+ * instead of being stored, as well as the raw source of literals.
+ */
+class EstreeJsonDecoder {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final Set<String> POSITIONAL_FIELDS;
+    private static final String TYPE_FIELD;
+    private static final String RAW_FIELD;
+    private static final String LITERAL_TYPE;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        POSITIONAL_FIELDS = Set.of("start", "end", "loc", "range");
+        TYPE_FIELD = "type";
+        RAW_FIELD = "raw";
+        LITERAL_TYPE = "Literal";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Decodes an ESTree node.
+     *
+     * @param       json ESTree node in JSON format
+     *
+     * @return      Node without positional fields
+     *
+     * @throws      IllegalStateException If json is not valid
+     */
+    public JSONObject decode(String json) {
+        return decodeObject(new JsonPullReader(json));
+    }
+
+    private Object decodeValue(JsonPullReader reader) {
+        int type = reader.peek();
+
+        if (type == JsonPullReader.OBJECT) {
+            return decodeObject(reader);
+        }
+
+        if (type == JsonPullReader.ARRAY) {
+            return decodeArray(reader);
+        }
+
+        if (type == JsonPullReader.STRING) {
+            return reader.nextString();
+        }
+
+        return JSONObject.stringToValue(reader.nextLiteral());
+    }
+
+    private JSONObject decodeObject(JsonPullReader reader) {
+        JSONObject node = new JSONObject();
+        boolean literal = false;
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+
+            if (POSITIONAL_FIELDS.contains(name)) {
+                reader.skipValue();
+            }
+            else {
+                Object value = decodeValue(reader);
+
+                node.put(name, value);
+                literal |= isLiteralType(name, value);
+            }
+        }
+
+        reader.endObject();
+
+        if (literal) {
+            node.remove(RAW_FIELD);
+        }
+
+        return node;
+    }
+
+    private boolean isLiteralType(String name, Object value) {
+        return name.equals(TYPE_FIELD) && LITERAL_TYPE.equals(value);
+    }
+
+    private JSONArray decodeArray(JsonPullReader reader) {
+        JSONArray array = new JSONArray();
+
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            array.put(decodeValue(reader));
+        }
+
+        reader.endArray();
+
+        return array;
+    }
+}
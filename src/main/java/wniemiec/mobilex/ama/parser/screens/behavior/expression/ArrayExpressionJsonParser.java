@@ -16,10 +16,18 @@ class ArrayExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ArrayExpressionJsonParser instance;
+    private static final ArrayExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ArrayExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class ArrayExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ArrayExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ArrayExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
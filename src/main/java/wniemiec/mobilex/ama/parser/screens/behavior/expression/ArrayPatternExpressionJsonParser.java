@@ -15,10 +15,18 @@ class ArrayPatternExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ArrayPatternExpressionJsonParser instance;
+    private static final ArrayPatternExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ArrayPatternExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class ArrayPatternExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ArrayPatternExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ArrayPatternExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -18,11 +18,19 @@ class ArrowFunctionExpressionJsonParser implements ExpressionJsonParser{
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ArrowFunctionExpressionJsonParser instance;
+    private static final ArrowFunctionExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
     private final InstructionParser instructionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ArrowFunctionExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -36,11 +44,7 @@ class ArrowFunctionExpressionJsonParser implements ExpressionJsonParser{
     //		Factory
     //-------------------------------------------------------------------------
     public static ArrowFunctionExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ArrowFunctionExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
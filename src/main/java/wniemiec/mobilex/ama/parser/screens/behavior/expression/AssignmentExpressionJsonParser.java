@@ -16,10 +16,18 @@ class AssignmentExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static AssignmentExpressionJsonParser instance;
+    private static final AssignmentExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new AssignmentExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class AssignmentExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static AssignmentExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new AssignmentExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
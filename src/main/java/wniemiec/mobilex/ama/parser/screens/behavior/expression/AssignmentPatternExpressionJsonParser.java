@@ -16,10 +16,18 @@ class AssignmentPatternExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static AssignmentPatternExpressionJsonParser instance;
+    private static final AssignmentPatternExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new AssignmentPatternExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class AssignmentPatternExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static AssignmentPatternExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new AssignmentPatternExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
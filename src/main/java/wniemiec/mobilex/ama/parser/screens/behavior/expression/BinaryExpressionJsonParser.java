@@ -16,10 +16,18 @@ class BinaryExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static BinaryExpressionJsonParser instance;
+    private static final BinaryExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new BinaryExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class BinaryExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static BinaryExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new BinaryExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
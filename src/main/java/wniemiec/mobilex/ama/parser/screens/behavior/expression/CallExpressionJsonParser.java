@@ -15,10 +15,18 @@ class CallExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static CallExpressionJsonParser instance;
+    private static final CallExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new CallExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -31,11 +39,7 @@ class CallExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static CallExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new CallExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
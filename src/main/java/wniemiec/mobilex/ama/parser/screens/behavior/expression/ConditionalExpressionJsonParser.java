@@ -16,10 +16,18 @@ class ConditionalExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ConditionalExpressionJsonParser instance;
+    private static final ConditionalExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ConditionalExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class ConditionalExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ConditionalExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ConditionalExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
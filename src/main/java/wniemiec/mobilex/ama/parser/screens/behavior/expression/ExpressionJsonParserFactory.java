@@ -1,28 +1,54 @@
 package wniemiec.mobilex.ama.parser.screens.behavior.expression;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import wniemiec.mobilex.ama.parser.exception.FactoryException;
 
 
 /**
- * Responsible for providing ExpressionJsonParser instances.
+ * Responsible for providing ExpressionJsonParser instances. Parsers are
+ * registered once, when the factory is loaded, so that a lookup is a single
+ * read of an immutable map that can be shared by concurrent parsers.
  */
 class ExpressionJsonParserFactory {
-
+    
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static final String EXPRESSION_PACKAGE;
-    private static final String CLASS_SUFFIX;
+    private static final String TYPE_SUFFIX;
+    private static final Map<String, ExpressionJsonParser> PARSERS;
 
 
     //-------------------------------------------------------------------------
     //		Initialization block
     //-------------------------------------------------------------------------
     static {
-        EXPRESSION_PACKAGE = "wniemiec.mobilex.ama.parser.screens.behavior.expression.";
-        CLASS_SUFFIX = "ExpressionJsonParser";
+        TYPE_SUFFIX = "Expression";
+
+        Map<String, ExpressionJsonParser> parsers = new HashMap<>();
+
+        register(parsers, "Array", ArrayExpressionJsonParser.getInstance());
+        register(parsers, "ArrayPattern", ArrayPatternExpressionJsonParser.getInstance());
+        register(parsers, "ArrowFunction", ArrowFunctionExpressionJsonParser.getInstance());
+        register(parsers, "Assignment", AssignmentExpressionJsonParser.getInstance());
+        register(parsers, "AssignmentPattern", AssignmentPatternExpressionJsonParser.getInstance());
+        register(parsers, "Binary", BinaryExpressionJsonParser.getInstance());
+        register(parsers, "Call", CallExpressionJsonParser.getInstance());
+        register(parsers, "Conditional", ConditionalExpressionJsonParser.getInstance());
+        register(parsers, "Function", FunctionExpressionJsonParser.getInstance());
+        register(parsers, "Identifier", IdentifierExpressionJsonParser.getInstance());
+        register(parsers, "Literal", LiteralExpressionJsonParser.getInstance());
+        register(parsers, "Logical", LogicalExpressionJsonParser.getInstance());
+        register(parsers, "Member", MemberExpressionJsonParser.getInstance());
+        register(parsers, "New", NewExpressionJsonParser.getInstance());
+        register(parsers, "Object", ObjectExpressionJsonParser.getInstance());
+        register(parsers, "TemplateElement", TemplateElementExpressionJsonParser.getInstance());
+        register(parsers, "TemplateLiteral", TemplateLiteralExpressionJsonParser.getInstance());
+        register(parsers, "Unary", UnaryExpressionJsonParser.getInstance());
+        register(parsers, "Update", UpdateExpressionJsonParser.getInstance());
+
+        PARSERS = Collections.unmodifiableMap(parsers);
     }
 
 
@@ -36,29 +62,27 @@ class ExpressionJsonParserFactory {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    public static ExpressionJsonParser get(String expressionType) 
-    throws FactoryException {
-        try {
-            Class<?> jsonParserClass = getExpressionJsonParserClass(expressionType);
-            
-            return invokeGetInstanceMethod(jsonParserClass);
-        } 
-        catch (Exception e) {
-            throw new FactoryException(e.getMessage());
-        }
+    /**
+     * Registers a parser both by its expression name (for instance,
+     * 'Array') and by its name followed by 'Expression'.
+     */
+    private static void register(
+        Map<String, ExpressionJsonParser> parsers,
+        String name,
+        ExpressionJsonParser parser
+    ) {
+        parsers.put(name, parser);
+        parsers.put(name + TYPE_SUFFIX, parser);
     }
 
-    private static ExpressionJsonParser invokeGetInstanceMethod(Class<?> jsonParserClass)
-    throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        Method getInstance = jsonParserClass.getMethod("getInstance");
-        
-        return ((ExpressionJsonParser) getInstance.invoke(jsonParserClass));
-    }
+    public static ExpressionJsonParser get(String expressionType) 
+    throws FactoryException {
+        ExpressionJsonParser parser = PARSERS.get(expressionType);
 
-    private static Class<?> getExpressionJsonParserClass(String expressionType) 
-    throws ClassNotFoundException {
-        String expressionName = expressionType.replace("Expression", "");
+        if (parser == null) {
+            throw new FactoryException("Unsupported expression type: " + expressionType);
+        }
 
-        return Class.forName(EXPRESSION_PACKAGE + expressionName + CLASS_SUFFIX);
+        return parser;
     }
 }
@@ -18,7 +18,15 @@ public class ExpressionParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ExpressionParser instance;
+    private static final ExpressionParser INSTANCE;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ExpressionParser();
+    }
 
 
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ public class ExpressionParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ExpressionParser getInstance() {
-        if (instance == null) {
-            instance = new ExpressionParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
 
 
@@ -18,11 +18,19 @@ class FunctionExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static FunctionExpressionJsonParser instance;
+    private static final FunctionExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
     private final InstructionParser instructionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new FunctionExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -36,11 +44,7 @@ class FunctionExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static FunctionExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new FunctionExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -16,7 +16,15 @@ class IdentifierExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static IdentifierExpressionJsonParser instance;
+    private static final IdentifierExpressionJsonParser INSTANCE;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new IdentifierExpressionJsonParser();
+    }
 
 
     //-------------------------------------------------------------------------
@@ -30,11 +38,7 @@ class IdentifierExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static IdentifierExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new IdentifierExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
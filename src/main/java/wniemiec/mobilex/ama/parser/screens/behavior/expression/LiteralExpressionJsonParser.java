@@ -16,10 +16,18 @@ class LiteralExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static LiteralExpressionJsonParser instance;
+    private static final LiteralExpressionJsonParser INSTANCE;
     private static final String VALUE = "value";
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new LiteralExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -31,11 +39,7 @@ class LiteralExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static LiteralExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new LiteralExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -16,10 +16,18 @@ class LogicalExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static LogicalExpressionJsonParser instance;
+    private static final LogicalExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new LogicalExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class LogicalExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static LogicalExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new LogicalExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
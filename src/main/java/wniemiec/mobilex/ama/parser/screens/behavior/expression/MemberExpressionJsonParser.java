@@ -16,10 +16,18 @@ class MemberExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static MemberExpressionJsonParser instance;
+    private static final MemberExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new MemberExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class MemberExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static MemberExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new MemberExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -16,10 +16,18 @@ class NewExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static NewExpressionJsonParser instance;
+    private static final NewExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new NewExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class NewExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static NewExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new NewExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -19,10 +19,18 @@ class ObjectExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ObjectExpressionJsonParser instance;
+    private static final ObjectExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ObjectExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -35,11 +43,7 @@ class ObjectExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ObjectExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ObjectExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -16,7 +16,15 @@ class TemplateElementExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static TemplateElementExpressionJsonParser instance;
+    private static final TemplateElementExpressionJsonParser INSTANCE;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new TemplateElementExpressionJsonParser();
+    }
 
 
     //-------------------------------------------------------------------------
@@ -30,11 +38,7 @@ class TemplateElementExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static TemplateElementExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new TemplateElementExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -16,10 +16,18 @@ class TemplateLiteralExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static TemplateLiteralExpressionJsonParser instance;
+    private static final TemplateLiteralExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new TemplateLiteralExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class TemplateLiteralExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static TemplateLiteralExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new TemplateLiteralExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
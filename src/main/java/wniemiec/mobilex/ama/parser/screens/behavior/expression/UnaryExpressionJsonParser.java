@@ -17,10 +17,18 @@ public class UnaryExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static UnaryExpressionJsonParser instance;
+    private static final UnaryExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new UnaryExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -33,11 +41,7 @@ public class UnaryExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static UnaryExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new UnaryExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
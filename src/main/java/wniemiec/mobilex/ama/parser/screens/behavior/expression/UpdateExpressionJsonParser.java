@@ -16,10 +16,18 @@ class UpdateExpressionJsonParser implements ExpressionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static UpdateExpressionJsonParser instance;
+    private static final UpdateExpressionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new UpdateExpressionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -32,11 +40,7 @@ class UpdateExpressionJsonParser implements ExpressionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static UpdateExpressionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new UpdateExpressionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -17,10 +17,18 @@ class BlockStatementInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static BlockStatementInstructionJsonParser instance;
+    private static final BlockStatementInstructionJsonParser INSTANCE;
     private final BlockCodeParser blockCodeParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new BlockStatementInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -33,11 +41,7 @@ class BlockStatementInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static BlockStatementInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new BlockStatementInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -13,10 +13,18 @@ class BreakStatementInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static BreakStatementInstructionJsonParser instance;
+    private static final BreakStatementInstructionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new BreakStatementInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -29,11 +37,7 @@ class BreakStatementInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static BreakStatementInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new BreakStatementInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
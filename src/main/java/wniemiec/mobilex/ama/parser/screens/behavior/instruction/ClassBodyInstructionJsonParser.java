@@ -13,10 +13,18 @@ class ClassBodyInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ClassBodyInstructionJsonParser instance;
+    private static final ClassBodyInstructionJsonParser INSTANCE;
     private final BlockCodeParser blockCodeParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ClassBodyInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -29,11 +37,7 @@ class ClassBodyInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ClassBodyInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ClassBodyInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -17,11 +17,19 @@ class ClassDeclarationInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ClassDeclarationInstructionJsonParser instance;
+    private static final ClassDeclarationInstructionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
     private final InstructionParser instructionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ClassDeclarationInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -35,11 +43,7 @@ class ClassDeclarationInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ClassDeclarationInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ClassDeclarationInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
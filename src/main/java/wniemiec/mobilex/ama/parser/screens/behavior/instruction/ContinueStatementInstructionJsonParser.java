@@ -13,10 +13,18 @@ class ContinueStatementInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ContinueStatementInstructionJsonParser instance;
+    private static final ContinueStatementInstructionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ContinueStatementInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -29,11 +37,7 @@ class ContinueStatementInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ContinueStatementInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ContinueStatementInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
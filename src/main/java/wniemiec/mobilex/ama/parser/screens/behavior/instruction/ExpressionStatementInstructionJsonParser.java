@@ -17,10 +17,18 @@ class ExpressionStatementInstructionJsonParser implements InstructionJsonParser
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ExpressionStatementInstructionJsonParser instance;
+    private static final ExpressionStatementInstructionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ExpressionStatementInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -33,11 +41,7 @@ class ExpressionStatementInstructionJsonParser implements InstructionJsonParser
     //		Factory
     //-------------------------------------------------------------------------
     public static ExpressionStatementInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ExpressionStatementInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -18,11 +18,19 @@ class ForInStatementInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ForInStatementInstructionJsonParser instance;
+    private static final ForInStatementInstructionJsonParser INSTANCE;
     private final InstructionParser instructionParser;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ForInStatementInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -36,11 +44,7 @@ class ForInStatementInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ForInStatementInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ForInStatementInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -18,11 +18,19 @@ class ForOfStatementInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ForOfStatementInstructionJsonParser instance;
+    private static final ForOfStatementInstructionJsonParser INSTANCE;
     private final InstructionParser instructionParser;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ForOfStatementInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -36,11 +44,7 @@ class ForOfStatementInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ForOfStatementInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ForOfStatementInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
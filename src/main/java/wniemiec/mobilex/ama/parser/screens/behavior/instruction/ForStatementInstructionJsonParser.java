@@ -16,11 +16,19 @@ class ForStatementInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ForStatementInstructionJsonParser instance;
+    private static final ForStatementInstructionJsonParser INSTANCE;
     private final InstructionParser instructionParser;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ForStatementInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -34,11 +42,7 @@ class ForStatementInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ForStatementInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ForStatementInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
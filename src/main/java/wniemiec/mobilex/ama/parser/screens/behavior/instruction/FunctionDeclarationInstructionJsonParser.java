@@ -18,11 +18,19 @@ class FunctionDeclarationInstructionJsonParser implements InstructionJsonParser
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static FunctionDeclarationInstructionJsonParser instance;
+    private static final FunctionDeclarationInstructionJsonParser INSTANCE;
     private final InstructionParser instructionParser;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new FunctionDeclarationInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -36,11 +44,7 @@ class FunctionDeclarationInstructionJsonParser implements InstructionJsonParser
     //		Factory
     //-------------------------------------------------------------------------
     public static FunctionDeclarationInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new FunctionDeclarationInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -16,11 +16,19 @@ class IfStatementInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static IfStatementInstructionJsonParser instance;
+    private static final IfStatementInstructionJsonParser INSTANCE;
     private final InstructionParser instructionParser;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new IfStatementInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -34,11 +42,7 @@ class IfStatementInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static IfStatementInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new IfStatementInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
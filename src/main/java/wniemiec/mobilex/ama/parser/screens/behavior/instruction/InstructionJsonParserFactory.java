@@ -1,28 +1,49 @@
 package wniemiec.mobilex.ama.parser.screens.behavior.instruction;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import wniemiec.mobilex.ama.parser.exception.FactoryException;
 
 
 /**
- * Responsible for providing InstructionJsonParser instances.
+ * Responsible for providing InstructionJsonParser instances. Parsers are
+ * registered once, when the factory is loaded, so that a lookup is a single
+ * read of an immutable map that can be shared by concurrent parsers.
  */
 public class InstructionJsonParserFactory {
     
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static final String EXPRESSION_PACKAGE;
-    private static final String CLASS_SUFFIX;
+    private static final String TYPE_SUFFIX;
+    private static final Map<String, InstructionJsonParser> PARSERS;
 
 
     //-------------------------------------------------------------------------
     //		Initialization block
     //-------------------------------------------------------------------------
     static {
-        EXPRESSION_PACKAGE = "wniemiec.mobilex.ama.parser.screens.behavior.instruction.";
-        CLASS_SUFFIX = "InstructionJsonParser";
+        TYPE_SUFFIX = "Instruction";
+
+        Map<String, InstructionJsonParser> parsers = new HashMap<>();
+
+        register(parsers, "BlockStatement", BlockStatementInstructionJsonParser.getInstance());
+        register(parsers, "BreakStatement", BreakStatementInstructionJsonParser.getInstance());
+        register(parsers, "ClassBody", ClassBodyInstructionJsonParser.getInstance());
+        register(parsers, "ClassDeclaration", ClassDeclarationInstructionJsonParser.getInstance());
+        register(parsers, "ContinueStatement", ContinueStatementInstructionJsonParser.getInstance());
+        register(parsers, "ExpressionStatement", ExpressionStatementInstructionJsonParser.getInstance());
+        register(parsers, "ForInStatement", ForInStatementInstructionJsonParser.getInstance());
+        register(parsers, "ForOfStatement", ForOfStatementInstructionJsonParser.getInstance());
+        register(parsers, "ForStatement", ForStatementInstructionJsonParser.getInstance());
+        register(parsers, "FunctionDeclaration", FunctionDeclarationInstructionJsonParser.getInstance());
+        register(parsers, "IfStatement", IfStatementInstructionJsonParser.getInstance());
+        register(parsers, "MethodDefinition", MethodDefinitionInstructionJsonParser.getInstance());
+        register(parsers, "ReturnStatement", ReturnStatementInstructionJsonParser.getInstance());
+        register(parsers, "VariableDeclaration", VariableDeclarationInstructionJsonParser.getInstance());
+
+        PARSERS = Collections.unmodifiableMap(parsers);
     }
 
 
@@ -36,29 +57,27 @@ public class InstructionJsonParserFactory {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    public static InstructionJsonParser get(String instructionType) 
-    throws FactoryException {
-        try {
-            Class<?> jsonParserClass = getExpressionJsonParserClass(instructionType);
-            
-            return invokeGetInstanceMethod(jsonParserClass);
-        } 
-        catch (Exception e) {
-            throw new FactoryException(e.getMessage());
-        }
+    /**
+     * Registers a parser both by its instruction name (for instance,
+     * 'BlockStatement') and by its name followed by 'Instruction'.
+     */
+    private static void register(
+        Map<String, InstructionJsonParser> parsers,
+        String name,
+        InstructionJsonParser parser
+    ) {
+        parsers.put(name, parser);
+        parsers.put(name + TYPE_SUFFIX, parser);
     }
 
-    private static InstructionJsonParser invokeGetInstanceMethod(Class<?> jsonParserClass)
-    throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        Method getInstance = jsonParserClass.getMethod("getInstance");
-        
-        return ((InstructionJsonParser) getInstance.invoke(jsonParserClass));
-    }
+    public static InstructionJsonParser get(String instructionType) 
+    throws FactoryException {
+        InstructionJsonParser parser = PARSERS.get(instructionType);
 
-    private static Class<?> getExpressionJsonParserClass(String expressionType) 
-    throws ClassNotFoundException {
-        String expressionName = expressionType.replace("Instruction", "");
+        if (parser == null) {
+            throw new FactoryException("Unsupported instruction type: " + instructionType);
+        }
 
-        return Class.forName(EXPRESSION_PACKAGE + expressionName + CLASS_SUFFIX);
+        return parser;
     }
 }
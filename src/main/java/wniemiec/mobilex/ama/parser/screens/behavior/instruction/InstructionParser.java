@@ -15,7 +15,15 @@ public class InstructionParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static InstructionParser instance;
+    private static final InstructionParser INSTANCE;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new InstructionParser();
+    }
 
 
     //-------------------------------------------------------------------------
@@ -29,11 +37,7 @@ public class InstructionParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static InstructionParser getInstance() {
-        if (instance == null) {
-            instance = new InstructionParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
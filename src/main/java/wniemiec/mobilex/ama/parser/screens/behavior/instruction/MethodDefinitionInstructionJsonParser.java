@@ -17,10 +17,18 @@ class MethodDefinitionInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static MethodDefinitionInstructionJsonParser instance;
+    private static final MethodDefinitionInstructionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new MethodDefinitionInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -33,11 +41,7 @@ class MethodDefinitionInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static MethodDefinitionInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new MethodDefinitionInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
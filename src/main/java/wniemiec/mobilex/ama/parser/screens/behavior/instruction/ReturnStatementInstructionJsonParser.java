@@ -17,10 +17,18 @@ class ReturnStatementInstructionJsonParser implements InstructionJsonParser {
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static ReturnStatementInstructionJsonParser instance;
+    private static final ReturnStatementInstructionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new ReturnStatementInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -33,11 +41,7 @@ class ReturnStatementInstructionJsonParser implements InstructionJsonParser {
     //		Factory
     //-------------------------------------------------------------------------
     public static ReturnStatementInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new ReturnStatementInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -21,10 +21,18 @@ class VariableDeclarationInstructionJsonParser implements InstructionJsonParser
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private static VariableDeclarationInstructionJsonParser instance;
+    private static final VariableDeclarationInstructionJsonParser INSTANCE;
     private final ExpressionParser expressionParser;
 
 
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        INSTANCE = new VariableDeclarationInstructionJsonParser();
+    }
+
+
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
@@ -37,11 +45,7 @@ class VariableDeclarationInstructionJsonParser implements InstructionJsonParser
     //		Factory
     //-------------------------------------------------------------------------
     public static VariableDeclarationInstructionJsonParser getInstance() {
-        if (instance == null) {
-            instance = new VariableDeclarationInstructionJsonParser();
-        }
-
-        return instance;
+        return INSTANCE;
     }
     
 
@@ -1,9 +1,6 @@
 package wniemiec.mobilex.ama.parser.screens.structure;
 
-import java.util.List;
-import java.util.SortedMap;
-import org.json.JSONObject;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.tag.Tag;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 
@@ -30,9 +27,9 @@ public class StructureParser {
      * @param       ast MobiLang AST with html tag
      * @param       structureNode Structure node
      */
-    public StructureParser(SortedMap<String, List<Node>> ast, Node structureNode) {
+    public StructureParser(Ast ast, int structureNode) {
         this(
-            ast.get(structureNode.getId()).get(0).getLabel(), 
+            ast.getLabel(ast.getChild(structureNode, 0)), 
             true
         );
     }
@@ -57,103 +54,64 @@ public class StructureParser {
     //		Methods
     //-------------------------------------------------------------------------
     public Tag parse() throws ParseException {
-        JSONObject bodyTag = getBodyTag();
-        
-        return tagParser.parseBodyTag(bodyTag);
+        try {
+            return getBodyTag();
+        }
+        catch (IllegalStateException e) {
+            throw new ParseException("JSON parsing - " + e.getMessage());
+        }
     }
 
-    private JSONObject getBodyTag() throws ParseException {
+    private Tag getBodyTag() {
+        Tag rootTag = tagParser.parseBodyTag(structureNodeContent);
+
         if (astFromMobilang) {  
-            return getBodyTagFromStructureNodeContent();
+            return getBodyTagFromStructureNode(rootTag);
         }
 
-        return new JSONObject(structureNodeContent);
-    }
-
-    private JSONObject getBodyTagFromStructureNodeContent() 
-    throws ParseException {
-        try {
-            return getBodyTagFromStructureNode(new JSONObject(structureNodeContent));
-        } 
-        catch (Exception e) {
-            throw new ParseException("JSON parsing - " + e.getMessage());
-        }
+        return rootTag;
     }
 
-    private JSONObject getBodyTagFromStructureNode(JSONObject json) 
-    throws ParseException {
-        JSONObject htmlTag;
+    private Tag getBodyTagFromStructureNode(Tag structureTag) {
+        Tag htmlTag;
 
-        if (hasHtmlTag(json)) {
-            htmlTag = getHtmlTag(json);
+        if (hasFirstChildWithName(structureTag, "html")) {
+            htmlTag = getFirstChild(structureTag);
         }
         else {
-            htmlTag = generateHtmlTag(json);
+            htmlTag = generateHtmlTag(structureTag);
         }
 
-        if (hasBodyTag(htmlTag)) {
-            return getBodyTagFromHtmlTag(htmlTag);    
+        if (hasFirstChildWithName(htmlTag, "body")) {
+            return getFirstChild(htmlTag);    
         }
         
         return htmlTag;
     }
 
-    private boolean hasHtmlTag(JSONObject json) {
-        return json
-            .getJSONObject("content")
-            .getJSONArray("children")
-            .getJSONObject(0)
-            .getJSONObject("content")
-            .getString("name")
-            .equals("html");
-    }
-
-    private JSONObject getHtmlTag(JSONObject structureJson) throws ParseException {
-        return structureJson
-            .getJSONObject("content")
-            .getJSONArray("children")
-            .getJSONObject(0);
-    }
-
-    private JSONObject generateHtmlTag(JSONObject json) {
-        JSONObject htmlTag = new JSONObject();
-        JSONObject content = json.getJSONObject("content");
-        
-        content.put("name", "html");
-        htmlTag.put("nodeType", "tag");
-        htmlTag.put("content", content);
-
-        return htmlTag;
-    }
+    private boolean hasFirstChildWithName(Tag tag, String name) {
+        if (tag.getChildren().isEmpty()) {
+            return false;
+        }
 
-    private boolean hasBodyTag(JSONObject htmlTag) {
-        return htmlTag
-            .getJSONObject("content")
-            .getJSONArray("children")
-            .getJSONObject(0)
-            .getJSONObject("content")
-            .getString("name")
-            .equals("body");
+        return tag
+            .getChildren()
+            .get(0)
+            .getName()
+            .equals(name);
     }
 
-    private JSONObject getBodyTagFromHtmlTag(JSONObject htmlTagContent) 
-    throws ParseException {
-        JSONObject bodyTag = htmlTagContent
-            .getJSONObject("content")
-            .getJSONArray("children")
-            .getJSONObject(0);
+    private Tag getFirstChild(Tag tag) {
+        Tag firstChild = tag.getChildren().get(0);
 
-        validateBodyTag(bodyTag);
+        firstChild.setParent(null);
 
-        return bodyTag;
+        return firstChild;
     }
 
-    private void validateBodyTag(JSONObject bodyTag) throws ParseException {
-        JSONObject bodyTagContent = bodyTag.getJSONObject("content");
+    private Tag generateHtmlTag(Tag structureTag) {
+        structureTag.setName("html");
 
-        if (!bodyTagContent.getString("name").equals("body")) {
-            throw new ParseException("BODY tag not found");
-        }
+        return structureTag;
     }
 }
-
@@ -1,172 +1,229 @@
 package wniemiec.mobilex.ama.parser.screens.structure;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Stack;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import wniemiec.mobilex.ama.models.tag.JsonTag;
 import wniemiec.mobilex.ama.models.tag.Tag;
+import wniemiec.mobilex.ama.util.data.JsonPullReader;
 
 
 /**
- * Responsible for parsing tags from structure node from MobiLang AST.
+ * Responsible for parsing tags from structure node from MobiLang AST. Tags
+ * are built while the JSON is read, so that token metadata (such as
+ * 'openStart', 'close' and 'parentRef') is skipped instead of being kept in
+ * an intermediate JSON tree. Tag names and attribute keys are interned,
+ * since they come from a small vocabulary.
  */
 class TagParser {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private final Stack<JsonTag> tagsToParse;
-    
+    private static final String TEXT_NODE_TYPE;
+    private String textValue;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        TEXT_NODE_TYPE = "text";
+    }
+
 
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
     public TagParser() {
-        tagsToParse = new Stack<>();
+        textValue = null;
     }
 
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    public Tag parseBodyTag(JSONObject jsonBodyTag) {
-        Tag bodyTag = null;
-        
-        tagsToParse.push(new JsonTag(jsonBodyTag, null));
+    public Tag parseBodyTag(String jsonBodyTag) {
+        return parseTag(new JsonPullReader(jsonBodyTag));
+    }
 
-        while (!tagsToParse.empty()) {
-            JsonTag currentRawTag = tagsToParse.pop();
+    /**
+     * Parses the next node of a JSON reader as a tag.
+     *
+     * @param       reader JSON reader positioned before a node object
+     *
+     * @return      Parsed tag or null if the node is a text node
+     */
+    public Tag parseTag(JsonPullReader reader) {
+        return parseNode(reader, null);
+    }
+
+    private Tag parseNode(JsonPullReader reader, Tag parent) {
+        String nodeType = null;
+        Tag tag = null;
+        boolean hasContent = false;
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            String name = reader.nextName();
 
-            if (isValue(currentRawTag)) {
-                parseValue(currentRawTag);
+            if (name.equals("nodeType")) {
+                nodeType = reader.nextString();
+            }
+            else if (name.equals("content")) {
+                tag = parseNodeContent(reader, isText(nodeType));
+                hasContent = true;
             }
             else {
-                bodyTag = parseTag(bodyTag, currentRawTag);
+                reader.skipValue();
             }
         }
 
-        return bodyTag;
-    }
+        reader.endObject();
 
-    private boolean isValue(JsonTag currentRawTag) {
-        return getTagType(currentRawTag).equals("text");
-    }
+        if (!hasContent) {
+            throw new IllegalStateException("Node without content");
+        }
 
-    private String getTagType(JsonTag currentRawTag) {
-        JSONObject currentTag = currentRawTag.getTag();
-        
-        return currentTag.getString("nodeType");
-    }
+        if (isText(nodeType)) {
+            parseValue(parent);
 
-    private void parseValue(JsonTag currentRawTag) {
-        String tagContent = extractTagContent(currentRawTag)
-            .getJSONObject("value")
-            .getString("content");
-        
-        if (!isEmpty(tagContent)) {
-            currentRawTag.getParent().setValue(tagContent);
+            return null;
         }
+
+        return tag;
     }
 
-    private boolean isEmpty(String tagContent) {
-        return tagContent.matches("\"[\\s\\t]*(\")?");
+    private boolean isText(String nodeType) {
+        return TEXT_NODE_TYPE.equals(nodeType);
     }
 
-    private Tag parseTag(Tag bodyTag, JsonTag currentRawTag) {
-        Tag parsedTag = parseTagContent(extractTagContent(currentRawTag));
+    /**
+     * Parses the content of a node. The value of a text node is stored in
+     * textValue. If the node type is not known yet (that is, 'content' comes
+     * before 'nodeType'), a tag is built anyway and it is discarded if the
+     * node turns out to be a text node.
+     *
+     * @return      Parsed tag or null if the node is known to be a text node
+     */
+    private Tag parseNodeContent(JsonPullReader reader, boolean text) {
+        Tag tag = text ? null : new Tag("", false);
 
-        if (currentRawTag.hasParent()) {
-            currentRawTag.addChild(parsedTag);
-        }
-        
-        if (bodyTag == null) {
-            bodyTag = parsedTag;
+        textValue = null;
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+
+            if (name.equals("value")) {
+                textValue = parseToken(reader);
+            }
+            else if (text) {
+                reader.skipValue();
+            }
+            else if (name.equals("name")) {
+                tag.setName(reader.nextString().intern());
+            }
+            else if (name.equals("selfClosing")) {
+                tag.setVoidTag(reader.nextBoolean());
+            }
+            else if (name.equals("attributes")) {
+                parseAttributes(reader, tag);
+            }
+            else if (name.equals("children")) {
+                parseChildren(reader, tag);
+            }
+            else {
+                reader.skipValue();
+            }
         }
 
-        return bodyTag;
-    }
+        reader.endObject();
 
-    private JSONObject extractTagContent(JsonTag currentRawTag) {
-        return currentRawTag.getTag().getJSONObject("content");
+        return tag;
     }
 
-    private Tag parseTagContent(JSONObject tagContent) {
-        Tag parsedTag = new Tag(
-            extractTagName(tagContent),
-            extractTagType(tagContent)
-        );
-        
-        for (Map.Entry<String, String> attribute : extractTagAttributes(tagContent).entrySet()) {
-            parsedTag.addAttribute(attribute.getKey(), attribute.getValue());
+    private void parseValue(Tag parent) {
+        if (textValue == null) {
+            throw new IllegalStateException("Text node without value");
         }
-        
-        if (hasChildren(tagContent)) {
-            parseTagChildren(parsedTag, tagContent);
+
+        if (!isEmpty(textValue) && (parent != null)) {
+            parent.setValue(textValue);
         }
-        
-        return parsedTag;
     }
 
-    private String extractTagName(JSONObject tagContent) {
-        String tagName = "";
-        
-        if (tagContent.has("name")) {
-            tagName = tagContent.getString("name");
+    private boolean isEmpty(String tagContent) {
+        return tagContent.matches("\"[\\s\\t]*(\")?");
+    }
+
+    private void parseAttributes(JsonPullReader reader, Tag tag) {
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            parseAttribute(reader, tag);
         }
 
-        return tagName;
+        reader.endArray();
     }
 
-    private Map<String, String> extractTagAttributes(JSONObject tag) {
-        if (!tag.has("attributes")) {
-            return new HashMap<>();
-        }
+    private void parseAttribute(JsonPullReader reader, Tag tag) {
+        String key = null;
+        String value = null;
+
+        reader.beginObject();
 
-        Map<String, String> attributes = new HashMap<>();
-        JSONArray jsonAttributes = tag.getJSONArray("attributes");
+        while (reader.hasNext()) {
+            String name = reader.nextName();
 
-        for (int i = 0; i < jsonAttributes.length(); i++) {
-            String key = extractKeyFromAttribute(jsonAttributes.getJSONObject(i));
-            String value = extractValueFromAttribute(jsonAttributes.getJSONObject(i));
-            
-            attributes.put(key, value);
+            if (name.equals("key")) {
+                key = parseToken(reader);
+            }
+            else if (name.equals("value")) {
+                value = parseToken(reader);
+            }
+            else {
+                reader.skipValue();
+            }
         }
 
-        return attributes;
-    }
+        reader.endObject();
 
-    private boolean extractTagType(JSONObject tag) {
-        if (!tag.has("selfClosing")) {
-            return false;
+        if ((key == null) || (value == null)) {
+            throw new IllegalStateException("Attribute without key or value");
         }
 
-        return tag.getBoolean("selfClosing");
+        tag.addAttribute(key.intern(), value);
     }
 
-    private String extractKeyFromAttribute(JSONObject attributeObject) {
-        return attributeObject.getJSONObject("key").getString("content");
-    }
+    /**
+     * Parses a token object (for instance, '{"type": "token:text",
+     * "content": "Hello", ...}'), returning its content.
+     */
+    private String parseToken(JsonPullReader reader) {
+        String content = null;
 
-    private String extractValueFromAttribute(JSONObject attributeObject) {
-        return attributeObject.getJSONObject("value").getString("content");
-    }
+        reader.beginObject();
 
-    private boolean hasChildren(JSONObject jsonTag) {
-        return jsonTag.has("children");
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("content")) {
+                content = reader.nextString();
+            }
+            else {
+                reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+
+        return content;
     }
 
-    private void parseTagChildren(Tag parent, JSONObject tagContent) {
-        JSONArray tagChildren = tagContent.getJSONArray("children");
+    private void parseChildren(JsonPullReader reader, Tag parent) {
+        reader.beginArray();
 
-        for (int i = tagChildren.length()-1; i >= 0; i--) {
-            JsonTag childRawTag = new JsonTag(
-                tagChildren.getJSONObject(i), 
-                parent
-            );
-            
-            tagsToParse.push(childRawTag);
+        while (reader.hasNext()) {
+            parent.addChild(parseNode(reader, parent));
         }
+
+        reader.endArray();
     }
 }
@@ -1,10 +1,8 @@
 package wniemiec.mobilex.ama.parser.screens.style;
 
-import java.util.List;
-import java.util.SortedMap;
 import org.json.JSONArray;
 import org.json.JSONObject;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Style;
 
 
@@ -29,7 +27,7 @@ public class StyleParser {
      * @param       ast MobiLang AST
      * @param       styleNode Style node
      */
-    public StyleParser(SortedMap<String, List<Node>> ast, Node styleNode) {
+    public StyleParser(Ast ast, int styleNode) {
         styleNodeContent = extractStyleContentFrom(ast, styleNode);
         cssRulesParser = new CssRulesParser();
     }
@@ -38,12 +36,12 @@ public class StyleParser {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private String extractStyleContentFrom(SortedMap<String, List<Node>> ast, Node styleNode) {
-        if (!ast.containsKey(styleNode.getId())) {
+    private String extractStyleContentFrom(Ast ast, int styleNode) {
+        if (!ast.hasChildren(styleNode)) {
             return "{}";
         }
 
-        return ast.get(styleNode.getId()).get(0).getLabel();
+        return ast.getLabel(ast.getChild(styleNode, 0));
     }
 
     public Style parse() {
@@ -0,0 +1,315 @@
+package wniemiec.mobilex.ama.reader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Responsible for tokenizing the restricted DOT dialect generated by MobiLang
+ * front end. Tokens are read directly from a (usually memory-mapped) byte
+ * buffer, and identifiers are only decoded when requested, so that large
+ * labels can be kept as byte ranges.
+ */
+class DotLexer {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final int EOF;
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private int line;
+    private int tokenStart;
+    private int tokenEnd;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        EOF = -1;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    public DotLexer(ByteBuffer buffer) {
+        this.buffer = buffer;
+        limit = buffer.limit();
+        position = 0;
+        line = 1;
+        tokenStart = 0;
+        tokenEnd = 0;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Returns the next significant character without consuming it.
+     * Whitespaces and comments are skipped.
+     *
+     * @return      Next character or -1 if the end of the buffer was reached
+     */
+    public int peek() {
+        skipWhitespacesAndComments();
+
+        return peekRaw();
+    }
+
+    /**
+     * Consumes the next significant character if it is the expected one.
+     *
+     * @param       expected Expected character
+     *
+     * @return      True if the character was consumed; false otherwise
+     */
+    public boolean consume(char expected) {
+        if (peek() != expected) {
+            return false;
+        }
+
+        position++;
+
+        return true;
+    }
+
+    /**
+     * Consumes an edge operator ('->' or '--') if it is the next token.
+     *
+     * @return      True if an edge operator was consumed; false otherwise
+     */
+    public boolean consumeEdgeOperator() {
+        if ((peek() != '-') || ((position + 1) >= limit)) {
+            return false;
+        }
+
+        byte operator = buffer.get(position + 1);
+
+        if ((operator != '>') && (operator != '-')) {
+            return false;
+        }
+
+        position += 2;
+
+        return true;
+    }
+
+    /**
+     * Reads and decodes an identifier.
+     *
+     * @return      Identifier
+     *
+     * @throws      IllegalStateException If there is no identifier at the
+     * current position
+     */
+    public String readId() {
+        skipId();
+
+        return decode(buffer, tokenStart, tokenEnd);
+    }
+
+    /**
+     * Skips an identifier, which can be either a quoted string or a sequence
+     * of alphanumeric characters, without decoding it. Its raw content (for
+     * quoted strings, without quotes) can be obtained through
+     * {@link #getTokenStart()} and {@link #getTokenEnd()}.
+     *
+     * @throws      IllegalStateException If there is no identifier at the
+     * current position
+     */
+    public void skipId() {
+        int current = peek();
+
+        if (current == '"') {
+            skipQuotedString();
+        }
+        else if (isIdCharacter(current)) {
+            skipUnquotedId();
+        }
+        else {
+            throw buildUnexpectedCharacterException(current);
+        }
+    }
+
+    private void skipQuotedString() {
+        position++;
+        tokenStart = position;
+
+        int current = nextRaw();
+
+        while (current != '"') {
+            if (current == EOF) {
+                throw new IllegalStateException(
+                    "DOT parsing - unterminated string at line " + line
+                );
+            }
+
+            if ((current == '\\') && (peekRaw() == '"')) {
+                position++;
+            }
+
+            current = nextRaw();
+        }
+
+        tokenEnd = position - 1;
+    }
+
+    private void skipUnquotedId() {
+        tokenStart = position;
+
+        while (isIdCharacter(peekRaw())) {
+            position++;
+        }
+
+        tokenEnd = position;
+    }
+
+    private boolean isIdCharacter(int character) {
+        return  (character == '_')
+                || (character == '.')
+                || (character >= 0x80)
+                || Character.isLetterOrDigit(character);
+    }
+
+    /**
+     * Decodes a raw DOT string stored in a byte buffer. The same unescaping
+     * as DOT labels is applied, that is, only '\"' is replaced by '"'. The
+     * buffer position is not changed, so it can be shared by several
+     * readers.
+     *
+     * @param       buffer Buffer with UTF-8 content
+     * @param       start Index of the first byte (inclusive)
+     * @param       end Index of the last byte (exclusive)
+     *
+     * @return      Decoded string
+     */
+    static String decode(ByteBuffer buffer, int start, int end) {
+        byte[] content = new byte[end - start];
+        int length = 0;
+
+        for (int i = start; i < end; i++) {
+            byte current = buffer.get(i);
+
+            if ((current == '\\') && ((i + 1) < end) && (buffer.get(i + 1) == '"')) {
+                continue;
+            }
+
+            content[length++] = current;
+        }
+
+        return new String(content, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void skipWhitespacesAndComments() {
+        boolean skipped = true;
+
+        while (skipped) {
+            skipped = skipWhitespaces() | skipComment();
+        }
+    }
+
+    private boolean skipWhitespaces() {
+        boolean skipped = false;
+
+        while (Character.isWhitespace(peekRaw())) {
+            nextRaw();
+            skipped = true;
+        }
+
+        return skipped;
+    }
+
+    private boolean skipComment() {
+        int current = peekRaw();
+
+        if (current == '#') {
+            skipLineComment();
+
+            return true;
+        }
+
+        if ((current != '/') || ((position + 1) >= limit)) {
+            return false;
+        }
+
+        if (buffer.get(position + 1) == '/') {
+            skipLineComment();
+        }
+        else if (buffer.get(position + 1) == '*') {
+            skipBlockComment();
+        }
+        else {
+            return false;
+        }
+
+        return true;
+    }
+
+    private void skipLineComment() {
+        int current = nextRaw();
+
+        while ((current != '\n') && (current != EOF)) {
+            current = nextRaw();
+        }
+    }
+
+    private void skipBlockComment() {
+        position += 2;
+
+        int previous = EOF;
+        int current = nextRaw();
+
+        while ((current != EOF) && !((previous == '*') && (current == '/'))) {
+            previous = current;
+            current = nextRaw();
+        }
+    }
+
+    private int peekRaw() {
+        if (position >= limit) {
+            return EOF;
+        }
+
+        return buffer.get(position) & 0xFF;
+    }
+
+    private int nextRaw() {
+        int current = peekRaw();
+
+        if (current != EOF) {
+            position++;
+        }
+
+        if (current == '\n') {
+            line++;
+        }
+
+        return current;
+    }
+
+    private IllegalStateException buildUnexpectedCharacterException(int character) {
+        String found = (character == EOF)
+            ? "end of file"
+            : ("'" + ((char) character) + "'");
+
+        return new IllegalStateException(
+            "DOT parsing - unexpected " + found + " at line " + line
+        );
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public int getTokenStart() {
+        return tokenStart;
+    }
+
+    public int getTokenEnd() {
+        return tokenEnd;
+    }
+}
@@ -1,92 +1,279 @@
 package wniemiec.mobilex.ama.reader;
 
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
-import com.paypal.digraph.parser.GraphEdge;
-import com.paypal.digraph.parser.GraphNode;
-import com.paypal.digraph.parser.GraphParser;
-import wniemiec.mobilex.ama.models.Node;
+import java.util.Set;
+import wniemiec.mobilex.ama.models.Ast;
 
 
 /**
- * Responsible for reading Mobilang dot files.
+ * Responsible for reading Mobilang dot files. The file is memory-mapped and
+ * read in a single pass by a lexer that only understands the DOT subset
+ * generated by MobiLang front end: edge statements ('nX -> nY;') and node
+ * statements ('nX [label="..."];'). Nodes are indexed in the order they first
+ * appear, so that the resulting AST can be navigated without string lookups,
+ * and labels are stored as byte ranges of the mapped file, so that they are
+ * only decoded when requested.
  */
 public class MobilangDotReader {
 
     //-------------------------------------------------------------------------
     //		Attributes
     //-------------------------------------------------------------------------
-    private final SortedMap<String, List<Node>> tree;
+    private static final Set<String> KEYWORDS;
+    private static final String LABEL_ATTRIBUTE;
+    private static final int INITIAL_CAPACITY;
+    private static final int NO_LABEL;
+    private final Map<String, Integer> indexes;
+    private final List<String> ids;
+    private int[] labelStarts;
+    private int[] labelEnds;
+    private int[] kinds;
+    private int[] sources;
+    private int[] targets;
+    private int totalEdges;
+    private ByteBuffer content;
+    private DotLexer lexer;
+    private Ast tree;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        KEYWORDS = Set.of("graph", "node", "edge");
+        LABEL_ATTRIBUTE = "label";
+        INITIAL_CAPACITY = 64;
+        NO_LABEL = -1;
+    }
 
 
     //-------------------------------------------------------------------------
     //		Constructor
     //-------------------------------------------------------------------------
     public MobilangDotReader() {
-        tree = new TreeMap<>();
+        indexes = new HashMap<>();
+        ids = new ArrayList<>();
+        labelStarts = new int[INITIAL_CAPACITY];
+        labelEnds = new int[INITIAL_CAPACITY];
+        kinds = new int[INITIAL_CAPACITY];
+        sources = new int[INITIAL_CAPACITY];
+        targets = new int[INITIAL_CAPACITY];
+        totalEdges = 0;
     }
-    
+
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
+    /**
+     * Reads a MobiLang dot file.
+     *
+     * @param       filepath Dot file
+     *
+     * @throws      FileNotFoundException If file does not exist
+     * @throws      IllegalStateException If file is not a valid dot file
+     */
     public void read(Path filepath) throws FileNotFoundException {
-        Map<String, GraphEdge> edges = readEdges(filepath);
-        
-        for (GraphEdge edge : edges.values()) {
-            parseEdge(edge);
+        content = mapFile(filepath);
+        lexer = new DotLexer(content);
+
+        parseGraph();
+        buildTree();
+    }
+
+    private ByteBuffer mapFile(Path filepath) throws FileNotFoundException {
+        try (FileChannel channel = FileChannel.open(filepath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        catch (NoSuchFileException e) {
+            throw new FileNotFoundException(filepath.toString());
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void parseGraph() {
+        parseGraphHeader();
+
+        while (!lexer.consume('}')) {
+            parseStatement();
+        }
+    }
+
+    private void parseGraphHeader() {
+        while (!lexer.consume('{')) {
+            lexer.skipId();
+        }
+    }
+
+    private void parseStatement() {
+        String id = lexer.readId();
+
+        if (lexer.consumeEdgeOperator()) {
+            parseEdgeStatement(id);
+        }
+        else if (lexer.consume('=')) {
+            lexer.skipId();
+        }
+        else {
+            parseNodeStatement(id);
+        }
+
+        lexer.consume(';');
+    }
+
+    private void parseEdgeStatement(String firstNodeId) {
+        String nodeId = firstNodeId;
+
+        do {
+            String childId = lexer.readId();
+
+            addEdge(nodeId, childId);
+            nodeId = childId;
+        }
+        while (lexer.consumeEdgeOperator());
+
+        parseAttributes(null);
+    }
+
+    private void addEdge(String nodeId, String childId) {
+        if (totalEdges == sources.length) {
+            sources = Arrays.copyOf(sources, totalEdges * 2);
+            targets = Arrays.copyOf(targets, totalEdges * 2);
         }
+
+        sources[totalEdges] = indexOf(nodeId);
+        targets[totalEdges] = indexOf(childId);
+        totalEdges++;
+    }
+
+    private int indexOf(String nodeId) {
+        Integer index = indexes.get(nodeId);
+
+        if (index == null) {
+            index = ids.size();
+            indexes.put(nodeId, index);
+            ids.add(nodeId);
+            ensureNodeCapacity(index + 1);
+            labelStarts[index] = NO_LABEL;
+            labelEnds[index] = NO_LABEL;
+            kinds[index] = Ast.CONTENT;
+        }
+
+        return index;
+    }
+
+    private void ensureNodeCapacity(int capacity) {
+        if (capacity <= labelStarts.length) {
+            return;
+        }
+
+        int newCapacity = labelStarts.length * 2;
+
+        labelStarts = Arrays.copyOf(labelStarts, newCapacity);
+        labelEnds = Arrays.copyOf(labelEnds, newCapacity);
+        kinds = Arrays.copyOf(kinds, newCapacity);
     }
 
-    private void parseEdge(GraphEdge edge) {
-        GraphNode nodeLeft = edge.getNode1();
-        GraphNode nodeRight = edge.getNode2();
-        String key = nodeLeft.getId();
-        
-        if (tree.containsKey(key)) {
-            addChildToNode(nodeRight, key);
+    private void parseNodeStatement(String nodeId) {
+        if (KEYWORDS.contains(nodeId)) {
+            parseAttributes(null);
         }
         else {
-            addNode(nodeRight, key);
+            parseAttributes(nodeId);
+        }
+    }
+
+    private void parseAttributes(String nodeId) {
+        while (lexer.consume('[')) {
+            parseAttributeList(nodeId);
         }
     }
 
-    private void addChildToNode(GraphNode child, String nodeId) {
-        List<Node> children = tree.get(nodeId);
+    private void parseAttributeList(String nodeId) {
+        while (!lexer.consume(']')) {
+            String key = lexer.readId();
 
-        children.add(new Node(child));
+            if (lexer.consume('=')) {
+                lexer.skipId();
+                parseAttributeValue(nodeId, key);
+            }
+
+            if (!lexer.consume(',')) {
+                lexer.consume(';');
+            }
+        }
     }
 
-    private void addNode(GraphNode nodeRight, String nodeId) {
-        List<Node> children = new ArrayList<>();
-        
-        children.add(new Node(nodeRight));
-        tree.put(nodeId, children);
+    private void parseAttributeValue(String nodeId, String key) {
+        if ((nodeId == null) || !key.equals(LABEL_ATTRIBUTE)) {
+            return;
+        }
+
+        int index = indexOf(nodeId);
+
+        labelStarts[index] = lexer.getTokenStart();
+        labelEnds[index] = lexer.getTokenEnd();
+        kinds[index] = classifyLabel(labelStarts[index], labelEnds[index]);
     }
 
-    private Map<String, GraphEdge> readEdges(Path filepath) 
-    throws FileNotFoundException {
-        GraphParser parser = new GraphParser(buildInputStream(filepath));
-        
-        return parser.getEdges();
+    /**
+     * Classifies a label from its raw bytes, reading only its tag name (for
+     * instance, 'screen' in '<screen id="home">').
+     */
+    private int classifyLabel(int start, int end) {
+        if ((start == end) || (content.get(start) != '<')) {
+            return Ast.CONTENT;
+        }
+
+        StringBuilder tagName = new StringBuilder();
+        int index = start + 1;
+
+        while ((index < end)
+                && (content.get(index) != ' ')
+                && (content.get(index) != '>')) {
+            tagName.append((char) content.get(index));
+            index++;
+        }
+
+        return Ast.kindOf(tagName.toString());
     }
 
-    private FileInputStream buildInputStream(Path filepath) 
-    throws FileNotFoundException {
-        return new FileInputStream(filepath.toFile());
+    private void buildTree() {
+        ByteBuffer labelContent = content;
+        int[] starts = Arrays.copyOf(labelStarts, ids.size());
+        int[] ends = Arrays.copyOf(labelEnds, ids.size());
+
+        tree = new Ast(
+            ids.toArray(new String[0]),
+            node -> (starts[node] == NO_LABEL)
+                ? null
+                : DotLexer.decode(labelContent, starts[node], ends[node]),
+            Arrays.copyOf(kinds, ids.size()),
+            sources,
+            targets,
+            totalEdges
+        );
     }
 
 
     //-------------------------------------------------------------------------
     //		Getters
     //-------------------------------------------------------------------------
-    public SortedMap<String, List<Node>> getTree() {
+    public Ast getTree() {
         return tree;
     }
 }
@@ -0,0 +1,374 @@
+package wniemiec.mobilex.ama.util.data;
+
+
+/**
+ * Responsible for reading a JSON document one token at a time, without
+ * building a tree. Callers pull the values they are interested in and skip
+ * the rest, so that large documents can be turned into domain objects
+ * without allocating an intermediate DOM.
+ */
+public class JsonPullReader {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    public static final int END;
+    public static final int OBJECT;
+    public static final int ARRAY;
+    public static final int STRING;
+    public static final int NUMBER;
+    public static final int BOOLEAN;
+    public static final int NULL;
+    private static final int EOF;
+    private final String json;
+    private final int length;
+    private int position;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        END = 0;
+        OBJECT = 1;
+        ARRAY = 2;
+        STRING = 3;
+        NUMBER = 4;
+        BOOLEAN = 5;
+        NULL = 6;
+        EOF = -1;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    public JsonPullReader(String json) {
+        this.json = json;
+        length = json.length();
+        position = 0;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    /**
+     * Gets the type of the next value without consuming it.
+     *
+     * @return      OBJECT, ARRAY, STRING, NUMBER, BOOLEAN, NULL or END if
+     * the current object or array has no more values
+     */
+    public int peek() {
+        int c = peekSignificant();
+
+        if (c == '{') {
+            return OBJECT;
+        }
+        if (c == '[') {
+            return ARRAY;
+        }
+        if (c == '"') {
+            return STRING;
+        }
+        if ((c == 't') || (c == 'f')) {
+            return BOOLEAN;
+        }
+        if (c == 'n') {
+            return NULL;
+        }
+        if ((c == '-') || ((c >= '0') && (c <= '9'))) {
+            return NUMBER;
+        }
+
+        return END;
+    }
+
+    public void beginObject() {
+        expect('{');
+    }
+
+    public void endObject() {
+        skipSeparator();
+        expect('}');
+    }
+
+    public void beginArray() {
+        expect('[');
+    }
+
+    public void endArray() {
+        skipSeparator();
+        expect(']');
+    }
+
+    /**
+     * Checks whether the current object or array has more values. The
+     * separator before the next value, if any, is consumed.
+     *
+     * @return      True if there is another value or name
+     */
+    public boolean hasNext() {
+        skipSeparator();
+
+        int c = peekRaw();
+
+        return (c != '}') && (c != ']') && (c != EOF);
+    }
+
+    public String nextName() {
+        skipSeparator();
+
+        String name = readString();
+
+        expect(':');
+
+        return name;
+    }
+
+    public String nextString() {
+        skipWhitespaces();
+
+        return readString();
+    }
+
+    public boolean nextBoolean() {
+        skipWhitespaces();
+
+        if (json.startsWith("true", position)) {
+            position += 4;
+
+            return true;
+        }
+
+        if (json.startsWith("false", position)) {
+            position += 5;
+
+            return false;
+        }
+
+        throw error("Expected a boolean");
+    }
+
+    /**
+     * Reads the next number or literal (true, false, null) as it is written
+     * in the document.
+     *
+     * @return      Raw literal
+     */
+    public String nextLiteral() {
+        skipWhitespaces();
+
+        int start = position;
+
+        skipLiteral();
+
+        if (start == position) {
+            throw error("Expected a literal");
+        }
+
+        return json.substring(start, position);
+    }
+
+    /**
+     * Skips the next value, including nested objects and arrays.
+     */
+    public void skipValue() {
+        int c = peekSignificant();
+
+        if ((c == '{') || (c == '[')) {
+            skipContainer();
+        }
+        else if (c == '"') {
+            skipString();
+        }
+        else {
+            skipLiteral();
+        }
+    }
+
+    private void skipContainer() {
+        int depth = 0;
+
+        do {
+            char c = json.charAt(position);
+
+            if (c == '"') {
+                skipString();
+                continue;
+            }
+
+            if ((c == '{') || (c == '[')) {
+                depth++;
+            }
+            else if ((c == '}') || (c == ']')) {
+                depth--;
+            }
+
+            position++;
+        }
+        while ((depth > 0) && (position < length));
+
+        if (depth > 0) {
+            throw error("Unterminated object or array");
+        }
+    }
+
+    private void skipString() {
+        position++;
+
+        while (position < length) {
+            char c = json.charAt(position);
+
+            if (c == '"') {
+                position++;
+
+                return;
+            }
+
+            position += (c == '\\') ? 2 : 1;
+        }
+
+        throw error("Unterminated string");
+    }
+
+    private void skipLiteral() {
+        while ((position < length) && !isDelimiter(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private boolean isDelimiter(char c) {
+        return (c == ',')
+            || (c == '}')
+            || (c == ']')
+            || (c == ':')
+            || Character.isWhitespace(c);
+    }
+
+    private String readString() {
+        expect('"');
+
+        int start = position;
+
+        while (position < length) {
+            char c = json.charAt(position);
+
+            if (c == '"') {
+                position++;
+
+                return json.substring(start, position - 1);
+            }
+
+            if (c == '\\') {
+                return readEscapedString(start);
+            }
+
+            position++;
+        }
+
+        throw error("Unterminated string");
+    }
+
+    private String readEscapedString(int start) {
+        StringBuilder value = new StringBuilder(json.substring(start, position));
+
+        while (position < length) {
+            char c = json.charAt(position++);
+
+            if (c == '"') {
+                return value.toString();
+            }
+
+            if (c == '\\') {
+                value.append(readEscapedChar());
+            }
+            else {
+                value.append(c);
+            }
+        }
+
+        throw error("Unterminated string");
+    }
+
+    private char readEscapedChar() {
+        if (position >= length) {
+            throw error("Unterminated escape sequence");
+        }
+
+        char c = json.charAt(position++);
+
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                return readUnicodeChar();
+            default:
+                return c;
+        }
+    }
+
+    private char readUnicodeChar() {
+        if (position + 4 > length) {
+            throw error("Invalid unicode escape sequence");
+        }
+
+        try {
+            char c = (char) Integer.parseInt(json.substring(position, position + 4), 16);
+
+            position += 4;
+
+            return c;
+        }
+        catch (NumberFormatException e) {
+            throw error("Invalid unicode escape sequence");
+        }
+    }
+
+    private void expect(char expected) {
+        if (peekSignificant() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+
+        position++;
+    }
+
+    private int peekSignificant() {
+        skipWhitespaces();
+
+        return peekRaw();
+    }
+
+    private int peekRaw() {
+        return (position < length) ? json.charAt(position) : EOF;
+    }
+
+    private void skipSeparator() {
+        skipWhitespaces();
+
+        if (peekRaw() == ',') {
+            position++;
+            skipWhitespaces();
+        }
+    }
+
+    private void skipWhitespaces() {
+        while ((position < length) && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalStateException error(String message) {
+        return new IllegalStateException(
+            "Invalid JSON at position " + position + ": " + message
+        );
+    }
+}
@@ -1,10 +1,12 @@
 package wniemiec.mobilex.ama.util.data;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 
 import wniemiec.io.java.Terminal;
 import wniemiec.mobilex.ama.framework.Framework;
+import wniemiec.mobilex.ama.framework.reactnative.babel.BehaviorTranspiler;
 import wniemiec.mobilex.ama.models.Properties;
 import wniemiec.mobilex.ama.models.Screen;
 import wniemiec.mobilex.ama.models.behavior.Behavior;
@@ -29,6 +31,12 @@ public class Validator {
         }
     }
 
+    public static void validateDependencies(Collection<String> dependencies) {
+        if (dependencies == null) {
+            throw new IllegalArgumentException("Dependencies cannot be null");
+        }
+    }
+
     public static void validateProperties(Properties properties) {
         if (properties == null) {
             throw new IllegalArgumentException("Properties cannot be null");
@@ -53,6 +61,12 @@ public class Validator {
         }
     }
 
+    public static void validateBehaviorTranspiler(BehaviorTranspiler behaviorTranspiler) {
+        if (behaviorTranspiler == null) {
+            throw new IllegalArgumentException("Behavior transpiler cannot be null");
+        }
+    }
+
 
     public static void validateScreens(List<Screen> screens) {
         if (screens == null) {
@@ -0,0 +1,69 @@
+/*
+ * Babel worker used by BabelWorkerTranspiler. Each request and each response
+ * is a JSON object written on a single line:
+ *
+ *   {"id": 1, "type": "ping"}
+ *   -> {"id": 1, "type": "pong", "version": "@babel/core@<version> ..."}
+ *
+ *   {"id": 2, "type": "transpile", "behaviors": {"<screen>": "<code>"}}
+ *   -> {"id": 2, "type": "transpiled", "results": {...}, "errors": {...}}
+ *
+ * The worker exits when its input is closed.
+ */
+const babel = require('@babel/core');
+const readline = require('readline');
+
+const VERSION = '@babel/core@' + babel.version
+    + ' @babel/preset-env@' + require('@babel/preset-env/package.json').version;
+
+const OPTIONS = {
+    presets: ['@babel/preset-env'],
+    babelrc: false,
+    configFile: false
+};
+
+function transpile(behaviors) {
+    const results = {};
+    const errors = {};
+
+    for (const screen of Object.keys(behaviors)) {
+        try {
+            results[screen] = babel.transformSync(behaviors[screen], OPTIONS).code;
+        }
+        catch (e) {
+            errors[screen] = e.message;
+        }
+    }
+
+    return { type: 'transpiled', results: results, errors: errors };
+}
+
+function handle(request) {
+    if (request.type === 'ping') {
+        return { type: 'pong', version: VERSION };
+    }
+
+    if (request.type === 'transpile') {
+        return transpile(request.behaviors);
+    }
+
+    return { type: 'error', message: 'Unknown request: ' + request.type };
+}
+
+readline
+    .createInterface({ input: process.stdin, terminal: false })
+    .on('line', (line) => {
+        let response;
+
+        try {
+            const request = JSON.parse(line);
+
+            response = handle(request);
+            response.id = request.id;
+        }
+        catch (e) {
+            response = { type: 'error', message: e.message };
+        }
+
+        process.stdout.write(JSON.stringify(response) + '\n');
+    });
@@ -0,0 +1,216 @@
+package util.babel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.json.JSONObject;
+
+
+/**
+ * Babel worker that answers requests as soon as they are written, without
+ * running Node. Transpiled code is the original code preceded by
+ * '"use strict";', and code with '@' fails to be transpiled. A worker can
+ * also crash as soon as it is launched, writing a message on its standard
+ * error.
+ */
+public class MockBabelWorker extends Process {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final int END_OF_STREAM;
+    private final boolean responding;
+    private final String errorOutput;
+    private final BlockingQueue<Integer> output;
+    private final ByteArrayOutputStream currentRequest;
+    private boolean alive;
+    private int requests;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        END_OF_STREAM = -1;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    /**
+     * Mock Babel worker.
+     *
+     * @param       responding False if the worker should never respond
+     */
+    public MockBabelWorker(boolean responding) {
+        this(responding, "");
+    }
+
+    /**
+     * Mock Babel worker that crashes as soon as it is launched.
+     *
+     * @param       errorOutput Message written on the standard error
+     */
+    public MockBabelWorker(String errorOutput) {
+        this(true, errorOutput);
+        kill();
+    }
+
+    private MockBabelWorker(boolean responding, String errorOutput) {
+        this.responding = responding;
+        this.errorOutput = errorOutput;
+        output = new LinkedBlockingQueue<>();
+        currentRequest = new ByteArrayOutputStream();
+        alive = true;
+        requests = 0;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    @Override
+    public OutputStream getOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                if (b == '\n') {
+                    receive(new String(currentRequest.toByteArray(), StandardCharsets.UTF_8));
+                    currentRequest.reset();
+                }
+                else {
+                    currentRequest.write(b);
+                }
+            }
+        };
+    }
+
+    private void receive(String rawRequest) {
+        requests++;
+
+        if (!alive || !responding) {
+            return;
+        }
+
+        JSONObject request = new JSONObject(rawRequest);
+        JSONObject response = "ping".equals(request.getString("type"))
+            ? new JSONObject().put("type", "pong").put("version", "7.0.0-mock")
+            : transpile(request.getJSONObject("behaviors"));
+
+        response.put("id", request.getInt("id"));
+
+        for (byte b : (response.toString() + "\n").getBytes(StandardCharsets.UTF_8)) {
+            output.add(b & 0xff);
+        }
+    }
+
+    private JSONObject transpile(JSONObject behaviors) {
+        JSONObject results = new JSONObject();
+        JSONObject errors = new JSONObject();
+
+        for (String screen : behaviors.keySet()) {
+            String code = behaviors.getString(screen);
+
+            if (code.contains("@")) {
+                errors.put(screen, "SyntaxError: Unexpected character '@'\n> 1 | " + code);
+            }
+            else {
+                results.put(screen, "\"use strict\";\n\n" + code);
+            }
+        }
+
+        return new JSONObject()
+            .put("type", "transpiled")
+            .put("results", results)
+            .put("errors", errors);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new InputStream() {
+            @Override
+            public int read() {
+                try {
+                    return output.take();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    return END_OF_STREAM;
+                }
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                int first = read();
+
+                if (first == END_OF_STREAM) {
+                    output.add(END_OF_STREAM);
+
+                    return END_OF_STREAM;
+                }
+
+                buffer[offset] = (byte) first;
+
+                int total = 1;
+
+                while ((total < length) && (output.peek() != null) && (output.peek() != END_OF_STREAM)) {
+                    buffer[offset + total] = (byte) output.poll().intValue();
+                    total++;
+                }
+
+                return total;
+            }
+        };
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        return new ByteArrayInputStream(errorOutput.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Simulates a crash of the worker.
+     */
+    public void kill() {
+        alive = false;
+        output.add(END_OF_STREAM);
+    }
+
+    @Override
+    public void destroy() {
+        kill();
+    }
+
+    @Override
+    public boolean isAlive() {
+        return alive;
+    }
+
+    @Override
+    public int waitFor() {
+        return 0;
+    }
+
+    @Override
+    public int exitValue() {
+        if (alive) {
+            throw new IllegalThreadStateException("Worker is running");
+        }
+
+        return 0;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Getters
+    //-------------------------------------------------------------------------
+    public int getRequests() {
+        return requests;
+    }
+}
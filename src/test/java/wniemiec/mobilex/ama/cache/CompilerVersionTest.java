@@ -0,0 +1,21 @@
+package wniemiec.mobilex.ama.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class CompilerVersionTest {
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testFindWithoutUnresolvedProperties() {
+        String version = CompilerVersion.find();
+
+        if (version != null) {
+            Assertions.assertFalse(version.contains("${"));
+            Assertions.assertFalse(version.isBlank());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wniemiec.io.java.Consolex;
+import wniemiec.io.java.LogLevel;
+import wniemiec.mobilex.ama.models.Screen;
+import wniemiec.mobilex.ama.parser.MobilangAstParser;
+import wniemiec.mobilex.ama.parser.exception.ParseException;
+import wniemiec.mobilex.ama.reader.MobilangDotReader;
+
+
+class MobilangAstCacheTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final Path RESOURCES;
+    private static final String COMPILER_VERSION;
+    private Path location;
+    private MobilangAstCache cache;
+    private CachedMobilangAst parsedAst;
+    private CachedMobilangAst loadedAst;
+    private String key;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        RESOURCES = Path.of(".", "src", "test", "resources");
+        COMPILER_VERSION = "1.0.0+20261017000000";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() throws IOException {
+        location = Files.createTempDirectory("ama-cache");
+        cache = null;
+        parsedAst = null;
+        loadedAst = null;
+        key = null;
+
+        Consolex.setLoggerLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(location)) {
+            files
+                .sorted((a, b) -> b.compareTo(a))
+                .forEach(file -> file.toFile().delete());
+        }
+
+        Consolex.setLoggerLevel(LogLevel.INFO);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testLoadWithoutEntry() throws IOException {
+        withCacheMaxSize(Long.MAX_VALUE);
+        withKeyOf("HelloWorld.dot");
+        doLoad();
+        assertNothingWasLoaded();
+        assertHitsAndMisses(0, 1);
+    }
+
+    @Test
+    void testStoreAndLoad() throws IOException, ParseException {
+        withCacheMaxSize(Long.MAX_VALUE);
+        withKeyOf("HelloWorld.dot");
+        withParsedAst("HelloWorld.dot");
+        doStore();
+        doLoad();
+        assertLoadedAstIsEqualToParsedAst();
+        assertHitsAndMisses(1, 0);
+    }
+
+    @Test
+    void testKeyDependsOnContent() throws IOException {
+        withCacheMaxSize(Long.MAX_VALUE);
+
+        Assertions.assertEquals(
+            cache.computeKey(RESOURCES.resolve("HelloWorld.dot")),
+            cache.computeKey(RESOURCES.resolve("HelloWorld.dot"))
+        );
+        Assertions.assertNotEquals(
+            cache.computeKey(RESOURCES.resolve("HelloWorld.dot")),
+            cache.computeKey(RESOURCES.resolve("Comments.dot"))
+        );
+    }
+
+    @Test
+    void testLoadWithAnotherCompilerVersion() throws IOException, ParseException {
+        withCacheMaxSize(Long.MAX_VALUE);
+        withKeyOf("HelloWorld.dot");
+        withParsedAst("HelloWorld.dot");
+        doStore();
+        withCache(Long.MAX_VALUE, "1.0.0+20261018000000");
+        withKeyOf("HelloWorld.dot");
+        doLoad();
+        assertNothingWasLoaded();
+        assertHitsAndMisses(0, 1);
+    }
+
+    @Test
+    void testConstructorWithNullCompilerVersion() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class, 
+            () -> withCache(Long.MAX_VALUE, null)
+        );
+    }
+
+    @Test
+    void testStoreWithFullCache() throws IOException, ParseException {
+        withCacheMaxSize(1);
+        withKeyOf("HelloWorld.dot");
+        withParsedAst("HelloWorld.dot");
+        doStore();
+        doLoad();
+        assertNothingWasLoaded();
+        assertThereAreNoEntries();
+    }
+
+    @Test
+    void testLoadWithInvalidEntry() throws IOException {
+        withCacheMaxSize(Long.MAX_VALUE);
+        withKeyOf("HelloWorld.dot");
+        Files.writeString(location.resolve(key + ".ast"), "invalid");
+        doLoad();
+        assertNothingWasLoaded();
+        assertHitsAndMisses(0, 1);
+        assertThereAreNoEntries();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withCacheMaxSize(long maxSize) {
+        withCache(maxSize, COMPILER_VERSION);
+    }
+
+    private void withCache(long maxSize, String compilerVersion) {
+        cache = new MobilangAstCache(location, maxSize, compilerVersion);
+    }
+
+    private void withKeyOf(String file) throws IOException {
+        key = cache.computeKey(RESOURCES.resolve(file));
+    }
+
+    private void withParsedAst(String file) throws IOException, ParseException {
+        MobilangDotReader dotReader = new MobilangDotReader();
+
+        dotReader.read(RESOURCES.resolve(file));
+
+        MobilangAstParser parser = new MobilangAstParser(dotReader.getTree());
+
+        parser.parse();
+        parsedAst = new CachedMobilangAst(parser.getScreens(), parser.getProperties());
+    }
+
+    private void doStore() throws IOException {
+        cache.store(key, parsedAst);
+    }
+
+    private void doLoad() {
+        loadedAst = cache.load(key);
+    }
+
+    private void assertNothingWasLoaded() {
+        Assertions.assertNull(loadedAst);
+    }
+
+    private void assertHitsAndMisses(int hits, int misses) {
+        Assertions.assertEquals(hits, cache.getHits());
+        Assertions.assertEquals(misses, cache.getMisses());
+    }
+
+    private void assertThereAreNoEntries() throws IOException {
+        try (Stream<Path> files = Files.list(location)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    private void assertLoadedAstIsEqualToParsedAst() {
+        Assertions.assertNotNull(loadedAst);
+        Assertions.assertEquals(
+            parsedAst.getProperties().getApplicationName(),
+            loadedAst.getProperties().getApplicationName()
+        );
+        Assertions.assertEquals(
+            parsedAst.getProperties().getTargetPlatforms(),
+            loadedAst.getProperties().getTargetPlatforms()
+        );
+        Assertions.assertEquals(
+            toCode(parsedAst.getScreens()),
+            toCode(loadedAst.getScreens())
+        );
+    }
+
+    private List<String> toCode(List<Screen> screens) {
+        return screens
+            .stream()
+            .flatMap(screen -> Stream.of(
+                List.of(screen.getName()),
+                screen.getStructure().toCode(),
+                screen.getStyle().toCode(),
+                screen.getBehavior().toCode()
+            ))
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,239 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wniemiec.io.java.Consolex;
+import wniemiec.io.java.LogLevel;
+
+
+class ProjectSkeletonCacheTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private Path workspace;
+    private Path project;
+    private Path restoredProject;
+    private ProjectSkeletonCache cache;
+    private String key;
+    private boolean restored;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() throws IOException {
+        workspace = Files.createTempDirectory("ama-skeleton");
+        project = workspace.resolve("project");
+        restoredProject = workspace.resolve("restored");
+        cache = null;
+        key = null;
+        restored = false;
+
+        Consolex.setLoggerLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(workspace)) {
+            files
+                .sorted(Comparator.reverseOrder())
+                .forEach(file -> file.toFile().delete());
+        }
+
+        Consolex.setLoggerLevel(LogLevel.INFO);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testRestoreWithoutEntry() throws IOException {
+        withCacheMaxEntries(4);
+        withKey("ionic", "6.20.1", "FooApp");
+        doRestore();
+        Assertions.assertFalse(restored);
+        Assertions.assertFalse(Files.exists(restoredProject));
+    }
+
+    @Test
+    void testStoreAndRestore() throws IOException {
+        withCacheMaxEntries(4);
+        withKey("ionic", "6.20.1", "FooApp");
+        withProjectFile("package.json", "{\"name\": \"foo-app\"}");
+        withProjectFile("src/app/app.module.ts", "export class AppModule {}");
+        withProjectFile("node_modules/.package-lock.json", "{}");
+        withProjectFile("node_modules/rxjs/index.js", "module.exports = {};");
+        doStore();
+        doRestore();
+        Assertions.assertTrue(restored);
+        assertRestoredFileIsEqualToProjectFile("package.json");
+        assertRestoredFileIsEqualToProjectFile("src/app/app.module.ts");
+        assertRestoredFileIsEqualToProjectFile("node_modules/.package-lock.json");
+        assertRestoredFileIsEqualToProjectFile("node_modules/rxjs/index.js");
+    }
+
+    @Test
+    void testRestoreLinksOnlyPackageFiles() throws IOException {
+        withLinkingCacheMaxEntries(4);
+        withKey("ionic", "6.20.1", "FooApp");
+        withProjectFile("package.json", "{\"name\": \"foo-app\"}");
+        withProjectFile("node_modules/.package-lock.json", "{}");
+        withProjectFile("node_modules/rxjs/index.js", "module.exports = {};");
+        doStore();
+        doRestore();
+
+        Path otherProject = workspace.resolve("other");
+
+        cache.restore(key, otherProject);
+
+        Assertions.assertTrue(Files.isSameFile(
+            restoredProject.resolve("node_modules/rxjs/index.js"),
+            otherProject.resolve("node_modules/rxjs/index.js")
+        ));
+        Assertions.assertFalse(Files.isSameFile(
+            restoredProject.resolve("node_modules/.package-lock.json"),
+            otherProject.resolve("node_modules/.package-lock.json")
+        ));
+        Assertions.assertFalse(Files.isSameFile(
+            restoredProject.resolve("package.json"),
+            otherProject.resolve("package.json")
+        ));
+    }
+
+    @Test
+    void testRestoreCopiesPackageFilesByDefault() throws IOException {
+        withCacheMaxEntries(4);
+        withKey("ionic", "6.20.1", "FooApp");
+        withProjectFile("node_modules/rxjs/index.js", "module.exports = {};");
+        doStore();
+        doRestore();
+
+        Path otherProject = workspace.resolve("other");
+
+        cache.restore(key, otherProject);
+
+        Assertions.assertFalse(Files.isSameFile(
+            restoredProject.resolve("node_modules/rxjs/index.js"),
+            otherProject.resolve("node_modules/rxjs/index.js")
+        ));
+        Assertions.assertTrue(Files.isWritable(restoredProject.resolve("node_modules/rxjs/index.js")));
+        assertRestoredFileIsEqualToProjectFile("node_modules/rxjs/index.js");
+    }
+
+    @Test
+    void testRestoreDiscardsEntryChangedThroughLink() throws IOException {
+        withLinkingCacheMaxEntries(4);
+        withKey("ionic", "6.20.1", "FooApp");
+        withProjectFile("node_modules/rxjs/index.js", "module.exports = {};");
+        doStore();
+        doRestore();
+        Files.writeString(
+            restoredProject.resolve("node_modules/rxjs/index.js"), 
+            "module.exports = { patched: true };"
+        );
+
+        Assertions.assertFalse(cache.restore(key, workspace.resolve("other")));
+        Assertions.assertFalse(Files.exists(workspace.resolve("cache").resolve(key)));
+    }
+
+    @Test
+    void testKeyDependsOnParts() {
+        withCacheMaxEntries(4);
+
+        Assertions.assertEquals(
+            cache.computeKey("ionic", "6.20.1", "FooApp"),
+            cache.computeKey("ionic", "6.20.1", "FooApp")
+        );
+        Assertions.assertNotEquals(
+            cache.computeKey("ionic", "6.20.1", "FooApp"),
+            cache.computeKey("ionic", "6.20.2", "FooApp")
+        );
+        Assertions.assertNotEquals(
+            cache.computeKey("ionic", "6.20.1", "FooApp"),
+            cache.computeKey("ionic", "6.20.1", "BarApp")
+        );
+    }
+
+    @Test
+    void testStoreEvictsLeastRecentlyUsedEntry() throws IOException {
+        withCacheMaxEntries(1);
+        withProjectFile("package.json", "{}");
+        withKey("ionic", "6.20.1", "FooApp");
+        doStore();
+
+        String oldKey = key;
+
+        withKey("ionic", "6.20.1", "BarApp");
+        Files.setLastModifiedTime(
+            workspace.resolve("cache").resolve(oldKey), 
+            FileTime.fromMillis(1000)
+        );
+        doStore();
+
+        Assertions.assertFalse(cache.restore(oldKey, workspace.resolve("old")));
+        Assertions.assertTrue(cache.restore(key, workspace.resolve("new")));
+    }
+
+    @Test
+    void testCacheWithoutLocation() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ProjectSkeletonCache(null, 4);
+        });
+    }
+
+    @Test
+    void testCacheWithoutEntries() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ProjectSkeletonCache(workspace.resolve("cache"), 0);
+        });
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withCacheMaxEntries(int maxEntries) {
+        cache = new ProjectSkeletonCache(workspace.resolve("cache"), maxEntries);
+    }
+
+    private void withLinkingCacheMaxEntries(int maxEntries) {
+        cache = new ProjectSkeletonCache(workspace.resolve("cache"), maxEntries, true);
+    }
+
+    private void withKey(String... parts) {
+        key = cache.computeKey(parts);
+    }
+
+    private void withProjectFile(String name, String content) throws IOException {
+        Path file = project.resolve(name);
+
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private void doStore() throws IOException {
+        cache.store(key, project);
+    }
+
+    private void doRestore() throws IOException {
+        restored = cache.restore(key, restoredProject);
+    }
+
+    private void assertRestoredFileIsEqualToProjectFile(String name) throws IOException {
+        Assertions.assertArrayEquals(
+            Files.readAllBytes(project.resolve(name)),
+            Files.readAllBytes(restoredProject.resolve(name))
+        );
+    }
+}
@@ -0,0 +1,143 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wniemiec.io.java.Consolex;
+import wniemiec.io.java.LogLevel;
+import wniemiec.mobilex.ama.models.CodeBuffer;
+import wniemiec.mobilex.ama.models.CodeFile;
+import wniemiec.mobilex.ama.models.Screen;
+import wniemiec.mobilex.ama.models.tag.Tag;
+
+
+class ScreenManifestStoreTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final String COMPILER_VERSION;
+    private Path location;
+    private ScreenManifestStore store;
+    private Screen screen;
+    private List<CodeFile> codeFiles;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        COMPILER_VERSION = "1.0.0+20261017000000";
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() throws IOException {
+        location = Files.createTempDirectory("ama-cache");
+        store = new ScreenManifestStore(location, COMPILER_VERSION);
+        screen = new Screen.Builder()
+            .name("home")
+            .structure(Tag.getNormalInstance("p"))
+            .build();
+        codeFiles = List.of(new CodeFile("home.html", List.of("<p>home</p>")));
+
+        Consolex.setLoggerLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(location)) {
+            files
+                .sorted((a, b) -> b.compareTo(a))
+                .forEach(file -> file.toFile().delete());
+        }
+
+        Consolex.setLoggerLevel(LogLevel.INFO);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testLoadWithoutManifest() {
+        ScreenManifest manifest = store.load("IonicFramework");
+
+        Assertions.assertNull(findCodeFiles(manifest));
+    }
+
+    @Test
+    void testStoreAndLoad() throws IOException {
+        store.store("IonicFramework", buildManifest());
+
+        Assertions.assertEquals(codeFiles, findCodeFiles(store.load("IonicFramework")));
+    }
+
+    @Test
+    void testStoreAndLoadWithCodeBuffer() throws IOException {
+        CodeBuffer code = new CodeBuffer();
+
+        code.appendLine("<p>home</p>");
+        codeFiles = List.of(new CodeFile("android/home.html", code), new CodeFile("ios/home.html", code));
+        store.store("ReactNativeFramework", buildManifest());
+
+        Assertions.assertEquals(codeFiles, findCodeFiles(store.load("ReactNativeFramework")));
+    }
+
+    @Test
+    void testManifestsOfFrameworksAreSeparated() throws IOException {
+        store.store("IonicFramework", buildManifest());
+
+        Assertions.assertNull(findCodeFiles(store.load("ReactNativeFramework")));
+    }
+
+    @Test
+    void testLoadWithManifestOfAnotherCompilerVersion() throws IOException {
+        store.store("IonicFramework", buildManifest());
+        store = new ScreenManifestStore(location, "1.0.0+20261018000000");
+
+        Assertions.assertNull(findCodeFiles(store.load("IonicFramework")));
+        Assertions.assertFalse(Files.exists(location.resolve("IonicFramework.manifest")));
+    }
+
+    @Test
+    void testConstructorWithNullCompilerVersion() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class, 
+            () -> new ScreenManifestStore(location, null)
+        );
+    }
+
+    @Test
+    void testLoadWithInvalidManifest() throws IOException {
+        Files.writeString(location.resolve("IonicFramework.manifest"), "invalid");
+
+        Assertions.assertNull(findCodeFiles(store.load("IonicFramework")));
+        Assertions.assertFalse(Files.exists(location.resolve("IonicFramework.manifest")));
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private ScreenManifest buildManifest() {
+        ScreenManifest manifest = new ScreenManifest();
+
+        manifest.putCodeFiles(screen, ScreenManifest.computeFingerprint(screen), codeFiles);
+
+        return manifest;
+    }
+
+    private List<CodeFile> findCodeFiles(ScreenManifest manifest) {
+        return manifest.findCodeFiles(screen, ScreenManifest.computeFingerprint(screen));
+    }
+}
@@ -0,0 +1,136 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wniemiec.mobilex.ama.models.CodeFile;
+import wniemiec.mobilex.ama.models.Screen;
+import wniemiec.mobilex.ama.models.Style;
+import wniemiec.mobilex.ama.models.StyleSheetRule;
+import wniemiec.mobilex.ama.models.tag.Tag;
+
+
+class ScreenManifestTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private ScreenManifest manifest;
+    private List<CodeFile> codeFiles;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        manifest = new ScreenManifest();
+        codeFiles = List.of(new CodeFile("home.html", List.of("<p>home</p>")));
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testFingerprintDependsOnScreen() {
+        Assertions.assertEquals(
+            ScreenManifest.computeFingerprint(buildScreen("home", "p", "red")),
+            ScreenManifest.computeFingerprint(buildScreen("home", "p", "red"))
+        );
+        Assertions.assertNotEquals(
+            ScreenManifest.computeFingerprint(buildScreen("home", "p", "red")),
+            ScreenManifest.computeFingerprint(buildScreen("about", "p", "red"))
+        );
+        Assertions.assertNotEquals(
+            ScreenManifest.computeFingerprint(buildScreen("home", "p", "red")),
+            ScreenManifest.computeFingerprint(buildScreen("home", "div", "red"))
+        );
+        Assertions.assertNotEquals(
+            ScreenManifest.computeFingerprint(buildScreen("home", "p", "red")),
+            ScreenManifest.computeFingerprint(buildScreen("home", "p", "blue"))
+        );
+    }
+
+    @Test
+    void testFingerprintDependsOnToolVersion() {
+        Screen screen = buildScreen("home", "p", "red");
+
+        Assertions.assertEquals(
+            ScreenManifest.computeFingerprint(screen, "@babel/core@7.18.0"),
+            ScreenManifest.computeFingerprint(screen, "@babel/core@7.18.0")
+        );
+        Assertions.assertNotEquals(
+            ScreenManifest.computeFingerprint(screen, "@babel/core@7.18.0"),
+            ScreenManifest.computeFingerprint(screen, "@babel/core@7.19.0")
+        );
+    }
+
+    @Test
+    void testFindWithoutEntry() {
+        Screen screen = buildScreen("home", "p", "red");
+
+        Assertions.assertNull(manifest.findCodeFiles(screen, ScreenManifest.computeFingerprint(screen)));
+        assertHitsAndMisses(0, 1);
+    }
+
+    @Test
+    void testPutAndFind() {
+        Screen screen = buildScreen("home", "p", "red");
+        String fingerprint = ScreenManifest.computeFingerprint(screen);
+
+        manifest.putCodeFiles(screen, fingerprint, codeFiles);
+
+        Assertions.assertEquals(codeFiles, manifest.findCodeFiles(screen, fingerprint));
+        assertHitsAndMisses(1, 0);
+    }
+
+    @Test
+    void testFindChangedScreen() {
+        Screen previousScreen = buildScreen("home", "p", "red");
+        Screen screen = buildScreen("home", "p", "blue");
+
+        manifest.putCodeFiles(previousScreen, ScreenManifest.computeFingerprint(previousScreen), codeFiles);
+
+        Assertions.assertNull(manifest.findCodeFiles(screen, ScreenManifest.computeFingerprint(screen)));
+        assertHitsAndMisses(0, 1);
+    }
+
+    @Test
+    void testRetainScreens() {
+        Screen home = buildScreen("home", "p", "red");
+        Screen about = buildScreen("about", "p", "red");
+
+        manifest.putCodeFiles(home, ScreenManifest.computeFingerprint(home), codeFiles);
+        manifest.putCodeFiles(about, ScreenManifest.computeFingerprint(about), codeFiles);
+        manifest.retainScreens(List.of(about));
+
+        Assertions.assertNull(manifest.findCodeFiles(home, ScreenManifest.computeFingerprint(home)));
+        Assertions.assertNotNull(manifest.findCodeFiles(about, ScreenManifest.computeFingerprint(about)));
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private Screen buildScreen(String name, String tagName, String color) {
+        Style style = new Style();
+        StyleSheetRule rule = new StyleSheetRule();
+
+        rule.addSelector(tagName);
+        rule.addDeclaration("color", color);
+        style.addRule(rule);
+
+        return new Screen.Builder()
+            .name(name)
+            .structure(Tag.getNormalInstance(tagName))
+            .style(style)
+            .build();
+    }
+
+    private void assertHitsAndMisses(int hits, int misses) {
+        Assertions.assertEquals(hits, manifest.getHits());
+        Assertions.assertEquals(misses, manifest.getMisses());
+    }
+}
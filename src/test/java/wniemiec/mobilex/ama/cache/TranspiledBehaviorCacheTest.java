@@ -0,0 +1,182 @@
+package wniemiec.mobilex.ama.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wniemiec.io.java.Consolex;
+import wniemiec.io.java.LogLevel;
+
+
+class TranspiledBehaviorCacheTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private Path location;
+    private TranspiledBehaviorCache cache;
+    private List<String> transpiledBehavior;
+    private List<String> loadedBehavior;
+    private String key;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() throws IOException {
+        location = Files.createTempDirectory("ama-cache");
+        cache = null;
+        transpiledBehavior = null;
+        loadedBehavior = null;
+        key = null;
+
+        Consolex.setLoggerLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(location)) {
+            files
+                .sorted((a, b) -> b.compareTo(a))
+                .forEach(file -> file.toFile().delete());
+        }
+
+        Consolex.setLoggerLevel(LogLevel.INFO);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testLoadWithoutEntry() {
+        withCacheMaxSize(Long.MAX_VALUE);
+        withKeyOf(List.of("let x = 1;"), "7.18.0");
+        doLoad();
+        assertNothingWasLoaded();
+        assertHitsAndMisses(0, 1);
+    }
+
+    @Test
+    void testStoreAndLoad() throws IOException {
+        withCacheMaxSize(Long.MAX_VALUE);
+        withKeyOf(List.of("let x = 1;"), "7.18.0");
+        withTranspiledBehavior("\"use strict\";", "", "var x = 1;");
+        doStore();
+        doLoad();
+        assertLoadedBehaviorIsEqualToTranspiledBehavior();
+        assertHitsAndMisses(1, 0);
+    }
+
+    @Test
+    void testKeyDependsOnBehaviorAndVersion() {
+        withCacheMaxSize(Long.MAX_VALUE);
+
+        Assertions.assertEquals(
+            cache.computeKey(List.of("let x = 1;"), "7.18.0"),
+            cache.computeKey(List.of("let x = 1;"), "7.18.0")
+        );
+        Assertions.assertNotEquals(
+            cache.computeKey(List.of("let x = 1;"), "7.18.0"),
+            cache.computeKey(List.of("let x = 2;"), "7.18.0")
+        );
+        Assertions.assertNotEquals(
+            cache.computeKey(List.of("let x = 1;"), "7.18.0"),
+            cache.computeKey(List.of("let x = 1;"), "7.19.0")
+        );
+        Assertions.assertNotEquals(
+            cache.computeKey(List.of("let x = 1;", "let y = 2;"), "7.18.0"),
+            cache.computeKey(List.of("let x = 1;let y = 2;"), "7.18.0")
+        );
+    }
+
+    @Test
+    void testStoreWithFullCache() throws IOException {
+        withCacheMaxSize(1);
+        withKeyOf(List.of("let x = 1;"), "7.18.0");
+        withTranspiledBehavior("\"use strict\";", "", "var x = 1;");
+        doStore();
+        doLoad();
+        assertNothingWasLoaded();
+        assertThereAreNoEntries();
+    }
+
+    @Test
+    void testStoreEvictsLeastRecentlyUsedEntry() throws IOException {
+        String oldKey = cache(List.of("let x = 1;"), 1000);
+        String usedKey = cache(List.of("let y = 1;"), 2000);
+
+        withCacheMaxSize(2 * Files.size(location.resolve(usedKey + ".js")));
+        withKeyOf(List.of("let z = 1;"), "7.18.0");
+        withTranspiledBehavior("\"use strict\";", "", "var z = 1;");
+        doStore();
+
+        Assertions.assertNull(cache.load(oldKey));
+        Assertions.assertNotNull(cache.load(usedKey));
+        Assertions.assertNotNull(cache.load(key));
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withCacheMaxSize(long maxSize) {
+        cache = new TranspiledBehaviorCache(location, maxSize);
+    }
+
+    private void withKeyOf(List<String> behavior, String version) {
+        key = cache.computeKey(behavior, version);
+    }
+
+    private void withTranspiledBehavior(String... lines) {
+        transpiledBehavior = List.of(lines);
+    }
+
+    private String cache(List<String> behavior, long lastUse) throws IOException {
+        withCacheMaxSize(Long.MAX_VALUE);
+        withKeyOf(behavior, "7.18.0");
+        withTranspiledBehavior("\"use strict\";", "", "var x = 1;");
+        doStore();
+
+        Files.setLastModifiedTime(
+            location.resolve(key + ".js"), 
+            FileTime.fromMillis(lastUse)
+        );
+
+        return key;
+    }
+
+    private void doStore() throws IOException {
+        cache.store(key, transpiledBehavior);
+    }
+
+    private void doLoad() {
+        loadedBehavior = cache.load(key);
+    }
+
+    private void assertNothingWasLoaded() {
+        Assertions.assertNull(loadedBehavior);
+    }
+
+    private void assertHitsAndMisses(int hits, int misses) {
+        Assertions.assertEquals(hits, cache.getHits());
+        Assertions.assertEquals(misses, cache.getMisses());
+    }
+
+    private void assertThereAreNoEntries() throws IOException {
+        try (Stream<Path> files = Files.list(location)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    private void assertLoadedBehaviorIsEqualToTranspiledBehavior() {
+        Assertions.assertEquals(transpiledBehavior, loadedBehavior);
+    }
+}
@@ -0,0 +1,120 @@
+package wniemiec.mobilex.ama.export;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import wniemiec.mobilex.ama.models.CodeFile;
+
+
+/**
+ * Measures how many code files per second are written by a code file 
+ * writer. It is not run with tests. Usage:
+ * 
+ *     CodeFileWriterBenchmark <directory>...
+ * 
+ * For instance, run it with a directory on a tmpfs (such as /dev/shm) and 
+ * with a directory on a disk to compare the cost of the file system.
+ */
+class CodeFileWriterBenchmark {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final int SCREENS;
+    private static final int FILES_PER_SCREEN;
+    private static final int LINES_PER_FILE;
+    private static final int ROUNDS;
+    private static final int[] THREADS;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        SCREENS = 200;
+        FILES_PER_SCREEN = 5;
+        LINES_PER_FILE = 60;
+        ROUNDS = 5;
+        THREADS = new int[] {1, 4, 8};
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Constructor
+    //-------------------------------------------------------------------------
+    private CodeFileWriterBenchmark() {
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    public static void main(String[] args) throws IOException {
+        List<CodeFile> codeFiles = buildCodeFiles();
+
+        for (String directory : args) {
+            for (int threads : THREADS) {
+                run(Path.of(directory), codeFiles, threads, false);
+                run(Path.of(directory), codeFiles, threads, true);
+            }
+        }
+    }
+
+    private static List<CodeFile> buildCodeFiles() {
+        List<CodeFile> codeFiles = new ArrayList<>();
+
+        for (int i = 0; i < SCREENS; i++) {
+            for (int j = 0; j < FILES_PER_SCREEN; j++) {
+                List<String> code = new ArrayList<>();
+
+                for (int k = 0; k < LINES_PER_FILE; k++) {
+                    code.add("    this.field" + k + " = document.getElementById('screen" + i + "');");
+                }
+
+                codeFiles.add(new CodeFile("src/pages/screen" + i + "/file" + j + ".ts", code));
+            }
+        }
+
+        return codeFiles;
+    }
+
+    private static void run(Path directory, List<CodeFile> codeFiles, int threads, boolean syncFiles) 
+    throws IOException {
+        long bestTime = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            Path location = Files.createTempDirectory(directory, "ama-benchmark");
+
+            try {
+                CodeFileWriter writer = new CodeFileWriter(location, threads, syncFiles);
+                long start = System.nanoTime();
+
+                writer.write(codeFiles, false);
+                bestTime = Math.min(bestTime, System.nanoTime() - start);
+            }
+            finally {
+                delete(location);
+            }
+        }
+
+        System.out.printf(
+            "%s threads=%d sync=%s: %.0f files/s%n", 
+            directory, 
+            threads, 
+            syncFiles, 
+            codeFiles.size() / (bestTime / 1e9)
+        );
+    }
+
+    private static void delete(Path location) throws IOException {
+        try (Stream<Path> files = Files.walk(location)) {
+            files
+                .sorted(Comparator.reverseOrder())
+                .forEach(file -> file.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package wniemiec.mobilex.ama.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wniemiec.mobilex.ama.models.CodeBuffer;
+import wniemiec.mobilex.ama.models.CodeFile;
+
+
+class CodeFileWriterTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private Path location;
+    private List<CodeFile> codeFiles;
+    private CodeFileWriter writer;
+    private int writtenFiles;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() throws IOException {
+        location = Files.createTempDirectory("ama-writer");
+        codeFiles = new ArrayList<>();
+        writer = null;
+        writtenFiles = 0;
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(location)) {
+            files
+                .sorted(Comparator.reverseOrder())
+                .forEach(file -> file.toFile().delete());
+        }
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testWriteSequentially() throws IOException {
+        withWriter(1, false);
+        withCodeFile("App.js", "import React from 'react';", "export default App;");
+        withCodeFile("src/pages/home/home.page.html", "<ion-content>", "</ion-content>");
+        doWrite(false);
+        assertWrittenFilesAre(2);
+        assertFileContentEquals("App.js", "import React from 'react';", "export default App;");
+        assertFileContentEquals("src/pages/home/home.page.html", "<ion-content>", "</ion-content>");
+    }
+
+    @Test
+    void testWriteInParallel() throws IOException {
+        withWriter(4, false);
+
+        for (int i = 0; i < 100; i++) {
+            withCodeFile("src/pages/page" + (i % 10) + "/file" + i + ".ts", "// file " + i, "\u00e9");
+        }
+
+        doWrite(false);
+        assertWrittenFilesAre(100);
+
+        for (int i = 0; i < 100; i++) {
+            assertFileContentEquals("src/pages/page" + (i % 10) + "/file" + i + ".ts", "// file " + i, "\u00e9");
+        }
+    }
+
+    @Test
+    void testWriteWithSync() throws IOException {
+        withWriter(2, true);
+        withCodeFile("App.js", "export default App;");
+        withCodeFile("index.js", "AppRegistry.registerComponent(appName, () => App);");
+        doWrite(false);
+        assertWrittenFilesAre(2);
+        assertFileContentEquals("App.js", "export default App;");
+    }
+
+    @Test
+    void testWriteReplacesLongerFile() throws IOException {
+        withWriter(2, false);
+        withExistingFile("App.js", "a much longer content that must not remain at the end");
+        withCodeFile("App.js", "short");
+        doWrite(false);
+        assertFileContentEquals("App.js", "short");
+    }
+
+    @Test
+    void testWriteSkippingUnchangedFiles() throws IOException {
+        withWriter(2, false);
+        withCodeFile("App.js", "export default App;");
+        withCodeFile("index.js", "AppRegistry.registerComponent(appName, () => App);");
+        doWrite(false);
+        withLastModifiedTime("App.js", 1000);
+        withLastModifiedTime("index.js", 1000);
+
+        codeFiles.set(1, new CodeFile("index.js", List.of("// changed")));
+
+        doWrite(true);
+        assertWrittenFilesAre(1);
+        assertLastModifiedTimeIs("App.js", 1000);
+        assertFileContentEquals("index.js", "// changed");
+    }
+
+    @Test
+    void testWriteCodeBuffer() throws IOException {
+        CodeBuffer code = new CodeBuffer();
+        List<String> lines = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            lines.add("<p id=\"" + i + "\">\u00e9</p>");
+        }
+
+        code.appendLines(lines);
+        withWriter(2, false);
+        codeFiles.add(new CodeFile("android/screen.html", code));
+        codeFiles.add(new CodeFile("ios/screen.html", code));
+        doWrite(false);
+        assertWrittenFilesAre(2);
+        assertFileContentEquals("android/screen.html", lines.toArray(new String[0]));
+        assertFileContentEquals("ios/screen.html", lines.toArray(new String[0]));
+        withLastModifiedTime("ios/screen.html", 1000);
+        doWrite(true);
+        assertWrittenFilesAre(0);
+        assertLastModifiedTimeIs("ios/screen.html", 1000);
+    }
+
+    @Test
+    void testWriteWithoutCodeFiles() throws IOException {
+        withWriter(4, false);
+        doWrite(false);
+        assertWrittenFilesAre(0);
+    }
+
+    @Test
+    void testWriterWithoutLocation() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new CodeFileWriter(null, 1, false);
+        });
+    }
+
+    @Test
+    void testWriterWithoutThreads() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new CodeFileWriter(location, 0, false);
+        });
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withWriter(int threads, boolean syncFiles) {
+        writer = new CodeFileWriter(location, threads, syncFiles);
+    }
+
+    private void withCodeFile(String name, String... lines) {
+        codeFiles.add(new CodeFile(name, List.of(lines)));
+    }
+
+    private void withExistingFile(String name, String content) throws IOException {
+        Files.writeString(location.resolve(name), content);
+    }
+
+    private void withLastModifiedTime(String name, long time) throws IOException {
+        Files.setLastModifiedTime(location.resolve(name), FileTime.fromMillis(time));
+    }
+
+    private void doWrite(boolean skipUnchanged) throws IOException {
+        writtenFiles = writer.write(codeFiles, skipUnchanged);
+    }
+
+    private void assertWrittenFilesAre(int expected) {
+        Assertions.assertEquals(expected, writtenFiles);
+    }
+
+    private void assertFileContentEquals(String name, String... lines) throws IOException {
+        Assertions.assertEquals(
+            List.of(lines), 
+            Files.readAllLines(location.resolve(name), StandardCharsets.UTF_8)
+        );
+    }
+
+    private void assertLastModifiedTimeIs(String name, long time) throws IOException {
+        Assertions.assertEquals(
+            FileTime.fromMillis(time), 
+            Files.getLastModifiedTime(location.resolve(name))
+        );
+    }
+}
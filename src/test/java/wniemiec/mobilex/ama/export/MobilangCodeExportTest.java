@@ -4,12 +4,13 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.SortedMap;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,8 +21,8 @@ import wniemiec.mobilex.ama.coder.exception.CoderException;
 import wniemiec.mobilex.ama.export.exception.CodeExportException;
 import wniemiec.mobilex.ama.framework.Framework;
 import wniemiec.mobilex.ama.framework.MockFramework;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.CodeFile;
-import wniemiec.mobilex.ama.models.Node;
 import wniemiec.mobilex.ama.models.Project;
 import wniemiec.mobilex.ama.models.Properties;
 import wniemiec.mobilex.ama.models.Screen;
@@ -45,6 +46,8 @@ class MobilangCodeExportTest {
     private Set<String> dependencies;
     private Set<String> builtDependencies;
     private List<CodeFile> codeFiles;
+    private boolean incremental;
+    private Path temporaryOutput;
 
 
     //-------------------------------------------------------------------------
@@ -69,13 +72,25 @@ class MobilangCodeExportTest {
         codeFiles = null;
         builtProperties = new Properties();
         builtDependencies = new HashSet<>();
+        incremental = false;
+        temporaryOutput = null;
 
         Consolex.setLoggerLevel(LogLevel.OFF);
     }
 
     @AfterEach
-    void cleanUp() {
+    void cleanUp() throws IOException {
         Consolex.setLoggerLevel(LogLevel.INFO);
+
+        if (temporaryOutput == null) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.walk(temporaryOutput)) {
+            files
+                .sorted((a, b) -> b.compareTo(a))
+                .forEach(file -> file.toFile().delete());
+        }
     }
 
 
@@ -193,9 +208,128 @@ class MobilangCodeExportTest {
     }
 
 
+    @Test
+    void testIncrementalExportKeepsUnchangedFiles() 
+    throws IOException, CodeExportException {
+        withTemporaryOutput();
+        withPropertyApplicationName("something");
+        withProperties(builtProperties);
+        withIncremental(true);
+        withFramework(new MockFramework());
+        withCodeFiles(List.of(
+            new CodeFile("home.html", List.of("<p>home</p>")),
+            new CodeFile("about.html", List.of("<p>about</p>"))
+        ));
+        doCodeExportation();
+        withLastModifiedTime("home.html", 1000);
+        withLastModifiedTime("about.html", 1000);
+        withFramework(new MockFramework());
+        withCodeFiles(List.of(
+            new CodeFile("home.html", List.of("<p>home</p>")),
+            new CodeFile("about.html", List.of("<p>about us</p>"))
+        ));
+        doCodeExportation();
+        assertProjectWasNotCreated();
+        assertLastModifiedTimeIs("home.html", 1000);
+        assertFileContentEquals("about.html", "<p>about us</p>");
+    }
+
+    @Test
+    void testIncrementalExportDeletesOrphanedFiles() 
+    throws IOException, CodeExportException {
+        withTemporaryOutput();
+        withPropertyApplicationName("something");
+        withProperties(builtProperties);
+        withIncremental(true);
+        withFramework(new MockFramework());
+        withCodeFiles(List.of(
+            new CodeFile("pages/home/home.html", List.of("<p>home</p>")),
+            new CodeFile("pages/about/about.html", List.of("<p>about</p>"))
+        ));
+        doCodeExportation();
+        Files.writeString(output.resolve("package.json"), "{}");
+        withFramework(new MockFramework());
+        withCodeFiles(List.of(
+            new CodeFile("pages/home/home.html", List.of("<p>home</p>"))
+        ));
+        doCodeExportation();
+        Assertions.assertTrue(Files.exists(output.resolve("pages/home/home.html")));
+        Assertions.assertFalse(Files.exists(output.resolve("pages/about")));
+        Assertions.assertTrue(Files.exists(output.resolve("package.json")));
+    }
+
+    @Test
+    void testIncrementalExportAddsOnlyNewDependencies() 
+    throws IOException, CodeExportException {
+        withTemporaryOutput();
+        withPropertyApplicationName("something");
+        withProperties(builtProperties);
+        withIncremental(true);
+        withCodeFiles(new ArrayList<>());
+        withFramework(new MockFramework());
+        withDependency("foo/bar");
+        withDependencies(builtDependencies);
+        doCodeExportation();
+        withFramework(new MockFramework());
+        withDependency("foo/baz");
+        doCodeExportation();
+        assertProjectWasNotCreated();
+        Assertions.assertEquals(Set.of("foo/baz"), ((MockFramework) framework).getDependencies());
+    }
+
+    @Test
+    void testIncrementalExportWithRemovedDependency() 
+    throws IOException, CodeExportException {
+        withTemporaryOutput();
+        withPropertyApplicationName("something");
+        withProperties(builtProperties);
+        withIncremental(true);
+        withCodeFiles(new ArrayList<>());
+        withFramework(new MockFramework());
+        withDependency("foo/bar");
+        withDependencies(builtDependencies);
+        doCodeExportation();
+        withFramework(new MockFramework());
+        withDependencies(new HashSet<>());
+        doCodeExportation();
+        Assertions.assertTrue(((MockFramework) framework).wasProjectCreated());
+    }
+
+    @Test
+    void testNonIncrementalExportCreatesProjectAgain() 
+    throws IOException, CodeExportException {
+        withTemporaryOutput();
+        withPropertyApplicationName("something");
+        withProperties(builtProperties);
+        withFramework(new MockFramework());
+        withCodeFiles(List.of(new CodeFile("home.html", List.of("<p>home</p>"))));
+        doCodeExportation();
+        withLastModifiedTime("home.html", 1000);
+        withFramework(new MockFramework());
+        doCodeExportation();
+        Assertions.assertTrue(((MockFramework) framework).wasProjectCreated());
+        Assertions.assertNotEquals(
+            FileTime.fromMillis(1000), 
+            Files.getLastModifiedTime(output.resolve("home.html"))
+        );
+    }
+
+
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
+    private void withTemporaryOutput() throws IOException {
+        temporaryOutput = Files.createTempDirectory("mobilex");
+    }
+
+    private void withIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    private void withLastModifiedTime(String filename, long time) throws IOException {
+        Files.setLastModifiedTime(output.resolve(filename), FileTime.fromMillis(time));
+    }
+
     private void withFramework(Framework framework) {
         this.framework = framework;
     }
@@ -230,13 +364,13 @@ class MobilangCodeExportTest {
     
     private List<CodeFile> readCodeFilesFromAst(String mobilangAst) 
     throws CoderException, ParseException, IOException {
-        SortedMap<String, List<Node>> ast = readAst(mobilangAst);
+        Ast ast = readAst(mobilangAst);
         List<Screen> screens = parseAst(ast);
 
         return generateFrameworkCodeFiles(screens);
     }
 
-    private SortedMap<String, List<Node>> readAst(String mobilangAst) 
+    private Ast readAst(String mobilangAst) 
     throws FileNotFoundException {
         MobilangDotReader reader = new MobilangDotReader();
         
@@ -245,7 +379,7 @@ class MobilangCodeExportTest {
         return reader.getTree();
     }
 
-    private List<Screen> parseAst(SortedMap<String, List<Node>> ast) 
+    private List<Screen> parseAst(Ast ast) 
     throws ParseException, IOException {
         MobilangAstParser parser = new MobilangAstParser(ast);
         
@@ -268,7 +402,8 @@ class MobilangCodeExportTest {
             .dependencies(dependencies)
             .codeFiles(codeFiles)
             .framework(framework)
-            .output(output)
+            .output((temporaryOutput == null) ? output : temporaryOutput)
+            .incremental(incremental)
             .build();
 
         output = codeExport.export();
@@ -277,4 +412,22 @@ class MobilangCodeExportTest {
     private void assertCodeWasExported() {
         Assertions.assertTrue(Files.exists(output));
     }
+
+    private void assertProjectWasNotCreated() {
+        Assertions.assertFalse(((MockFramework) framework).wasProjectCreated());
+    }
+
+    private void assertLastModifiedTimeIs(String filename, long time) throws IOException {
+        Assertions.assertEquals(
+            FileTime.fromMillis(time), 
+            Files.getLastModifiedTime(output.resolve(filename))
+        );
+    }
+
+    private void assertFileContentEquals(String filename, String... lines) throws IOException {
+        Assertions.assertEquals(
+            List.of(lines), 
+            Files.readAllLines(output.resolve(filename))
+        );
+    }
 }
@@ -0,0 +1,189 @@
+package wniemiec.mobilex.ama.framework;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.terminal.MockInputTerminal;
+import util.terminal.MockOutputTerminal;
+import wniemiec.io.java.Consolex;
+import wniemiec.io.java.LogLevel;
+import wniemiec.io.java.Terminal;
+
+
+class NpmDependencyInstallerTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private Path projectLocation;
+    private MockInputTerminal mockInputTerminal;
+    private NpmDependencyInstaller installer;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() throws IOException {
+        projectLocation = Files.createTempDirectory("ama-npm");
+        mockInputTerminal = new MockInputTerminal();
+        installer = new NpmDependencyInstaller(
+            new Terminal(mockInputTerminal, new MockOutputTerminal())
+        );
+
+        Consolex.setLoggerLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(projectLocation)) {
+            files
+                .sorted(Comparator.reverseOrder())
+                .forEach(file -> file.toFile().delete());
+        }
+
+        Consolex.setLoggerLevel(LogLevel.INFO);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testInstallInSingleInvocation() throws IOException {
+        doInstall("react-native-webview@11.17.2", "react-native-render-html @native-html/iframe-plugin");
+        assertNpmInstalled(
+            "react-native-webview@11.17.2", 
+            "react-native-render-html", 
+            "@native-html/iframe-plugin"
+        );
+    }
+
+    @Test
+    void testInstallWithRepeatedDependencies() throws IOException {
+        doInstall("react-native-render-html", "react-native-render-html");
+        assertNpmInstalled("react-native-render-html");
+    }
+
+    @Test
+    void testInstallWithInstalledDependencies() throws IOException {
+        withPackageJson("{\"dependencies\": {\"react-native-webview\": \"^11.17.2\", \"@native-html/iframe-plugin\": \"^2.6.1\"}}");
+        withPackageLock("{\"lockfileVersion\": 2, \"packages\": {"
+            + "\"node_modules/react-native-webview\": {\"version\": \"11.17.2\"},"
+            + "\"node_modules/@native-html/iframe-plugin\": {\"version\": \"2.6.1\"}}}");
+        doInstall("react-native-webview@11.17.2", "react-native-render-html", "@native-html/iframe-plugin");
+        assertNpmInstalled("react-native-render-html");
+    }
+
+    @Test
+    void testInstallWithAllDependenciesInstalled() throws IOException {
+        withPackageJson("{\"dependencies\": {\"react-native-render-html\": \"^6.3.4\"}}");
+        withPackageLock("{\"lockfileVersion\": 1, \"dependencies\": {"
+            + "\"react-native-render-html\": {\"version\": \"6.3.4\"}}}");
+        doInstall("react-native-render-html");
+        assertNpmWasNotRun();
+    }
+
+    @Test
+    void testInstallWithDifferentInstalledVersion() throws IOException {
+        withPackageJson("{\"dependencies\": {\"react-native-webview\": \"^11.17.1\"}}");
+        withPackageLock("{\"lockfileVersion\": 2, \"packages\": {"
+            + "\"node_modules/react-native-webview\": {\"version\": \"11.17.1\"}}}");
+        doInstall("react-native-webview@11.17.2");
+        assertNpmInstalled("react-native-webview@11.17.2");
+    }
+
+    @Test
+    void testInstallWithUndeclaredInstalledDependency() throws IOException {
+        withPackageJson("{\"dependencies\": {}}");
+        withPackageLock("{\"lockfileVersion\": 2, \"packages\": {"
+            + "\"node_modules/react-native-render-html\": {\"version\": \"6.3.4\"}}}");
+        doInstall("react-native-render-html");
+        assertNpmInstalled("react-native-render-html");
+    }
+
+    @Test
+    void testInstallWithoutLockFile() throws IOException {
+        withPackageJson("{\"devDependencies\": {\"react-native-render-html\": \"6.3.4\"}}");
+        withFile("node_modules/react-native-render-html/package.json", "{\"version\": \"6.3.4\"}");
+        doInstall("react-native-render-html@6.3.4");
+        assertNpmWasNotRun();
+    }
+
+    @Test
+    void testInstallWithoutDependencies() throws IOException {
+        doInstall();
+        assertNpmWasNotRun();
+    }
+
+    @Test
+    void testInstallerWithoutTerminal() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new NpmDependencyInstaller(null);
+        });
+    }
+
+    @Test
+    void testInstallWithNullDependencies() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            installer.install(null, projectLocation);
+        });
+    }
+
+    @Test
+    void testInstallWithoutProjectLocation() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            installer.install(List.of("react-native-render-html"), null);
+        });
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withPackageJson(String content) throws IOException {
+        withFile("package.json", content);
+    }
+
+    private void withPackageLock(String content) throws IOException {
+        withFile("package-lock.json", content);
+    }
+
+    private void withFile(String name, String content) throws IOException {
+        Path file = projectLocation.resolve(name);
+
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private void doInstall(String... dependencies) throws IOException {
+        installer.install(Arrays.asList(dependencies), projectLocation);
+    }
+
+    private void assertNpmInstalled(String... packages) {
+        List<String> expectedLog = new ArrayList<>(List.of(
+            "npm", 
+            "install", 
+            "--prefix", 
+            projectLocation.toString(), 
+            "--save"
+        ));
+
+        expectedLog.addAll(Arrays.asList(packages));
+
+        Assertions.assertEquals(expectedLog, mockInputTerminal.getLog());
+    }
+
+    private void assertNpmWasNotRun() {
+        Assertions.assertTrue(mockInputTerminal.getLog().isEmpty());
+    }
+}
@@ -1,9 +1,12 @@
 package wniemiec.mobilex.ama.framework.ionic;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +17,7 @@ import util.terminal.MockOutputTerminal;
 import wniemiec.io.java.Consolex;
 import wniemiec.io.java.LogLevel;
 import wniemiec.io.java.Terminal;
+import wniemiec.mobilex.ama.cache.ProjectSkeletonCache;
 import wniemiec.mobilex.ama.models.Properties;
 import wniemiec.mobilex.ama.util.io.FileManager;
 
@@ -32,6 +36,7 @@ class IonicProjectManagerTest {
     private MockFileManager mockFileManager;
     private FileManager fileManager;
     private Terminal terminal;
+    private ProjectSkeletonCache skeletonCache;
 
 
     //-------------------------------------------------------------------------
@@ -57,6 +62,7 @@ class IonicProjectManagerTest {
         mockFileManager = null;
         fileManager = null;
         projectManager = null;
+        skeletonCache = null;
 
         Consolex.setLoggerLevel(LogLevel.OFF);
     }
@@ -155,6 +161,50 @@ class IonicProjectManagerTest {
         );
     }
 
+    @Test
+    void testProjectCreatorWithStoredSkeleton() throws IOException {
+        Path workspace = Files.createTempDirectory("ama-ionic");
+        Path firstLocation = workspace.resolve("first");
+        Path secondLocation = workspace.resolve("second");
+
+        try {
+            withSkeletonCache(new ProjectSkeletonCache(workspace.resolve("cache"), 1));
+            withProjectFile(firstLocation.resolve("package.json"), "{}");
+            withTerminal(buildMockTerminalWithCliVersion("6.20.1"));
+            withFileManager(buildMockFileManager());
+            buildProjectManager();
+            runProjectCreator(PRE_BUILT_PROPERTIES, firstLocation);
+
+            withTerminal(buildMockTerminalWithCliVersion("6.20.1"));
+            withFileManager(buildMockFileManager());
+            buildProjectManager();
+            runProjectCreator(PRE_BUILT_PROPERTIES, secondLocation);
+            assertInputTerminalWas("ionic", "--version");
+            assertMockFileManagerExecuted();
+            Assertions.assertTrue(Files.exists(secondLocation.resolve("package.json")));
+        }
+        finally {
+            deleteDirectory(workspace);
+        }
+    }
+
+    @Test
+    void testProjectCreatorWithoutCliVersion() throws IOException {
+        Path workspace = Files.createTempDirectory("ama-ionic");
+
+        try {
+            withSkeletonCache(new ProjectSkeletonCache(workspace.resolve("cache"), 1));
+            withTerminal(buildMockTerminal());
+            withFileManager(buildMockFileManager());
+            buildProjectManager();
+            runProjectCreator(PRE_BUILT_PROPERTIES, PRE_BUILT_LOCATION);
+            Assertions.assertFalse(Files.exists(workspace.resolve("cache")));
+        }
+        finally {
+            deleteDirectory(workspace);
+        }
+    }
+
     @Test
     void testProjectCreatorWithoutTerminal() throws IOException {
         withTerminal(null);
@@ -249,12 +299,50 @@ class IonicProjectManagerTest {
         return new Terminal(mockInputTerminal, mockOutputTerminal);
     }
 
+    private Terminal buildMockTerminalWithCliVersion(String version) {
+        mockInputTerminal = new MockInputTerminal();
+        mockOutputTerminal = new MockOutputTerminal();
+        
+        return new Terminal(
+            commands -> {
+                mockInputTerminal.exec(commands);
+
+                if (Arrays.asList(commands).contains("--version")) {
+                    mockOutputTerminal.receive(version);
+                }
+            }, 
+            mockOutputTerminal
+        );
+    }
+
     private void withTerminal(Terminal terminal) {
         this.terminal = terminal;
     }
 
+    private void withSkeletonCache(ProjectSkeletonCache cache) {
+        skeletonCache = cache;
+    }
+
+    private void withProjectFile(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
     private void buildProjectManager() {
-        projectManager = new IonicProjectManager(terminal, fileManager);
+        if (skeletonCache == null) {
+            projectManager = new IonicProjectManager(terminal, fileManager);
+        }
+        else {
+            projectManager = new IonicProjectManager(terminal, fileManager, skeletonCache);
+        }
+    }
+
+    private void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files
+                .sorted(Comparator.reverseOrder())
+                .forEach(file -> file.toFile().delete());
+        }
     }
 
     private void runProjectCreator(Properties properties, Path projectLocation)
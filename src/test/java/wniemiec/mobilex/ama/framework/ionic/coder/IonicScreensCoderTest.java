@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import wniemiec.mobilex.ama.cache.ScreenManifest;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
 import wniemiec.mobilex.ama.framework.ionic.coder.IonicScreensCoder;
 import wniemiec.mobilex.ama.models.CodeFile;
@@ -33,6 +34,7 @@ class IonicScreensCoderTest {
     private static final int INDEX_ROUTING;
     private static final String TAG_ID;
     private IonicScreensCoder coder;
+    private ScreenManifest manifest;
     private List<Screen> screens;
     private List<CodeFile> obtainedCode;
 
@@ -56,6 +58,7 @@ class IonicScreensCoderTest {
     @BeforeEach
     void setUp() {
         screens = new ArrayList<>();
+        manifest = new ScreenManifest();
     }
     
 
@@ -154,6 +157,62 @@ class IonicScreensCoderTest {
     }
 
 
+    @Test
+    void testUnchangedScreenIsNotGeneratedAgain() throws CoderException {
+        Screen screen = new Screen.Builder()
+            .name("about")
+            .structure(buildButtonWithOnClickAndValue("click me"))
+            .build();
+        List<CodeFile> previousCode = List.of(
+            new CodeFile("src/app/pages/about/about.page.html", List.of("<p>previous</p>"))
+        );
+
+        withScreen(screen);
+        manifest.putCodeFiles(screen, ScreenManifest.computeFingerprint(screen), previousCode);
+        runCoder();
+        Assertions.assertEquals(previousCode, obtainedCode);
+        Assertions.assertEquals(1, manifest.getHits());
+    }
+
+    @Test
+    void testChangedScreenIsGeneratedAgain() throws CoderException {
+        Screen previousScreen = new Screen.Builder()
+            .name("about")
+            .structure(buildButtonWithOnClickAndValue("click me"))
+            .build();
+        List<CodeFile> previousCode = List.of(
+            new CodeFile("src/app/pages/about/about.page.html", List.of("<p>previous</p>"))
+        );
+
+        manifest.putCodeFiles(
+            previousScreen, 
+            ScreenManifest.computeFingerprint(previousScreen), 
+            previousCode
+        );
+        withScreen(new Screen.Builder()
+            .name("about")
+            .structure(buildButtonWithOnClickAndValue("do not click me"))
+            .build()
+        );
+
+        String fingerprint = ScreenManifest.computeFingerprint(screens.get(0));
+
+        runCoder();
+        assertHtmlCodeEquals(
+            "<ion-content>",
+            "    <button id=\"" + TAG_ID + "\">",
+            "        do not click me", 
+            "    </button>",
+            "</ion-content>"
+        );
+        Assertions.assertEquals(0, manifest.getHits());
+        Assertions.assertEquals(
+            obtainedCode, 
+            manifest.findCodeFiles(screens.get(0), fingerprint)
+        );
+    }
+
+
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
@@ -205,7 +264,7 @@ class IonicScreensCoderTest {
     }
 
     private void runCoder() throws CoderException {
-        coder = new IonicScreensCoder(screens);
+        coder = new IonicScreensCoder(screens, manifest);
         obtainedCode = coder.generateCode();
     }
 
@@ -1,10 +1,19 @@
 package wniemiec.mobilex.ama.framework.ionic.parser;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import wniemiec.mobilex.ama.models.behavior.Behavior;
+import wniemiec.mobilex.ama.models.behavior.Expression;
+import wniemiec.mobilex.ama.models.behavior.ExpressionStatement;
+import wniemiec.mobilex.ama.models.behavior.Identifier;
+import wniemiec.mobilex.ama.models.behavior.Instruction;
+import wniemiec.mobilex.ama.models.behavior.Literal;
+import wniemiec.mobilex.ama.models.behavior.TemplateElement;
+import wniemiec.mobilex.ama.models.behavior.TemplateLiteral;
 
 
 class EventBehaviorParserTest {
@@ -13,7 +22,8 @@ class EventBehaviorParserTest {
     //		Attributes
     //-------------------------------------------------------------------------
     private EventBehaviorParser parser;
-    private List<String> code;
+    private Behavior behavior;
+    private List<String> parsedCode;
     
 
     //-------------------------------------------------------------------------
@@ -30,44 +40,51 @@ class EventBehaviorParserTest {
     //-------------------------------------------------------------------------
     @Test
     void testOnClickAndThis() {
-        withCode("`<button id=\"foo\" class=\"item\" onclick=\"openDescription(this);\">`");
+        withCode("<button id=\"foo\" class=\"item\" onclick=\"openDescription(this);\">");
         doParsing();
         assertCodeEquals("`<button id=\"foo\" class=\"item\">`;document.getElementById(\"foo\").onclick = () => openDescription(document.getElementById(\"foo\"));");
     }
 
     @Test
     void testOnClickWithCamelCase() {
-        withCode("`<button id=\"foo\" class=\"item\" onClick=\"alert('Hello!')\">`");
+        withCode("<button id=\"foo\" class=\"item\" onClick=\"alert('Hello!')\">");
         doParsing();
         assertCodeEquals("`<button id=\"foo\" class=\"item\">`;document.getElementById(\"foo\").onclick = () => alert('Hello!')");
     }
 
     @Test
     void testOnClickWithoutId() {
-        withCode("`<button class=\"item\" onClick=\"alert('Hello!')\">`");
+        withCode("<button class=\"item\" onClick=\"alert('Hello!')\">");
         doParsing();
         assertCodeEquals("`<button class=\"item\" id=\"" + getGeneratedId(0) + "\">`;document.getElementById(\"" + getGeneratedId(0) + "\").onclick = () => alert('Hello!')");
     }
 
     @Test
     void testOnClickAndThisWithoutId() {
-        withCode("`<button class=\"item\" onclick=\"openDescription(this);\">`");
+        withCode("<button class=\"item\" onclick=\"openDescription(this);\">");
         doParsing();
         assertCodeEquals("`<button class=\"item\" id=\"" + getGeneratedId(0) + "\">`;" 
                          + "document.getElementById(\"" + getGeneratedId(0) + "\").onclick = () => openDescription(document.getElementById(\"" + getGeneratedId(0) + "\"));");
     }
 
     @Test
-    void testOnClickAsAttribute() {
-        withCode("document.getElementById('foo').onclick=()=>alert('bar')");
+    void testOnClickOutsideTag() {
+        withCode("onclick=\"alert('bar')\"");
         doParsing();
-        assertCodeEquals("document.getElementById('foo').onclick=()=>alert('bar')");
+        assertCodeEquals("`onclick=\"alert('bar')\"`;");
+    }
+
+    @Test
+    void testOnClickInStringLiteral() {
+        withBehavior(new ExpressionStatement(Literal.ofString("<button id='foo' onclick='alert()'>")));
+        doParsing();
+        assertCodeEquals("\"<button id='foo'>\";document.getElementById(\"foo\").onclick = () => alert()");
     }
 
     @Test
     void testOnClickWithoutIdWithMultipleTags() {
-        withCode("`<div><button class=\"item\" onClick=\"alert('Hello!')\"></button>" 
-                 + "<button class=\"item\" onClick=\"alert('World!')\"></button></div>`");
+        withCode("<div><button class=\"item\" onClick=\"alert('Hello!')\"></button>" 
+                 + "<button class=\"item\" onClick=\"alert('World!')\"></button></div>");
         doParsing();
         assertCodeEquals("`<div><button class=\"item\" id=\"" + getGeneratedId(0) + "\"></button>" 
                          + "<button class=\"item\" id=\"" + getGeneratedId(1) + "\"></button></div>`;" 
@@ -77,28 +94,81 @@ class EventBehaviorParserTest {
 
     @Test
     void testOnClickWithTemplateStringAndThis() {
-        withCode("`<button id=\"foo\" class=\"item\" onclick=\"openDescription(${1});\">`");
+        withTemplate(
+            List.of("<button id=\"foo\" class=\"item\" onclick=\"openDescription(", ");\">", ""),
+            List.of(Literal.ofNumber("1"), new Identifier("title"))
+        );
+        doParsing();
+        assertCodeEquals("`<button id=\"foo\" class=\"item\">${title}`;document.getElementById(\"foo\").onclick = () => openDescription(`${1}`);");
+    }
+
+
+    @Test
+    void testGeneratedIdsAreTheSameForTheSameCode() {
+        withCode("<button class=\"item\" onClick=\"alert('Hello!')\">");
+        doParsing();
+        List<String> firstParsedCode = parsedCode;
+        withParser(new EventBehaviorParser());
+        doParsing();
+        assertCodeEquals(firstParsedCode.toArray(new String[0]));
+    }
+
+    @Test
+    void testGeneratedIdsAreUniqueInAllLines() {
+        withCode(
+            "<button class=\"item\" onClick=\"alert('Hello!')\">",
+            "<button class=\"item\" onClick=\"alert('World!')\">"
+        );
         doParsing();
-        assertCodeEquals("`<button id=\"foo\" class=\"item\">`;document.getElementById(\"foo\").onclick = () => openDescription(`${1}`);");
+        Assertions.assertEquals(2, parser.getGeneratedIds().size());
+        Assertions.assertNotEquals(getGeneratedId(0), getGeneratedId(1));
     }
 
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private void withCode(String... lines) {
-        code = (lines == null) ? null : Arrays.asList(lines);
+    private void withParser(EventBehaviorParser parser) {
+        this.parser = parser;
+    }
+
+    private void withCode(String... templates) {
+        List<Instruction> instructions = new ArrayList<>();
+
+        for (String template : templates) {
+            instructions.add(new ExpressionStatement(buildTemplateLiteral(List.of(template), List.of())));
+        }
+
+        behavior = new Behavior(instructions);
+    }
+
+    private void withTemplate(List<String> quasis, List<Expression> expressions) {
+        withBehavior(new ExpressionStatement(buildTemplateLiteral(quasis, expressions)));
+    }
+
+    private TemplateLiteral buildTemplateLiteral(List<String> quasis, List<Expression> expressions) {
+        List<Expression> elements = new ArrayList<>();
+
+        for (int i = 0; i < quasis.size(); i++) {
+            elements.add(new TemplateElement(quasis.get(i), i == quasis.size()-1));
+        }
+
+        return new TemplateLiteral(new ArrayList<>(expressions), elements);
+    }
+
+    private void withBehavior(Instruction instruction) {
+        behavior = new Behavior(List.of(instruction));
     }
 
     private void doParsing() {
-        parser.parse(code);
+        parsedCode = behavior.transform(parser).toCode();
     }
 
     private void assertCodeEquals(String... lines) {
         List<String> expectedCode = Arrays.asList(lines);
 
-        assertHasSameSize(expectedCode, parser.getParsedCode());
-        assertHasSameLines(expectedCode, parser.getParsedCode());
+        assertHasSameSize(expectedCode, parsedCode);
+        assertHasSameLines(expectedCode, parsedCode);
     }
 
     private void assertHasSameSize(List<String> expected, List<String> obtained) {
@@ -0,0 +1,85 @@
+package wniemiec.mobilex.ama.framework.ionic.parser;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+class EventIdGeneratorTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private EventIdGenerator generator;
+    private Set<String> generatedIds;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        generator = null;
+        generatedIds = new HashSet<>();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testSameScreenAndPosition() {
+        withScreen("Home");
+        String structureId = generator.generateStructureId(3);
+        String behaviorId = generator.generateBehaviorId(2);
+        withScreen("Home");
+        Assertions.assertEquals(structureId, generator.generateStructureId(3));
+        Assertions.assertEquals(behaviorId, generator.generateBehaviorId(2));
+    }
+
+    @Test
+    void testDifferentScreens() {
+        withScreen("Home");
+        String homeId = generator.generateStructureId(0);
+        withScreen("About");
+        Assertions.assertNotEquals(homeId, generator.generateStructureId(0));
+    }
+
+    @Test
+    void testUniqueIdsWithinScreen() {
+        withScreen("Home");
+
+        for (int i = 0; i < 200; i++) {
+            assertIsUnique(generator.generateStructureId(i));
+            assertIsUnique(generator.generateBehaviorId(i));
+        }
+    }
+
+    @Test
+    void testIdIsValidHtmlId() {
+        withScreen("Home");
+        Assertions.assertTrue(generator.generateStructureId(12).matches("_[0-9a-f]+_12"));
+        Assertions.assertTrue(generator.generateBehaviorId(12).matches("_[0-9a-f]+_b12"));
+    }
+
+    @Test
+    void testNullScreenName() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            withScreen(null);
+        });
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withScreen(String name) {
+        generator = new EventIdGenerator(name);
+    }
+
+    private void assertIsUnique(String id) {
+        Assertions.assertTrue(generatedIds.add(id), "Duplicated id: " + id);
+    }
+}
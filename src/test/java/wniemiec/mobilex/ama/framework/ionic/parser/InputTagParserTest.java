@@ -59,6 +59,13 @@ class InputTagParserTest {
         assertName("ion-input");
     }
 
+    @Test
+    void testInputIsParsedInPlace() {
+        withRootTag(buildInputWithId("foo"));
+        doParsing();
+        assertParsedTagIsRootTag();
+    }
+
 
     //-------------------------------------------------------------------------
     //		Methods
@@ -95,6 +102,10 @@ class InputTagParserTest {
         Assertions.assertTrue(parser.getParsedTag().hasAttribute(name));
     }
 
+    private void assertParsedTagIsRootTag() {
+        Assertions.assertSame(rootTag, parser.getParsedTag());
+    }
+
     private void assertName(String name) {
         Assertions.assertEquals(name, parser.getParsedTag().getName());
     }
@@ -7,13 +7,18 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
+import wniemiec.mobilex.ama.models.behavior.ArrowFunctionExpression;
+import wniemiec.mobilex.ama.models.behavior.AssignmentExpression;
 import wniemiec.mobilex.ama.models.behavior.Behavior;
+import wniemiec.mobilex.ama.models.behavior.CallExpression;
 import wniemiec.mobilex.ama.models.behavior.Declaration;
 import wniemiec.mobilex.ama.models.behavior.Declarator;
 import wniemiec.mobilex.ama.models.behavior.Expression;
 import wniemiec.mobilex.ama.models.behavior.ExpressionStatement;
+import wniemiec.mobilex.ama.models.behavior.Identifier;
 import wniemiec.mobilex.ama.models.behavior.Instruction;
 import wniemiec.mobilex.ama.models.behavior.Literal;
+import wniemiec.mobilex.ama.models.behavior.MemberExpression;
 import wniemiec.mobilex.ama.models.behavior.TemplateElement;
 import wniemiec.mobilex.ama.models.behavior.TemplateLiteral;
 
@@ -74,9 +79,16 @@ class IonicBehaviorParserTest {
 
     @Test
     void testBehaviorWithStyle() throws CoderException {
-        withBehavior(buildTemplateLiteralWithoutExpression("document.getElementById('body').style.opacity=0"));
+        withBehavior(buildStyleAssignment("opacity", Literal.ofNumber("0")));
         doParsing();
-        assertCodeEquals("`document.getElementById('body').style.opacity=\"0\"`;");
+        assertCodeEquals("title.style.opacity=\"0\";");
+    }
+
+    @Test
+    void testBehaviorWithArrowFunctionAssignment() throws CoderException {
+        withBehavior(buildEventAssignment(new CallExpression(new Identifier("reload"))));
+        doParsing();
+        assertCodeEquals("btn.onclick=()=>reload();");
     }
 
 
@@ -147,6 +159,24 @@ class IonicBehaviorParserTest {
         return buildBehaviorWith(new ExpressionStatement(templateLiteral));
     }
 
+    private Behavior buildStyleAssignment(String property, Expression value) {
+        Expression style = buildProperty(new Identifier("title"), "style");
+        AssignmentExpression assignment = new AssignmentExpression("=", buildProperty(style, property), value);
+
+        return buildBehaviorWith(new ExpressionStatement(assignment));
+    }
+
+    private Behavior buildEventAssignment(Expression handler) {
+        ArrowFunctionExpression function = new ArrowFunctionExpression(false, null, new ExpressionStatement(handler));
+        AssignmentExpression assignment = new AssignmentExpression("=", buildProperty(new Identifier("btn"), "onclick"), function);
+
+        return buildBehaviorWith(new ExpressionStatement(assignment));
+    }
+
+    private Expression buildProperty(Expression object, String name) {
+        return new MemberExpression(object, "Identifier", name, 0, false, false);
+    }
+
     private String getGeneratedId(int index) {
         return parser.getGeneratedIds().get(index);
     }
@@ -55,6 +55,28 @@ class IonicStructureParserTest {
         assertCodeEquals("<a href=\"home\"/>");
     }
 
+    @Test
+    void testNestedInputs() {
+        withRootTag(buildDivWithChildren(buildInputWithId("foo"), buildInputWithId("bar")));
+        doParsing();
+        assertCodeEquals(
+            "<div>",
+            "<ion-input [(ngModel)]=\"input_foo\" id=\"foo\">",
+            "</ion-input>",
+            "<ion-input [(ngModel)]=\"input_bar\" id=\"bar\">",
+            "</ion-input>",
+            "</div>"
+        );
+        assertContainsInputIds("input_foo", "input_bar");
+    }
+
+    @Test
+    void testStructureTagsAreNotRenamed() {
+        withRootTag(buildDivWithChildren(buildInputWithId("foo")));
+        doParsing();
+        assertChildName(0, "input");
+    }
+
     @Test
     void testNullTag() {
         withRootTag(null);
@@ -85,6 +107,16 @@ class IonicStructureParserTest {
         return buttonTag;
     }
 
+    private Tag buildDivWithChildren(Tag... children) {
+        Tag divTag = Tag.getNormalInstance("div");
+
+        for (Tag child : children) {
+            divTag.addChild(child);
+        }
+
+        return divTag;
+    }
+
     private Tag buildLinkWithHrefWithScreenDirective() {
         Tag aTag = Tag.getVoidInstance("a");
         
@@ -137,6 +169,10 @@ class IonicStructureParserTest {
         }
     }
 
+    private void assertChildName(int index, String name) {
+        Assertions.assertEquals(name, rootTag.getChildren().get(index).getName());
+    }
+
     private void assertHasEvent(String event) {
         Assertions.assertTrue(containsEvent(event));
     }
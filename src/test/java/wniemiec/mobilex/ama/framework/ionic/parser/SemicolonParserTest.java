@@ -0,0 +1,97 @@
+package wniemiec.mobilex.ama.framework.ionic.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wniemiec.mobilex.ama.models.behavior.ArrowFunctionExpression;
+import wniemiec.mobilex.ama.models.behavior.AssignmentExpression;
+import wniemiec.mobilex.ama.models.behavior.CallExpression;
+import wniemiec.mobilex.ama.models.behavior.Expression;
+import wniemiec.mobilex.ama.models.behavior.ExpressionStatement;
+import wniemiec.mobilex.ama.models.behavior.Identifier;
+import wniemiec.mobilex.ama.models.behavior.Instruction;
+import wniemiec.mobilex.ama.models.behavior.MemberExpression;
+
+
+class SemicolonParserTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private Instruction instruction;
+    private Instruction transformedInstruction;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        instruction = null;
+        transformedInstruction = null;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testTransformWithArrowFunctionAssignment() {
+        withInstruction(buildEventAssignment());
+        doTransformation();
+        assertCodeEquals("btn.onclick=() => reload();");
+    }
+
+    @Test
+    void testTransformKeepsExpressionStatement() {
+        withInstruction(buildEventAssignment());
+        doTransformation();
+        Assertions.assertTrue(transformedInstruction instanceof ExpressionStatement);
+    }
+
+    @Test
+    void testTransformTwice() {
+        withInstruction(buildEventAssignment());
+        doTransformation();
+        withInstruction(transformedInstruction);
+        doTransformation();
+        assertCodeEquals("btn.onclick=() => reload();");
+    }
+
+    @Test
+    void testTransformedInstructionIsSerializable() throws IOException {
+        withInstruction(buildEventAssignment());
+        doTransformation();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(new ByteArrayOutputStream())) {
+            out.writeObject(transformedInstruction);
+        }
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private Instruction buildEventAssignment() {
+        Expression handler = new CallExpression(new Identifier("reload"));
+        ArrowFunctionExpression function = new ArrowFunctionExpression(false, null, new ExpressionStatement(handler));
+        Expression onclick = new MemberExpression(new Identifier("btn"), "Identifier", "onclick", 0, false, false);
+
+        return new ExpressionStatement(new AssignmentExpression("=", onclick, function));
+    }
+
+    private void withInstruction(Instruction instruction) {
+        this.instruction = instruction;
+    }
+
+    private void doTransformation() {
+        transformedInstruction = instruction.transform(new SemicolonParser());
+    }
+
+    private void assertCodeEquals(String code) {
+        Assertions.assertEquals(code, transformedInstruction.toCode());
+    }
+}
@@ -5,6 +5,14 @@ import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import wniemiec.mobilex.ama.models.behavior.AssignmentExpression;
+import wniemiec.mobilex.ama.models.behavior.Behavior;
+import wniemiec.mobilex.ama.models.behavior.CallExpression;
+import wniemiec.mobilex.ama.models.behavior.Expression;
+import wniemiec.mobilex.ama.models.behavior.ExpressionStatement;
+import wniemiec.mobilex.ama.models.behavior.Identifier;
+import wniemiec.mobilex.ama.models.behavior.Literal;
+import wniemiec.mobilex.ama.models.behavior.MemberExpression;
 
 
 class StyleParserTest {
@@ -13,7 +21,8 @@ class StyleParserTest {
     //		Attributes
     //-------------------------------------------------------------------------
     private StyleParser parser;
-    private List<String> code;
+    private Behavior behavior;
+    private List<String> parsedCode;
     
 
     //-------------------------------------------------------------------------
@@ -30,49 +39,64 @@ class StyleParserTest {
     //-------------------------------------------------------------------------
     @Test
     void testNumericAssignment() {
-        withCode("document.getElementById('body').style.opacity=1;");
+        withAssignment("=", buildStyleProperty("opacity"), Literal.ofNumber("1"));
         doParsing();
-        assertCodeEquals("document.getElementById('body').style.opacity=\"1\";");
+        assertCodeEquals("document.getElementById(\"body\").style.opacity=\"1\";");
     }
 
     @Test
     void testStringAssignment() {
-        withCode("document.getElementById('body').style.color = '#12345678';");
+        withAssignment("=", buildStyleProperty("color"), Literal.ofString("#12345678"));
         doParsing();
-        assertCodeEquals("document.getElementById('body').style.color = '#12345678';");
+        assertCodeEquals("document.getElementById(\"body\").style.color = \"#12345678\";");
     }
 
     @Test
-    void testNumericAssignmentAsString() {
-        withCode("document.getElementById(\"body\").style.opacity=\"1\";");
+    void testNumericAssignmentWithOtherOperator() {
+        withAssignment("+=", buildStyleProperty("opacity"), Literal.ofNumber("1"));
         doParsing();
-        assertCodeEquals("document.getElementById(\"body\").style.opacity=\"1\";");
+        assertCodeEquals("document.getElementById(\"body\").style.opacity+=1;");
     }
 
     @Test
-    void testInvalidAssignment() {
-        withCode("document.getElementById('body').style.opacity=@;");
+    void testNumericAssignmentOutsideStyle() {
+        withAssignment("=", buildProperty(new Identifier("item"), "opacity"), Literal.ofNumber("1"));
         doParsing();
-        assertCodeEquals("document.getElementById('body').style.opacity=@;");
+        assertCodeEquals("item.opacity=1;");
     }
 
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private void withCode(String... lines) {
-        code = (lines == null) ? null : Arrays.asList(lines);
+    private void withAssignment(String operator, Expression left, Expression right) {
+        AssignmentExpression assignment = new AssignmentExpression(operator, left, right);
+
+        behavior = new Behavior(List.of(new ExpressionStatement(assignment)));
+    }
+
+    private Expression buildStyleProperty(String name) {
+        CallExpression element = new CallExpression(
+            buildProperty(new Identifier("document"), "getElementById"),
+            List.of(Literal.ofString("body"))
+        );
+
+        return buildProperty(buildProperty(element, "style"), name);
+    }
+
+    private Expression buildProperty(Expression object, String name) {
+        return new MemberExpression(object, "Identifier", name, 0, false, false);
     }
 
     private void doParsing() {
-        parser.parse(code);
+        parsedCode = behavior.transform(parser).toCode();
     }
 
     private void assertCodeEquals(String... lines) {
         List<String> expectedCode = Arrays.asList(lines);
 
-        assertHasSameSize(expectedCode, parser.getParsedCode());
-        assertHasSameLines(expectedCode, parser.getParsedCode());
+        assertHasSameSize(expectedCode, parsedCode);
+        assertHasSameLines(expectedCode, parsedCode);
     }
 
     private void assertHasSameSize(List<String> expected, List<String> obtained) {
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import util.babel.MockBabelWorker;
 import util.io.MockFileManager;
 import util.terminal.MockInputTerminal;
 import util.terminal.MockOutputTerminal;
@@ -17,6 +18,7 @@ import wniemiec.io.java.LogLevel;
 import wniemiec.io.java.Terminal;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
 import wniemiec.mobilex.ama.export.exception.AppGenerationException;
+import wniemiec.mobilex.ama.framework.reactnative.babel.BabelWorkerTranspiler;
 import wniemiec.mobilex.ama.models.CodeFile;
 import wniemiec.mobilex.ama.models.Properties;
 import wniemiec.mobilex.ama.models.Screen;
@@ -270,6 +272,16 @@ class ReactNativeFrameworkTest {
         });
     }
 
+    @Test
+    void testBuildFrameworkWithoutBehaviorTranspiler() throws IOException {
+        withTerminal(buildMockTerminal());
+        withFileManager(buildMockFileManager());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ReactNativeFramework(terminal, fileManager, null);
+        });
+    }
+
     @Test
     void testProjectCreatorWithoutProperties() throws IOException {
         withTerminal(buildMockTerminal());
@@ -323,6 +335,35 @@ class ReactNativeFrameworkTest {
         });
     }
 
+    @Test
+    void testCodeGenerationKeepsBabelWorker() throws CoderException {
+        List<MockBabelWorker> workers = new ArrayList<>();
+
+        withTerminal(buildMockTerminal());
+        withFileManager(buildMockFileManager());
+        withScreen(new Screen.Builder()
+            .name("about")
+            .structure(buildButtonWithOnClickAndValue("click me"))
+            .behavior(buildDeclarationWithIdAndAssignment("hello", "world"))
+            .build()
+        );
+        reactNativeFramework = new ReactNativeFramework(
+            terminal, 
+            fileManager, 
+            new BabelWorkerTranspiler(() -> {
+                MockBabelWorker worker = new MockBabelWorker(true);
+
+                workers.add(worker);
+
+                return worker;
+            }, 1000)
+        );
+        runCodeGeneration();
+        runCodeGeneration();
+        Assertions.assertEquals(1, workers.size());
+        Assertions.assertTrue(obtainedCode.get(0).getCode().contains("\"use strict\";"));
+    }
+
     @Test
     void testCodeGenerationWithoutScreen() throws CoderException {
         withTerminal(buildMockTerminal());
@@ -95,6 +95,30 @@ class ReactNativeProjectManagerTest {
         );
     }
 
+    @Test
+    void testProjectDependenciesInSingleInstallation() throws IOException {
+        withTerminal(buildMockTerminal());
+        withFileManager(buildMockFileManager());
+        buildProjectManager();
+        addProjectDependenciesAtOnce(
+            PRE_BUILT_PROJECT_LOCATION,
+            "react-native-webview@11.17.2",
+            "react-native-render-html @native-html/iframe-plugin"
+        );
+        assertTerminalHistoryIsEmpty();
+        assertTerminalErrorHistoryIsEmpty();
+        assertMockInputTerminalWas(
+            "npm", 
+            "install", 
+            "--prefix",
+            PRE_BUILT_PROJECT_LOCATION.toString(),
+            "--save", 
+            "react-native-webview@11.17.2",
+            "react-native-render-html",
+            "@native-html/iframe-plugin"
+        );
+    }
+
     @Test
     void testProjectDependencies() throws IOException {
         withTerminal(buildMockTerminal());
@@ -251,6 +275,11 @@ class ReactNativeProjectManagerTest {
         }
     }
 
+    private void addProjectDependenciesAtOnce(Path location, String... dependencies) 
+    throws IOException {
+        projectManager.addProjectDependencies(List.of(dependencies), location);
+    }
+
     private void assertTerminalHistoryIsEmpty() {
         Assertions.assertTrue(terminal.getHistory().isEmpty());
     }
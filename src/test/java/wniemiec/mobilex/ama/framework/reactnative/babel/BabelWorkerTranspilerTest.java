@@ -0,0 +1,203 @@
+package wniemiec.mobilex.ama.framework.reactnative.babel;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.babel.MockBabelWorker;
+
+
+class BabelWorkerTranspilerTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private static final long TIMEOUT;
+    private BabelWorkerTranspiler transpiler;
+    private List<MockBabelWorker> workers;
+    private List<Boolean> respondingWorkers;
+    private String crashMessage;
+    private Map<String, List<String>> behaviors;
+    private Map<String, List<String>> transpiledBehaviors;
+    private Map<String, List<String>> errors;
+
+
+    //-------------------------------------------------------------------------
+    //		Initialization block
+    //-------------------------------------------------------------------------
+    static {
+        TIMEOUT = 500;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        workers = new ArrayList<>();
+        respondingWorkers = new ArrayList<>();
+        crashMessage = null;
+        behaviors = new LinkedHashMap<>();
+        transpiledBehaviors = null;
+        errors = new LinkedHashMap<>();
+        transpiler = new BabelWorkerTranspiler(this::launchWorker, TIMEOUT);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transpiler.close();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testTranspile() throws IOException {
+        withBehavior("home", "let a = 1;", "a++;");
+        doTranspilation();
+        assertTranspiledCodeEquals("home", "\"use strict\";", "", "let a = 1;", "a++;");
+        Assertions.assertTrue(errors.isEmpty());
+        Assertions.assertEquals("7.0.0-mock", transpiler.getVersion());
+    }
+
+    @Test
+    void testGetVersionDoesNotStartWorker() {
+        transpiler.getVersion();
+        Assertions.assertTrue(workers.isEmpty());
+    }
+
+    @Test
+    void testWorkerIsKeptBetweenTranspilations() throws IOException {
+        withBehavior("home", "let a = 1;");
+        doTranspilation();
+        doTranspilation();
+        Assertions.assertEquals(1, workers.size());
+    }
+
+    @Test
+    void testErrorIdentifiesScreen() throws IOException {
+        withBehavior("home", "let a = 1;");
+        withBehavior("about", "let @ = 1;");
+        doTranspilation();
+        assertTranspiledCodeEquals("home", "\"use strict\";", "", "let a = 1;");
+        Assertions.assertEquals(List.of("about"), new ArrayList<>(errors.keySet()));
+        Assertions.assertEquals(
+            List.of("SyntaxError: Unexpected character '@'", "> 1 | let @ = 1;"), 
+            errors.get("about")
+        );
+    }
+
+    @Test
+    void testRestartAfterCrash() throws IOException {
+        withBehavior("home", "let a = 1;");
+        doTranspilation();
+        workers.get(0).kill();
+        doTranspilation();
+        Assertions.assertEquals(2, workers.size());
+        assertTranspiledCodeEquals("home", "\"use strict\";", "", "let a = 1;");
+    }
+
+    @Test
+    void testRestartWhenWorkerDoesNotRespond() throws IOException {
+        withWorkerNotResponding();
+        withBehavior("home", "let a = 1;");
+        doTranspilation();
+        Assertions.assertEquals(2, workers.size());
+        Assertions.assertFalse(workers.get(0).isAlive());
+        assertTranspiledCodeEquals("home", "\"use strict\";", "", "let a = 1;");
+    }
+
+    @Test
+    void testWorkerThatNeverResponds() {
+        withWorkerNotResponding();
+        withWorkerNotResponding();
+        withWorkerNotResponding();
+        withWorkerNotResponding();
+        withBehavior("home", "let a = 1;");
+
+        Assertions.assertThrows(IOException.class, () -> {
+            doTranspilation();
+        });
+    }
+
+    @Test
+    void testCrashReportsErrorOutput() {
+        withWorkersCrashingWith("Error: Cannot find module '@babel/core'");
+        withBehavior("home", "let a = 1;");
+
+        IOException exception = Assertions.assertThrows(IOException.class, () -> {
+            doTranspilation();
+        });
+
+        Assertions.assertTrue(
+            exception.getMessage().contains("Error: Cannot find module '@babel/core'")
+        );
+    }
+
+    @Test
+    void testClose() throws IOException {
+        withBehavior("home", "let a = 1;");
+        doTranspilation();
+        transpiler.close();
+        Assertions.assertFalse(workers.get(0).isAlive());
+    }
+
+    @Test
+    void testNullLauncher() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new BabelWorkerTranspiler(null, TIMEOUT);
+        });
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private Process launchWorker() {
+        if (crashMessage != null) {
+            MockBabelWorker worker = new MockBabelWorker(crashMessage);
+
+            workers.add(worker);
+
+            return worker;
+        }
+
+        boolean responding = (workers.size() >= respondingWorkers.size()) 
+            || respondingWorkers.get(workers.size());
+        MockBabelWorker worker = new MockBabelWorker(responding);
+
+        workers.add(worker);
+
+        return worker;
+    }
+
+    private void withWorkerNotResponding() {
+        respondingWorkers.add(false);
+    }
+
+    private void withWorkersCrashingWith(String message) {
+        crashMessage = message;
+    }
+
+    private void withBehavior(String screenName, String... lines) {
+        behaviors.put(screenName, List.of(lines));
+    }
+
+    private void doTranspilation() throws IOException {
+        errors.clear();
+        transpiledBehaviors = transpiler.transpile(behaviors, (screenName, message) -> 
+            errors.computeIfAbsent(screenName, key -> new ArrayList<>()).add(message)
+        );
+    }
+
+    private void assertTranspiledCodeEquals(String screenName, String... lines) {
+        Assertions.assertEquals(List.of(lines), transpiledBehaviors.get(screenName));
+    }
+}
@@ -0,0 +1,165 @@
+package wniemiec.mobilex.ama.framework.reactnative.babel;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.terminal.MockInputTerminal;
+import util.terminal.MockOutputTerminal;
+import wniemiec.io.java.InputTerminal;
+import wniemiec.io.java.Terminal;
+import wniemiec.mobilex.ama.util.io.StandardFileManager;
+
+
+class BatchBabelTranspilerTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private BatchBabelTranspiler transpiler;
+    private MockOutputTerminal outputTerminal;
+    private Map<String, List<String>> behaviors;
+    private Map<String, List<String>> transpiledBehaviors;
+    private Map<String, List<String>> errors;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        outputTerminal = new MockOutputTerminal();
+        behaviors = new LinkedHashMap<>();
+        transpiledBehaviors = null;
+        errors = new LinkedHashMap<>();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testSingleRunForAllScreens() throws IOException {
+        MockInputTerminal inputTerminal = new MockInputTerminal();
+
+        withInputTerminal(inputTerminal);
+        withBehavior("home", "let a = 1;");
+        withBehavior("about", "let a = 2;");
+        doTranspilation();
+        Assertions.assertEquals(1, countOccurrences(inputTerminal.getLog(), "npx"));
+    }
+
+    @Test
+    void testTranspiledCodeOfEachScreen() throws IOException {
+        withInputTerminal(buildBabelThatCopiesSources());
+        withBehavior("home", "let a = 1;");
+        withBehavior("about", "let a = 2;");
+        doTranspilation();
+        assertTranspiledCodeEquals("home", "let a = 1;");
+        assertTranspiledCodeEquals("about", "let a = 2;");
+        Assertions.assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    void testErrorIdentifiesScreen() throws IOException {
+        withInputTerminal(buildBabelThatFailsOn(1));
+        withBehavior("home", "let a = 1;");
+        withBehavior("about", "let = ;");
+        doTranspilation();
+        assertTranspiledCodeEquals("home", "let a = 1;");
+        Assertions.assertFalse(transpiledBehaviors.containsKey("about"));
+        Assertions.assertEquals(List.of("about"), new ArrayList<>(errors.keySet()));
+        Assertions.assertEquals(2, errors.get("about").size());
+    }
+
+    @Test
+    void testScreenWithoutOutput() throws IOException {
+        withInputTerminal(new MockInputTerminal());
+        withBehavior("home", "let a = 1;");
+        doTranspilation();
+        Assertions.assertTrue(transpiledBehaviors.isEmpty());
+        Assertions.assertTrue(errors.containsKey("home"));
+    }
+
+    @Test
+    void testWithoutScreens() throws IOException {
+        MockInputTerminal inputTerminal = new MockInputTerminal();
+
+        withInputTerminal(inputTerminal);
+        doTranspilation();
+        Assertions.assertTrue(transpiledBehaviors.isEmpty());
+        Assertions.assertTrue(inputTerminal.getLog().isEmpty());
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withInputTerminal(InputTerminal inputTerminal) {
+        transpiler = new BatchBabelTranspiler(
+            new Terminal(inputTerminal, outputTerminal), 
+            new StandardFileManager()
+        );
+    }
+
+    private void withBehavior(String screenName, String... lines) {
+        behaviors.put(screenName, List.of(lines));
+    }
+
+    private void doTranspilation() throws IOException {
+        transpiledBehaviors = transpiler.transpile(behaviors, (screenName, message) -> 
+            errors.computeIfAbsent(screenName, key -> new ArrayList<>()).add(message)
+        );
+    }
+
+    /**
+     * Builds a terminal that runs a Babel that does not change source files,
+     * from 'npx babel <source> --out-dir <output> ...'.
+     */
+    private InputTerminal buildBabelThatCopiesSources() {
+        return buildBabelThatFailsOn(-1);
+    }
+
+    private InputTerminal buildBabelThatFailsOn(int failedScreen) {
+        return commands -> {
+            Path source = Path.of(commands[2]);
+            Path output = Path.of(commands[4]);
+
+            Files.createDirectories(output);
+
+            for (int i = 0; i < behaviors.size(); i++) {
+                Path sourceFile = source.resolve("screen" + i + ".js");
+
+                if (i == failedScreen) {
+                    outputTerminal.receiveError("SyntaxError: " + sourceFile + ": Unexpected token (1:4)");
+                    outputTerminal.receiveError("> 1 | let = ;");
+                    break;
+                }
+
+                Files.copy(sourceFile, output.resolve(sourceFile.getFileName()));
+            }
+        };
+    }
+
+    private int countOccurrences(List<String> log, String command) {
+        int occurrences = 0;
+
+        for (String entry : log) {
+            if (entry.equals(command)) {
+                occurrences++;
+            }
+        }
+
+        return occurrences;
+    }
+
+    private void assertTranspiledCodeEquals(String screenName, String... lines) {
+        Assertions.assertEquals(List.of(lines), transpiledBehaviors.get(screenName));
+    }
+}
@@ -0,0 +1,186 @@
+package wniemiec.mobilex.ama.framework.reactnative.babel;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import wniemiec.io.java.Consolex;
+import wniemiec.io.java.LogLevel;
+import wniemiec.mobilex.ama.cache.TranspiledBehaviorCache;
+
+
+class CachedBehaviorTranspilerTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private Path location;
+    private CachedBehaviorTranspiler transpiler;
+    private List<Map<String, List<String>>> transpilations;
+    private Map<String, List<String>> behaviors;
+    private Map<String, List<String>> transpiledBehaviors;
+    private Map<String, List<String>> errors;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() throws IOException {
+        location = Files.createTempDirectory("ama-cache");
+        transpilations = new ArrayList<>();
+        behaviors = new LinkedHashMap<>();
+        transpiledBehaviors = null;
+        errors = new LinkedHashMap<>();
+        transpiler = new CachedBehaviorTranspiler(
+            this::transpile, 
+            new TranspiledBehaviorCache(location, Long.MAX_VALUE)
+        );
+
+        Consolex.setLoggerLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(location)) {
+            files
+                .sorted((a, b) -> b.compareTo(a))
+                .forEach(file -> file.toFile().delete());
+        }
+
+        Consolex.setLoggerLevel(LogLevel.INFO);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testTranspileWithoutCachedBehaviors() throws IOException {
+        withBehavior("home", "let a = 1;");
+        withBehavior("about", "let b = 2;");
+        doTranspilation();
+        assertTranspiledCodeEquals("home", "\"use strict\";", "let a = 1;");
+        assertTranspiledCodeEquals("about", "\"use strict\";", "let b = 2;");
+        assertTranspilationsEqual(List.of("home", "about"));
+    }
+
+    @Test
+    void testTranspileWithCachedBehaviors() throws IOException {
+        withBehavior("home", "let a = 1;");
+        doTranspilation();
+        withBehavior("about", "let b = 2;");
+        doTranspilation();
+        assertTranspiledCodeEquals("home", "\"use strict\";", "let a = 1;");
+        assertTranspiledCodeEquals("about", "\"use strict\";", "let b = 2;");
+        assertTranspilationsEqual(List.of("home"), List.of("about"));
+        Assertions.assertEquals(List.of("home", "about"), List.copyOf(transpiledBehaviors.keySet()));
+    }
+
+    @Test
+    void testTranspileWithAllBehaviorsCached() throws IOException {
+        withBehavior("home", "let a = 1;");
+        doTranspilation();
+        doTranspilation();
+        assertTranspiledCodeEquals("home", "\"use strict\";", "let a = 1;");
+        assertTranspilationsEqual(List.of("home"));
+    }
+
+    @Test
+    void testTranspileWithChangedBehavior() throws IOException {
+        withBehavior("home", "let a = 1;");
+        doTranspilation();
+        withBehavior("home", "let a = 2;");
+        doTranspilation();
+        assertTranspiledCodeEquals("home", "\"use strict\";", "let a = 2;");
+        assertTranspilationsEqual(List.of("home"), List.of("home"));
+    }
+
+    @Test
+    void testBehaviorWithErrorIsNotCached() throws IOException {
+        withBehavior("home", "let @ = 1;");
+        doTranspilation();
+        doTranspilation();
+        Assertions.assertFalse(transpiledBehaviors.containsKey("home"));
+        Assertions.assertEquals(List.of("Unexpected character '@'"), errors.get("home"));
+        assertTranspilationsEqual(List.of("home"), List.of("home"));
+    }
+
+    @Test
+    void testTranspilerAndCacheCannotBeNull() {
+        TranspiledBehaviorCache cache = new TranspiledBehaviorCache(location, Long.MAX_VALUE);
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class, 
+            () -> new CachedBehaviorTranspiler(null, cache)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class, 
+            () -> new CachedBehaviorTranspiler(this::transpile, null)
+        );
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private Map<String, List<String>> transpile(
+        Map<String, List<String>> screenBehaviors,
+        BiConsumer<String, String> errorHandler
+    ) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+
+        transpilations.add(screenBehaviors);
+
+        for (Map.Entry<String, List<String>> behavior : screenBehaviors.entrySet()) {
+            if (String.join("", behavior.getValue()).contains("@")) {
+                errorHandler.accept(behavior.getKey(), "Unexpected character '@'");
+                continue;
+            }
+
+            List<String> code = new ArrayList<>();
+
+            code.add("\"use strict\";");
+            code.addAll(behavior.getValue());
+            result.put(behavior.getKey(), code);
+        }
+
+        return result;
+    }
+
+    private void withBehavior(String screenName, String... lines) {
+        behaviors.put(screenName, List.of(lines));
+    }
+
+    private void doTranspilation() throws IOException {
+        errors.clear();
+        transpiledBehaviors = transpiler.transpile(behaviors, (screen, message) -> 
+            errors.computeIfAbsent(screen, key -> new ArrayList<>()).add(message)
+        );
+    }
+
+    private void assertTranspiledCodeEquals(String screenName, String... lines) {
+        Assertions.assertEquals(List.of(lines), transpiledBehaviors.get(screenName));
+    }
+
+    @SafeVarargs
+    private final void assertTranspilationsEqual(List<String>... screenNames) {
+        Assertions.assertEquals(screenNames.length, transpilations.size());
+
+        for (int i = 0; i < screenNames.length; i++) {
+            Assertions.assertEquals(
+                screenNames[i], 
+                List.copyOf(transpilations.get(i).keySet())
+            );
+        }
+    }
+}
@@ -3,10 +3,14 @@ package wniemiec.mobilex.ama.framework.reactnative.coder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import wniemiec.mobilex.ama.cache.ScreenManifest;
 import wniemiec.mobilex.ama.coder.exception.CoderException;
+import wniemiec.mobilex.ama.framework.reactnative.babel.BehaviorTranspiler;
 import wniemiec.mobilex.ama.models.CodeFile;
 import wniemiec.mobilex.ama.models.Screen;
 import wniemiec.mobilex.ama.models.Style;
@@ -26,6 +30,8 @@ class ReactNativeScreensCoderTest {
     //-------------------------------------------------------------------------
     private static final String TAG_ID;
     private ReactNativeScreensCoder coder;
+    private BehaviorTranspiler transpiler;
+    private ScreenManifest manifest;
     private List<Screen> screens;
     private List<CodeFile> obtainedCode;
 
@@ -44,6 +50,8 @@ class ReactNativeScreensCoderTest {
     @BeforeEach
     void setUp() {
         screens = new ArrayList<>();
+        transpiler = null;
+        manifest = null;
     }
     
 
@@ -205,6 +213,155 @@ class ReactNativeScreensCoderTest {
         );
     }
 
+    @Test
+    void testBehaviorOfAllScreensIsTranspiledAtOnce() throws CoderException {
+        List<Map<String, List<String>>> transpilations = new ArrayList<>();
+
+        withScreen(new Screen.Builder()
+            .name("about")
+            .structure(buildButtonWithOnClickAndValue("click me"))
+            .behavior(buildDeclarationWithIdAndAssignment("hello", "world"))
+            .build()
+        );
+        withScreen(new Screen.Builder()
+            .name("contact")
+            .structure(buildButtonWithOnClickAndValue("send an email"))
+            .behavior(buildDeclarationWithIdAndAssignment("hello", "email"))
+            .build()
+        );
+        withTranspiler((behaviors, errorHandler) -> {
+            transpilations.add(behaviors);
+
+            return behaviors;
+        });
+        runCoder();
+        Assertions.assertEquals(1, transpilations.size());
+        Assertions.assertEquals(List.of("about", "contact"), new ArrayList<>(transpilations.get(0).keySet()));
+        Assertions.assertTrue(obtainedCode.get(2).getCode().containsAll(transpilations.get(0).get("contact")));
+    }
+
+    @Test
+    void testBabelErrorIdentifiesScreen() {
+        withScreen(new Screen.Builder()
+            .name("about")
+            .structure(buildButtonWithOnClickAndValue("click me"))
+            .behavior(buildDeclarationWithIdAndAssignment("hello", "world"))
+            .build()
+        );
+        withTranspiler((behaviors, errorHandler) -> {
+            errorHandler.accept("about", "SyntaxError: Unexpected token");
+            errorHandler.accept("", "npm notice New version available");
+
+            return Map.of();
+        });
+        
+        CoderException exception = Assertions.assertThrows(CoderException.class, () -> {
+            runCoder();
+        });
+
+        Assertions.assertEquals("[about] SyntaxError: Unexpected token", exception.getMessage());
+    }
+
+    @Test
+    void testOnlyChangedScreensAreTranspiledAgain() throws CoderException {
+        List<Map<String, List<String>>> transpilations = new ArrayList<>();
+
+        withScreen(new Screen.Builder()
+            .name("about")
+            .structure(buildButtonWithOnClickAndValue("click me"))
+            .behavior(buildDeclarationWithIdAndAssignment("hello", "world"))
+            .build()
+        );
+        withScreen(new Screen.Builder()
+            .name("contact")
+            .structure(buildButtonWithOnClickAndValue("send an email"))
+            .behavior(buildDeclarationWithIdAndAssignment("hello", "email"))
+            .build()
+        );
+        withTranspiler((behaviors, errorHandler) -> {
+            transpilations.add(behaviors);
+
+            return behaviors;
+        });
+        withManifest(new ScreenManifest());
+        runCoder();
+
+        List<CodeFile> firstCode = obtainedCode;
+
+        screens.set(1, new Screen.Builder()
+            .name("contact")
+            .structure(buildButtonWithOnClickAndValue("send an email"))
+            .behavior(buildDeclarationWithIdAndAssignment("hello", "phone"))
+            .build()
+        );
+        runCoder();
+        Assertions.assertEquals(2, transpilations.size());
+        Assertions.assertEquals(List.of("contact"), new ArrayList<>(transpilations.get(1).keySet()));
+        Assertions.assertEquals(firstCode.subList(0, 2), obtainedCode.subList(0, 2));
+        Assertions.assertNotEquals(firstCode.get(2), obtainedCode.get(2));
+    }
+
+    @Test
+    void testUnchangedScreensAreNotTranspiledAgain() throws CoderException {
+        List<Map<String, List<String>>> transpilations = new ArrayList<>();
+
+        withScreen(new Screen.Builder()
+            .name("about")
+            .structure(buildButtonWithOnClickAndValue("click me"))
+            .behavior(buildDeclarationWithIdAndAssignment("hello", "world"))
+            .build()
+        );
+        withTranspiler((behaviors, errorHandler) -> {
+            transpilations.add(behaviors);
+
+            return behaviors;
+        });
+        withManifest(new ScreenManifest());
+        runCoder();
+
+        List<CodeFile> firstCode = obtainedCode;
+
+        runCoder();
+        Assertions.assertEquals(1, transpilations.size());
+        Assertions.assertEquals(firstCode, obtainedCode);
+        Assertions.assertEquals(1, manifest.getHits());
+    }
+
+    @Test
+    void testScreensAreTranspiledAgainWithAnotherTranspilerVersion() throws CoderException {
+        List<Map<String, List<String>>> transpilations = new ArrayList<>();
+        String[] version = {"@babel/core@7.18.0"};
+
+        withScreen(new Screen.Builder()
+            .name("about")
+            .structure(buildButtonWithOnClickAndValue("click me"))
+            .behavior(buildDeclarationWithIdAndAssignment("hello", "world"))
+            .build()
+        );
+        withTranspiler(new BehaviorTranspiler() {
+            @Override
+            public Map<String, List<String>> transpile(
+                Map<String, List<String>> behaviors,
+                BiConsumer<String, String> errorHandler
+            ) {
+                transpilations.add(behaviors);
+
+                return behaviors;
+            }
+
+            @Override
+            public String getVersion() {
+                return version[0];
+            }
+        });
+        withManifest(new ScreenManifest());
+        runCoder();
+        version[0] = "@babel/core@7.19.0";
+        runCoder();
+        Assertions.assertEquals(2, transpilations.size());
+        Assertions.assertEquals(0, manifest.getHits());
+    }
+
     @Test
     void testCodeGenerationWithoutScreen() throws CoderException {
         withScreen(null);
@@ -270,8 +427,25 @@ class ReactNativeScreensCoderTest {
         return new Behavior(Arrays.asList(declarations));
     }
 
+    private void withTranspiler(BehaviorTranspiler transpiler) {
+        this.transpiler = transpiler;
+    }
+
+    private void withManifest(ScreenManifest manifest) {
+        this.manifest = manifest;
+    }
+
     private void runCoder() throws CoderException {
-        coder = new ReactNativeScreensCoder(screens);
+        if (manifest != null) {
+            coder = new ReactNativeScreensCoder(screens, transpiler, manifest);
+        }
+        else if (transpiler != null) {
+            coder = new ReactNativeScreensCoder(screens, transpiler);
+        }
+        else {
+            coder = new ReactNativeScreensCoder(screens);
+        }
+
         obtainedCode = coder.generateCode();
     }
 
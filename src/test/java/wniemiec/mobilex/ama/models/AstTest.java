@@ -0,0 +1,159 @@
+package wniemiec.mobilex.ama.models;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+class AstTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private List<String> ids;
+    private List<String> labels;
+    private List<Integer> sources;
+    private List<Integer> targets;
+    private Ast ast;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        ids = new ArrayList<>();
+        labels = new ArrayList<>();
+        sources = new ArrayList<>();
+        targets = new ArrayList<>();
+        ast = null;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testChildrenKeepEdgeOrder() {
+        withNode("n0", "<mobilang>");
+        withNode("n1", "<screens>");
+        withNode("n2", "<properties>");
+        withNode("n3", "<screen id=\"home\">");
+        withNode("n4", "<screen id=\"about\">");
+        withEdge(0, 1);
+        withEdge(1, 3);
+        withEdge(0, 2);
+        withEdge(1, 4);
+        buildAst();
+        assertRootIs("n0");
+        assertChildrenAre("n0", "n1", "n2");
+        assertChildrenAre("n1", "n3", "n4");
+        assertChildrenAre("n3");
+    }
+
+    @Test
+    void testFindChildByKind() {
+        withNode("n0", "<screen id=\"home\">");
+        withNode("n1", "<structure>");
+        withNode("n2", "<style>");
+        withNode("n3", "<behavior>");
+        withEdge(0, 1);
+        withEdge(0, 2);
+        withEdge(0, 3);
+        buildAst();
+        assertChildWithKindIs("n0", Ast.STRUCTURE, "n1");
+        assertChildWithKindIs("n0", Ast.STYLE, "n2");
+        assertChildWithKindIs("n0", Ast.BEHAVIOR, "n3");
+        assertHasNoChildWithKind("n0", Ast.PROPERTIES);
+    }
+
+    @Test
+    void testContentIsNotClassifiedAsTag() {
+        withNode("n0", "<style>");
+        withNode("n1", "{\"stylesheet\":{\"rules\":[]}}");
+        withEdge(0, 1);
+        buildAst();
+        assertKindIs("n0", Ast.STYLE);
+        assertKindIs("n1", Ast.CONTENT);
+    }
+
+    @Test
+    void testIndexOfUnknownNode() {
+        withNode("n0", "<mobilang>");
+        buildAst();
+        Assertions.assertEquals(Ast.NOT_FOUND, ast.indexOf("n1"));
+    }
+
+    @Test
+    void testGetLabelWithoutLabel() {
+        withNode("n0", null);
+        buildAst();
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            ast.getLabel(0);
+        });
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withNode(String id, String label) {
+        ids.add(id);
+        labels.add(label);
+    }
+
+    private void withEdge(int source, int target) {
+        sources.add(source);
+        targets.add(target);
+    }
+
+    private void buildAst() {
+        ast = new Ast(
+            ids.toArray(new String[0]),
+            labels.toArray(new String[0]),
+            toArray(sources),
+            toArray(targets),
+            sources.size()
+        );
+    }
+
+    private int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void assertRootIs(String id) {
+        Assertions.assertEquals(id, ast.getId(ast.getRoot()));
+    }
+
+    private void assertChildrenAre(String parent, String... children) {
+        int parentNode = ast.indexOf(parent);
+
+        Assertions.assertEquals(children.length, ast.countChildren(parentNode));
+
+        for (int i = 0; i < children.length; i++) {
+            Assertions.assertEquals(
+                children[i],
+                ast.getId(ast.getChild(parentNode, i))
+            );
+        }
+    }
+
+    private void assertChildWithKindIs(String parent, int kind, String child) {
+        int node = ast.findChild(ast.indexOf(parent), kind);
+
+        Assertions.assertEquals(child, ast.getId(node));
+    }
+
+    private void assertHasNoChildWithKind(String parent, int kind) {
+        Assertions.assertEquals(
+            Ast.NOT_FOUND,
+            ast.findChild(ast.indexOf(parent), kind)
+        );
+    }
+
+    private void assertKindIs(String id, int kind) {
+        Assertions.assertEquals(kind, ast.getKind(ast.indexOf(id)));
+    }
+}
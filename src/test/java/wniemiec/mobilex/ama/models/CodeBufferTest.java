@@ -0,0 +1,143 @@
+package wniemiec.mobilex.ama.models;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+class CodeBufferTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private CodeBuffer buffer;
+    private List<String> lines;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        buffer = new CodeBuffer();
+        lines = new ArrayList<>();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testEmptyBuffer() {
+        assertLinesAreCorrect();
+        assertEncodedCodeIsCorrect();
+        Assertions.assertEquals(0, buffer.getSize());
+    }
+
+    @Test
+    void testAppendLines() {
+        withLines(
+            "<!DOCTYPE html>",
+            "",
+            "<title>Ol\u00e1 \u4e16\u754c \ud83d\ude00</title>"
+        );
+        doAppend();
+        assertLinesAreCorrect();
+        assertEncodedCodeIsCorrect();
+    }
+
+    @Test
+    void testAppendLinesAcrossSegments() {
+        for (int i = 0; i < 5000; i++) {
+            lines.add("<p id=\"" + i + "\">\u00e9\u4e16\ud83d\ude00</p>");
+        }
+
+        doAppend();
+        assertLinesAreCorrect();
+        assertEncodedCodeIsCorrect();
+        Assertions.assertTrue(buffer.toByteBuffers().length > 1);
+    }
+
+    @Test
+    void testAppendLineLongerThanSegment() {
+        withLines("x".repeat(20000), "y");
+        doAppend();
+        assertLinesAreCorrect();
+        assertEncodedCodeIsCorrect();
+    }
+
+    @Test
+    void testSerialization() throws IOException, ClassNotFoundException {
+        withLines("<html>", "\u00e9", "</html>");
+        doAppend();
+        doSerialize();
+        buffer.appendLine("<!-- appended -->");
+        lines.add("<!-- appended -->");
+        assertLinesAreCorrect();
+        assertEncodedCodeIsCorrect();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withLines(String... lines) {
+        this.lines.addAll(List.of(lines));
+    }
+
+    private void doAppend() {
+        buffer.appendLines(lines);
+    }
+
+    private void doSerialize() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(buffer);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            buffer = (CodeBuffer) in.readObject();
+        }
+    }
+
+    private void assertLinesAreCorrect() {
+        Assertions.assertEquals(lines, buffer.toLines());
+    }
+
+    private void assertEncodedCodeIsCorrect() {
+        StringBuilder expected = new StringBuilder();
+
+        for (String line : lines) {
+            expected.append(line);
+            expected.append(System.lineSeparator());
+        }
+
+        byte[] expectedBytes = expected.toString().getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertArrayEquals(expectedBytes, readEncodedCode());
+        Assertions.assertEquals(expectedBytes.length, buffer.getSize());
+    }
+
+    private byte[] readEncodedCode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        for (ByteBuffer segment : buffer.toByteBuffers()) {
+            byte[] content = new byte[segment.remaining()];
+
+            segment.get(content);
+            bytes.write(content, 0, content.length);
+        }
+
+        return bytes.toByteArray();
+    }
+}
@@ -1,5 +1,8 @@
 package wniemiec.mobilex.ama.models;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -61,6 +64,43 @@ class CodeFileTest {
         assertGetCodeIsCorrect();
     }
 
+    @Test
+    void testGetCodeWithCodeBuffer() {
+        withName("app.js");
+        withCode(
+            "alert('check the console');",
+            "console.log('hello world!');"
+        );
+        buildCodeFileWithCodeBuffer();
+        assertGetNameIsCorrect();
+        assertGetCodeIsCorrect();
+    }
+
+    @Test
+    void testEqualsWithCodeBuffer() {
+        withName("app.js");
+        withCode(
+            "alert('check the console');",
+            "console.log('hello world!');"
+        );
+        buildCodeFileWithCodeBuffer();
+        Assertions.assertEquals(new CodeFile(name, code), codeFile);
+        Assertions.assertEquals(new CodeFile(name, code).hashCode(), codeFile.hashCode());
+    }
+
+    @Test
+    void testGetEncodedCode() {
+        withName("app.js");
+        withCode(
+            "alert('check the console');",
+            "console.log('ol\u00e1');"
+        );
+        buildCodeFile();
+        assertGetEncodedCodeIsCorrect();
+        buildCodeFileWithCodeBuffer();
+        assertGetEncodedCodeIsCorrect();
+    }
+
     
     //-------------------------------------------------------------------------
     //		Methods
@@ -73,6 +113,13 @@ class CodeFileTest {
         codeFile = new CodeFile(name, code);
     }
 
+    private void buildCodeFileWithCodeBuffer() {
+        CodeBuffer buffer = new CodeBuffer();
+
+        buffer.appendLines(code);
+        codeFile = new CodeFile(name, buffer);
+    }
+
     private void assertGetNameIsCorrect() {
         Assertions.assertEquals(name, codeFile.getName());
     }
@@ -86,6 +133,23 @@ class CodeFileTest {
         assertHasSameLines(code, codeFile.getCode());
     }
 
+    private void assertGetEncodedCodeIsCorrect() {
+        ByteArrayOutputStream obtained = new ByteArrayOutputStream();
+        String expected = String.join(System.lineSeparator(), code) + System.lineSeparator();
+
+        for (ByteBuffer segment : codeFile.getEncodedCode()) {
+            byte[] content = new byte[segment.remaining()];
+
+            segment.get(content);
+            obtained.write(content, 0, content.length);
+        }
+
+        Assertions.assertArrayEquals(
+            expected.getBytes(StandardCharsets.UTF_8), 
+            obtained.toByteArray()
+        );
+    }
+
     private void assertHasSameSize(List<String> expected, List<String> obtained) {
         Assertions.assertEquals(expected.size(), obtained.size());
     }
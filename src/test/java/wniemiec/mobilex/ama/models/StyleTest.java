@@ -3,9 +3,11 @@ package wniemiec.mobilex.ama.models;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import wniemiec.mobilex.ama.models.tag.Tag;
 
 
 class StyleTest {
@@ -16,6 +18,7 @@ class StyleTest {
     private Style style;
     private List<StyleSheetRule> rules;
     private StyleSheetRule rule;
+    private Tag tag;
 
 
     //-------------------------------------------------------------------------
@@ -26,6 +29,7 @@ class StyleTest {
         style = new Style();
         rule = new StyleSheetRule();
         rules = new ArrayList<>();
+        tag = null;
     }
 
 
@@ -61,6 +65,62 @@ class StyleTest {
         assertHasCorrectRulesForSelectors("div");
     }
 
+    @Test
+    void testGetRulesForIdAndClassSelectors() {
+        withSelectors("#title", "h1");
+        withDeclaration("color", "red");
+        addRule();
+        withSelectors(".error");
+        withDeclaration("color", "blue");
+        withDeclaration("border", "1px solid #334455");
+        addRule();
+        withSelectors("div > p");
+        withDeclaration("margin", "0");
+        addRule();
+        assertRulesForSelectorsAre(
+            Map.of("color", "blue", "border", "1px solid #334455"),
+            ".error", "#title"
+        );
+        assertRulesForSelectorsAre(Map.of("color", "red"), "h1");
+        assertRulesForSelectorsAre(Map.of("margin", "0"), "div > p");
+    }
+
+    @Test
+    void testGetRulesForSelectorWithoutMatch() {
+        withSelectors(".error");
+        withDeclaration("color", "red");
+        addRule();
+        assertRulesForSelectorsAre(Map.of(), "error", "#error", "div");
+    }
+
+    @Test
+    void testGetRulesForTag() {
+        withSelectors("button");
+        withDeclaration("color", "red");
+        withDeclaration("margin", "0");
+        addRule();
+        withSelectors(".primary");
+        withDeclaration("color", "blue");
+        addRule();
+        withSelectors("#submit");
+        withDeclaration("padding", "4px");
+        addRule();
+        withSelectors(".secondary");
+        withDeclaration("color", "green");
+        addRule();
+        withTag("button", "submit", "big  primary");
+        assertRulesForTagAre(Map.of("color", "blue", "margin", "0", "padding", "4px"));
+    }
+
+    @Test
+    void testGetRulesForTagWithoutMatch() {
+        withSelectors("button", ".primary");
+        withDeclaration("color", "red");
+        addRule();
+        withTag("div", null, null);
+        assertRulesForTagAre(Map.of());
+    }
+
 
     //-------------------------------------------------------------------------
     //		Methods
@@ -79,6 +139,18 @@ class StyleTest {
         rule = new StyleSheetRule();
     }
 
+    private void withTag(String name, String id, String classes) {
+        tag = Tag.getNormalInstance(name);
+
+        if (id != null) {
+            tag.addAttribute("id", id);
+        }
+
+        if (classes != null) {
+            tag.addAttribute("class", classes);
+        }
+    }
+
     private void assertHasCorrectRules() {
         Assertions.assertEquals(rules, style.getRules());
     }
@@ -89,4 +161,18 @@ class StyleTest {
             style.getRulesForSelector(Arrays.asList(selectors))
         );
     }
+
+    private void assertRulesForSelectorsAre(
+        Map<String, String> declarations, 
+        String... selectors
+    ) {
+        Assertions.assertEquals(
+            declarations, 
+            style.getRulesForSelector(Arrays.asList(selectors))
+        );
+    }
+
+    private void assertRulesForTagAre(Map<String, String> declarations) {
+        Assertions.assertEquals(declarations, style.getRulesForTag(tag));
+    }
 }
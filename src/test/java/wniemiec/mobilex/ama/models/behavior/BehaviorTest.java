@@ -37,6 +37,48 @@ class BehaviorTest {
         assertToCodeIs("let index = 0");
     }
 
+    @Test
+    void testToCodeWithMultilineInstructions() {
+        withInstruction(buildBlock(buildVariableDeclaration("index", Literal.ofNumber("0"))));
+        withInstruction(new EmptyStatement());
+        buildBehavior();
+        assertToCodeIs("{", "let index = 0", "}", ";");
+    }
+
+    @Test
+    void testToCodeWithEmptyLines() {
+        withInstruction(new SwitchCase(null, List.of()));
+        withInstruction(buildBlock());
+        buildBehavior();
+        assertToCodeIs("default: ", "{", "}");
+    }
+
+    @Test
+    void testAppendCode() {
+        List<String> code = new ArrayList<>(List.of("// header"));
+
+        withInstruction(buildBlock(new EmptyStatement()));
+        buildBehavior();
+        behavior.appendCode(code);
+        Assertions.assertEquals(List.of("// header", "{", ";", "}"), code);
+    }
+
+
+    @Test
+    void testTransformNestedExpressions() {
+        withInstruction(buildBlock(buildVariableDeclaration("index", Literal.ofNumber("0"))));
+        buildBehavior();
+        behavior = behavior.transform(buildNumberToStringTransformer());
+        assertToCodeIs("{", "let index = \"0\"", "}");
+    }
+
+    @Test
+    void testTransformKeepsOriginalBehavior() {
+        withInstruction(buildVariableDeclaration("index", Literal.ofNumber("0")));
+        buildBehavior();
+        behavior.transform(buildNumberToStringTransformer());
+        assertToCodeIs("let index = 0");
+    }
 
     //-------------------------------------------------------------------------
     //		Methods
@@ -47,6 +89,23 @@ class BehaviorTest {
         return new Declaration("let", declaration);
     }
 
+    private BehaviorTransformer buildNumberToStringTransformer() {
+        return new BehaviorTransformer() {
+            @Override
+            public Expression transformExpression(Expression expression) {
+                if ((expression instanceof Literal) && ((Literal) expression).isNumber()) {
+                    return Literal.ofString(((Literal) expression).getValue());
+                }
+
+                return expression;
+            }
+        };
+    }
+
+    private Instruction buildBlock(Instruction... body) {
+        return new BlockStatement(body);
+    }
+
     private void withInstruction(Instruction instruction) {
         instructions.add(instruction);
     }
@@ -0,0 +1,124 @@
+package wniemiec.mobilex.ama.models.tag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+class InlineAttributesTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private InlineAttributes attributes;
+    private Map<String, String> expectedAttributes;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        attributes = new InlineAttributes();
+        expectedAttributes = new HashMap<>();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testPutAndGet() {
+        withAttribute("id", "title");
+        withAttribute("class", "big");
+        withAttribute("id", "subtitle");
+        assertAttributesAreExpected();
+        Assertions.assertEquals("subtitle", attributes.get("id"));
+        Assertions.assertNull(attributes.get("style"));
+    }
+
+    @Test
+    void testIterationOrderIsTheSameAsHashMap() {
+        withAttribute("type", "text");
+        withAttribute("id", "name");
+        withAttribute("[(ngModel)]", "name");
+        withAttribute("placeholder", "Name");
+        withAttribute("onclick", "go()");
+        assertAttributesAreExpected();
+    }
+
+    @Test
+    void testRemove() {
+        withAttribute("type", "text");
+        withAttribute("id", "name");
+        withAttribute("class", "input");
+        withoutAttribute("id");
+        withoutAttribute("style");
+        withAttribute("id", "other");
+        assertAttributesAreExpected();
+    }
+
+    @Test
+    void testRemoveThroughIterator() {
+        withAttribute("type", "text");
+        withAttribute("id", "name");
+        withAttribute("class", "input");
+
+        Iterator<Map.Entry<String, String>> iterator = attributes.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey().equals("id")) {
+                iterator.remove();
+            }
+        }
+
+        expectedAttributes.remove("id");
+        assertAttributesAreExpected();
+    }
+
+    @Test
+    void testManyAttributes() {
+        for (int i = 0; i < 20; i++) {
+            withAttribute("data-" + i, String.valueOf(i));
+        }
+
+        withoutAttribute("data-3");
+        assertAttributesAreExpected();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withAttribute(String key, String value) {
+        attributes.put(key, value);
+        expectedAttributes.put(key, value);
+    }
+
+    private void withoutAttribute(String key) {
+        attributes.remove(key);
+        expectedAttributes.remove(key);
+    }
+
+    private void assertAttributesAreExpected() {
+        Assertions.assertEquals(expectedAttributes, attributes);
+        Assertions.assertEquals(expectedAttributes.hashCode(), attributes.hashCode());
+        Assertions.assertEquals(expectedAttributes.size(), attributes.size());
+        Assertions.assertEquals(toList(expectedAttributes), toList(attributes));
+    }
+
+    private List<String> toList(Map<String, String> map) {
+        List<String> entries = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            entries.add(entry.getKey() + "=" + entry.getValue());
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,126 @@
+package wniemiec.mobilex.ama.models.tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+class TagPipelineTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private List<TagVisitor> visitors;
+    private UnaryOperator<String> codeParser;
+    private List<String> visitedTags;
+    private List<String> parsedCode;
+    private Tag structure;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        visitors = new ArrayList<>();
+        codeParser = line -> line;
+        visitedTags = new ArrayList<>();
+        parsedCode = new ArrayList<>();
+        structure = null;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testCodeIsTheSameAsTagCode() {
+        withStructure(buildStructure());
+        doPipeline();
+        assertParsedCodeIs(structure.toCode());
+    }
+
+    @Test
+    void testTagsAreVisitedInDocumentOrder() {
+        withStructure(buildStructure());
+        withVisitor(tag -> visitedTags.add(tag.getName()));
+        doPipeline();
+        assertVisitedTagsAre("div", "p", "span", "img", "button", "b");
+    }
+
+    @Test
+    void testVisitorsAreAppliedInOrderBeforeCodeIsGenerated() {
+        withStructure(buildStructure());
+        withVisitor(tag -> tag.setName(tag.getName().replace("img", "ion-img")));
+        withVisitor(tag -> tag.setName(tag.getName().replace("ion-", "my-ion-")));
+        doPipeline();
+        Assertions.assertTrue(parsedCode.contains("<my-ion-img/>"));
+    }
+
+    @Test
+    void testCodeParserIsAppliedToEveryLine() {
+        withStructure(buildStructure());
+        withCodeParser(line -> line.toUpperCase());
+        doPipeline();
+        assertParsedCodeIs(toUpperCase(structure.toCode()));
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private Tag buildStructure() {
+        Tag div = Tag.getNormalInstance("div");
+        Tag paragraph = Tag.getNormalInstance("p");
+        Tag button = Tag.getNormalInstance("button");
+
+        paragraph.addAttribute("class", "text");
+        paragraph.addChild(Tag.getNormalInstance("span"));
+        paragraph.addChild(Tag.getVoidInstance("img"));
+        button.setValue("Go");
+        button.addChild(Tag.getNormalInstance("b"));
+        div.addChild(paragraph);
+        div.addChild(button);
+
+        return div;
+    }
+
+    private void withStructure(Tag tag) {
+        structure = tag;
+    }
+
+    private void withVisitor(TagVisitor visitor) {
+        visitors.add(visitor);
+    }
+
+    private void withCodeParser(UnaryOperator<String> parser) {
+        codeParser = parser;
+    }
+
+    private void doPipeline() {
+        TagPipeline pipeline = new TagPipeline(visitors, codeParser);
+
+        parsedCode = pipeline.run(structure);
+    }
+
+    private void assertParsedCodeIs(List<String> expectedCode) {
+        Assertions.assertEquals(expectedCode, parsedCode);
+    }
+
+    private void assertVisitedTagsAre(String... names) {
+        Assertions.assertEquals(List.of(names), visitedTags);
+    }
+
+    private List<String> toUpperCase(List<String> lines) {
+        List<String> upperCaseLines = new ArrayList<>();
+
+        for (String line : lines) {
+            upperCaseLines.add(line.toUpperCase());
+        }
+
+        return upperCaseLines;
+    }
+}
@@ -45,6 +45,81 @@ class CliParserTest {
         assertFrameworkIs("react-native");
     }
 
+    @Test
+    void testParserWithParallel() throws ParseException {
+        withArg("-ast");
+        withArg("./hello-world.mobilang.xml");
+        withArg("-output");
+        withArg("./examples");
+        withArg("-framework");
+        withArg("react-native");
+        withArg("-parallel");
+        doParsing();
+        assertParallelIs(true);
+    }
+
+    @Test
+    void testParserWithoutParallel() throws ParseException {
+        withArg("-ast");
+        withArg("./hello-world.mobilang.xml");
+        withArg("-output");
+        withArg("./examples");
+        withArg("-framework");
+        withArg("react-native");
+        doParsing();
+        assertParallelIs(false);
+    }
+
+    @Test
+    void testParserWithIncremental() throws ParseException {
+        withArg("-ast");
+        withArg("./hello-world.mobilang.xml");
+        withArg("-output");
+        withArg("./examples");
+        withArg("-framework");
+        withArg("react-native");
+        withArg("-incremental");
+        doParsing();
+        assertIncrementalIs(true);
+    }
+
+    @Test
+    void testParserWithoutIncremental() throws ParseException {
+        withArg("-ast");
+        withArg("./hello-world.mobilang.xml");
+        withArg("-output");
+        withArg("./examples");
+        withArg("-framework");
+        withArg("react-native");
+        doParsing();
+        assertIncrementalIs(false);
+    }
+
+    @Test
+    void testParserWithNoCache() throws ParseException {
+        withArg("-ast");
+        withArg("./hello-world.mobilang.xml");
+        withArg("-output");
+        withArg("./examples");
+        withArg("-framework");
+        withArg("react-native");
+        withArg("-nocache");
+        doParsing();
+        assertCacheEnabledIs(false);
+    }
+
+    @Test
+    void testParserWithoutNoCache() throws ParseException {
+        withArg("-ast");
+        withArg("./hello-world.mobilang.xml");
+        withArg("-output");
+        withArg("./examples");
+        withArg("-framework");
+        withArg("react-native");
+        doParsing();
+        assertCacheEnabledIs(true);
+    }
+
     @Test
     void testParserWithOutputAndFramework() throws ParseException {
         withArg("-output");
@@ -107,4 +182,16 @@ class CliParserTest {
     private void assertFrameworkIs(String name) {
         Assertions.assertEquals(name, parser.getFrameworkName());
     }
+
+    private void assertParallelIs(boolean parallel) {
+        Assertions.assertEquals(parallel, parser.isParallel());
+    }
+
+    private void assertIncrementalIs(boolean incremental) {
+        Assertions.assertEquals(incremental, parser.isIncremental());
+    }
+
+    private void assertCacheEnabledIs(boolean cacheEnabled) {
+        Assertions.assertEquals(cacheEnabled, parser.isCacheEnabled());
+    }
 }
@@ -1,5 +1,6 @@
 package wniemiec.mobilex.ama.parser;
 
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,6 +65,42 @@ class MobilangDirectiveParserTest {
         assertParsedLineIs("id");
     }
 
+    @Test
+    void testParseQuotedParamDirective() {
+        withLine("const id = \"mobilang::param::id\";");
+        doParsing();
+        assertParsedLineIs("const id = id;");
+    }
+
+    @Test
+    void testParseDifferentDirectivesInSameLine() {
+        withLine("go('mobilang::screen::home'); go('mobilang::screen::faq', 'mobilang::input::name')");
+        doParsing();
+        assertParsedLineIs("go('home'); go('faq', name)");
+    }
+
+    @Test
+    void testParseScreenDirectiveWithConcatenatedParameter() {
+        withLine("href = \"mobilang::screen::chat?id=\" + id;");
+        doParsing();
+        assertParsedLineIs("href = \"chat?id=\" + id;");
+        assertScreenParametersAre("id");
+    }
+
+    @Test
+    void testParseScreenDirectiveInTemplateLiteral() {
+        withLine("`<a href=\"mobilang::screen::desc?id=${item.id}\">`");
+        doParsing();
+        assertParsedLineIs("`<a href=\"desc?id=${item.id}\">`");
+    }
+
+    @Test
+    void testParseUnknownDirective() {
+        withLine("mobilang::foo::bar mobilang::screen::");
+        doParsing();
+        assertParsedLineIs("mobilang::foo::bar mobilang::screen::");
+    }
+
     
     //-------------------------------------------------------------------------
     //		Methods
@@ -76,6 +113,10 @@ class MobilangDirectiveParserTest {
         parsedLine = directiveParser.parse(lineToParse);
     }
 
+    private void assertScreenParametersAre(String... parameters) {
+        Assertions.assertEquals(List.of(parameters), directiveParser.getScreenParameters());
+    }
+
     private void assertParsedLineIs(String expectedCode) {
         assertHasSameLine(expectedCode, parsedLine);
     }
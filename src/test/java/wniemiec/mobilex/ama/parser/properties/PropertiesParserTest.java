@@ -7,8 +7,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import com.paypal.digraph.parser.GraphNode;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Properties;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 import wniemiec.mobilex.ama.reader.MobilangDotReader;
@@ -22,7 +21,7 @@ class PropertiesParserTest {
     private static final Path RESOURCES;
     private MobilangDotReader dotReader;
     private PropertiesParser parser;
-    private Node propertiesNode;
+    private String propertiesNodeId;
     private Properties obtainedProperties;
 
 
@@ -41,7 +40,7 @@ class PropertiesParserTest {
     void setUp() {
         dotReader = new MobilangDotReader();
         parser = null;
-        propertiesNode = null;
+        propertiesNodeId = null;
         obtainedProperties = null;
     }
 
@@ -51,7 +50,7 @@ class PropertiesParserTest {
     //-------------------------------------------------------------------------
     @Test
     void testParserWithApplicationNameAndPlatforms() throws ParseException, IOException {
-        withPropertiesNode("n9", "<properties>");
+        withPropertiesNode("n9");
         withAst("HelloWorld.dot");
         doParsing();
         assertApplicationName("HelloWorld");
@@ -62,16 +61,8 @@ class PropertiesParserTest {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private void withPropertiesNode(String id, String label) {
-        propertiesNode = new Node(buildGraphNodeWithIdAndLabel(id, label));
-    }
-
-    private GraphNode buildGraphNodeWithIdAndLabel(String id, String label) {
-        GraphNode node = new GraphNode(id);
-
-        node.setAttribute("label", label);
-
-        return node;
+    private void withPropertiesNode(String id) {
+        propertiesNodeId = id;
     }
 
     private void withAst(String file) throws FileNotFoundException {
@@ -79,7 +70,9 @@ class PropertiesParserTest {
     }
 
     private void doParsing() throws ParseException, IOException {
-        parser = new PropertiesParser(dotReader.getTree(), propertiesNode);
+        Ast ast = dotReader.getTree();
+
+        parser = new PropertiesParser(ast, ast.indexOf(propertiesNodeId));
         
         parser.parse();
         obtainedProperties = parser.getProperties();
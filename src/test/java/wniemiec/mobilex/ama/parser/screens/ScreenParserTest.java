@@ -8,8 +8,7 @@ import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import com.paypal.digraph.parser.GraphNode;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Screen;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 import wniemiec.mobilex.ama.reader.MobilangDotReader;
@@ -23,7 +22,7 @@ class ScreenParserTest {
     private static final Path RESOURCES;
     private MobilangDotReader dotReader;
     private ScreenParser parser;
-    private Node screenNode;
+    private String screenNodeId;
 
 
     //-------------------------------------------------------------------------
@@ -41,7 +40,7 @@ class ScreenParserTest {
     void setUp() {
         dotReader = new MobilangDotReader();
         parser = null;
-        screenNode = null;
+        screenNodeId = null;
     }
 
 
@@ -51,7 +50,7 @@ class ScreenParserTest {
     @Test
     void testParseOneScreenWithStructureAndStyleAndBehavior() 
     throws ParseException, IOException {
-        withScreenNode("n2", "<screen id=\"home\">");
+        withScreenNode("n2");
         withAst("HelloWorld.dot");
         doParsing();
         assertScreenNameIs("Home");
@@ -82,25 +81,19 @@ class ScreenParserTest {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private void withScreenNode(String id, String label) {
-        screenNode = new Node(buildGraphNodeWithIdAndLabel(id, label));
+    private void withScreenNode(String id) {
+        screenNodeId = id;
     }
 
 
-    private GraphNode buildGraphNodeWithIdAndLabel(String id, String label) {
-        GraphNode node = new GraphNode(id);
-
-        node.setAttribute("label", label);
-
-        return node;
-    }
-
     private void withAst(String file) throws FileNotFoundException {
         dotReader.read(RESOURCES.resolve(file));
     }
 
     private void doParsing() throws ParseException, IOException {
-        parser = new ScreenParser(dotReader.getTree(), screenNode);
+        Ast ast = dotReader.getTree();
+
+        parser = new ScreenParser(ast, ast.indexOf(screenNodeId));
         
         parser.parse();
     }
@@ -9,8 +9,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import com.paypal.digraph.parser.GraphNode;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Screen;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 import wniemiec.mobilex.ama.reader.MobilangDotReader;
@@ -24,7 +23,8 @@ class ScreensParserTest {
     private static final Path RESOURCES;
     private MobilangDotReader dotReader;
     private ScreensParser parser;
-    private Node screenNode;
+    private String screenNodeId;
+    private boolean parallel;
 
 
     //-------------------------------------------------------------------------
@@ -42,7 +42,8 @@ class ScreensParserTest {
     void setUp() {
         dotReader = new MobilangDotReader();
         parser = null;
-        screenNode = null;
+        screenNodeId = null;
+        parallel = false;
     }
 
 
@@ -79,12 +80,47 @@ class ScreensParserTest {
         );
     }
 
+    @Test
+    void testParseInParallelOneScreenWithStructureAndStyleAndBehavior() 
+    throws ParseException, IOException {
+        withScreenNode("n1");
+        withAst("HelloWorld.dot");
+        withParallelParsing();
+        doParsing();
+        assertHasScreens("Home");
+        assertScreenStructure(
+            "Home",
+            "<html>",
+            "<h1>",
+            "Hello",
+            "</h1>",
+            "<h2>",
+            "World!",
+            "</h2>",
+            "</html>"
+        );
+        assertScreenStyle(
+            "Home",
+            "h1 {",
+            "color: red;",
+            "}"
+        );
+        assertScreenBehavior(
+            "Home",
+            "alert(\"World\");"
+        );
+    }
+
     
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
     private void withScreenNode(String id) {
-        screenNode = new Node(new GraphNode(id));
+        screenNodeId = id;
+    }
+
+    private void withParallelParsing() {
+        parallel = true;
     }
 
     private void withAst(String file) throws FileNotFoundException {
@@ -92,7 +128,9 @@ class ScreensParserTest {
     }
 
     private void doParsing() throws ParseException, IOException {
-        parser = new ScreensParser(dotReader.getTree(), screenNode);
+        Ast ast = dotReader.getTree();
+
+        parser = new ScreensParser(ast, ast.indexOf(screenNodeId), parallel);
         
         parser.parse();
     }
@@ -8,8 +8,7 @@ import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import com.paypal.digraph.parser.GraphNode;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.behavior.Behavior;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 import wniemiec.mobilex.ama.reader.MobilangDotReader;
@@ -23,7 +22,7 @@ class BehaviorParserTest {
     private static final Path RESOURCES;
     private MobilangDotReader dotReader;
     private BehaviorParser parser;
-    private Node behaviorNode;
+    private String behaviorNodeId;
     private Behavior parsedBehavior;
 
 
@@ -42,7 +41,7 @@ class BehaviorParserTest {
     void setUp() {
         dotReader = new MobilangDotReader();
         parser = null;
-        behaviorNode = null;
+        behaviorNodeId = null;
     }
 
 
@@ -52,7 +51,7 @@ class BehaviorParserTest {
     @Test
     void testParseOneScreenWithStructureAndStyleAndBehavior() 
     throws ParseException, IOException {
-        withBehaviorNode("n7", "<behavior>");
+        withBehaviorNode("n7");
         withAst("HelloWorld.dot");
         doParsing();
         assertBehaviorIs("alert(\"World\");");
@@ -62,16 +61,8 @@ class BehaviorParserTest {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private void withBehaviorNode(String id, String label) {
-        behaviorNode = new Node(buildGraphNodeWithIdAndLabel(id, label));
-    }
-
-    private GraphNode buildGraphNodeWithIdAndLabel(String id, String label) {
-        GraphNode node = new GraphNode(id);
-
-        node.setAttribute("label", label);
-
-        return node;
+    private void withBehaviorNode(String id) {
+        behaviorNodeId = id;
     }
 
     private void withAst(String file) throws FileNotFoundException {
@@ -79,7 +70,9 @@ class BehaviorParserTest {
     }
 
     private void doParsing() throws ParseException, IOException {
-        parser = new BehaviorParser(dotReader.getTree(), behaviorNode);
+        Ast ast = dotReader.getTree();
+
+        parser = new BehaviorParser(ast, ast.indexOf(behaviorNodeId));
         
         parsedBehavior = parser.parse();
     }
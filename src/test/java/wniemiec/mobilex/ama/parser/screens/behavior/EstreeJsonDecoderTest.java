@@ -0,0 +1,101 @@
+package wniemiec.mobilex.ama.parser.screens.behavior;
+
+import java.math.BigDecimal;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+class EstreeJsonDecoderTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private EstreeJsonDecoder decoder;
+    private JSONObject decodedNode;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        decoder = new EstreeJsonDecoder();
+        decodedNode = null;
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testDecodeWithoutPositionalFields() {
+        doDecoding(
+            "{\"type\": \"Identifier\", \"start\": 4, \"end\": 7, "
+            + "\"loc\": {\"start\": {\"line\": 1}}, \"range\": [4, 7], \"name\": \"foo\"}"
+        );
+        assertFieldsAre("type", "name");
+        Assertions.assertEquals("foo", decodedNode.getString("name"));
+    }
+
+    @Test
+    void testDecodeLiteralWithoutRaw() {
+        doDecoding("{\"type\": \"Literal\", \"start\": 0, \"end\": 2, \"value\": 10, \"raw\": \"10\"}");
+        assertFieldsAre("type", "value");
+        Assertions.assertEquals(10, decodedNode.get("value"));
+    }
+
+    @Test
+    void testDecodeTemplateElementWithRaw() {
+        doDecoding(
+            "{\"type\": \"TemplateElement\", \"value\": {\"raw\": \"a\\\\n\", "
+            + "\"cooked\": \"a\\n\"}, \"tail\": true}"
+        );
+        Assertions.assertEquals("a\\n", decodedNode.getJSONObject("value").getString("raw"));
+        Assertions.assertTrue(decodedNode.getBoolean("tail"));
+    }
+
+    @Test
+    void testDecodeLiteralValues() {
+        doDecoding(
+            "{\"body\": [{\"value\": \"a\"}, {\"value\": 1.5}, {\"value\": true}, "
+            + "{\"value\": null}]}"
+        );
+        assertValueAt(0, "a");
+        assertValueAt(1, new BigDecimal("1.5"));
+        assertValueAt(2, Boolean.TRUE);
+        assertValueAt(3, JSONObject.NULL);
+    }
+
+    @Test
+    void testDecodeInvalidJson() {
+        Assertions.assertThrows(
+            IllegalStateException.class, 
+            () -> doDecoding("{\"type\": \"Identifier\"")
+        );
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void doDecoding(String json) {
+        decodedNode = decoder.decode(json);
+    }
+
+    private void assertFieldsAre(String... fields) {
+        Assertions.assertEquals(fields.length, decodedNode.keySet().size());
+
+        for (String field : fields) {
+            Assertions.assertTrue(decodedNode.has(field));
+        }
+    }
+
+    private void assertValueAt(int index, Object expectedValue) {
+        Assertions.assertEquals(
+            expectedValue, 
+            decodedNode.getJSONArray("body").getJSONObject(index).get("value")
+        );
+    }
+}
@@ -133,6 +133,19 @@ class ExpressionJsonParserFactoryTest {
         assertObtainedInstanceIs(UpdateExpressionJsonParser.class);
     }
 
+    @Test
+    void testUnsupportedExpression() {
+        withExpressionType("SequenceExpression");
+        assertFactoryFails();
+    }
+
+    @Test
+    void testSameExpressionParserIsReturned() throws FactoryException {
+        withExpressionType("Identifier");
+        runFactory();
+        assertObtainedInstanceIsReturnedAgain();
+    }
+
 
     //-------------------------------------------------------------------------
     //		Methods
@@ -145,6 +158,14 @@ class ExpressionJsonParserFactoryTest {
         obtainedInstance = ExpressionJsonParserFactory.get(expressionType);
     }
 
+    private void assertFactoryFails() {
+        Assertions.assertThrows(FactoryException.class, this::runFactory);
+    }
+
+    private void assertObtainedInstanceIsReturnedAgain() throws FactoryException {
+        Assertions.assertSame(obtainedInstance, ExpressionJsonParserFactory.get(expressionType));
+    }
+
     private void assertObtainedInstanceIs(Class<? extends ExpressionJsonParser> parserClass) {
         Assertions.assertEquals(obtainedInstance.getClass(), parserClass);
     }
@@ -98,6 +98,19 @@ class InstructionJsonParserFactoryTest {
         assertObtainedInstanceIs(VariableDeclarationInstructionJsonParser.class);
     }
 
+    @Test
+    void testUnsupportedInstruction() {
+        withInstructionType("WhileStatement");
+        assertFactoryFails();
+    }
+
+    @Test
+    void testSameInstructionParserIsReturned() throws FactoryException {
+        withInstructionType("IfStatement");
+        runFactory();
+        assertObtainedInstanceIsReturnedAgain();
+    }
+
 
     //-------------------------------------------------------------------------
     //		Methods
@@ -110,6 +123,14 @@ class InstructionJsonParserFactoryTest {
         obtainedInstance = InstructionJsonParserFactory.get(instructionType);
     }
 
+    private void assertFactoryFails() {
+        Assertions.assertThrows(FactoryException.class, this::runFactory);
+    }
+
+    private void assertObtainedInstanceIsReturnedAgain() throws FactoryException {
+        Assertions.assertSame(obtainedInstance, InstructionJsonParserFactory.get(instructionType));
+    }
+
     private void assertObtainedInstanceIs(Class<? extends InstructionJsonParser> parserClass) {
         Assertions.assertEquals(obtainedInstance.getClass(), parserClass);
     }
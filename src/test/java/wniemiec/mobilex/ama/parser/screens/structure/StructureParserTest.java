@@ -8,8 +8,7 @@ import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import com.paypal.digraph.parser.GraphNode;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.tag.Tag;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 import wniemiec.mobilex.ama.reader.MobilangDotReader;
@@ -23,7 +22,7 @@ class StructureParserTest {
     private static final Path RESOURCES;
     private MobilangDotReader dotReader;
     private StructureParser parser;
-    private Node structureNode;
+    private String structureNodeId;
     private Tag parsedStructure;
 
 
@@ -42,7 +41,7 @@ class StructureParserTest {
     void setUp() {
         dotReader = new MobilangDotReader();
         parser = null;
-        structureNode = null;
+        structureNodeId = null;
     }
 
 
@@ -52,7 +51,7 @@ class StructureParserTest {
     @Test
     void testParseOneScreenWithStructureAndStyleAndBehavior() 
     throws ParseException, IOException {
-        withScreenNode("n3", "<structure>");
+        withScreenNode("n3");
         withAst("HelloWorld.dot");
         doParsing();
         assertStructureIs(
@@ -71,16 +70,8 @@ class StructureParserTest {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private void withScreenNode(String id, String label) {
-        structureNode = new Node(buildGraphNodeWithIdAndLabel(id, label));
-    }
-
-    private GraphNode buildGraphNodeWithIdAndLabel(String id, String label) {
-        GraphNode node = new GraphNode(id);
-
-        node.setAttribute("label", label);
-
-        return node;
+    private void withScreenNode(String id) {
+        structureNodeId = id;
     }
 
     private void withAst(String file) throws FileNotFoundException {
@@ -88,7 +79,9 @@ class StructureParserTest {
     }
 
     private void doParsing() throws ParseException, IOException {
-        parser = new StructureParser(dotReader.getTree(), structureNode);
+        Ast ast = dotReader.getTree();
+
+        parser = new StructureParser(ast, ast.indexOf(structureNodeId));
         
         parsedStructure = parser.parse();
     }
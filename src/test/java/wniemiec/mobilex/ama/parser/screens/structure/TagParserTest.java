@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.paypal.digraph.parser.GraphNode;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Node;
 import wniemiec.mobilex.ama.models.tag.Tag;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
@@ -69,6 +70,21 @@ class TagParserTest {
         );
     }
 
+    @Test
+    void testParseTagWithAttributesAndContentBeforeNodeType() {
+        doParsing(
+            "{\"content\": {\"name\": \"button\", \"openStart\": {\"content\": \"<button\"}, "
+            + "\"attributes\": [{\"key\": {\"content\": \"ID\"}, \"value\": {\"content\": \"go\"}}], "
+            + "\"children\": [{\"content\": {\"value\": {\"content\": \"Go\"}}, \"nodeType\": \"text\"}]}, "
+            + "\"nodeType\": \"tag\", \"parentRef\": \"[Circular ~]\"}"
+        );
+        assertParsedTagIs(
+            "<button id=\"go\">",
+            "Go",
+            "</button>"
+        );
+    }
+
     
     //-------------------------------------------------------------------------
     //		Methods
@@ -93,11 +109,17 @@ class TagParserTest {
         String tagContent = getLabelFromAst(tagNode.getId());
         JSONObject jsonBodyTag = generateHtmlTag(tagContent);
         
-        parsedTag = parser.parseBodyTag(jsonBodyTag);
+        parsedTag = parser.parseBodyTag(jsonBodyTag.toString());
     }
     
+    private void doParsing(String json) {
+        parsedTag = parser.parseBodyTag(json);
+    }
+
     private String getLabelFromAst(String nodeId) {
-        return dotReader.getTree().get(nodeId).get(0).getLabel();
+        Ast ast = dotReader.getTree();
+
+        return ast.getLabel(ast.getChild(ast.indexOf(nodeId), 0));
     }
 
     private JSONObject generateHtmlTag(String json) {
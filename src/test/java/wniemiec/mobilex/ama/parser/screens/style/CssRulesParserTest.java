@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.paypal.digraph.parser.GraphNode;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Node;
 import wniemiec.mobilex.ama.models.Style;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
@@ -94,7 +95,9 @@ class CssRulesParserTest {
     }
 
     private String getLabelFromAst(String nodeId) {
-        return dotReader.getTree().get(nodeId).get(0).getLabel();
+        Ast ast = dotReader.getTree();
+
+        return ast.getLabel(ast.getChild(ast.indexOf(nodeId), 0));
     }
 
     private JSONArray parseJson(JSONObject jsonStyle) {
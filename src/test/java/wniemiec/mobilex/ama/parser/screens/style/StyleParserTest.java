@@ -8,8 +8,7 @@ import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import com.paypal.digraph.parser.GraphNode;
-import wniemiec.mobilex.ama.models.Node;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Style;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 import wniemiec.mobilex.ama.reader.MobilangDotReader;
@@ -23,7 +22,7 @@ class StyleParserTest {
     private static final Path RESOURCES;
     private MobilangDotReader dotReader;
     private StyleParser parser;
-    private Node styleNode;
+    private String styleNodeId;
     private Style parsedStyle;
 
 
@@ -42,7 +41,7 @@ class StyleParserTest {
     void setUp() {
         dotReader = new MobilangDotReader();
         parser = null;
-        styleNode = null;
+        styleNodeId = null;
         parsedStyle = null;
     }
 
@@ -53,7 +52,7 @@ class StyleParserTest {
     @Test
     void testParseOneScreenWithStructureAndStyleAndBehavior() 
     throws ParseException, IOException {
-        withStyleNode("n5", "<style>");
+        withStyleNode("n5");
         withAst("HelloWorld.dot");
         doParsing();
         assertStyleIs(
@@ -67,16 +66,8 @@ class StyleParserTest {
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private void withStyleNode(String id, String label) {
-        styleNode = new Node(buildGraphNodeWithIdAndLabel(id, label));
-    }
-
-    private GraphNode buildGraphNodeWithIdAndLabel(String id, String label) {
-        GraphNode node = new GraphNode(id);
-
-        node.setAttribute("label", label);
-
-        return node;
+    private void withStyleNode(String id) {
+        styleNodeId = id;
     }
 
     private void withAst(String file) throws FileNotFoundException {
@@ -84,7 +75,9 @@ class StyleParserTest {
     }
 
     private void doParsing() throws ParseException, IOException {
-        parser = new StyleParser(dotReader.getTree(), styleNode);
+        Ast ast = dotReader.getTree();
+
+        parser = new StyleParser(ast, ast.indexOf(styleNodeId));
         
         parsedStyle = parser.parse();
     }
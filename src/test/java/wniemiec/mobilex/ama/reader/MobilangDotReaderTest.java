@@ -1,17 +1,14 @@
 package wniemiec.mobilex.ama.reader;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
-import java.util.List;
-import java.util.SortedMap;
 import org.ini4j.Ini;
 import org.ini4j.InvalidFileFormatException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import com.paypal.digraph.parser.GraphNode;
+import wniemiec.mobilex.ama.models.Ast;
 import wniemiec.mobilex.ama.models.Node;
 import wniemiec.mobilex.ama.parser.exception.ParseException;
 
@@ -24,7 +21,7 @@ class MobilangDotReaderTest {
     private static final Path RESOURCES;
     private Path mobilangDotFile;
     private MobilangDotReader dotReader;
-    private SortedMap<String, List<Node>> obtainedAst;
+    private Ast obtainedAst;
     private Ini iniReader;
 
 
@@ -73,11 +70,27 @@ class MobilangDotReaderTest {
         assertNodeChildren("n9", buildNode("n10", getIniProperty("properties")));
     }
 
+    @Test
+    void testParseWithCommentsAndEdgeChain() throws ParseException, IOException {
+        withFile("Comments.dot");
+        doReading();
+        assertNodeChildren("n0", buildNode("n1", "<screens>"), buildNode("n3", "<properties>"));
+        assertNodeChildren("n1", buildNode("n2", "{\"value\": \"say \\\"hi\\\"\"}"));
+    }
+
+    @Test
+    void testParseWithUnterminatedLabel() {
+        withFile("UnterminatedLabel.dot");
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            doReading();
+        });
+    }
+
 
     //-------------------------------------------------------------------------
     //		Methods
     //-------------------------------------------------------------------------
-    private void withFile(String file) throws FileNotFoundException {
+    private void withFile(String file) {
         mobilangDotFile = RESOURCES.resolve(file);
     }
 
@@ -91,15 +104,7 @@ class MobilangDotReaderTest {
     }
 
     private Node buildNode(String id, String label) {
-        return new Node(buildGraphNodeWithIdAndLabel(id, label));
-    }
-
-    private GraphNode buildGraphNodeWithIdAndLabel(String id, String label) {
-        GraphNode node = new GraphNode(id);
-
-        node.setAttribute("label", label);
-
-        return node;
+        return new Node(id, label);
     }
 
     private void assertNodeChildren(String parent, Node... children) {
@@ -108,26 +113,30 @@ class MobilangDotReaderTest {
     }
 
     private void assertAstHasNode(String parent) {
-        Assertions.assertTrue(obtainedAst.containsKey(parent));
+        Assertions.assertTrue(obtainedAst.hasChildren(obtainedAst.indexOf(parent)));
     }
 
     private void assertAstNodeChildrenAre(String parent, Node... children) {
-        List<Node> nodeChildren = obtainedAst.get(parent);
+        int parentNode = obtainedAst.indexOf(parent);
 
         Arrays.asList(children).forEach(child -> {
-            Node node = findNodeWithId(child.getId(), nodeChildren);
+            int node = findChildWithId(child.getId(), parentNode);
 
-            Assertions.assertNotNull(node);
-            Assertions.assertEquals(child.getLabel(), node.getLabel());
+            Assertions.assertNotEquals(Ast.NOT_FOUND, node);
+            Assertions.assertEquals(child.getLabel(), obtainedAst.getLabel(node));
         });
     }
 
-    private Node findNodeWithId(String id, List<Node> nodes) {
-        return nodes
-            .stream()
-            .filter(node -> node.getId().equals(id))
-            .findFirst()
-            .orElse(null);
+    private int findChildWithId(String id, int parentNode) {
+        for (int i = 0; i < obtainedAst.countChildren(parentNode); i++) {
+            int child = obtainedAst.getChild(parentNode, i);
+
+            if (obtainedAst.getId(child).equals(id)) {
+                return child;
+            }
+        }
+
+        return Ast.NOT_FOUND;
     }
 
     private String getIniProperty(String key) {
@@ -0,0 +1,135 @@
+package wniemiec.mobilex.ama.util.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+class JsonPullReaderTest {
+
+    //-------------------------------------------------------------------------
+    //		Attributes
+    //-------------------------------------------------------------------------
+    private JsonPullReader reader;
+    private List<String> names;
+
+
+    //-------------------------------------------------------------------------
+    //		Test hooks
+    //-------------------------------------------------------------------------
+    @BeforeEach
+    void setUp() {
+        reader = null;
+        names = new ArrayList<>();
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Tests
+    //-------------------------------------------------------------------------
+    @Test
+    void testReadObject() {
+        withJson("{ \"name\": \"h1\", \"selfClosing\": true }");
+        reader.beginObject();
+        Assertions.assertEquals("name", reader.nextName());
+        Assertions.assertEquals("h1", reader.nextString());
+        Assertions.assertEquals("selfClosing", reader.nextName());
+        Assertions.assertTrue(reader.nextBoolean());
+        Assertions.assertFalse(reader.hasNext());
+        reader.endObject();
+    }
+
+    @Test
+    void testReadArray() {
+        withJson("[\"a\", \"b\" ,\"c\"]");
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            names.add(reader.nextString());
+        }
+
+        reader.endArray();
+        assertNamesAre("a", "b", "c");
+    }
+
+    @Test
+    void testReadEscapedString() {
+        withJson("\"say \\\"hi\\\"\\n\\u0041\\\\\"");
+        Assertions.assertEquals("say \"hi\"\nA\\", reader.nextString());
+    }
+
+    @Test
+    void testSkipValue() {
+        withJson(
+            "{\"skip\": {\"a\": [1, 2, {\"b\": \"}]\\\"\"}], \"c\": null}, "
+            + "\"keep\": 1.5e3, \"other\": false}"
+        );
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+
+            if (name.equals("keep")) {
+                names.add(reader.nextLiteral());
+            }
+            else {
+                names.add(name);
+                reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+        assertNamesAre("skip", "1.5e3", "other");
+    }
+
+    @Test
+    void testPeek() {
+        withJson("[{}, [], \"a\", -1, true, null]");
+        reader.beginArray();
+        Assertions.assertEquals(JsonPullReader.OBJECT, peekAndSkip());
+        Assertions.assertEquals(JsonPullReader.ARRAY, peekAndSkip());
+        Assertions.assertEquals(JsonPullReader.STRING, peekAndSkip());
+        Assertions.assertEquals(JsonPullReader.NUMBER, peekAndSkip());
+        Assertions.assertEquals(JsonPullReader.BOOLEAN, peekAndSkip());
+        Assertions.assertEquals(JsonPullReader.NULL, peekAndSkip());
+        Assertions.assertEquals(JsonPullReader.END, reader.peek());
+    }
+
+    @Test
+    void testUnterminatedString() {
+        withJson("{\"name\": \"h1}");
+        reader.beginObject();
+        reader.nextName();
+        Assertions.assertThrows(IllegalStateException.class, reader::nextString);
+    }
+
+    @Test
+    void testUnexpectedToken() {
+        withJson("[1, 2]");
+        Assertions.assertThrows(IllegalStateException.class, reader::beginObject);
+    }
+
+
+    //-------------------------------------------------------------------------
+    //		Methods
+    //-------------------------------------------------------------------------
+    private void withJson(String json) {
+        reader = new JsonPullReader(json);
+    }
+
+    private int peekAndSkip() {
+        reader.hasNext();
+
+        int type = reader.peek();
+
+        reader.skipValue();
+
+        return type;
+    }
+
+    private void assertNamesAre(String... expectedNames) {
+        Assertions.assertEquals(List.of(expectedNames), names);
+    }
+}